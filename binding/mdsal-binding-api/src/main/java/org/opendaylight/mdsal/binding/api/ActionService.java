@@ -7,7 +7,10 @@
  */
 package org.opendaylight.mdsal.binding.api;
 
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.ListenableFuture;
+import java.util.Map;
 import java.util.Set;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
@@ -15,7 +18,9 @@ import org.opendaylight.yangtools.binding.Action;
 import org.opendaylight.yangtools.binding.DataObject;
 import org.opendaylight.yangtools.binding.DataObjectIdentifier;
 import org.opendaylight.yangtools.binding.RpcInput;
+import org.opendaylight.yangtools.binding.RpcOutput;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+import org.opendaylight.yangtools.yang.common.RpcResult;
 
 /**
  * Provides access to registered {@code action} implementations. Each action is defined in a YANG model,
@@ -70,4 +75,27 @@ public interface ActionService extends BindingService {
             final ActionSpec<A, P> spec, @SuppressWarnings("unchecked") final DataTreeIdentifier<P>... nodes) {
         return getActionHandle(spec, ImmutableSet.copyOf(nodes));
     }
+
+    /**
+     * Invoke an {@link Action} on a number of data nodes. The result of this method is equivalent to invoking
+     * {@link Action#invoke(DataObjectIdentifier, RpcInput)} on the handle returned by
+     * {@link #getActionHandle(ActionSpec)} for each entry in {@code inputs}, but implementations are free to amortize
+     * the cost of dispatching the invocations, for example by delivering all invocations targeting a single
+     * implementation in one call.
+     *
+     * @param spec Action instance specification
+     * @param inputs Input arguments, keyed by the identifier of the data node the action is to be invoked on
+     * @return A {@link Map} of {@link ListenableFuture}s, one for each key in {@code inputs}, which complete with the
+     *         result of the corresponding invocation
+     * @throws NullPointerException if any of the arguments is null
+     * @throws IllegalArgumentException when {@code actionInterface} does not conform to the Binding Specification
+     */
+    default <P extends DataObject, T extends DataObjectIdentifier<P>, I extends RpcInput, O extends RpcOutput,
+            A extends Action<T, I, O>> Map<T, ListenableFuture<RpcResult<O>>> invokeActions(
+                final ActionSpec<A, P> spec, final Map<T, I> inputs) {
+        final var handle = getActionHandle(spec);
+        final var builder = ImmutableMap.<T, ListenableFuture<RpcResult<O>>>builderWithExpectedSize(inputs.size());
+        inputs.forEach((path, input) -> builder.put(path, handle.invoke(path, input)));
+        return builder.build();
+    }
 }
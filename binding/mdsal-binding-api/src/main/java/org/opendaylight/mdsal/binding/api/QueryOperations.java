@@ -7,8 +7,12 @@
  */
 package org.opendaylight.mdsal.binding.api;
 
+import static java.util.Objects.requireNonNull;
+
 import com.google.common.util.concurrent.FluentFuture;
 import org.eclipse.jdt.annotation.NonNull;
+import org.opendaylight.mdsal.binding.api.query.AggregateExpression;
+import org.opendaylight.mdsal.binding.api.query.AggregateResult;
 import org.opendaylight.mdsal.binding.api.query.QueryExpression;
 import org.opendaylight.mdsal.binding.api.query.QueryResult;
 import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
@@ -40,4 +44,30 @@ public interface QueryOperations {
      */
     <T extends @NonNull DataObject> @NonNull FluentFuture<QueryResult<T>> execute(@NonNull LogicalDatastoreType store,
         @NonNull QueryExpression<T> query);
+
+    /**
+     * Computes an aggregate over the results of a query on the provided logical data store. Query results are not
+     * returned, nor are they decoded into their binding representation.
+     *
+     * <p>Default implementation does not support any aggregate and throws {@link IllegalArgumentException}.
+     *
+     * @param store Logical data store from which read should occur.
+     * @param aggregate Aggregate to compute
+     * @return a FluentFuture containing the aggregate result. The Future blocks until the operation is complete.
+     *         Once complete:
+     *         <ul>
+     *           <li>The Future returns the aggregate result</li>
+     *           <li>If the query execution fails, the Future will fail with a {@link ReadFailedException} or
+     *               an exception derived from ReadFailedException.
+     *            </li>
+     *         </ul>
+     * @throws IllegalArgumentException if the aggregate is not supported
+     * @throws NullPointerException if any of the arguments is {@code null}
+     * @throws TransactionDatastoreMismatchException if this transaction is already bound to a different data store
+     */
+    default <T extends @NonNull DataObject, V> @NonNull FluentFuture<AggregateResult<V>> aggregate(
+            final @NonNull LogicalDatastoreType store, final @NonNull AggregateExpression<T, V> aggregate) {
+        requireNonNull(store);
+        throw new IllegalArgumentException("Unsupported aggregate " + requireNonNull(aggregate));
+    }
 }
@@ -0,0 +1,228 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.binding.api.query;
+
+import com.google.common.annotations.Beta;
+import org.eclipse.jdt.annotation.NonNull;
+import org.opendaylight.mdsal.binding.api.query.MatchBuilderPath.BooleanLeafReference;
+import org.opendaylight.mdsal.binding.api.query.MatchBuilderPath.Decimal64LeafReference;
+import org.opendaylight.mdsal.binding.api.query.MatchBuilderPath.Int16LeafReference;
+import org.opendaylight.mdsal.binding.api.query.MatchBuilderPath.Int32LeafReference;
+import org.opendaylight.mdsal.binding.api.query.MatchBuilderPath.Int64LeafReference;
+import org.opendaylight.mdsal.binding.api.query.MatchBuilderPath.Int8LeafReference;
+import org.opendaylight.mdsal.binding.api.query.MatchBuilderPath.StringLeafReference;
+import org.opendaylight.mdsal.binding.api.query.MatchBuilderPath.Uint16LeafReference;
+import org.opendaylight.mdsal.binding.api.query.MatchBuilderPath.Uint32LeafReference;
+import org.opendaylight.mdsal.binding.api.query.MatchBuilderPath.Uint64LeafReference;
+import org.opendaylight.mdsal.binding.api.query.MatchBuilderPath.Uint8LeafReference;
+import org.opendaylight.yangtools.binding.DataObject;
+import org.opendaylight.yangtools.concepts.Mutable;
+import org.opendaylight.yangtools.yang.common.Decimal64;
+import org.opendaylight.yangtools.yang.common.Uint16;
+import org.opendaylight.yangtools.yang.common.Uint32;
+import org.opendaylight.yangtools.yang.common.Uint64;
+import org.opendaylight.yangtools.yang.common.Uint8;
+
+/**
+ * Builder of an aggregate computed over query results instead of returning them. Aggregates can optionally be grouped
+ * by the value of a leaf, in which case a separate value is computed for each distinct value of that leaf.
+ *
+ * <p>Aggregates are computed on data as stored, without decoding query results. For this reason only leaves whose
+ * values are stored in their binding representation can be used.
+ *
+ * @param <T> query result type
+ */
+@Beta
+public interface AggregateBuilder<T extends DataObject> extends Mutable {
+    /**
+     * Group results by a {@code boolean} leaf's value.
+     *
+     * @param methodRef method reference to the getter method
+     * @return This builder
+     * @throws NullPointerException if methodRef is null
+     */
+    @NonNull AggregateBuilder<T> groupBy(BooleanLeafReference<T> methodRef);
+
+    /**
+     * Group results by a {@code string} leaf's value.
+     *
+     * @param methodRef method reference to the getter method
+     * @return This builder
+     * @throws NullPointerException if methodRef is null
+     */
+    @NonNull AggregateBuilder<T> groupBy(StringLeafReference<T> methodRef);
+
+    /**
+     * Group results by a {@code decimal64} leaf's value.
+     *
+     * @param methodRef method reference to the getter method
+     * @return This builder
+     * @throws NullPointerException if methodRef is null
+     */
+    @NonNull AggregateBuilder<T> groupBy(Decimal64LeafReference<T> methodRef);
+
+    /**
+     * Group results by a {@code int8} leaf's value.
+     *
+     * @param methodRef method reference to the getter method
+     * @return This builder
+     * @throws NullPointerException if methodRef is null
+     */
+    @NonNull AggregateBuilder<T> groupBy(Int8LeafReference<T> methodRef);
+
+    /**
+     * Group results by a {@code int16} leaf's value.
+     *
+     * @param methodRef method reference to the getter method
+     * @return This builder
+     * @throws NullPointerException if methodRef is null
+     */
+    @NonNull AggregateBuilder<T> groupBy(Int16LeafReference<T> methodRef);
+
+    /**
+     * Group results by a {@code int32} leaf's value.
+     *
+     * @param methodRef method reference to the getter method
+     * @return This builder
+     * @throws NullPointerException if methodRef is null
+     */
+    @NonNull AggregateBuilder<T> groupBy(Int32LeafReference<T> methodRef);
+
+    /**
+     * Group results by a {@code int64} leaf's value.
+     *
+     * @param methodRef method reference to the getter method
+     * @return This builder
+     * @throws NullPointerException if methodRef is null
+     */
+    @NonNull AggregateBuilder<T> groupBy(Int64LeafReference<T> methodRef);
+
+    /**
+     * Group results by a {@code uint8} leaf's value.
+     *
+     * @param methodRef method reference to the getter method
+     * @return This builder
+     * @throws NullPointerException if methodRef is null
+     */
+    @NonNull AggregateBuilder<T> groupBy(Uint8LeafReference<T> methodRef);
+
+    /**
+     * Group results by a {@code uint16} leaf's value.
+     *
+     * @param methodRef method reference to the getter method
+     * @return This builder
+     * @throws NullPointerException if methodRef is null
+     */
+    @NonNull AggregateBuilder<T> groupBy(Uint16LeafReference<T> methodRef);
+
+    /**
+     * Group results by a {@code uint32} leaf's value.
+     *
+     * @param methodRef method reference to the getter method
+     * @return This builder
+     * @throws NullPointerException if methodRef is null
+     */
+    @NonNull AggregateBuilder<T> groupBy(Uint32LeafReference<T> methodRef);
+
+    /**
+     * Group results by a {@code uint64} leaf's value.
+     *
+     * @param methodRef method reference to the getter method
+     * @return This builder
+     * @throws NullPointerException if methodRef is null
+     */
+    @NonNull AggregateBuilder<T> groupBy(Uint64LeafReference<T> methodRef);
+
+    /**
+     * Count results.
+     *
+     * @return An AggregateExpression
+     */
+    @NonNull AggregateExpression<T, Long> count();
+
+    /**
+     * Aggregate a {@code decimal64} leaf's values.
+     *
+     * @param methodRef method reference to the getter method
+     * @return A {@link ValueAggregateBuilder}
+     * @throws NullPointerException if methodRef is null
+     */
+    @NonNull ValueAggregateBuilder<T, Decimal64> value(Decimal64LeafReference<T> methodRef);
+
+    /**
+     * Aggregate a {@code int8} leaf's values.
+     *
+     * @param methodRef method reference to the getter method
+     * @return A {@link ValueAggregateBuilder}
+     * @throws NullPointerException if methodRef is null
+     */
+    @NonNull ValueAggregateBuilder<T, Byte> value(Int8LeafReference<T> methodRef);
+
+    /**
+     * Aggregate a {@code int16} leaf's values.
+     *
+     * @param methodRef method reference to the getter method
+     * @return A {@link ValueAggregateBuilder}
+     * @throws NullPointerException if methodRef is null
+     */
+    @NonNull ValueAggregateBuilder<T, Short> value(Int16LeafReference<T> methodRef);
+
+    /**
+     * Aggregate a {@code int32} leaf's values.
+     *
+     * @param methodRef method reference to the getter method
+     * @return A {@link ValueAggregateBuilder}
+     * @throws NullPointerException if methodRef is null
+     */
+    @NonNull ValueAggregateBuilder<T, Integer> value(Int32LeafReference<T> methodRef);
+
+    /**
+     * Aggregate a {@code int64} leaf's values.
+     *
+     * @param methodRef method reference to the getter method
+     * @return A {@link ValueAggregateBuilder}
+     * @throws NullPointerException if methodRef is null
+     */
+    @NonNull ValueAggregateBuilder<T, Long> value(Int64LeafReference<T> methodRef);
+
+    /**
+     * Aggregate a {@code uint8} leaf's values.
+     *
+     * @param methodRef method reference to the getter method
+     * @return A {@link ValueAggregateBuilder}
+     * @throws NullPointerException if methodRef is null
+     */
+    @NonNull ValueAggregateBuilder<T, Uint8> value(Uint8LeafReference<T> methodRef);
+
+    /**
+     * Aggregate a {@code uint16} leaf's values.
+     *
+     * @param methodRef method reference to the getter method
+     * @return A {@link ValueAggregateBuilder}
+     * @throws NullPointerException if methodRef is null
+     */
+    @NonNull ValueAggregateBuilder<T, Uint16> value(Uint16LeafReference<T> methodRef);
+
+    /**
+     * Aggregate a {@code uint32} leaf's values.
+     *
+     * @param methodRef method reference to the getter method
+     * @return A {@link ValueAggregateBuilder}
+     * @throws NullPointerException if methodRef is null
+     */
+    @NonNull ValueAggregateBuilder<T, Uint32> value(Uint32LeafReference<T> methodRef);
+
+    /**
+     * Aggregate a {@code uint64} leaf's values.
+     *
+     * @param methodRef method reference to the getter method
+     * @return A {@link ValueAggregateBuilder}
+     * @throws NullPointerException if methodRef is null
+     */
+    @NonNull ValueAggregateBuilder<T, Uint64> value(Uint64LeafReference<T> methodRef);
+}
@@ -0,0 +1,24 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.binding.api.query;
+
+import com.google.common.annotations.Beta;
+import org.opendaylight.yangtools.binding.DataObject;
+import org.opendaylight.yangtools.concepts.Immutable;
+
+/**
+ * An aggregate computed over the results of a query, as built by {@link AggregateBuilder}. It can be computed via
+ * {@link QueryExecutor#aggregateQuery(AggregateExpression)}.
+ *
+ * @param <T> Query result type
+ * @param <V> Aggregate value type
+ */
+@Beta
+public interface AggregateExpression<T extends DataObject, V> extends Immutable {
+    // Nothing else
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.binding.api.query;
+
+import com.google.common.annotations.Beta;
+import java.util.Map;
+import java.util.Optional;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.opendaylight.yangtools.concepts.Immutable;
+
+/**
+ * Result of computing an {@link AggregateExpression}. An ungrouped aggregate has a single {@link #value()}, a grouped
+ * aggregate has a value for each {@link #groups() group}.
+ *
+ * @param <V> Aggregate value type
+ */
+@Beta
+@NonNullByDefault
+public interface AggregateResult<V> extends Immutable {
+    /**
+     * Return the value of an ungrouped aggregate.
+     *
+     * @return Aggregate value, or empty if the aggregate is grouped or there were no values to aggregate
+     */
+    Optional<V> value();
+
+    /**
+     * Return the values of a grouped aggregate, keyed by the value of the group-by leaf.
+     *
+     * @return Aggregate values, empty if the aggregate is not grouped
+     */
+    Map<Object, V> groups();
+}
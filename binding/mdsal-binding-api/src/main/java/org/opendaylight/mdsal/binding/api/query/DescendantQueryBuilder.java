@@ -12,6 +12,7 @@ import org.eclipse.jdt.annotation.NonNull;
 import org.opendaylight.yangtools.binding.ChildOf;
 import org.opendaylight.yangtools.binding.ChoiceIn;
 import org.opendaylight.yangtools.binding.DataObject;
+import org.opendaylight.yangtools.binding.DataObjectIdentifier;
 import org.opendaylight.yangtools.binding.EntryObject;
 import org.opendaylight.yangtools.binding.Key;
 
@@ -70,6 +71,49 @@ public interface DescendantQueryBuilder<T extends DataObject> extends Structural
      */
     @NonNull MatchBuilderPath<T, T> matching();
 
+    /**
+     * Skip first {@code offset} matching items.
+     *
+     * @param offset number of items to skip
+     * @return This builder
+     * @throws IllegalArgumentException if {@code offset} is negative
+     */
+    @NonNull DescendantQueryBuilder<T> offset(long offset);
+
+    /**
+     * Return at most {@code limit} matching items.
+     *
+     * @param limit maximum number of items
+     * @return This builder
+     * @throws IllegalArgumentException if {@code limit} is negative
+     */
+    @NonNull DescendantQueryBuilder<T> limit(long limit);
+
+    /**
+     * Order results by the keys of the lists they are contained in. This makes {@link #offset(long)} and
+     * {@link #limit(long)} stable across data changes.
+     *
+     * @return This builder
+     */
+    @NonNull DescendantQueryBuilder<T> orderByKey();
+
+    /**
+     * Return only results ordered after the specified item, as returned by a previous execution of this query. This
+     * implies {@link #orderByKey()}.
+     *
+     * @param after path of the last item seen
+     * @return This builder
+     * @throws NullPointerException if {@code after} is null
+     */
+    @NonNull DescendantQueryBuilder<T> continueAfter(DataObjectIdentifier<T> after);
+
+    /**
+     * Start specifying an aggregate to compute over the results of this query, instead of returning them.
+     *
+     * @return An {@link AggregateBuilder}
+     */
+    @NonNull AggregateBuilder<T> aggregate();
+
     @Override
     QueryExpression<T> build();
 }
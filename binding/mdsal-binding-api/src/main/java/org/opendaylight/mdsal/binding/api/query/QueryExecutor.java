@@ -7,6 +7,8 @@
  */
 package org.opendaylight.mdsal.binding.api.query;
 
+import static java.util.Objects.requireNonNull;
+
 import com.google.common.annotations.Beta;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.opendaylight.yangtools.binding.DataObject;
@@ -16,4 +18,18 @@ import org.opendaylight.yangtools.binding.DataObject;
 public interface QueryExecutor {
 
     <T extends DataObject> QueryResult<T> executeQuery(QueryExpression<T> query);
+
+    /**
+     * Compute an aggregate over the results of a query. Default implementation does not support any aggregate.
+     *
+     * @param <T> Query result type
+     * @param <V> Aggregate value type
+     * @param aggregate Aggregate to compute
+     * @return Aggregate result
+     * @throws NullPointerException if {@code aggregate} is null
+     * @throws IllegalArgumentException if the aggregate is not supported
+     */
+    default <T extends DataObject, V> AggregateResult<V> aggregateQuery(final AggregateExpression<T, V> aggregate) {
+        throw new IllegalArgumentException("Unsupported aggregate " + requireNonNull(aggregate));
+    }
 }
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.binding.api.query;
+
+import com.google.common.annotations.Beta;
+import java.math.BigDecimal;
+import org.eclipse.jdt.annotation.NonNull;
+import org.opendaylight.yangtools.binding.DataObject;
+
+/**
+ * Builder of an aggregate of a numeric leaf's values.
+ *
+ * @param <T> query result type
+ * @param <V> value type
+ */
+@Beta
+public interface ValueAggregateBuilder<T extends DataObject, V extends Comparable<V>> {
+    /**
+     * Compute the smallest value of the leaf.
+     *
+     * @return An AggregateExpression
+     */
+    @NonNull AggregateExpression<T, V> min();
+
+    /**
+     * Compute the largest value of the leaf.
+     *
+     * @return An AggregateExpression
+     */
+    @NonNull AggregateExpression<T, V> max();
+
+    /**
+     * Compute the sum of values of the leaf.
+     *
+     * @return An AggregateExpression
+     */
+    @NonNull AggregateExpression<T, BigDecimal> sum();
+}
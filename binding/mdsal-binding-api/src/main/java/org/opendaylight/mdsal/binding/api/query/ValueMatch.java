@@ -10,6 +10,7 @@ package org.opendaylight.mdsal.binding.api.query;
 import com.google.common.annotations.Beta;
 import org.eclipse.jdt.annotation.NonNull;
 import org.opendaylight.yangtools.binding.DataObject;
+import org.opendaylight.yangtools.binding.DataObjectIdentifier;
 
 /**
  * A value-based match executed from some point in the data tree.
@@ -25,4 +26,47 @@ public interface ValueMatch<T extends DataObject> extends StructuralBuilder<Quer
      * @return A {@link MatchBuilderPath}
      */
     @NonNull MatchBuilderPath<T, T> and();
+
+    /**
+     * Skip first {@code offset} matching items.
+     *
+     * @param offset number of items to skip
+     * @return This builder
+     * @throws IllegalArgumentException if {@code offset} is negative
+     */
+    @NonNull ValueMatch<T> offset(long offset);
+
+    /**
+     * Return at most {@code limit} matching items.
+     *
+     * @param limit maximum number of items
+     * @return This builder
+     * @throws IllegalArgumentException if {@code limit} is negative
+     */
+    @NonNull ValueMatch<T> limit(long limit);
+
+    /**
+     * Order results by the keys of the lists they are contained in. This makes {@link #offset(long)} and
+     * {@link #limit(long)} stable across data changes.
+     *
+     * @return This builder
+     */
+    @NonNull ValueMatch<T> orderByKey();
+
+    /**
+     * Return only results ordered after the specified item, as returned by a previous execution of this query. This
+     * implies {@link #orderByKey()}.
+     *
+     * @param after path of the last item seen
+     * @return This builder
+     * @throws NullPointerException if {@code after} is null
+     */
+    @NonNull ValueMatch<T> continueAfter(DataObjectIdentifier<T> after);
+
+    /**
+     * Start specifying an aggregate to compute over the results of this query, instead of returning them.
+     *
+     * @return An {@link AggregateBuilder}
+     */
+    @NonNull AggregateBuilder<T> aggregate();
 }
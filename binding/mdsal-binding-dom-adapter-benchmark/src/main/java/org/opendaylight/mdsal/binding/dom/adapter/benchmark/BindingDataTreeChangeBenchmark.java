@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.binding.dom.adapter.benchmark;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.mdsal.binding.api.DataTreeModification;
+import org.opendaylight.mdsal.binding.dom.adapter.BindingAdapterFactory;
+import org.opendaylight.mdsal.binding.dom.adapter.ConstantAdapterContext;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.mdsal.dom.broker.SerializedDOMDataBroker;
+import org.opendaylight.mdsal.dom.spi.store.DOMStore;
+import org.opendaylight.mdsal.dom.store.inmemory.InMemoryDOMDataStore;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.mdsal.test.binding.rev140701.Top;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.mdsal.test.binding.rev140701.TopBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.mdsal.test.binding.rev140701.two.level.list.TopLevelList;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.mdsal.test.binding.rev140701.two.level.list.TopLevelListBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.mdsal.test.binding.rev140701.two.level.list.TopLevelListKey;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.mdsal.test.binding.rev140701.two.level.list.top.level.list.NestedListBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.mdsal.test.binding.rev140701.two.level.list.top.level.list.NestedListKey;
+import org.opendaylight.yangtools.binding.DataObject;
+import org.opendaylight.yangtools.binding.DataObjectIdentifier;
+import org.opendaylight.yangtools.binding.data.codec.api.BindingNormalizedNodeSerializer.NodeResult;
+import org.opendaylight.yangtools.binding.data.codec.spi.BindingDOMCodecFactory;
+import org.opendaylight.yangtools.binding.data.codec.spi.BindingDOMCodecServices;
+import org.opendaylight.yangtools.binding.runtime.spi.BindingRuntimeHelpers;
+import org.opendaylight.yangtools.binding.util.BindingMap;
+import org.opendaylight.yangtools.concepts.Registration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmark measuring the cost of delivering a data tree change event to a Binding {@link
+ * org.opendaylight.mdsal.binding.api.DataTreeChangeListener}. Each invocation commits a change to a number of entries
+ * in a large list through a {@link SerializedDOMDataBroker} backed by an {@link InMemoryDOMDataStore}, which delivers
+ * the resulting event on the committing thread. The listener examines it according to a typical
+ * {@link AccessPattern}. {@link AccessPattern#NONE} does not register a listener and provides the baseline cost of the
+ * commit itself. Run with {@code -prof gc} to observe per-event allocation, reported as {@code gc.alloc.rate.norm}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class BindingDataTreeChangeBenchmark {
+    /**
+     * The way the listener examines the event.
+     */
+    public enum AccessPattern {
+        /**
+         * Do not register a listener at all.
+         */
+        NONE,
+        /**
+         * Only look at the root modification.
+         */
+        ROOT,
+        /**
+         * Iterate over modified children, looking at their modification type.
+         */
+        CHILDREN,
+        /**
+         * Iterate over modified children, looking at their keys.
+         */
+        CHILDREN_STEP,
+        /**
+         * Iterate over modified children, reading their data after the change.
+         */
+        CHILDREN_DATA_AFTER,
+    }
+
+    private static final DataObjectIdentifier<Top> TOP_PATH = DataObjectIdentifier.builder(Top.class).build();
+    private static final int LIST_SIZE = 10_000;
+
+    @Param({ "1", "100" })
+    public int modifiedEntries;
+
+    @Param
+    public AccessPattern accessPattern;
+
+    private SerializedDOMDataBroker domBroker;
+    private Registration registration;
+    private List<NodeResult> originalNodes;
+    private List<NodeResult> modifiedNodes;
+    private boolean modified;
+    private Blackhole blackhole;
+
+    @Setup(Level.Trial)
+    public void setUp(final Blackhole bh) throws ExecutionException, InterruptedException {
+        blackhole = requireNonNull(bh);
+        final var runtimeContext = BindingRuntimeHelpers.createRuntimeContext();
+        final var codec = ServiceLoader.load(BindingDOMCodecFactory.class).findFirst().orElseThrow()
+            .createBindingDOMCodec(runtimeContext);
+
+        final var dsExec = MoreExecutors.newDirectExecutorService();
+        final var operStore = new InMemoryDOMDataStore("OPER", dsExec);
+        final var configStore = new InMemoryDOMDataStore("CFG", dsExec);
+        operStore.onModelContextUpdated(runtimeContext.modelContext());
+        configStore.onModelContextUpdated(runtimeContext.modelContext());
+        domBroker = new SerializedDOMDataBroker(ImmutableMap.<LogicalDatastoreType, DOMStore>of(
+            LogicalDatastoreType.OPERATIONAL, operStore,
+            LogicalDatastoreType.CONFIGURATION, configStore), MoreExecutors.directExecutor());
+
+        // Populate the datastore with a large list and prepare two alternate versions of some of its entries
+        final var entries = new ArrayList<TopLevelList>(LIST_SIZE);
+        for (int i = 0; i < LIST_SIZE; ++i) {
+            entries.add(new TopLevelListBuilder().withKey(new TopLevelListKey("item-" + i)).build());
+        }
+        commit(List.of(normalize(codec, TOP_PATH, new TopBuilder().setTopLevelList(BindingMap.of(entries)).build())));
+
+        originalNodes = new ArrayList<>(modifiedEntries);
+        modifiedNodes = new ArrayList<>(modifiedEntries);
+        for (int i = 0; i < modifiedEntries; ++i) {
+            final var key = new TopLevelListKey("item-" + i * (LIST_SIZE / modifiedEntries));
+            final var path = DataObjectIdentifier.builder(Top.class).child(TopLevelList.class, key).build();
+            originalNodes.add(normalize(codec, path, new TopLevelListBuilder().withKey(key).build()));
+            modifiedNodes.add(normalize(codec, path, new TopLevelListBuilder().withKey(key)
+                .setNestedList(BindingMap.of(new NestedListBuilder().withKey(new NestedListKey("nested")).build()))
+                .build()));
+        }
+
+        if (accessPattern != AccessPattern.NONE) {
+            registration = new BindingAdapterFactory(new ConstantAdapterContext(codec)).createDataBroker(domBroker)
+                .registerTreeChangeListener(LogicalDatastoreType.OPERATIONAL, TOP_PATH.toReference(),
+                    this::onChanges);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (registration != null) {
+            registration.close();
+        }
+        domBroker.close();
+    }
+
+    @Benchmark
+    public void commitChange() throws ExecutionException, InterruptedException {
+        // Alternate between the two versions, so that each commit results in a change
+        modified = !modified;
+        commit(modified ? modifiedNodes : originalNodes);
+    }
+
+    private void commit(final List<NodeResult> nodes) throws ExecutionException, InterruptedException {
+        final var tx = domBroker.newWriteOnlyTransaction();
+        for (var node : nodes) {
+            tx.put(LogicalDatastoreType.OPERATIONAL, node.path(), node.node());
+        }
+        tx.commit().get();
+    }
+
+    private void onChanges(final List<DataTreeModification<Top>> changes) {
+        for (var change : changes) {
+            final var root = change.getRootNode();
+            switch (accessPattern) {
+                case ROOT -> blackhole.consume(root.modificationType());
+                case CHILDREN -> root.modifiedChildren().forEach(mod -> blackhole.consume(mod.modificationType()));
+                case CHILDREN_STEP -> root.modifiedChildren().forEach(mod -> blackhole.consume(mod.step()));
+                case CHILDREN_DATA_AFTER -> root.modifiedChildren().forEach(mod -> blackhole.consume(mod.dataAfter()));
+                default -> throw new IllegalStateException("Unhandled pattern " + accessPattern);
+            }
+        }
+    }
+
+    private static <T extends DataObject> NodeResult normalize(final BindingDOMCodecServices codec,
+            final DataObjectIdentifier<T> path, final T data) {
+        return (NodeResult) codec.toNormalizedNode(path, data);
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.binding.dom.adapter.benchmark;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.mdsal.binding.dom.adapter.BindingAdapterFactory;
+import org.opendaylight.mdsal.binding.dom.adapter.ConstantAdapterContext;
+import org.opendaylight.mdsal.dom.api.DOMRpcIdentifier;
+import org.opendaylight.mdsal.dom.broker.DOMRpcRouter;
+import org.opendaylight.mdsal.dom.broker.RouterDOMRpcProviderService;
+import org.opendaylight.mdsal.dom.broker.RouterDOMRpcService;
+import org.opendaylight.mdsal.dom.spi.DefaultDOMRpcResult;
+import org.opendaylight.mdsal.dom.spi.FixedDOMSchemaService;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.bi.ba.rpcservice.rev140701.OpendaylightTestRpcServiceData;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.bi.ba.rpcservice.rev140701.RockTheHouse;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.bi.ba.rpcservice.rev140701.RockTheHouseInput;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.bi.ba.rpcservice.rev140701.RockTheHouseInputBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.bi.ba.rpcservice.rev140701.RockTheHouseOutput;
+import org.opendaylight.yangtools.binding.data.codec.spi.BindingDOMCodecFactory;
+import org.opendaylight.yangtools.binding.runtime.spi.BindingRuntimeHelpers;
+import org.opendaylight.yangtools.yang.common.RpcResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark measuring the overhead of invoking a DOM RPC implementation through a Binding RPC facade. The DOM
+ * implementation completes immediately and the RPC has no output, so the cost is dominated by dispatch from the facade
+ * to the adapter, input serialization and the router itself. Compare {@link #generatedFacade()} with
+ * {@link #proxyFacade()} to isolate the cost of {@link java.lang.reflect.Proxy} dispatch.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+public class BindingRpcInvocationBenchmark {
+    private static final RockTheHouseInput INPUT = new RockTheHouseInputBuilder().setZipCode("12345").build();
+
+    private DOMRpcRouter router;
+    private RockTheHouse rpc;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final var runtimeContext = BindingRuntimeHelpers.createRuntimeContext(
+            Set.of(OpendaylightTestRpcServiceData.META.moduleInfo()));
+        final var codec = ServiceLoader.load(BindingDOMCodecFactory.class).findFirst().orElseThrow()
+            .createBindingDOMCodec(runtimeContext);
+
+        router = new DOMRpcRouter(new FixedDOMSchemaService(runtimeContext.modelContext()));
+        new RouterDOMRpcProviderService(router).registerRpcImplementation(
+            (id, input) -> Futures.immediateFuture(new DefaultDOMRpcResult()),
+            DOMRpcIdentifier.create(RockTheHouse.QNAME));
+
+        rpc = new BindingAdapterFactory(new ConstantAdapterContext(codec))
+            .createRpcService(new RouterDOMRpcService(router))
+            .getRpc(RockTheHouse.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        router.close();
+    }
+
+    @Benchmark
+    @Fork(1)
+    public ListenableFuture<RpcResult<RockTheHouseOutput>> generatedFacade() {
+        return rpc.invoke(INPUT);
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-Dorg.opendaylight.mdsal.binding.dom.adapter.disableRpcFacades=true")
+    public ListenableFuture<RpcResult<RockTheHouseOutput>> proxyFacade() {
+        return rpc.invoke(INPUT);
+    }
+}
@@ -32,6 +32,7 @@ module org.opendaylight.mdsal.binding.dom.adapter {
     requires transitive org.opendaylight.yangtools.binding.data.codec.spi;
     requires transitive org.opendaylight.yangtools.yang.data.impl;
     requires com.google.common.util.concurrent.internal;
+    requires net.bytebuddy;
     requires org.opendaylight.mdsal.dom.spi;
     requires org.opendaylight.yangtools.binding.data.codec.api;
     requires org.opendaylight.yangtools.binding.runtime.api;
@@ -57,4 +58,5 @@ module org.opendaylight.mdsal.binding.dom.adapter {
     requires static org.gaul.modernizer_maven_annotations;
     requires static org.kohsuke.metainf_services;
     requires static org.osgi.service.component.annotations;
+    requires static org.osgi.service.metatype.annotations;
 }
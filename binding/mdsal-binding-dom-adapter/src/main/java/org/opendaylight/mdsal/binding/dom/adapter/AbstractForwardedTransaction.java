@@ -18,14 +18,18 @@ import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.MoreExecutors;
 import java.util.Optional;
 import org.eclipse.jdt.annotation.NonNull;
+import org.opendaylight.mdsal.binding.api.query.AggregateExpression;
+import org.opendaylight.mdsal.binding.api.query.AggregateResult;
 import org.opendaylight.mdsal.binding.api.query.QueryExpression;
 import org.opendaylight.mdsal.binding.api.query.QueryResult;
+import org.opendaylight.mdsal.binding.dom.adapter.query.DefaultAggregate;
 import org.opendaylight.mdsal.binding.dom.adapter.query.DefaultQuery;
 import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
 import org.opendaylight.mdsal.dom.api.DOMDataTreeQueryOperations;
 import org.opendaylight.mdsal.dom.api.DOMDataTreeReadOperations;
 import org.opendaylight.mdsal.dom.api.DOMDataTreeTransaction;
 import org.opendaylight.mdsal.dom.api.query.DOMQuery;
+import org.opendaylight.mdsal.dom.api.query.DOMQueryAggregateResult;
 import org.opendaylight.mdsal.dom.api.query.DOMQueryResult;
 import org.opendaylight.mdsal.dom.spi.query.DOMQueryEvaluator;
 import org.opendaylight.yangtools.binding.DataObject;
@@ -73,11 +77,14 @@ abstract class AbstractForwardedTransaction<T extends DOMDataTreeTransaction> im
     protected final <D extends DataObject> @NonNull FluentFuture<Optional<D>> doRead(
             final DOMDataTreeReadOperations readOps, final LogicalDatastoreType store,
             final DataObjectIdentifier<D> path) {
-        final var codecWithPath = adapterContext.currentSerializer().getSubtreeCodecWithPath(path);
+        final var serializer = adapterContext.currentSerializer();
+        final var codecWithPath = serializer.getSubtreeCodecWithPath(path);
         final var domPath = codecWithPath.path();
         final var codec = codecWithPath.codec();
+        final var decodeCache = serializer.decodeCache();
         return readOps.read(store, domPath)
-            .transform(optData -> optData.flatMap(data -> decodeRead(codec, data)), MoreExecutors.directExecutor());
+            .transform(optData -> optData.flatMap(data -> decodeCache == null ? decodeRead(codec, data)
+                : decodeCache.decode(codec, data, node -> decodeRead(codec, node))), MoreExecutors.directExecutor());
     }
 
     @SuppressWarnings("unchecked")
@@ -121,6 +128,28 @@ abstract class AbstractForwardedTransaction<T extends DOMDataTreeTransaction> im
         return domFuture.transform(defaultQuery::toQueryResult, MoreExecutors.directExecutor());
     }
 
+    protected static final <T extends @NonNull DataObject, V> @NonNull FluentFuture<AggregateResult<V>> doAggregate(
+            final DOMDataTreeReadOperations readOps, final @NonNull LogicalDatastoreType store,
+            final @NonNull AggregateExpression<T, V> aggregate) {
+        checkArgument(aggregate instanceof DefaultAggregate, "Unsupported aggregate type %s", aggregate);
+        final var defaultAggregate = (DefaultAggregate<T, V>) aggregate;
+
+        final var domFuture = requireNonNull(readOps) instanceof DOMDataTreeQueryOperations dtqOps
+            ? dtqOps.aggregate(store, defaultAggregate.asDOMQuery())
+                : fallbackAggregate(readOps, store, defaultAggregate.asDOMQuery());
+
+        return domFuture.transform(defaultAggregate::toAggregateResult, MoreExecutors.directExecutor());
+    }
+
+    private static FluentFuture<DOMQueryAggregateResult> fallbackAggregate(
+            final @NonNull DOMDataTreeReadOperations readOps, final @NonNull LogicalDatastoreType store,
+            final @NonNull DOMQuery domQuery) {
+        final var aggregate = domQuery.findAggregate()
+            .orElseThrow(() -> new IllegalArgumentException("Query " + domQuery + " does not specify an aggregate"));
+        return fallbackExecute(readOps, store, domQuery).transform(aggregate::computeOn,
+            MoreExecutors.directExecutor());
+    }
+
     private static FluentFuture<DOMQueryResult> fallbackExecute(final @NonNull DOMDataTreeReadOperations readOps,
             final @NonNull LogicalDatastoreType store, final @NonNull DOMQuery domQuery) {
         LOG.trace("Fallback evaluation of {} on {}", domQuery, readOps);
@@ -41,20 +41,25 @@ abstract class AbstractInstanceNotificationListenerAdapter<P extends DataObject,
     @Override
     public final void onNotification(final DOMDataTreeIdentifier path, final DOMNotification notification) {
         final var serializer = adapterContext.currentSerializer();
-        final var bindingNotification = notification instanceof DOMEvent domEvent
-            ? serializer.fromNormalizedNodeNotification(notification.getType(), notification.getBody(),
-                domEvent.getEventInstant())
-            : serializer.fromNormalizedNodeNotification(notification.getType(), notification.getBody());
-
+        final var shortcut = AbstractLazySerializedEvent.bindingDataOf(notification, notificationClass);
         final N castNotification;
-        try {
-            castNotification = notificationClass.cast(bindingNotification);
-        } catch (ClassCastException e) {
-            LOG.warn("Mismatched notification type {}, not notifying listener", notification.getType(), e);
-            return;
+        if (shortcut != null) {
+            castNotification = shortcut;
+        } else {
+            final var bindingNotification = notification instanceof DOMEvent domEvent
+                ? serializer.fromNormalizedNodeNotification(notification.getType(), notification.getBody(),
+                    domEvent.getEventInstant())
+                : serializer.fromNormalizedNodeNotification(notification.getType(), notification.getBody());
+
+            try {
+                castNotification = notificationClass.cast(bindingNotification);
+            } catch (ClassCastException e) {
+                LOG.warn("Mismatched notification type {}, not notifying listener", notification.getType(), e);
+                return;
+            }
         }
 
-        final var bindingPath = serializer.fromYangInstanceIdentifier(path.path()).toIdentifier();
+        final var bindingPath = serializer.coerceInstanceIdentifier(path.path()).toIdentifier();
         executor.execute(() -> onNotification(delegate, bindingPath, castNotification));
     }
 
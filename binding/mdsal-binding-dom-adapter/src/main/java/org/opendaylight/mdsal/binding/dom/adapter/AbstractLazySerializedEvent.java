@@ -9,9 +9,11 @@ package org.opendaylight.mdsal.binding.dom.adapter;
 
 import static com.google.common.base.Verify.verifyNotNull;
 import static java.util.Objects.requireNonNull;
+import static org.opendaylight.mdsal.binding.dom.adapter.StaticConfiguration.ENABLE_CODEC_SHORTCUT;
 
 import java.time.Instant;
 import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.mdsal.dom.api.DOMEvent;
 import org.opendaylight.mdsal.dom.api.DOMNotification;
 import org.opendaylight.yangtools.binding.BaseNotification;
@@ -25,6 +27,10 @@ import org.opendaylight.yangtools.yang.model.api.stmt.SchemaNodeIdentifier.Absol
  *
  * <p>This implementation performs serialization of data, only if receiver of notification actually accessed data from
  * notification.
+ *
+ * <p>When a notification published by a Binding publisher is routed back to a Binding listener, the listener can
+ * pick up the original object via {@link #bindingDataOf(DOMNotification, Class)}, so that serialization never takes
+ * place unless there is a DOM listener.
  */
 abstract class AbstractLazySerializedEvent<T extends BaseNotification> implements DOMNotification, DOMEvent {
     private final @NonNull BindingNormalizedNodeSerializer codec;
@@ -62,7 +68,42 @@ abstract class AbstractLazySerializedEvent<T extends BaseNotification> implement
         return eventInstant;
     }
 
+    /**
+     * Return this event, having serialized its body if codec shortcuts are disabled. This ensures that any mismatch
+     * between Binding and YANG is reported to the publisher, rather than to DOM listeners.
+     *
+     * @return this event
+     */
+    final @NonNull AbstractLazySerializedEvent<T> forPublish() {
+        if (!ENABLE_CODEC_SHORTCUT) {
+            getBody();
+        }
+        return this;
+    }
+
     final @NonNull T getBindingData() {
         return data;
     }
+
+    /**
+     * Return the Binding object backing a notification, if the notification has been published by a Binding
+     * publisher, the object is an instance of the expected type and codec shortcuts are enabled. The type check
+     * guards against the publisher having used different generated classes, for example due to a schema update.
+     *
+     * <p>Note that event instant is lost if the object does not implement {@link EventInstantAware}.
+     *
+     * @param <N> notification type
+     * @param notification DOM notification
+     * @param type expected type
+     * @return The Binding object, or {@code null} if the notification needs to be deserialized
+     */
+    static <N> @Nullable N bindingDataOf(final DOMNotification notification, final Class<N> type) {
+        if (ENABLE_CODEC_SHORTCUT && notification instanceof AbstractLazySerializedEvent<?> lazy) {
+            final var data = lazy.data;
+            if (type.isInstance(data)) {
+                return type.cast(data);
+            }
+        }
+        return null;
+    }
 }
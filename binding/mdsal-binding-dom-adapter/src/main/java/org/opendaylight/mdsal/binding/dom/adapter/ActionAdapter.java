@@ -11,19 +11,28 @@ import static java.util.Objects.requireNonNull;
 import static org.opendaylight.mdsal.binding.dom.adapter.StaticConfiguration.ENABLE_CODEC_SHORTCUT;
 import static org.opendaylight.yangtools.yang.common.YangConstants.operationInputQName;
 
+import com.google.common.collect.ImmutableMap;
 import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.MoreExecutors;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import org.eclipse.jdt.annotation.NonNull;
 import org.opendaylight.mdsal.binding.api.ActionSpec;
 import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
 import org.opendaylight.mdsal.dom.api.DOMActionService;
 import org.opendaylight.mdsal.dom.api.DOMDataTreeIdentifier;
+import org.opendaylight.mdsal.dom.api.DOMRpcResult;
 import org.opendaylight.yangtools.binding.DataObjectIdentifier;
 import org.opendaylight.yangtools.binding.RpcInput;
+import org.opendaylight.yangtools.binding.RpcOutput;
 import org.opendaylight.yangtools.binding.contract.Naming;
+import org.opendaylight.yangtools.yang.common.RpcResult;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
 import org.opendaylight.yangtools.yang.model.api.stmt.SchemaNodeIdentifier.Absolute;
 
 final class ActionAdapter extends AbstractBindingAdapter<DOMActionService> implements InvocationHandler {
@@ -61,22 +70,10 @@ final class ActionAdapter extends AbstractBindingAdapter<DOMActionService> imple
                     final var path = (DataObjectIdentifier<?>) requireNonNull(args[0]);
                     final var input = (RpcInput) requireNonNull(args[1]);
                     final var serializer = currentSerializer();
-                    final var future = getDelegate().invokeAction(actionPath,
+                    return toBindingResult(serializer, getDelegate().invokeAction(actionPath,
                         DOMDataTreeIdentifier.of(LogicalDatastoreType.OPERATIONAL,
                             serializer.toYangInstanceIdentifier(path)),
-                        serializer.toLazyNormalizedNodeActionInput(spec.type(), inputName, input));
-
-                    // Invocation returned a future we know about -- return that future instead
-                    if (ENABLE_CODEC_SHORTCUT && future instanceof BindingRpcFutureAware bindingAware) {
-                        return bindingAware.getBindingFuture();
-                    }
-
-                    final var specType = spec.type();
-                    return Futures.transform(future, dom -> {
-                        final var value = dom.value();
-                        return RpcResultUtil.rpcResultFromDOM(dom.errors(), value == null ? null
-                            : serializer.fromNormalizedNodeActionOutput(specType, value));
-                    }, MoreExecutors.directExecutor());
+                        serializer.toLazyNormalizedNodeActionInput(spec.type(), inputName, input)));
                 }
                 break;
             default:
@@ -88,4 +85,44 @@ final class ActionAdapter extends AbstractBindingAdapter<DOMActionService> imple
         }
         throw new NoSuchMethodError("Method " + method.toString() + "is unsupported.");
     }
+
+    @SuppressWarnings("unchecked")
+    <T extends DataObjectIdentifier<?>, O extends RpcOutput> Map<T, ListenableFuture<RpcResult<O>>> invokeActions(
+            final Map<T, ? extends RpcInput> inputs) {
+        final var serializer = currentSerializer();
+        final var paths = LinkedHashMap.<DOMDataTreeIdentifier, T>newLinkedHashMap(inputs.size());
+        final var domInputs = HashMap.<DOMDataTreeIdentifier, ContainerNode>newHashMap(inputs.size());
+        for (var entry : inputs.entrySet()) {
+            final var path = requireNonNull(entry.getKey());
+            final var domPath = DOMDataTreeIdentifier.of(LogicalDatastoreType.OPERATIONAL,
+                serializer.toYangInstanceIdentifier(path));
+            paths.put(domPath, path);
+            domInputs.put(domPath, serializer.toLazyNormalizedNodeActionInput(spec.type(), inputName,
+                requireNonNull(entry.getValue())));
+        }
+
+        final var results = getDelegate().invokeActions(actionPath, domInputs);
+        final var builder = ImmutableMap.<T, ListenableFuture<RpcResult<O>>>builderWithExpectedSize(paths.size());
+        paths.forEach((domPath, path) -> {
+            final var result = results.get(domPath);
+            builder.put(path, (ListenableFuture<RpcResult<O>>) (result != null ? toBindingResult(serializer, result)
+                : Futures.immediateFailedFuture(new IllegalStateException("No result for " + path))));
+        });
+        return builder.build();
+    }
+
+    private ListenableFuture<?> toBindingResult(final CurrentAdapterSerializer serializer,
+            final ListenableFuture<? extends DOMRpcResult> future) {
+        // Invocation returned a future we know about -- return that future instead
+        if (ENABLE_CODEC_SHORTCUT && future instanceof BindingRpcFutureAware bindingAware) {
+            return bindingAware.getBindingFuture();
+        }
+
+        final var specType = spec.type();
+        return Futures.transform(future, dom -> {
+            final var value = dom.value();
+            return RpcResultUtil.rpcResultFromDOM(dom.errors(), value == null ? null
+                : serializer.fromNormalizedNodeActionOutput(specType, value));
+        }, MoreExecutors.directExecutor());
+    }
 }
@@ -11,7 +11,9 @@ import static com.google.common.base.Preconditions.checkArgument;
 
 import com.google.common.collect.ClassToInstanceMap;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.ListenableFuture;
 import java.lang.reflect.Proxy;
+import java.util.Map;
 import java.util.Set;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.opendaylight.mdsal.binding.api.ActionService;
@@ -23,7 +25,10 @@ import org.opendaylight.mdsal.dom.api.DOMService;
 import org.opendaylight.yangtools.binding.Action;
 import org.opendaylight.yangtools.binding.DataObject;
 import org.opendaylight.yangtools.binding.DataObjectIdentifier;
+import org.opendaylight.yangtools.binding.RpcInput;
+import org.opendaylight.yangtools.binding.RpcOutput;
 import org.opendaylight.yangtools.binding.contract.Naming;
+import org.opendaylight.yangtools.yang.common.RpcResult;
 
 @NonNullByDefault
 final class ActionServiceAdapter
@@ -60,6 +65,13 @@ final class ActionServiceAdapter
             nodes.isEmpty() ? adapter : new ActionAdapterFilter(adapter, Set.copyOf(nodes))));
     }
 
+    @Override
+    public <P extends DataObject, T extends DataObjectIdentifier<P>, I extends RpcInput, O extends RpcOutput,
+            A extends Action<T, I, O>> Map<T, ListenableFuture<RpcResult<O>>> invokeActions(
+                final ActionSpec<A, P> spec, final Map<T, I> inputs) {
+        return getAdapter(spec).invokeActions(inputs);
+    }
+
     @Override
     ActionAdapter loadAdapter(final ActionSpec<?, ?> key) {
         final var type = key.type();
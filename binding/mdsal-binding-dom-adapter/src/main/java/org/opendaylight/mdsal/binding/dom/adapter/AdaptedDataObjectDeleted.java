@@ -26,7 +26,7 @@ final class AdaptedDataObjectDeleted<T extends DataObject> extends DataObjectDel
 
     @Override
     public ExactDataObjectStep<T> step() {
-        return adapter.step;
+        return adapter.step();
     }
 
     @Override
@@ -26,7 +26,7 @@ final class AdaptedDataObjectModified<T extends DataObject> extends DataObjectMo
 
     @Override
     public ExactDataObjectStep<T> step() {
-        return adapter.step;
+        return adapter.step();
     }
 
     @Override
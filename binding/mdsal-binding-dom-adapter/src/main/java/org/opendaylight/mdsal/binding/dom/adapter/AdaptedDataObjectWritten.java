@@ -26,7 +26,7 @@ final class AdaptedDataObjectWritten<T extends DataObject> extends DataObjectWri
 
     @Override
     public ExactDataObjectStep<T> step() {
-        return adapter.step;
+        return adapter.step();
     }
 
     @Override
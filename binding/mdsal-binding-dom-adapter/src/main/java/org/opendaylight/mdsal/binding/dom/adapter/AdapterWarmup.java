@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.binding.dom.adapter;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.mdsal.binding.api.RpcService;
+import org.opendaylight.yangtools.binding.ChildOf;
+import org.opendaylight.yangtools.binding.DataObject;
+import org.opendaylight.yangtools.binding.DataObjectReference;
+import org.opendaylight.yangtools.binding.Notification;
+import org.opendaylight.yangtools.binding.Rpc;
+import org.opendaylight.yangtools.binding.model.api.JavaTypeName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.model.api.ContainerSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.ListSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.stmt.SchemaNodeIdentifier.Absolute;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Warm-up of codecs and adapters. Both are generated on first use, which means the first request touching a particular
+ * type pays for bytecode generation and class loading. This class performs that work up front, in parallel, for a
+ * specified set of Binding types and optionally for all top-level data nodes and notifications in the model.
+ *
+ * <p>Warm-up is strictly best-effort: a type which fails to load or resolve is logged and skipped.
+ */
+@NonNullByDefault
+final class AdapterWarmup {
+    /**
+     * Outcome of a warm-up run.
+     *
+     * @param succeeded number of items warmed up
+     * @param failed number of items which failed to warm up
+     * @param elapsed time taken
+     */
+    record Result(int succeeded, int failed, Duration elapsed) {
+        Result {
+            requireNonNull(elapsed);
+        }
+    }
+
+    private static final Logger LOG = LoggerFactory.getLogger(AdapterWarmup.class);
+
+    private final CurrentAdapterSerializer serializer;
+    private final @Nullable RpcService rpcService;
+
+    AdapterWarmup(final CurrentAdapterSerializer serializer, final @Nullable RpcService rpcService) {
+        this.serializer = requireNonNull(serializer);
+        this.rpcService = rpcService;
+    }
+
+    /**
+     * Warm up codecs and adapters.
+     *
+     * @param typeNames fully-qualified names of Binding interfaces to warm up
+     * @param allTopLevel {@code true} to warm up codecs of all top-level data nodes and notifications
+     * @param parallelism number of threads to use
+     * @param timeout maximum time to wait for warm-up to complete
+     * @return A {@link Result}
+     */
+    Result run(final Collection<String> typeNames, final boolean allTopLevel, final int parallelism,
+            final Duration timeout) {
+        final var tasks = new ArrayList<Callable<Boolean>>();
+        for (var typeName : typeNames) {
+            tasks.add(() -> warmType(typeName));
+        }
+        if (allTopLevel) {
+            tasks.addAll(modelTasks());
+        }
+
+        final long start = System.nanoTime();
+        final var executor = Executors.newFixedThreadPool(Math.max(1, parallelism),
+            new ThreadFactoryBuilder().setDaemon(true).setNameFormat("binding-adapter-warmup-%d").build());
+        int succeeded = 0;
+        int failed = 0;
+        try {
+            for (var future : executor.invokeAll(tasks, timeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                try {
+                    if (future.get()) {
+                        succeeded++;
+                    } else {
+                        failed++;
+                    }
+                } catch (CancellationException e) {
+                    LOG.debug("Warm-up task did not complete in {}", timeout, e);
+                    failed++;
+                } catch (ExecutionException e) {
+                    LOG.debug("Warm-up task failed", e.getCause());
+                    failed++;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOG.debug("Interrupted while warming up", e);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        return new Result(succeeded, failed, Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    private List<Callable<Boolean>> modelTasks() {
+        final var tasks = new ArrayList<Callable<Boolean>>();
+        for (var module : serializer.getRuntimeContext().modelContext().getModules()) {
+            for (var child : module.getChildNodes()) {
+                if (child instanceof ContainerSchemaNode || child instanceof ListSchemaNode) {
+                    final var path = YangInstanceIdentifier.of(child.getQName());
+                    tasks.add(() -> {
+                        serializer.getSubtreeCodec(path);
+                        return Boolean.TRUE;
+                    });
+                }
+            }
+            for (var notification : module.getNotifications()) {
+                final var path = Absolute.of(notification.getQName());
+                tasks.add(() -> {
+                    serializer.getSubtreeCodec(path);
+                    return Boolean.TRUE;
+                });
+            }
+        }
+        return tasks;
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private boolean warmType(final String typeName) {
+        final int dot = typeName.lastIndexOf('.');
+        if (dot <= 0) {
+            LOG.warn("Invalid type name {}, not warming it up", typeName);
+            return false;
+        }
+
+        final Class<?> type;
+        try {
+            type = serializer.getRuntimeContext().loadClass(
+                JavaTypeName.create(typeName.substring(0, dot), typeName.substring(dot + 1)));
+        } catch (ClassNotFoundException | IllegalArgumentException e) {
+            LOG.warn("Cannot load {}, not warming it up", typeName, e);
+            return false;
+        }
+
+        try {
+            if (Rpc.class.isAssignableFrom(type)) {
+                final var local = rpcService;
+                if (local == null) {
+                    LOG.warn("No RpcService available, not warming up {}", type);
+                    return false;
+                }
+                local.getRpc(type.asSubclass(Rpc.class));
+            } else if (Notification.class.isAssignableFrom(type)) {
+                serializer.getSubtreeCodec(serializer.getNotificationPath((Class) type));
+            } else if (ChildOf.class.isAssignableFrom(type)) {
+                serializer.getSubtreeCodec(DataObjectReference.builder((Class) type.asSubclass(DataObject.class))
+                    .build());
+            } else {
+                LOG.warn("Unsupported type {}, not warming it up", type);
+                return false;
+            }
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            LOG.warn("Failed to warm up {}", type, e);
+            return false;
+        }
+
+        LOG.debug("Warmed up {}", type);
+        return true;
+    }
+}
@@ -32,10 +32,15 @@ final class AugmentationCandidateNodeAdapter<A extends Augmentation<?>>
 
     private AugmentationCandidateNodeAdapter(final BindingAugmentationCodecTreeNode<A> codec,
             final DataTreeCandidateNode parent, final ImmutableList<DataTreeCandidateNode> domChildNodes) {
-        super(parent, codec, (ExactDataObjectStep<A>) codec.deserializePathArgument(null));
+        super(parent, codec);
         this.domChildNodes = requireNonNull(domChildNodes);
     }
 
+    @Override
+    ExactDataObjectStep<A> deserializeStep() {
+        return (ExactDataObjectStep<A>) codec.deserializePathArgument(null);
+    }
+
     static <A extends Augmentation<?>> @Nullable AugmentationCandidateNodeAdapter<A> forModifications(
             final BindingAugmentationCodecTreeNode<A> codec, final DataTreeCandidateNode parent,
             final Collection<DataTreeCandidateNode> children) {
@@ -43,7 +43,8 @@ final class BindingDOMNotificationListenerAdapter<N extends Notification<N> & Da
 
     @Override
     public void onNotification(final DOMNotification notification) {
-        final var binding = type.cast(verifyNotNull(deserialize(notification)));
+        final var shortcut = AbstractLazySerializedEvent.bindingDataOf(notification, type);
+        final var binding = shortcut != null ? shortcut : type.cast(verifyNotNull(deserialize(notification)));
         executor.execute(() -> listener.onNotification(binding));
     }
 
@@ -53,12 +54,6 @@ final class BindingDOMNotificationListenerAdapter<N extends Notification<N> & Da
     }
 
     private Notification<?> deserialize(final DOMNotification notification) {
-        if (notification instanceof LazySerializedNotification lazy) {
-            // TODO: This is a routed-back notification, for which we may end up losing event time here, but that is
-            //       okay, for now at least.
-            return lazy.getBindingData();
-        }
-
         final var serializer = adapterContext.currentSerializer();
         final var result = notification instanceof DOMEvent domEvent
             ? serializer.fromNormalizedNodeNotification(notification.getType(), notification.getBody(),
@@ -75,7 +75,7 @@ public final class BindingDOMNotificationPublishServiceAdapter
     }
 
     private @NonNull DOMNotification toDomNotification(final Notification<?> notification) {
-        return new LazySerializedNotification(currentSerializer(), notification);
+        return new LazySerializedNotification(currentSerializer(), notification).forPublish();
     }
 
     private static @NonNull ListenableFuture<? extends Object> toBindingResult(
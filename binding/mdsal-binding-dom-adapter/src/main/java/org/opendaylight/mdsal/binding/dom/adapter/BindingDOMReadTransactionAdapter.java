@@ -11,6 +11,8 @@ import com.google.common.util.concurrent.FluentFuture;
 import java.util.Optional;
 import org.eclipse.jdt.annotation.NonNull;
 import org.opendaylight.mdsal.binding.api.QueryReadTransaction;
+import org.opendaylight.mdsal.binding.api.query.AggregateExpression;
+import org.opendaylight.mdsal.binding.api.query.AggregateResult;
 import org.opendaylight.mdsal.binding.api.query.QueryExpression;
 import org.opendaylight.mdsal.binding.api.query.QueryResult;
 import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
@@ -41,6 +43,12 @@ final class BindingDOMReadTransactionAdapter extends AbstractForwardedTransactio
         return doExecute(getDelegate(), store, query);
     }
 
+    @Override
+    public <T extends @NonNull DataObject, V> FluentFuture<AggregateResult<V>> aggregate(
+            final LogicalDatastoreType store, final AggregateExpression<T, V> aggregate) {
+        return doAggregate(getDelegate(), store, aggregate);
+    }
+
     @Override
     public void close() {
         getDelegate().close();
@@ -11,6 +11,8 @@ import com.google.common.util.concurrent.FluentFuture;
 import java.util.Optional;
 import org.eclipse.jdt.annotation.NonNull;
 import org.opendaylight.mdsal.binding.api.QueryReadWriteTransaction;
+import org.opendaylight.mdsal.binding.api.query.AggregateExpression;
+import org.opendaylight.mdsal.binding.api.query.AggregateResult;
 import org.opendaylight.mdsal.binding.api.query.QueryExpression;
 import org.opendaylight.mdsal.binding.api.query.QueryResult;
 import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
@@ -41,4 +43,10 @@ class BindingDOMReadWriteTransactionAdapter extends BindingDOMWriteTransactionAd
             final QueryExpression<T> query) {
         return doExecute(getDelegate(), store, query);
     }
+
+    @Override
+    public final <T extends @NonNull DataObject, V> FluentFuture<AggregateResult<V>> aggregate(
+            final LogicalDatastoreType store, final AggregateExpression<T, V> aggregate) {
+        return doAggregate(getDelegate(), store, aggregate);
+    }
 }
@@ -8,6 +8,8 @@
 package org.opendaylight.mdsal.binding.dom.adapter;
 
 import static com.google.common.base.Preconditions.checkArgument;
+import static org.opendaylight.mdsal.binding.dom.adapter.StaticConfiguration.PARALLEL_LIST_CHUNK_SIZE;
+import static org.opendaylight.mdsal.binding.dom.adapter.StaticConfiguration.PARALLEL_LIST_THRESHOLD;
 
 import com.google.common.base.VerifyException;
 import com.google.common.util.concurrent.FluentFuture;
@@ -28,6 +30,12 @@ import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
 
 class BindingDOMWriteTransactionAdapter<T extends DOMDataTreeWriteTransaction> extends AbstractForwardedTransaction<T>
         implements WriteTransaction {
+    // Last parent path ensured by ensureParentsByMerge(), so that bulk writes of items sharing a parent do not have to
+    // construct and merge the same parent structure for each item. Invalidated when a put() or a delete() may have
+    // removed it.
+    private LogicalDatastoreType ensuredStore;
+    private YangInstanceIdentifier ensuredParent;
+
     BindingDOMWriteTransactionAdapter(final AdapterContext adapterContext, final T delegateTx) {
         super(adapterContext, delegateTx);
     }
@@ -35,12 +43,24 @@ class BindingDOMWriteTransactionAdapter<T extends DOMDataTreeWriteTransaction> e
     @Override
     public final <U extends DataObject> void put(final LogicalDatastoreType store, final DataObjectIdentifier<U> path,
             final U data) {
+        if (PARALLEL_LIST_THRESHOLD > 0) {
+            final var split = ParallelListSerializer.split(adapterContext().currentSerializer(), path, data,
+                PARALLEL_LIST_THRESHOLD, PARALLEL_LIST_CHUNK_SIZE);
+            if (split != null) {
+                put(store, split.normalized());
+                for (var list : split.lists()) {
+                    getDelegate().put(store, list.path(), list.node());
+                }
+                return;
+            }
+        }
         put(store, toNormalized("put", path, data));
     }
 
     private void put(final LogicalDatastoreType store, final NormalizedResult normalized) {
         final var delegate = getDelegate();
         final var domPath = normalized.path();
+        invalidateParents(store, domPath);
 
         switch (normalized) {
             case AugmentationResult augment -> {
@@ -113,6 +133,7 @@ class BindingDOMWriteTransactionAdapter<T extends DOMDataTreeWriteTransaction> e
         final var codecWithPath = serializer.getSubtreeCodecWithPath(path);
         final var domPath = codecWithPath.path();
         final var delegate = getDelegate();
+        invalidateParents(store, domPath);
         if (codecWithPath.codec() instanceof BindingAugmentationCodecTreeNode<?> augmentCodec) {
             // Deletion of an augmentation: issue a delete on all potential children of the augmentation
             for (var childPath : augmentCodec.childPathArguments()) {
@@ -151,10 +172,21 @@ class BindingDOMWriteTransactionAdapter<T extends DOMDataTreeWriteTransaction> e
         final var path = normalized.path();
         // AugmentationResult already points to parent path
         final var parentPath = normalized instanceof AugmentationResult ? path : path.getParent();
-        if (parentPath != null && !parentPath.isEmpty()) {
+        if (parentPath != null && !parentPath.isEmpty()
+                && (store != ensuredStore || !parentPath.equals(ensuredParent))) {
             final var parentNode = ImmutableNodes.fromInstanceId(serializer.getRuntimeContext().modelContext(),
                 parentPath);
             getDelegate().merge(store, YangInstanceIdentifier.of(parentNode.name()), parentNode);
+            ensuredStore = store;
+            ensuredParent = parentPath;
+        }
+    }
+
+    private void invalidateParents(final LogicalDatastoreType store, final YangInstanceIdentifier path) {
+        final var local = ensuredParent;
+        if (local != null && store == ensuredStore && path.contains(local)) {
+            ensuredStore = null;
+            ensuredParent = null;
         }
     }
 
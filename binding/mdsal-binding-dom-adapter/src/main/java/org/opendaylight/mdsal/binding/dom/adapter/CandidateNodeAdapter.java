@@ -15,12 +15,12 @@ import com.google.common.base.MoreObjects;
 import com.google.common.base.MoreObjects.ToStringHelper;
 import com.google.common.base.VerifyException;
 import com.google.common.collect.ArrayListMultimap;
-import com.google.common.collect.ImmutableList;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.VarHandle;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import org.eclipse.jdt.annotation.NonNull;
 import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.mdsal.binding.api.DataObjectModification;
@@ -53,6 +53,7 @@ abstract sealed class CandidateNodeAdapter<T extends DataObject, N extends Commo
         permits AugmentationCandidateNodeAdapter, RegularCandidateNodeAdapter {
     private static final Logger LOG = LoggerFactory.getLogger(CandidateNodeAdapter.class);
     private static final @NonNull Object NULL_DATA_OBJECT = new Object();
+    private static final VarHandle STEP;
     private static final VarHandle MODIFICATION_TYPE;
     private static final VarHandle MODIFIED_CHILDREN;
     private static final VarHandle DATA_BEFORE;
@@ -62,10 +63,10 @@ abstract sealed class CandidateNodeAdapter<T extends DataObject, N extends Commo
         final var lookup = MethodHandles.lookup();
 
         try {
+            STEP = lookup.findVarHandle(CandidateNodeAdapter.class, "step", ExactDataObjectStep.class);
             MODIFICATION_TYPE = lookup.findVarHandle(CandidateNodeAdapter.class, "modificationType",
                 ModificationType.class);
-            MODIFIED_CHILDREN = lookup.findVarHandle(CandidateNodeAdapter.class, "modifiedChildren",
-                ImmutableList.class);
+            MODIFIED_CHILDREN = lookup.findVarHandle(CandidateNodeAdapter.class, "modifiedChildren", List.class);
             DATA_BEFORE = lookup.findVarHandle(CandidateNodeAdapter.class, "dataBefore", Object.class);
             DATA_AFTER = lookup.findVarHandle(CandidateNodeAdapter.class, "dataAfter", Object.class);
         } catch (NoSuchFieldException | IllegalAccessException e) {
@@ -74,11 +75,12 @@ abstract sealed class CandidateNodeAdapter<T extends DataObject, N extends Commo
     }
 
     final @NonNull DataTreeCandidateNode domData;
-    final @NonNull ExactDataObjectStep<T> step;
     final @NonNull N codec;
 
     @SuppressFBWarnings(value = "UUF_UNUSED_FIELD", justification = "https://github.com/spotbugs/spotbugs/issues/2749")
-    private volatile ImmutableList<DataObjectModification<?>> modifiedChildren;
+    private volatile ExactDataObjectStep<T> step;
+    @SuppressFBWarnings(value = "UUF_UNUSED_FIELD", justification = "https://github.com/spotbugs/spotbugs/issues/2749")
+    private volatile List<DataObjectModification<?>> modifiedChildren;
     @SuppressFBWarnings(value = "UUF_UNUSED_FIELD", justification = "https://github.com/spotbugs/spotbugs/issues/2749")
     private volatile ModificationType modificationType;
     @SuppressFBWarnings(value = "UUF_UNUSED_FIELD", justification = "https://github.com/spotbugs/spotbugs/issues/2749")
@@ -86,9 +88,8 @@ abstract sealed class CandidateNodeAdapter<T extends DataObject, N extends Commo
     @SuppressFBWarnings(value = "UUF_UNUSED_FIELD", justification = "https://github.com/spotbugs/spotbugs/issues/2749")
     private volatile Object dataAfter;
 
-    CandidateNodeAdapter(final DataTreeCandidateNode domData, final N codec, final ExactDataObjectStep<T> step) {
+    CandidateNodeAdapter(final DataTreeCandidateNode domData, final N codec) {
         this.domData = requireNonNull(domData);
-        this.step = requireNonNull(step);
         this.codec = requireNonNull(codec);
     }
 
@@ -113,6 +114,23 @@ abstract sealed class CandidateNodeAdapter<T extends DataObject, N extends Commo
         };
     }
 
+    // Deserializing the step may be expensive, for example for list entries it involves instantiating the key, hence
+    // we only do it when asked to
+    @SuppressWarnings("unchecked")
+    final @NonNull ExactDataObjectStep<T> step() {
+        final var local = (ExactDataObjectStep<T>) STEP.getAcquire(this);
+        return local != null ? local : loadStep();
+    }
+
+    @SuppressWarnings("unchecked")
+    private @NonNull ExactDataObjectStep<T> loadStep() {
+        final var computed = requireNonNull(deserializeStep());
+        final var witness = (ExactDataObjectStep<T>) STEP.compareAndExchangeRelease(this, null, computed);
+        return witness == null ? computed : witness;
+    }
+
+    abstract @NonNull ExactDataObjectStep<T> deserializeStep();
+
     final ModificationType modificationType() {
         final var local = (ModificationType) MODIFICATION_TYPE.getAcquire(this);
         return local != null ? local : loadModificationType();
@@ -197,19 +215,20 @@ abstract sealed class CandidateNodeAdapter<T extends DataObject, N extends Commo
 
     abstract @Nullable DataTreeCandidateNode firstModifiedChild(YangInstanceIdentifier.PathArgument arg);
 
-    final ImmutableList<DataObjectModification<?>> modifiedChildren() {
-        final var local = (ImmutableList<DataObjectModification<?>>) MODIFIED_CHILDREN.getAcquire(this);
+    @SuppressWarnings("unchecked")
+    final List<DataObjectModification<?>> modifiedChildren() {
+        final var local = (List<DataObjectModification<?>>) MODIFIED_CHILDREN.getAcquire(this);
         return local != null ? local : loadModifiedChilden();
     }
 
     @SuppressWarnings("unchecked")
-    private @NonNull ImmutableList<DataObjectModification<?>> loadModifiedChilden() {
-        final var builder = ImmutableList.<DataObjectModification<?>>builder();
+    private @NonNull List<DataObjectModification<?>> loadModifiedChilden() {
+        final var builder = new ModifiedChildrenList.Builder(domData.childNodes().size());
         populateList(builder, codec, domData, domChildNodes());
         final var computed = builder.build();
         // Non-trivial return: use CAS to ensure we reuse concurrent loads
         final var witness = MODIFIED_CHILDREN.compareAndExchangeRelease(this, null, computed);
-        return witness == null ? computed : (ImmutableList<DataObjectModification<?>>) witness;
+        return witness == null ? computed : (List<DataObjectModification<?>>) witness;
     }
 
     @Override
@@ -218,7 +237,7 @@ abstract sealed class CandidateNodeAdapter<T extends DataObject, N extends Commo
     }
 
     ToStringHelper addToStringAttributes(final ToStringHelper helper) {
-        return helper.add("step", step).add("domData", domData);
+        return helper.add("step", step()).add("domData", domData);
     }
 
     abstract @NonNull Collection<DataTreeCandidateNode> domChildNodes();
@@ -251,11 +270,11 @@ abstract sealed class CandidateNodeAdapter<T extends DataObject, N extends Commo
         };
     }
 
-    private static void populateList(final ImmutableList.Builder<DataObjectModification<?>> result,
+    private static void populateList(final ModifiedChildrenList.Builder result,
             final BindingDataContainerCodecTreeNode<?> parentCodec, final DataTreeCandidateNode parent,
             final Collection<DataTreeCandidateNode> children) {
-        final var augmentChildren =
-            ArrayListMultimap.<BindingAugmentationCodecTreeNode<?>, DataTreeCandidateNode>create();
+        // Most nodes do not have augmentations, allocate this only when needed
+        ArrayListMultimap<BindingAugmentationCodecTreeNode<?>, DataTreeCandidateNode> augmentChildren = null;
 
         for (var domChildNode : parent.childNodes()) {
             if (domChildNode.modificationType() != UNMODIFIED) {
@@ -270,9 +289,13 @@ abstract sealed class CandidateNodeAdapter<T extends DataObject, N extends Commo
                         switch (childCodec) {
                             case BindingDataObjectCodecTreeNode<?> childDataObjectCodec ->
                                 populateList(result, type, childDataObjectCodec, domChildNode);
-                            case BindingAugmentationCodecTreeNode<?> childAugmentationCodec ->
+                            case BindingAugmentationCodecTreeNode<?> childAugmentationCodec -> {
                                 // Defer creation once we have collected all modified children
+                                if (augmentChildren == null) {
+                                    augmentChildren = ArrayListMultimap.create();
+                                }
                                 augmentChildren.put(childAugmentationCodec, domChildNode);
+                            }
                             case BindingChoiceCodecTreeNode<?> childChoiceCodec ->
                                 populateList(result, childChoiceCodec, domChildNode, domChildNode.childNodes());
                             default ->
@@ -289,18 +312,19 @@ abstract sealed class CandidateNodeAdapter<T extends DataObject, N extends Commo
             }
         }
 
-        for (var entry : augmentChildren.asMap().entrySet()) {
-            final var modification = AugmentationCandidateNodeAdapter.forModifications(entry.getKey(), parent,
-                entry.getValue());
-            if (modification != null) {
-                result.add(modification.toModification());
+        if (augmentChildren != null) {
+            for (var entry : augmentChildren.asMap().entrySet()) {
+                final var modification = AugmentationCandidateNodeAdapter.forModifications(entry.getKey(), parent,
+                    entry.getValue());
+                if (modification != null) {
+                    result.add(modification.toModification());
+                }
             }
         }
     }
 
-    private static void populateList(final ImmutableList.Builder<DataObjectModification<?>> result,
-            final BindingStructuralType type, final BindingDataObjectCodecTreeNode<?> childCodec,
-            final DataTreeCandidateNode domChildNode) {
+    private static void populateList(final ModifiedChildrenList.Builder result, final BindingStructuralType type,
+            final BindingDataObjectCodecTreeNode<?> childCodec, final DataTreeCandidateNode domChildNode) {
         switch (type) {
             case INVISIBLE_LIST:
                 // We use parent codec intentionally.
@@ -310,17 +334,17 @@ abstract sealed class CandidateNodeAdapter<T extends DataObject, N extends Commo
                 populateList(result, childCodec, domChildNode, domChildNode.childNodes());
                 break;
             case UNKNOWN, VISIBLE_CONTAINER:
-                result.add(new RegularCandidateNodeAdapter<>(childCodec, domChildNode).toModification());
+                result.add(childCodec, domChildNode);
                 break;
             default:
         }
     }
 
-    private static void populateListWithSingleCodec(final ImmutableList.Builder<DataObjectModification<?>> result,
+    private static void populateListWithSingleCodec(final ModifiedChildrenList.Builder result,
             final BindingDataObjectCodecTreeNode<?> codec, final Collection<DataTreeCandidateNode> childNodes) {
         for (var child : childNodes) {
             if (child.modificationType() != UNMODIFIED) {
-                result.add(new RegularCandidateNodeAdapter<>(codec, child).toModification());
+                result.add(codec, child);
             }
         }
     }
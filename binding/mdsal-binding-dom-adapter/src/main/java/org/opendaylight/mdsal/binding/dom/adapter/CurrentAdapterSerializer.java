@@ -10,12 +10,16 @@ package org.opendaylight.mdsal.binding.dom.adapter;
 import static com.google.common.base.Verify.verify;
 import static com.google.common.base.Verify.verifyNotNull;
 import static java.util.Objects.requireNonNull;
+import static org.opendaylight.mdsal.binding.dom.adapter.StaticConfiguration.ENABLE_PATH_PREFIX_REUSE;
+import static org.opendaylight.mdsal.binding.dom.adapter.StaticConfiguration.PATH_CACHE_SIZE;
+import static org.opendaylight.mdsal.binding.dom.adapter.StaticConfiguration.READ_CACHE_SIZE;
 
 import com.google.common.annotations.Beta;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.VerifyException;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
+import com.google.common.cache.CacheStats;
 import com.google.common.cache.LoadingCache;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -50,13 +54,6 @@ import org.opendaylight.yangtools.yang.model.util.SchemaInferenceStack;
 @Beta
 @VisibleForTesting
 public final class CurrentAdapterSerializer extends ForwardingBindingDOMCodecServices {
-    private final LoadingCache<BindingInstanceIdentifier, YangInstanceIdentifier> yangInstanceIdentifierCache =
-        CacheBuilder.newBuilder().softValues().build(new CacheLoader<>() {
-            @Override
-            public YangInstanceIdentifier load(final BindingInstanceIdentifier key) {
-                return getInstanceIdentifierCodec().fromBinding(key);
-            }
-        });
     private final LoadingCache<Class<? extends Notification<?>>, Absolute> notificationPathCache =
         CacheBuilder.newBuilder().weakKeys().weakValues().build(new CacheLoader<>() {
             @Override
@@ -70,9 +67,13 @@ public final class CurrentAdapterSerializer extends ForwardingBindingDOMCodecSer
 
     private final ConcurrentMap<JavaTypeName, ContextReferenceExtractor> extractors = new ConcurrentHashMap<>();
     private final @NonNull BindingDOMCodecServices delegate;
+    private final @NonNull PathCodecCache pathCache;
+    private final @Nullable DataObjectDecodeCache decodeCache;
 
     public CurrentAdapterSerializer(final BindingDOMCodecServices delegate) {
         this.delegate = requireNonNull(delegate);
+        pathCache = new PathCodecCache(delegate, PATH_CACHE_SIZE, ENABLE_PATH_PREFIX_REUSE);
+        decodeCache = READ_CACHE_SIZE > 0 ? new DataObjectDecodeCache(READ_CACHE_SIZE) : null;
     }
 
     @Override
@@ -81,11 +82,50 @@ public final class CurrentAdapterSerializer extends ForwardingBindingDOMCodecSer
     }
 
     @NonNull YangInstanceIdentifier toCachedYangInstanceIdentifier(final @NonNull BindingInstanceIdentifier path) {
-        return yangInstanceIdentifierCache.getUnchecked(path);
+        return pathCache.toYangInstanceIdentifier(path);
     }
 
+    @SuppressWarnings("unchecked")
     <T extends DataObject> @NonNull DataObjectReference<T> coerceInstanceIdentifier(final YangInstanceIdentifier dom) {
-        return verifyNotNull(fromYangInstanceIdentifier(dom));
+        return (DataObjectReference<T>) verifyNotNull(pathCache.fromYangInstanceIdentifier(dom));
+    }
+
+    @NonNull PathCodecCache pathCache() {
+        return pathCache;
+    }
+
+    @Nullable DataObjectDecodeCache decodeCache() {
+        return decodeCache;
+    }
+
+    /**
+     * Return statistics of the cache of translations from Binding instance identifiers to
+     * {@link YangInstanceIdentifier}s.
+     *
+     * @return Cache statistics
+     */
+    public @NonNull CacheStats toYangInstanceIdentifierCacheStats() {
+        return pathCache.toDomStats();
+    }
+
+    /**
+     * Return statistics of the cache of translations from {@link YangInstanceIdentifier}s to Binding instance
+     * identifiers.
+     *
+     * @return Cache statistics
+     */
+    public @NonNull CacheStats fromYangInstanceIdentifierCacheStats() {
+        return pathCache.toBindingStats();
+    }
+
+    /**
+     * Return statistics of the cache of {@link DataObject}s decoded by read transactions.
+     *
+     * @return Cache statistics, or {@code null} if the cache is disabled
+     */
+    public @Nullable CacheStats readCacheStats() {
+        final var local = decodeCache;
+        return local == null ? null : local.stats();
     }
 
     @NonNull Absolute getActionPath(final @NonNull ActionSpec<?, ?> spec) {
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.binding.dom.adapter;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.MoreObjects;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import java.util.Optional;
+import java.util.function.Function;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.opendaylight.yangtools.binding.DataObject;
+import org.opendaylight.yangtools.binding.data.codec.api.CommonDataObjectCodecTreeNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNodeContainer;
+
+/**
+ * Cache of {@link DataObject}s decoded from {@link NormalizedNode}s, keyed by the identity of the
+ * {@link NormalizedNode} and the codec used to decode it. Data tree snapshots share unchanged subtrees, hence repeated
+ * reads of an unchanged subtree result in the same {@link NormalizedNode} and can be satisfied with the
+ * {@link DataObject} decoded previously.
+ *
+ * <p>Keys are held weakly only to have them compared by identity rather than by their deep {@code equals()}. Decoded
+ * objects retain the {@link NormalizedNode} they were decoded from, hence a key does not become weakly reachable while
+ * its entry is present and every entry pins its entire subtree. The cache is therefore bounded by the total number of
+ * {@link NormalizedNode}s in cached subtrees rather than by the number of entries. Subtrees larger than the entire
+ * cache are not cached at all and their size is not computed beyond that limit.
+ */
+@NonNullByDefault
+final class DataObjectDecodeCache {
+    private record Decoded(CommonDataObjectCodecTreeNode<?> codec, Optional<? extends DataObject> result, int weight) {
+        Decoded {
+            requireNonNull(codec);
+            requireNonNull(result);
+        }
+    }
+
+    private final Cache<NormalizedNode, Decoded> cache;
+    private final int maximumEntryWeight;
+
+    /**
+     * Create a new cache.
+     *
+     * @param maximumWeight maximum total number of {@link NormalizedNode}s retained by cached entries
+     */
+    DataObjectDecodeCache(final long maximumWeight) {
+        cache = CacheBuilder.newBuilder().weakKeys()
+            .maximumWeight(maximumWeight).<NormalizedNode, Decoded>weigher((data, decoded) -> decoded.weight)
+            .recordStats()
+            .build();
+        maximumEntryWeight = (int) Math.min(maximumWeight, Integer.MAX_VALUE - 1);
+    }
+
+    /**
+     * Decode a {@link NormalizedNode}, reusing the result of a previous invocation with the same node and codec.
+     *
+     * @param <D> DataObject type
+     * @param codec codec to use
+     * @param data data to decode
+     * @param decoder function performing the actual decoding
+     * @return decoded data
+     */
+    @SuppressWarnings("unchecked")
+    <D extends DataObject> Optional<D> decode(final CommonDataObjectCodecTreeNode<D> codec, final NormalizedNode data,
+            final Function<NormalizedNode, Optional<D>> decoder) {
+        final var cached = cache.getIfPresent(data);
+        // The same node may be decoded via different codecs, for example when it is a grouping instantiated in
+        // multiple places, or when the caller wants an augmentation of it
+        if (cached != null && cached.codec == codec) {
+            return (Optional<D>) cached.result;
+        }
+
+        final var result = decoder.apply(data);
+        final int weight = weigh(data, maximumEntryWeight);
+        if (weight <= maximumEntryWeight) {
+            cache.put(data, new Decoded(codec, result, weight));
+        }
+        return result;
+    }
+
+    /**
+     * Count the {@link NormalizedNode}s in a subtree, giving up as soon as the count exceeds specified limit.
+     *
+     * @param data subtree root
+     * @param limit maximum weight of interest
+     * @return number of nodes in the subtree, or a number greater than {@code limit}
+     */
+    @VisibleForTesting
+    static int weigh(final NormalizedNode data, final int limit) {
+        int weight = 1;
+        if (data instanceof NormalizedNodeContainer<?> container) {
+            for (var child : container.body()) {
+                if (weight > limit) {
+                    break;
+                }
+                weight += weigh(child, limit - weight);
+            }
+        }
+        return weight;
+    }
+
+    CacheStats stats() {
+        return cache.stats();
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).add("stats", cache.stats()).toString();
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.binding.dom.adapter;
+
+import static com.google.common.base.Verify.verifyNotNull;
+import static java.util.Objects.requireNonNull;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.mdsal.binding.api.DataObjectModification;
+import org.opendaylight.yangtools.binding.data.codec.api.BindingDataObjectCodecTreeNode;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidateNode;
+
+/**
+ * An immutable list of child {@link DataObjectModification}s. Each {@link DataObjectModification} is instantiated
+ * when it is first accessed, so that listeners looking at only a few children of a large modification do not pay
+ * for adapting all of them.
+ */
+final class ModifiedChildrenList extends AbstractList<DataObjectModification<?>> implements RandomAccess {
+    /**
+     * Builder of {@link ModifiedChildrenList}s.
+     */
+    static final class Builder {
+        private @Nullable BindingDataObjectCodecTreeNode<?>[] codecs;
+        private Object[] items;
+        private int size;
+
+        Builder(final int expectedSize) {
+            codecs = new BindingDataObjectCodecTreeNode<?>[Math.max(expectedSize, 1)];
+            items = new Object[codecs.length];
+        }
+
+        /**
+         * Add a child whose modification should be adapted when it is accessed.
+         *
+         * @param codec child codec
+         * @param domData child candidate node
+         */
+        void add(final @NonNull BindingDataObjectCodecTreeNode<?> codec, final @NonNull DataTreeCandidateNode domData) {
+            append(requireNonNull(codec), requireNonNull(domData));
+        }
+
+        /**
+         * Add an already-adapted child modification.
+         *
+         * @param modification child modification
+         */
+        void add(final @NonNull DataObjectModification<?> modification) {
+            append(null, requireNonNull(modification));
+        }
+
+        @NonNull List<DataObjectModification<?>> build() {
+            return size == 0 ? List.of()
+                : new ModifiedChildrenList(Arrays.copyOf(codecs, size), Arrays.copyOf(items, size));
+        }
+
+        private void append(final @Nullable BindingDataObjectCodecTreeNode<?> codec, final Object item) {
+            if (size == items.length) {
+                final int newLength = size * 2;
+                codecs = Arrays.copyOf(codecs, newLength);
+                items = Arrays.copyOf(items, newLength);
+            }
+            codecs[size] = codec;
+            items[size++] = item;
+        }
+    }
+
+    private static final VarHandle ITEMS = MethodHandles.arrayElementVarHandle(Object[].class);
+
+    // Codec to use for adapting the corresponding item, null for items which were added already adapted
+    private final @Nullable BindingDataObjectCodecTreeNode<?>[] codecs;
+    // Either a DataTreeCandidateNode, or the DataObjectModification it has been adapted to
+    private final Object[] items;
+
+    private ModifiedChildrenList(final @Nullable BindingDataObjectCodecTreeNode<?>[] codecs, final Object[] items) {
+        this.codecs = codecs;
+        this.items = items;
+    }
+
+    @Override
+    public DataObjectModification<?> get(final int index) {
+        final var item = ITEMS.getAcquire(items, index);
+        return item instanceof DataObjectModification<?> modification ? modification : adapt(index, item);
+    }
+
+    @Override
+    public int size() {
+        return items.length;
+    }
+
+    private @NonNull DataObjectModification<?> adapt(final int index, final Object item) {
+        final var computed = new RegularCandidateNodeAdapter<>(verifyNotNull(codecs[index]),
+            (DataTreeCandidateNode) item).toModification();
+        final var witness = ITEMS.compareAndExchangeRelease(items, index, item, computed);
+        return witness == item ? computed : (DataObjectModification<?>) witness;
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.binding.dom.adapter;
+
+import com.google.common.annotations.Beta;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.opendaylight.mdsal.binding.api.RpcService;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.metatype.annotations.AttributeDefinition;
+import org.osgi.service.metatype.annotations.Designate;
+import org.osgi.service.metatype.annotations.ObjectClassDefinition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Component warming up codecs and adapters for configured Binding types. Warm-up runs in the background, so that it
+ * does not hold up activation of this or any other component, and is cancelled when this component is deactivated.
+ */
+@Beta
+@Component(service = { }, configurationPid = "org.opendaylight.mdsal.binding.dom.adapter.warmup")
+@Designate(ocd = OSGiAdapterWarmup.Config.class)
+public final class OSGiAdapterWarmup {
+    @ObjectClassDefinition
+    public @interface Config {
+        @AttributeDefinition(name = "warmup-types", description = """
+            Fully-qualified names of Binding interfaces to warm up. Data objects must be top-level containers or \
+            lists, RPCs and notifications are supported as well.""")
+        String[] types() default {};
+
+        @AttributeDefinition(name = "warmup-all-top-level",
+            description = "Warm up codecs of all top-level data nodes and notifications in the model.")
+        boolean allTopLevel() default false;
+
+        @AttributeDefinition(name = "warmup-parallelism", description = "Number of threads performing warm-up.",
+            min = "1")
+        int parallelism() default 4;
+
+        @AttributeDefinition(name = "warmup-timeout",
+            description = "Maximum time in seconds warm-up is allowed to take.", min = "1")
+        int timeoutSeconds() default 60;
+    }
+
+    private static final Logger LOG = LoggerFactory.getLogger(OSGiAdapterWarmup.class);
+
+    private final Future<?> future;
+
+    @Activate
+    public OSGiAdapterWarmup(@Reference final AdapterContext adapterContext,
+            @Reference final RpcService rpcService, final Config config) {
+        final var types = List.of(config.types());
+        final var allTopLevel = config.allTopLevel();
+        if (types.isEmpty() && !allTopLevel) {
+            LOG.debug("Binding/DOM adapter warm-up not configured");
+            future = Futures.immediateVoidFuture();
+            return;
+        }
+
+        final var warmup = new AdapterWarmup(adapterContext.currentSerializer(), rpcService);
+        final var parallelism = config.parallelism();
+        final var timeout = Duration.ofSeconds(config.timeoutSeconds());
+        final var executor = Executors.newSingleThreadExecutor(
+            new ThreadFactoryBuilder().setDaemon(true).setNameFormat("binding-adapter-warmup").build());
+        future = executor.submit(() -> {
+            final var result = warmup.run(types, allTopLevel, parallelism, timeout);
+            if (Thread.currentThread().isInterrupted()) {
+                LOG.info("Binding/DOM adapter warm-up cancelled after {}: {} items warmed up, {} failed",
+                    result.elapsed(), result.succeeded(), result.failed());
+            } else {
+                LOG.info("Binding/DOM adapter warm-up completed in {}: {} items warmed up, {} failed",
+                    result.elapsed(), result.succeeded(), result.failed());
+            }
+        });
+        // Let the thread terminate once warm-up is done
+        executor.shutdown();
+        LOG.debug("Binding/DOM adapter warm-up started");
+    }
+
+    @Deactivate
+    void deactivate() {
+        if (future.cancel(true)) {
+            LOG.debug("Binding/DOM adapter warm-up cancelled");
+        }
+    }
+}
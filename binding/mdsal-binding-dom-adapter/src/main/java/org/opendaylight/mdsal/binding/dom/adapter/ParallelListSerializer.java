@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.binding.dom.adapter;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.yangtools.binding.DataObject;
+import org.opendaylight.yangtools.binding.DataObjectIdentifier;
+import org.opendaylight.yangtools.binding.EntryObject;
+import org.opendaylight.yangtools.binding.contract.Naming;
+import org.opendaylight.yangtools.binding.data.codec.api.BindingNormalizedNodeSerializer.NodeResult;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.DataContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapNode;
+import org.opendaylight.yangtools.yang.data.api.schema.UserMapNode;
+import org.opendaylight.yangtools.yang.data.spi.node.ImmutableNodes;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Serializer of {@link DataObject}s containing large keyed lists. Lists having at least a threshold number of entries
+ * are split off the object and their entries are serialized in chunks on the common
+ * {@link java.util.concurrent.ForkJoinPool}. The object itself is serialized with each such list trimmed to its first
+ * entry, the result being a {@link NodeResult} and a {@link MapNode} for each of the lists, which need to be written
+ * after it.
+ */
+@NonNullByDefault
+final class ParallelListSerializer {
+    record SplitList(YangInstanceIdentifier path, MapNode node) {
+        // Nothing else
+    }
+
+    record SplitResult(NodeResult normalized, List<SplitList> lists) {
+        // Nothing else
+    }
+
+    private static final Logger LOG = LoggerFactory.getLogger(ParallelListSerializer.class);
+
+    // Methods of DataObject interfaces returning keyed lists, mapped to the type of list entry
+    private static final ClassValue<ImmutableMap<Method, Class<?>>> LIST_METHODS = new ClassValue<>() {
+        @Override
+        protected ImmutableMap<Method, Class<?>> computeValue(final Class<?> type) {
+            final var builder = ImmutableMap.<Method, Class<?>>builder();
+            for (var method : type.getMethods()) {
+                if (method.getParameterCount() == 0 && Map.class.equals(method.getReturnType())
+                        && method.getGenericReturnType() instanceof ParameterizedType mapType
+                        && mapType.getActualTypeArguments()[1] instanceof Class<?> entryType
+                        && EntryObject.class.isAssignableFrom(entryType)) {
+                    builder.put(method, entryType);
+                }
+            }
+            return builder.build();
+        }
+    };
+
+    private ParallelListSerializer() {
+        // Hidden on purpose
+    }
+
+    /**
+     * Serialize an object, splitting off its large lists.
+     *
+     * @param serializer serializer to use
+     * @param path object path
+     * @param data object
+     * @param threshold minimum number of entries for a list to be split off
+     * @param chunkSize number of list entries serialized by a single task
+     * @return A {@link SplitResult}, or {@code null} if the object does not contain any large lists
+     */
+    static <T extends DataObject> @Nullable SplitResult split(final CurrentAdapterSerializer serializer,
+            final DataObjectIdentifier<T> path, final T data, final int threshold, final int chunkSize) {
+        final var type = data.implementedInterface();
+        final var methods = LIST_METHODS.get(type);
+        if (methods.isEmpty()) {
+            return null;
+        }
+
+        // Large lists, indexed by entry type
+        final var large = new HashMap<Class<?>, Map<?, ?>>();
+        for (var entry : methods.entrySet()) {
+            final var method = entry.getKey();
+            if (method.getName().startsWith(Naming.GETTER_PREFIX)) {
+                final Object value;
+                try {
+                    value = method.invoke(data);
+                } catch (IllegalAccessException | InvocationTargetException e) {
+                    LOG.debug("Failed to access {} in {}, not splitting it", method, type, e);
+                    return null;
+                }
+                if (value instanceof Map<?, ?> map && map.size() >= threshold) {
+                    large.put(entry.getValue(), map);
+                }
+            }
+        }
+        if (large.isEmpty()) {
+            return null;
+        }
+
+        // Serialize the object with each large list trimmed to its first entry. This tells us the type of the
+        // resulting MapNode, so that we do not have to consult the schema as to the list's ordering.
+        final var trimmed = ImmutableMap.copyOf(Maps.transformValues(large, map -> {
+            final var first = map.entrySet().iterator().next();
+            return Map.of(first.getKey(), first.getValue());
+        }));
+        final var proxy = type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type },
+            (obj, method, args) -> {
+                final var entryType = methods.get(method);
+                if (entryType != null) {
+                    final var map = trimmed.get(entryType);
+                    if (map != null) {
+                        return map;
+                    }
+                }
+                try {
+                    return method.invoke(data, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            }));
+        if (!(serializer.toNormalizedNode(path, proxy) instanceof NodeResult normalized)
+                || !(normalized.node() instanceof DataContainerNode container)) {
+            return null;
+        }
+
+        final var lists = new ArrayList<SplitList>(large.size());
+        for (var entry : large.entrySet()) {
+            final var entryType = entry.getKey();
+            final var entries = Lists.partition(List.copyOf(entry.getValue().values()), chunkSize).parallelStream()
+                .flatMap(chunk -> chunk.stream().map(item -> serializeEntry(serializer, path, entryType, item)))
+                .toList();
+
+            final var listId = new NodeIdentifier(entries.getFirst().name().getNodeType());
+            final MapNode map = container.childByArg(listId) instanceof UserMapNode
+                ? ImmutableNodes.newUserMapBuilder().withNodeIdentifier(listId).withValue(entries).build()
+                : ImmutableNodes.newSystemMapBuilder().withNodeIdentifier(listId).withValue(entries).build();
+            lists.add(new SplitList(normalized.path().node(listId), map));
+        }
+        return new SplitResult(normalized, lists);
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private static MapEntryNode serializeEntry(final CurrentAdapterSerializer serializer,
+            final DataObjectIdentifier<?> parent, final Class<?> entryType, final Object entry) {
+        final var path = parent.toBuilder().child((Class) entryType, ((EntryObject) entry).key()).build();
+        return (MapEntryNode) ((NodeResult) serializer.toNormalizedNode((DataObjectIdentifier) path,
+            (DataObject) entry)).node();
+    }
+}
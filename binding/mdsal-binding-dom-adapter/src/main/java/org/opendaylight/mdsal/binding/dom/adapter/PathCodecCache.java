@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.binding.dom.adapter;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import java.util.Optional;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.yangtools.binding.BindingInstanceIdentifier;
+import org.opendaylight.yangtools.binding.DataObjectReference;
+import org.opendaylight.yangtools.binding.KeyStep;
+import org.opendaylight.yangtools.binding.data.codec.api.BindingDataObjectCodecTreeNode;
+import org.opendaylight.yangtools.binding.data.codec.spi.BindingDOMCodecServices;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+
+/**
+ * Bounded cache of instance identifier translations in both directions. A translation in one direction also populates
+ * the other direction, as the mapping is a bijection.
+ *
+ * <p>Keyed list entries are a special case: change events typically report many entries of the same list, whose paths
+ * share everything but the last step. When prefix reuse is enabled, we translate such paths by translating the parent
+ * path, which is usually cached, and appending a step produced by the list entry codec. This is only done once we have
+ * verified, on the first entry of a particular list, that the result matches a full translation.
+ */
+@NonNullByDefault
+final class PathCodecCache {
+    private final Cache<BindingInstanceIdentifier, YangInstanceIdentifier> toDom;
+    private final Cache<YangInstanceIdentifier, DataObjectReference<?>> toBinding;
+    // Entry codecs for keyed lists, indexed by the list's path. Empty if the list's entries are not eligible for
+    // prefix reuse.
+    private final @Nullable Cache<YangInstanceIdentifier, Optional<BindingDataObjectCodecTreeNode<?>>> entryCodecs;
+    private final BindingDOMCodecServices codec;
+
+    PathCodecCache(final BindingDOMCodecServices codec, final long maximumSize, final boolean prefixReuse) {
+        this.codec = requireNonNull(codec);
+        toDom = CacheBuilder.newBuilder().maximumSize(maximumSize).recordStats().build();
+        toBinding = CacheBuilder.newBuilder().maximumSize(maximumSize).recordStats().build();
+        entryCodecs = prefixReuse ? CacheBuilder.newBuilder().maximumSize(maximumSize).build() : null;
+    }
+
+    YangInstanceIdentifier toYangInstanceIdentifier(final BindingInstanceIdentifier binding) {
+        final var cached = toDom.getIfPresent(binding);
+        if (cached != null) {
+            return cached;
+        }
+
+        final var dom = codec.getInstanceIdentifierCodec().fromBinding(binding);
+        toDom.put(binding, dom);
+        if (binding instanceof DataObjectReference<?> ref) {
+            toBinding.put(dom, ref);
+        }
+        return dom;
+    }
+
+    @Nullable DataObjectReference<?> fromYangInstanceIdentifier(final YangInstanceIdentifier dom) {
+        final var cached = toBinding.getIfPresent(dom);
+        if (cached != null) {
+            return cached;
+        }
+
+        final var binding = loadBinding(dom);
+        if (binding != null) {
+            toBinding.put(dom, binding);
+            if (binding instanceof BindingInstanceIdentifier bindingId) {
+                toDom.put(bindingId, dom);
+            }
+        }
+        return binding;
+    }
+
+    CacheStats toDomStats() {
+        return toDom.stats();
+    }
+
+    CacheStats toBindingStats() {
+        return toBinding.stats();
+    }
+
+    private @Nullable DataObjectReference<?> loadBinding(final YangInstanceIdentifier dom) {
+        final var local = entryCodecs;
+        if (local != null && dom.getLastPathArgument() instanceof NodeIdentifierWithPredicates entry) {
+            // Keyed list entry is addressed as <parent>/<list>/<entry>
+            final var list = dom.getParent();
+            final var parent = list != null ? list.getParent() : null;
+            if (parent != null && !parent.isEmpty()) {
+                final var entryCodec = local.getIfPresent(list);
+                if (entryCodec != null) {
+                    if (entryCodec.isPresent()) {
+                        final var reused = appendEntry(parent, entryCodec.orElseThrow(), entry);
+                        if (reused != null) {
+                            return reused;
+                        }
+                    }
+                } else {
+                    return verifyPrefixReuse(local, list, parent, dom, entry);
+                }
+            }
+        }
+        return codec.fromYangInstanceIdentifier(dom);
+    }
+
+    // Perform a full translation of the first entry of a list and check whether prefix reuse yields the same result
+    private @Nullable DataObjectReference<?> verifyPrefixReuse(
+            final Cache<YangInstanceIdentifier, Optional<BindingDataObjectCodecTreeNode<?>>> local,
+            final YangInstanceIdentifier list, final YangInstanceIdentifier parent, final YangInstanceIdentifier dom,
+            final NodeIdentifierWithPredicates entry) {
+        final var full = codec.fromYangInstanceIdentifier(dom);
+
+        Optional<BindingDataObjectCodecTreeNode<?>> eligible = Optional.empty();
+        if (full != null && codec.getSubtreeCodec(dom) instanceof BindingDataObjectCodecTreeNode<?> entryCodec
+                && full.equals(appendEntry(parent, entryCodec, entry))) {
+            eligible = Optional.of(entryCodec);
+        }
+        local.put(list, eligible);
+        return full;
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private @Nullable DataObjectReference<?> appendEntry(final YangInstanceIdentifier parent,
+            final BindingDataObjectCodecTreeNode<?> entryCodec, final NodeIdentifierWithPredicates entry) {
+        final var bindingParent = fromYangInstanceIdentifier(parent);
+        if (bindingParent == null) {
+            return null;
+        }
+        final DataObjectReference<?> ret;
+        try {
+            if (!(entryCodec.deserializePathArgument(entry) instanceof KeyStep step)) {
+                return null;
+            }
+            ret = bindingParent.toBuilder().child(step.type(), step.key()).build();
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        return ret;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).omitNullValues()
+            .add("toDom", toDom.stats())
+            .add("toBinding", toBinding.stats())
+            .add("entryCodecs", entryCodecs != null ? entryCodecs.size() : null)
+            .toString();
+    }
+}
@@ -63,11 +63,12 @@ final class PublisherAdapter<N extends InstanceNotification<N, P>, P extends Dat
 
     private static @NonNull DOMDataTreeIdentifier toDomPath(final CurrentAdapterSerializer serializer,
             final DataObjectIdentifier<?> path) {
-        return DOMDataTreeIdentifier.of(LogicalDatastoreType.OPERATIONAL, serializer.toYangInstanceIdentifier(path));
+        return DOMDataTreeIdentifier.of(LogicalDatastoreType.OPERATIONAL,
+            serializer.toCachedYangInstanceIdentifier(path));
     }
 
     private @NonNull DOMNotification toDomNotification(final CurrentAdapterSerializer serializer,
             final InstanceNotification<?, ?> notification) {
-        return new LazySerializedInstanceNotification(serializer, notificationPath, notification);
+        return new LazySerializedInstanceNotification(serializer, notificationPath, notification).forPublish();
     }
 }
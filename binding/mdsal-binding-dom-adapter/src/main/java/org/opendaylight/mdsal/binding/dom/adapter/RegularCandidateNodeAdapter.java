@@ -28,7 +28,12 @@ import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidateNode;
 final class RegularCandidateNodeAdapter<T extends DataObject>
         extends CandidateNodeAdapter<T, BindingDataObjectCodecTreeNode<T>> {
     RegularCandidateNodeAdapter(final BindingDataObjectCodecTreeNode<T> codec, final DataTreeCandidateNode domData) {
-        super(domData, codec, (ExactDataObjectStep<T>) codec.deserializePathArgument(domData.name()));
+        super(domData, codec);
+    }
+
+    @Override
+    ExactDataObjectStep<T> deserializeStep() {
+        return (ExactDataObjectStep<T>) codec.deserializePathArgument(domData.name());
     }
 
     @Override
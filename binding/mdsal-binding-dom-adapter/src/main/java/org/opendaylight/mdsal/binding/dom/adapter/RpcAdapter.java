@@ -8,10 +8,13 @@
 package org.opendaylight.mdsal.binding.dom.adapter;
 
 import static java.util.Objects.requireNonNull;
+import static org.opendaylight.mdsal.binding.dom.adapter.StaticConfiguration.ENABLE_RPC_FACADES;
 
+import com.google.common.util.concurrent.ListenableFuture;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
+import java.util.function.Function;
 import org.eclipse.jdt.annotation.NonNull;
 import org.opendaylight.mdsal.binding.dom.adapter.RpcInvocationStrategy.ContentRouted;
 import org.opendaylight.mdsal.dom.api.DOMRpcService;
@@ -20,8 +23,9 @@ import org.opendaylight.yangtools.binding.Rpc;
 import org.opendaylight.yangtools.binding.RpcInput;
 import org.opendaylight.yangtools.binding.contract.Naming;
 import org.opendaylight.yangtools.binding.runtime.api.RpcRuntimeType;
+import org.opendaylight.yangtools.yang.common.RpcResult;
 
-final class RpcAdapter implements InvocationHandler {
+final class RpcAdapter implements InvocationHandler, Function<RpcInput, ListenableFuture<RpcResult<?>>> {
     private final @NonNull AdapterContext adapterContext;
     private final @NonNull DOMRpcService delegate;
     private final RpcInvocationStrategy strategy;
@@ -39,10 +43,12 @@ final class RpcAdapter implements InvocationHandler {
             throw new IllegalStateException("Failed to find runtime type for " + type);
         }
 
-        facade = type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, this));
         name = type.getName();
-
         strategy = createStrategy(serializer, rpcType);
+
+        final var generated = ENABLE_RPC_FACADES ? RpcFacadeLoader.newFacade(type, this) : null;
+        facade = generated != null ? generated
+            : type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, this));
     }
 
     private @NonNull RpcInvocationStrategy createStrategy(final CurrentAdapterSerializer serializer,
@@ -58,17 +64,22 @@ final class RpcAdapter implements InvocationHandler {
         return new RpcInvocationStrategy(this, rpc.argument());
     }
 
+    @Override
+    public ListenableFuture<RpcResult<?>> apply(final RpcInput input) {
+        return strategy.invoke(requireNonNull(input));
+    }
+
     @Override
     public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
         switch (method.getName()) {
             case Naming.RPC_INVOKE_NAME:
                 if (method.getParameterCount() == 1) {
-                    return strategy.invoke((RpcInput) requireNonNull(args[0]));
+                    return apply((RpcInput) args[0]);
                 }
                 break;
             case "toString":
                 if (method.getReturnType().equals(String.class) && method.getParameterCount() == 0) {
-                    return name + "$Adapter{delegate=" + delegate + "}";
+                    return toString();
                 }
                 break;
             case "hashCode":
@@ -92,6 +103,11 @@ final class RpcAdapter implements InvocationHandler {
         throw new UnsupportedOperationException("Method " + method.toString() + " is not supported");
     }
 
+    @Override
+    public String toString() {
+        return name + "$Adapter{delegate=" + delegate + "}";
+    }
+
     @NonNull CurrentAdapterSerializer currentSerializer() {
         return adapterContext.currentSerializer();
     }
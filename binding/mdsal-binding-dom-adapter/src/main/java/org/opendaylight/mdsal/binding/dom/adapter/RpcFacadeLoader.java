@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.binding.dom.adapter;
+
+import static net.bytebuddy.matcher.ElementMatchers.isAbstract;
+import static net.bytebuddy.matcher.ElementMatchers.isToString;
+import static net.bytebuddy.matcher.ElementMatchers.named;
+import static net.bytebuddy.matcher.ElementMatchers.takesArguments;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.reflect.Constructor;
+import java.util.Optional;
+import java.util.function.Function;
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.description.modifier.FieldManifestation;
+import net.bytebuddy.description.modifier.SyntheticState;
+import net.bytebuddy.description.modifier.TypeManifestation;
+import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+import net.bytebuddy.implementation.FieldAccessor;
+import net.bytebuddy.implementation.MethodCall;
+import net.bytebuddy.implementation.bytecode.assign.Assigner;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.yangtools.binding.Rpc;
+import org.opendaylight.yangtools.binding.contract.Naming;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Generator of RPC facade classes. For each {@link Rpc} interface we generate a class equivalent to
+ * <pre>{@code
+ *   public final class FooRpc$$RpcFacade implements FooRpc {
+ *       private final Function invoker;
+ *
+ *       public FooRpc$$RpcFacade(Function invoker) {
+ *           this.invoker = invoker;
+ *       }
+ *
+ *       public ListenableFuture invoke(FooRpcInput input) {
+ *           return (ListenableFuture) invoker.apply(input);
+ *       }
+ *
+ *       public String toString() {
+ *           return invoker.toString();
+ *       }
+ *   }
+ * }</pre>
+ * The class is defined in the RPC interface's package and class loader, hence it only refers to that interface and
+ * {@code java.base}. This makes it loadable even where the interface's class loader cannot see this bundle, as is the
+ * case in OSGi.
+ */
+@NonNullByDefault
+final class RpcFacadeLoader {
+    private static final Logger LOG = LoggerFactory.getLogger(RpcFacadeLoader.class);
+    private static final String FACADE_SUFFIX = "$$RpcFacade";
+    private static final String INVOKER_FIELD = "invoker";
+
+    private static final ClassValue<Optional<Constructor<?>>> FACADES = new ClassValue<>() {
+        @Override
+        protected Optional<Constructor<?>> computeValue(final Class<?> type) {
+            return Optional.ofNullable(generateFacade(type));
+        }
+    };
+
+    private RpcFacadeLoader() {
+        // Hidden on purpose
+    }
+
+    /**
+     * Instantiate a generated facade for specified RPC type.
+     *
+     * @param type RPC interface
+     * @param invoker function invoking the RPC
+     * @return A facade, or {@code null} if a facade cannot be generated
+     */
+    static <T extends Rpc<?, ?>> @Nullable T newFacade(final Class<T> type, final Function<?, ?> invoker) {
+        final var ctor = FACADES.get(type).orElse(null);
+        if (ctor == null) {
+            return null;
+        }
+
+        try {
+            return type.cast(ctor.newInstance(invoker));
+        } catch (ReflectiveOperationException e) {
+            LOG.warn("Failed to instantiate facade for {}", type, e);
+            return null;
+        }
+    }
+
+    private static @Nullable Constructor<?> generateFacade(final Class<?> type) {
+        // Make sure we can see the interface, so we can define the facade alongside it
+        RpcFacadeLoader.class.getModule().addReads(type.getModule());
+
+        try {
+            final var lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+            return loadFacade(type, lookup).getConstructor(Function.class);
+        } catch (IllegalAccessException | NoSuchMethodException | IllegalArgumentException | IllegalStateException
+                | LinkageError e) {
+            LOG.info("Failed to generate facade for {}, falling back to a proxy", type, e);
+            return null;
+        }
+    }
+
+    private static Class<?> loadFacade(final Class<?> type, final Lookup lookup) throws NoSuchMethodException,
+            IllegalAccessException {
+        // The facade lives in the interface's class loader, which outlives us: it may have been defined by a previous
+        // incarnation of this class, for example before this bundle was restarted. It only refers to the interface and
+        // java.base, hence it is perfectly reusable.
+        final var name = type.getName() + FACADE_SUFFIX;
+        final var existing = findFacade(lookup, name);
+        if (existing != null) {
+            LOG.debug("Reusing {} for {}", existing, type);
+            return existing;
+        }
+
+        try {
+            return defineFacade(type, lookup, name);
+        } catch (LinkageError e) {
+            // We may have lost a race with another thread defining the same class
+            final var raced = findFacade(lookup, name);
+            if (raced != null) {
+                LOG.debug("Reusing concurrently-defined {} for {}", raced, type);
+                return raced;
+            }
+            throw e;
+        }
+    }
+
+    private static @Nullable Class<?> findFacade(final Lookup lookup, final String name)
+            throws IllegalAccessException {
+        try {
+            return lookup.findClass(name);
+        } catch (ClassNotFoundException e) {
+            LOG.trace("Facade {} not defined yet", name, e);
+            return null;
+        }
+    }
+
+    private static Class<?> defineFacade(final Class<?> type, final Lookup lookup, final String name)
+            throws NoSuchMethodException {
+        final var apply = Function.class.getMethod("apply", Object.class);
+        final var facade = new ByteBuddy()
+            .subclass(Object.class)
+            .implement(type)
+            .name(name)
+            .modifiers(Visibility.PUBLIC, TypeManifestation.FINAL, SyntheticState.SYNTHETIC)
+            .defineField(INVOKER_FIELD, Function.class, Visibility.PRIVATE, FieldManifestation.FINAL)
+            .defineConstructor(Visibility.PUBLIC)
+                .withParameters(Function.class)
+                .intercept(MethodCall.invoke(Object.class.getConstructor())
+                    .andThen(FieldAccessor.ofField(INVOKER_FIELD).setsArgumentAt(0)))
+            .method(named(Naming.RPC_INVOKE_NAME).and(takesArguments(1)).and(isAbstract()))
+                .intercept(MethodCall.invoke(apply).onField(INVOKER_FIELD).withArgument(0)
+                    .withAssigner(Assigner.DEFAULT, Assigner.Typing.DYNAMIC))
+            .method(isToString())
+                .intercept(MethodCall.invoke(Object.class.getMethod("toString")).onField(INVOKER_FIELD))
+            .make()
+            .load(type.getClassLoader(), ClassLoadingStrategy.UsingLookup.of(lookup))
+            .getLoaded();
+        LOG.debug("Generated {} for {}", facade, type);
+        return facade;
+    }
+}
@@ -29,10 +29,68 @@ final class StaticConfiguration {
     static final boolean ENABLE_CODEC_SHORTCUT = !Boolean.getBoolean(
         "org.opendaylight.mdsal.binding.dom.adapter.disableCodecShortcut");
 
+    /**
+     * Binding RPC consumers are handed a facade implementing the RPC interface. By default we generate a dedicated
+     * class for each RPC, so that the JIT can inline the call path from the user into the adapter. This can be
+     * disabled via a property, in which case we fall back to {@link java.lang.reflect.Proxy}-based facades.
+     */
+    static final boolean ENABLE_RPC_FACADES = !Boolean.getBoolean(
+        "org.opendaylight.mdsal.binding.dom.adapter.disableRpcFacades");
+
+    /**
+     * Maximum number of instance identifier translations cached by each {@link CurrentAdapterSerializer} in each
+     * direction. Translations are evicted based on size, not on heap pressure, so that a busy system does not end up
+     * recomputing them after each garbage collection.
+     */
+    static final long PATH_CACHE_SIZE = Long.getLong(
+        "org.opendaylight.mdsal.binding.dom.adapter.pathCacheSize", 16384);
+
+    /**
+     * Whether paths of keyed list entries should be translated by reusing the translation of their parent path. See
+     * {@link PathCodecCache}.
+     */
+    static final boolean ENABLE_PATH_PREFIX_REUSE = !Boolean.getBoolean(
+        "org.opendaylight.mdsal.binding.dom.adapter.disablePathPrefixReuse");
+
+    /**
+     * Minimum number of entries of a keyed list contained in an object being put into a write transaction for its
+     * entries to be serialized in parallel. Zero, the default, disables parallel serialization. See
+     * {@link ParallelListSerializer}.
+     */
+    static final int PARALLEL_LIST_THRESHOLD = Integer.getInteger(
+        "org.opendaylight.mdsal.binding.dom.adapter.parallelListThreshold", 0);
+
+    /**
+     * Number of list entries serialized by a single task when serializing a list in parallel.
+     */
+    static final int PARALLEL_LIST_CHUNK_SIZE = Integer.getInteger(
+        "org.opendaylight.mdsal.binding.dom.adapter.parallelListChunkSize", 1024);
+
+    /**
+     * Size of the cache of {@link org.opendaylight.yangtools.binding.DataObject}s decoded by read transactions, which
+     * each {@link CurrentAdapterSerializer} keeps so that repeated reads of unchanged subtrees return the same object.
+     * Each cached object retains the subtree it was decoded from, hence the size is expressed as the total number of
+     * {@link org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode}s in cached subtrees, not as the number of
+     * cached objects. It should be sized in relation to the typical size of subtrees being read. Zero, the default,
+     * disables the cache. See {@link DataObjectDecodeCache}.
+     */
+    static final long READ_CACHE_SIZE = Long.getLong(
+        "org.opendaylight.mdsal.binding.dom.adapter.readCacheSize", 0);
+
     static {
         // Do not retain the logger
-        LoggerFactory.getLogger(StaticConfiguration.class).info("Binding-over-DOM codec shortcuts are {}",
-                ENABLE_CODEC_SHORTCUT ? "enabled" : "disabled");
+        final var log = LoggerFactory.getLogger(StaticConfiguration.class);
+        log.info("Binding-over-DOM codec shortcuts are {}", ENABLE_CODEC_SHORTCUT ? "enabled" : "disabled");
+        log.info("Binding RPC facades are {}", ENABLE_RPC_FACADES ? "generated" : "proxies");
+        log.info("Binding path cache holds {} entries, prefix reuse is {}", PATH_CACHE_SIZE,
+            ENABLE_PATH_PREFIX_REUSE ? "enabled" : "disabled");
+        if (READ_CACHE_SIZE > 0) {
+            log.info("Binding read cache holds up to {} data nodes", READ_CACHE_SIZE);
+        }
+        if (PARALLEL_LIST_THRESHOLD > 0) {
+            log.info("Binding lists with at least {} entries are serialized in chunks of {}", PARALLEL_LIST_THRESHOLD,
+                PARALLEL_LIST_CHUNK_SIZE);
+        }
     }
 
     private StaticConfiguration() {
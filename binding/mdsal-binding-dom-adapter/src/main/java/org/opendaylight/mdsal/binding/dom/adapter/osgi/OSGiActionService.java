@@ -7,6 +7,7 @@
  */
 package org.opendaylight.mdsal.binding.dom.adapter.osgi;
 
+import com.google.common.util.concurrent.ListenableFuture;
 import java.util.Map;
 import java.util.Set;
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -16,6 +17,9 @@ import org.opendaylight.mdsal.binding.api.DataTreeIdentifier;
 import org.opendaylight.yangtools.binding.Action;
 import org.opendaylight.yangtools.binding.DataObject;
 import org.opendaylight.yangtools.binding.DataObjectIdentifier;
+import org.opendaylight.yangtools.binding.RpcInput;
+import org.opendaylight.yangtools.binding.RpcOutput;
+import org.opendaylight.yangtools.yang.common.RpcResult;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Deactivate;
@@ -41,4 +45,11 @@ public final class OSGiActionService extends AbstractAdaptedService<ActionServic
             final ActionSpec<A, P> spec, final Set<DataTreeIdentifier<P>> validNodes) {
         return delegate.getActionHandle(spec, validNodes);
     }
+
+    @Override
+    public <P extends DataObject, T extends DataObjectIdentifier<P>, I extends RpcInput, O extends RpcOutput,
+            A extends Action<T, I, O>> Map<T, ListenableFuture<RpcResult<O>>> invokeActions(
+                final ActionSpec<A, P> spec, final Map<T, I> inputs) {
+        return delegate.invokeActions(spec, inputs);
+    }
 }
@@ -18,7 +18,6 @@ import org.opendaylight.mdsal.dom.api.query.DOMQueryPredicate.Match;
 import org.opendaylight.yangtools.binding.DataObject;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
-import org.opendaylight.yangtools.yang.model.api.DataSchemaNode;
 
 abstract class AbstractValueMatchBuilder<T extends DataObject, V> implements ValueMatchBuilder<T, V> {
     private final QueryBuilderState builder;
@@ -48,7 +47,7 @@ abstract class AbstractValueMatchBuilder<T extends DataObject, V> implements Val
     }
 
     final YangInstanceIdentifier relativePath() {
-        return method.parentPath.node(((DataSchemaNode) method.methodCodec.getSchema()).getQName());
+        return method.leafPath();
     }
 
     final @NonNull ValueMatch<T> withMatch(final Match match) {
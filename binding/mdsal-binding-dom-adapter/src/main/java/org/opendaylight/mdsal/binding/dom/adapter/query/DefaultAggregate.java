@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.binding.dom.adapter.query;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.Beta;
+import com.google.common.base.MoreObjects;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.opendaylight.mdsal.binding.api.query.AggregateExpression;
+import org.opendaylight.mdsal.binding.api.query.AggregateResult;
+import org.opendaylight.mdsal.dom.api.query.DOMQuery;
+import org.opendaylight.mdsal.dom.api.query.DOMQueryAggregateResult;
+import org.opendaylight.mdsal.dom.api.query.DOMQueryLike;
+import org.opendaylight.yangtools.binding.DataObject;
+
+@Beta
+@NonNullByDefault
+public final class DefaultAggregate<T extends DataObject, V> implements AggregateExpression<T, V>, DOMQueryLike {
+    private final DOMQuery domQuery;
+
+    DefaultAggregate(final DOMQuery domQuery) {
+        this.domQuery = requireNonNull(domQuery);
+    }
+
+    @Override
+    public DOMQuery asDOMQuery() {
+        return domQuery;
+    }
+
+    public AggregateResult<V> toAggregateResult(final DOMQueryAggregateResult domResult) {
+        return new DefaultAggregateResult<>(domResult);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).add("dom", domQuery).toString();
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.binding.dom.adapter.query;
+
+import static java.util.Objects.requireNonNull;
+
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.mdsal.binding.api.query.AggregateBuilder;
+import org.opendaylight.mdsal.binding.api.query.AggregateExpression;
+import org.opendaylight.mdsal.binding.api.query.MatchBuilderPath.BooleanLeafReference;
+import org.opendaylight.mdsal.binding.api.query.MatchBuilderPath.Decimal64LeafReference;
+import org.opendaylight.mdsal.binding.api.query.MatchBuilderPath.Int16LeafReference;
+import org.opendaylight.mdsal.binding.api.query.MatchBuilderPath.Int32LeafReference;
+import org.opendaylight.mdsal.binding.api.query.MatchBuilderPath.Int64LeafReference;
+import org.opendaylight.mdsal.binding.api.query.MatchBuilderPath.Int8LeafReference;
+import org.opendaylight.mdsal.binding.api.query.MatchBuilderPath.LeafReference;
+import org.opendaylight.mdsal.binding.api.query.MatchBuilderPath.StringLeafReference;
+import org.opendaylight.mdsal.binding.api.query.MatchBuilderPath.Uint16LeafReference;
+import org.opendaylight.mdsal.binding.api.query.MatchBuilderPath.Uint32LeafReference;
+import org.opendaylight.mdsal.binding.api.query.MatchBuilderPath.Uint64LeafReference;
+import org.opendaylight.mdsal.binding.api.query.MatchBuilderPath.Uint8LeafReference;
+import org.opendaylight.mdsal.binding.api.query.ValueAggregateBuilder;
+import org.opendaylight.mdsal.dom.api.query.DOMQueryAggregate;
+import org.opendaylight.yangtools.binding.DataObject;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+import org.opendaylight.yangtools.yang.common.Decimal64;
+import org.opendaylight.yangtools.yang.common.Uint16;
+import org.opendaylight.yangtools.yang.common.Uint32;
+import org.opendaylight.yangtools.yang.common.Uint64;
+import org.opendaylight.yangtools.yang.common.Uint8;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+
+final class DefaultAggregateBuilder<T extends DataObject> implements AggregateBuilder<T> {
+    private final QueryBuilderState builder;
+    private final InstanceIdentifier<T> select;
+
+    private @Nullable YangInstanceIdentifier groupBy;
+
+    DefaultAggregateBuilder(final QueryBuilderState builder, final InstanceIdentifier<T> select) {
+        this.builder = requireNonNull(builder);
+        this.select = requireNonNull(select);
+    }
+
+    @Override
+    public AggregateBuilder<T> groupBy(final BooleanLeafReference<T> methodRef) {
+        return groupByLeaf(methodRef);
+    }
+
+    @Override
+    public AggregateBuilder<T> groupBy(final StringLeafReference<T> methodRef) {
+        return groupByLeaf(methodRef);
+    }
+
+    @Override
+    public AggregateBuilder<T> groupBy(final Decimal64LeafReference<T> methodRef) {
+        return groupByLeaf(methodRef);
+    }
+
+    @Override
+    public AggregateBuilder<T> groupBy(final Int8LeafReference<T> methodRef) {
+        return groupByLeaf(methodRef);
+    }
+
+    @Override
+    public AggregateBuilder<T> groupBy(final Int16LeafReference<T> methodRef) {
+        return groupByLeaf(methodRef);
+    }
+
+    @Override
+    public AggregateBuilder<T> groupBy(final Int32LeafReference<T> methodRef) {
+        return groupByLeaf(methodRef);
+    }
+
+    @Override
+    public AggregateBuilder<T> groupBy(final Int64LeafReference<T> methodRef) {
+        return groupByLeaf(methodRef);
+    }
+
+    @Override
+    public AggregateBuilder<T> groupBy(final Uint8LeafReference<T> methodRef) {
+        return groupByLeaf(methodRef);
+    }
+
+    @Override
+    public AggregateBuilder<T> groupBy(final Uint16LeafReference<T> methodRef) {
+        return groupByLeaf(methodRef);
+    }
+
+    @Override
+    public AggregateBuilder<T> groupBy(final Uint32LeafReference<T> methodRef) {
+        return groupByLeaf(methodRef);
+    }
+
+    @Override
+    public AggregateBuilder<T> groupBy(final Uint64LeafReference<T> methodRef) {
+        return groupByLeaf(methodRef);
+    }
+
+    @Override
+    public AggregateExpression<T, Long> count() {
+        return build(DOMQueryAggregate.count());
+    }
+
+    @Override
+    public ValueAggregateBuilder<T, Decimal64> value(final Decimal64LeafReference<T> methodRef) {
+        return valueFor(methodRef);
+    }
+
+    @Override
+    public ValueAggregateBuilder<T, Byte> value(final Int8LeafReference<T> methodRef) {
+        return valueFor(methodRef);
+    }
+
+    @Override
+    public ValueAggregateBuilder<T, Short> value(final Int16LeafReference<T> methodRef) {
+        return valueFor(methodRef);
+    }
+
+    @Override
+    public ValueAggregateBuilder<T, Integer> value(final Int32LeafReference<T> methodRef) {
+        return valueFor(methodRef);
+    }
+
+    @Override
+    public ValueAggregateBuilder<T, Long> value(final Int64LeafReference<T> methodRef) {
+        return valueFor(methodRef);
+    }
+
+    @Override
+    public ValueAggregateBuilder<T, Uint8> value(final Uint8LeafReference<T> methodRef) {
+        return valueFor(methodRef);
+    }
+
+    @Override
+    public ValueAggregateBuilder<T, Uint16> value(final Uint16LeafReference<T> methodRef) {
+        return valueFor(methodRef);
+    }
+
+    @Override
+    public ValueAggregateBuilder<T, Uint32> value(final Uint32LeafReference<T> methodRef) {
+        return valueFor(methodRef);
+    }
+
+    @Override
+    public ValueAggregateBuilder<T, Uint64> value(final Uint64LeafReference<T> methodRef) {
+        return valueFor(methodRef);
+    }
+
+    <V> @NonNull AggregateExpression<T, V> build(final DOMQueryAggregate aggregate) {
+        final var local = groupBy;
+        return builder.buildAggregate(local == null ? aggregate : aggregate.groupBy(local));
+    }
+
+    private @NonNull AggregateBuilder<T> groupByLeaf(final LeafReference<T, ?> ref) {
+        groupBy = builder.bindMethod(select, ref).leafPath();
+        return this;
+    }
+
+    private <V extends Comparable<V>> @NonNull ValueAggregateBuilder<T, V> valueFor(final LeafReference<T, V> ref) {
+        return new DefaultValueAggregateBuilder<>(this, builder.bindMethod(select, ref).leafPath());
+    }
+}
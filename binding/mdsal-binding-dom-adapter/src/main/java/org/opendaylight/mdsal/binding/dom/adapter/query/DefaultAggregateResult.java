@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.binding.dom.adapter.query;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.base.MoreObjects;
+import java.util.Map;
+import java.util.Optional;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.opendaylight.mdsal.binding.api.query.AggregateResult;
+import org.opendaylight.mdsal.dom.api.query.DOMQueryAggregateResult;
+
+// Note: AggregateBuilder restricts leaves to those which have the same DOM and binding representation, hence values
+//       are passed through as they are
+@NonNullByDefault
+final class DefaultAggregateResult<V> implements AggregateResult<V> {
+    private final DOMQueryAggregateResult domResult;
+
+    DefaultAggregateResult(final DOMQueryAggregateResult domResult) {
+        this.domResult = requireNonNull(domResult);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Optional<V> value() {
+        return (Optional<V>) domResult.findValue();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Map<Object, V> groups() {
+        return (Map<Object, V>) domResult.groups();
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).add("dom", domResult).toString();
+    }
+}
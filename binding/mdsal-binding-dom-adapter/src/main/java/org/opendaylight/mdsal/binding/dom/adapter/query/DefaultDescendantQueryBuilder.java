@@ -7,13 +7,17 @@
  */
 package org.opendaylight.mdsal.binding.dom.adapter.query;
 
+import static java.util.Objects.requireNonNull;
+
 import org.eclipse.jdt.annotation.NonNull;
+import org.opendaylight.mdsal.binding.api.query.AggregateBuilder;
 import org.opendaylight.mdsal.binding.api.query.DescendantQueryBuilder;
 import org.opendaylight.mdsal.binding.api.query.MatchBuilderPath;
 import org.opendaylight.mdsal.binding.api.query.QueryExpression;
 import org.opendaylight.yangtools.binding.ChildOf;
 import org.opendaylight.yangtools.binding.ChoiceIn;
 import org.opendaylight.yangtools.binding.DataObject;
+import org.opendaylight.yangtools.binding.DataObjectIdentifier;
 import org.opendaylight.yangtools.binding.EntryObject;
 import org.opendaylight.yangtools.binding.Key;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
@@ -58,6 +62,37 @@ final class DefaultDescendantQueryBuilder<R extends DataObject, T extends DataOb
         return new DefaultMatchBuilderPath<>(builder, selectPath, childPath);
     }
 
+    @Override
+    public DescendantQueryBuilder<T> offset(final long offset) {
+        builder.setOffset(offset);
+        return this;
+    }
+
+    @Override
+    public DescendantQueryBuilder<T> limit(final long limit) {
+        builder.setLimit(limit);
+        return this;
+    }
+
+    @Override
+    public DescendantQueryBuilder<T> orderByKey() {
+        builder.setKeyOrdered();
+        return this;
+    }
+
+    @Override
+    public DescendantQueryBuilder<T> continueAfter(final DataObjectIdentifier<T> after) {
+        builder.setContinuation(requireNonNull(after));
+        return this;
+    }
+
+    @Override
+    public AggregateBuilder<T> aggregate() {
+        final InstanceIdentifier<T> selectPath = childPath.build();
+        builder.setSelectPath(selectPath);
+        return new DefaultAggregateBuilder<>(builder, selectPath);
+    }
+
     @Override
     public QueryExpression<T> build() {
         builder.setSelectPath(childPath.build());
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.binding.dom.adapter.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.math.BigDecimal;
+import org.opendaylight.mdsal.binding.api.query.AggregateExpression;
+import org.opendaylight.mdsal.binding.api.query.ValueAggregateBuilder;
+import org.opendaylight.mdsal.dom.api.query.DOMQueryAggregate;
+import org.opendaylight.yangtools.binding.DataObject;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+
+final class DefaultValueAggregateBuilder<T extends DataObject, V extends Comparable<V>>
+        implements ValueAggregateBuilder<T, V> {
+    private final DefaultAggregateBuilder<T> builder;
+    private final YangInstanceIdentifier leafPath;
+
+    DefaultValueAggregateBuilder(final DefaultAggregateBuilder<T> builder, final YangInstanceIdentifier leafPath) {
+        this.builder = requireNonNull(builder);
+        this.leafPath = requireNonNull(leafPath);
+    }
+
+    @Override
+    public AggregateExpression<T, V> min() {
+        return builder.build(DOMQueryAggregate.min(leafPath));
+    }
+
+    @Override
+    public AggregateExpression<T, V> max() {
+        return builder.build(DOMQueryAggregate.max(leafPath));
+    }
+
+    @Override
+    public AggregateExpression<T, BigDecimal> sum() {
+        return builder.build(DOMQueryAggregate.sum(leafPath));
+    }
+}
@@ -9,10 +9,12 @@ package org.opendaylight.mdsal.binding.dom.adapter.query;
 
 import static java.util.Objects.requireNonNull;
 
+import org.opendaylight.mdsal.binding.api.query.AggregateBuilder;
 import org.opendaylight.mdsal.binding.api.query.MatchBuilderPath;
 import org.opendaylight.mdsal.binding.api.query.QueryExpression;
 import org.opendaylight.mdsal.binding.api.query.ValueMatch;
 import org.opendaylight.yangtools.binding.DataObject;
+import org.opendaylight.yangtools.binding.DataObjectIdentifier;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 
 final class DefaultValueMatch<T extends DataObject> implements ValueMatch<T> {
@@ -29,6 +31,35 @@ final class DefaultValueMatch<T extends DataObject> implements ValueMatch<T> {
         return new DefaultMatchBuilderPath<>(builder, select, select.builder());
     }
 
+    @Override
+    public ValueMatch<T> offset(final long offset) {
+        builder.setOffset(offset);
+        return this;
+    }
+
+    @Override
+    public ValueMatch<T> limit(final long limit) {
+        builder.setLimit(limit);
+        return this;
+    }
+
+    @Override
+    public ValueMatch<T> orderByKey() {
+        builder.setKeyOrdered();
+        return this;
+    }
+
+    @Override
+    public ValueMatch<T> continueAfter(final DataObjectIdentifier<T> after) {
+        builder.setContinuation(requireNonNull(after));
+        return this;
+    }
+
+    @Override
+    public AggregateBuilder<T> aggregate() {
+        return new DefaultAggregateBuilder<>(builder, select);
+    }
+
     @Override
     public QueryExpression<T> build() {
         return builder.buildQuery();
@@ -7,6 +7,7 @@
  */
 package org.opendaylight.mdsal.binding.dom.adapter.query;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkState;
 import static com.google.common.base.Verify.verify;
 import static java.util.Objects.requireNonNull;
@@ -14,12 +15,15 @@ import static java.util.Objects.requireNonNull;
 import java.util.ArrayList;
 import java.util.List;
 import org.eclipse.jdt.annotation.NonNull;
+import org.opendaylight.mdsal.binding.api.query.AggregateExpression;
 import org.opendaylight.mdsal.binding.api.query.MatchBuilderPath.LeafReference;
 import org.opendaylight.mdsal.binding.api.query.QueryExpression;
 import org.opendaylight.mdsal.binding.dom.adapter.query.LambdaDecoder.LambdaTarget;
 import org.opendaylight.mdsal.dom.api.query.DOMQuery;
+import org.opendaylight.mdsal.dom.api.query.DOMQueryAggregate;
 import org.opendaylight.mdsal.dom.api.query.DOMQueryPredicate;
 import org.opendaylight.yangtools.binding.DataObject;
+import org.opendaylight.yangtools.binding.DataObjectIdentifier;
 import org.opendaylight.yangtools.binding.data.codec.api.BindingCodecTree;
 import org.opendaylight.yangtools.binding.data.codec.api.BindingCodecTreeNode;
 import org.opendaylight.yangtools.binding.data.codec.api.CommonDataObjectCodecTreeNode;
@@ -28,6 +32,7 @@ import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
 import org.opendaylight.yangtools.yang.model.api.DataNodeContainer;
+import org.opendaylight.yangtools.yang.model.api.DataSchemaNode;
 import org.opendaylight.yangtools.yang.model.api.DocumentedNode.WithStatus;
 
 final class QueryBuilderState {
@@ -39,6 +44,10 @@ final class QueryBuilderState {
             this.parentPath = requireNonNull(parentPath);
             this.methodCodec = requireNonNull(methodCodec);
         }
+
+        @NonNull YangInstanceIdentifier leafPath() {
+            return parentPath.node(((DataSchemaNode) methodCodec.getSchema()).getQName());
+        }
     }
 
     private final List<DOMQueryPredicate> predicates = new ArrayList<>();
@@ -48,6 +57,10 @@ final class QueryBuilderState {
 
     private YangInstanceIdentifier absoluteSelect;
     private YangInstanceIdentifier relativeSelect;
+    private YangInstanceIdentifier continuation;
+    private long offset;
+    private long limit = Long.MAX_VALUE;
+    private boolean keyOrdered;
 
     QueryBuilderState(final DefaultQueryFactory factory, final InstanceIdentifier<?> root) {
         codec = factory.codec();
@@ -88,8 +101,41 @@ final class QueryBuilderState {
         predicates.add(requireNonNull(predicate));
     }
 
+    void setOffset(final long newOffset) {
+        checkArgument(newOffset >= 0, "Offset %s is negative", newOffset);
+        offset = newOffset;
+    }
+
+    void setLimit(final long newLimit) {
+        checkArgument(newLimit >= 0, "Limit %s is negative", newLimit);
+        limit = newLimit;
+    }
+
+    void setKeyOrdered() {
+        keyOrdered = true;
+    }
+
+    void setContinuation(final @NonNull DataObjectIdentifier<?> after) {
+        continuation = fromBinding(after.toLegacy());
+        keyOrdered = true;
+    }
+
     <T extends DataObject> @NonNull QueryExpression<T> buildQuery() {
-        return new DefaultQuery<>(codec, new DOMQuery(root, relativeSelect, predicates));
+        return new DefaultQuery<>(codec, buildDOMQuery());
+    }
+
+    <T extends DataObject, V> @NonNull AggregateExpression<T, V> buildAggregate(final DOMQueryAggregate aggregate) {
+        return new DefaultAggregate<>(buildDOMQuery().withAggregate(aggregate));
+    }
+
+    private @NonNull DOMQuery buildDOMQuery() {
+        var query = new DOMQuery(root, relativeSelect, predicates).withOffset(offset).withLimit(limit);
+        if (continuation != null) {
+            query = query.withContinuation(continuation);
+        } else if (keyOrdered) {
+            query = query.withKeyOrder();
+        }
+        return query;
     }
 
     private @NonNull YangInstanceIdentifier fromBinding(final InstanceIdentifier<?> bindingId) {
@@ -13,6 +13,8 @@ import static java.util.Objects.requireNonNull;
 
 import com.google.common.annotations.Beta;
 import org.eclipse.jdt.annotation.NonNull;
+import org.opendaylight.mdsal.binding.api.query.AggregateExpression;
+import org.opendaylight.mdsal.binding.api.query.AggregateResult;
 import org.opendaylight.mdsal.binding.api.query.QueryExecutor;
 import org.opendaylight.mdsal.binding.api.query.QueryExpression;
 import org.opendaylight.mdsal.binding.api.query.QueryResult;
@@ -46,6 +48,15 @@ public final class SimpleQueryExecutor implements QueryExecutor {
         return defaultQuery.toQueryResult(DOMQueryEvaluator.evaluateOnRoot(defaultQuery.asDOMQuery(), root));
     }
 
+    @Override
+    public <T extends @NonNull DataObject, V> AggregateResult<V> aggregateQuery(
+            final AggregateExpression<T, V> aggregate) {
+        checkArgument(aggregate instanceof DefaultAggregate, "Unsupported expression %s", aggregate);
+        final DefaultAggregate<T, V> defaultAggregate = (DefaultAggregate<T, V>) aggregate;
+        return defaultAggregate.toAggregateResult(DOMQueryEvaluator.aggregateOnRoot(defaultAggregate.asDOMQuery(),
+            root));
+    }
+
     public static @NonNull Builder builder(final BindingCodecTree codec) {
         return new Builder(codec);
     }
@@ -11,11 +11,14 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.doReturn;
 
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.SettableFuture;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import org.junit.Before;
 import org.junit.Test;
@@ -81,4 +84,23 @@ public class ActionServiceAdapterTest extends AbstractActionAdapterTest {
         assertEquals(List.of(), bindingResult.getErrors());
         assertEquals(BINDING_LSTIO_OUTPUT, bindingResult.getResult());
     }
+
+    @Test
+    public void testBatchInvocation() throws ExecutionException {
+        doCallRealMethod().when(delegate).invokeActions(any(), any());
+
+        final var first = DataObjectIdentifier.builder(Lstio.class, new LstioKey("first")).build();
+        final var second = DataObjectIdentifier.builder(Lstio.class, new LstioKey("second")).build();
+        final var futures = service.invokeActions(ActionSpec.builder(Lstio.class).build(Fooio.class),
+            Map.of(first, BINDING_LSTIO_INPUT, second, BINDING_LSTIO_INPUT));
+        assertEquals(Set.of(first, second), futures.keySet());
+        assertFalse(futures.get(first).isDone());
+
+        domResult.set(new DefaultDOMRpcResult(DOM_FOO_OUTPUT));
+        for (var future : futures.values()) {
+            final var bindingResult = Futures.getDone(future);
+            assertEquals(List.of(), bindingResult.getErrors());
+            assertEquals(BINDING_LSTIO_OUTPUT, bindingResult.getResult());
+        }
+    }
 }
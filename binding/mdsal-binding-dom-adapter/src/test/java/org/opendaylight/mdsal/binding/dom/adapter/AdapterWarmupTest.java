@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.binding.dom.adapter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import org.junit.Test;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.mdsal.test.binding.rev140701.Top;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.mdsal.test.binding.rev140701.TwoLevelListChanged;
+
+public class AdapterWarmupTest extends AbstractAdapterTest {
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    @Test
+    public void testWarmTypes() {
+        final var result = new AdapterWarmup(codec.currentSerializer(), null)
+            .run(List.of(Top.class.getName(), TwoLevelListChanged.class.getName(), "foo.bar.Baz", "Baz"), false, 2,
+                TIMEOUT);
+        assertEquals(2, result.succeeded());
+        assertEquals(2, result.failed());
+    }
+
+    @Test
+    public void testWarmModel() {
+        final var result = new AdapterWarmup(codec.currentSerializer(), null).run(List.of(), true, 2, TIMEOUT);
+        assertTrue(result.succeeded() > 0);
+    }
+}
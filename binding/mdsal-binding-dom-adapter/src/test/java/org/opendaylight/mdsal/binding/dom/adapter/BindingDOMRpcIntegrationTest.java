@@ -8,6 +8,7 @@
 package org.opendaylight.mdsal.binding.dom.adapter;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertSame;
@@ -19,6 +20,7 @@ import com.google.common.collect.Multimap;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.MoreExecutors;
+import java.lang.reflect.Proxy;
 import java.util.Set;
 import org.junit.Before;
 import org.junit.Test;
@@ -112,6 +114,14 @@ public class BindingDOMRpcIntegrationTest {
         assertEquals(baKnockKnockOutput, Futures.getDone(baResult).getResult());
     }
 
+    @Test
+    public void testGeneratedFacade() {
+        final var baKnockService = baRpcService.getRpc(KnockKnock.class);
+        assertFalse(Proxy.isProxyClass(baKnockService.getClass()));
+        assertSame(KnockKnock.class.getPackage(), baKnockService.getClass().getPackage());
+        assertTrue(baKnockService.toString().startsWith(KnockKnock.class.getName() + "$Adapter{delegate="));
+    }
+
     @Test
     public void testBindingRpcShortcut() throws Exception {
         final var baKnockResult = knockResult(true, "open");
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.binding.dom.adapter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.mdsal.test.binding.rev140701.Top;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.mdsal.test.binding.rev140701.TopBuilder;
+import org.opendaylight.yangtools.binding.data.codec.api.BindingDataObjectCodecTreeNode;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.spi.node.ImmutableNodes;
+
+@ExtendWith(MockitoExtension.class)
+class DataObjectDecodeCacheTest {
+    private static final QName FOO = QName.create(Top.QNAME, "foo");
+    private static final QName BAR = QName.create(Top.QNAME, "bar");
+    private static final QName BAZ = QName.create(Top.QNAME, "baz");
+
+    @Mock
+    private BindingDataObjectCodecTreeNode<Top> codec;
+    @Mock
+    private BindingDataObjectCodecTreeNode<Top> otherCodec;
+
+    private final List<NormalizedNode> decoded = new ArrayList<>();
+
+    @Test
+    void identityKeyedDecode() {
+        final var cache = new DataObjectDecodeCache(16);
+        final var node = ImmutableNodes.newContainerBuilder().withNodeIdentifier(new NodeIdentifier(Top.QNAME)).build();
+
+        final var first = cache.decode(codec, node, this::decode);
+        assertSame(first, cache.decode(codec, node, this::decode));
+        assertEquals(List.of(node), decoded);
+
+        // Equal, but not the same node
+        final var equalNode = ImmutableNodes.newContainerBuilder().withNodeIdentifier(new NodeIdentifier(Top.QNAME))
+            .build();
+        cache.decode(codec, equalNode, this::decode);
+        assertEquals(2, decoded.size());
+
+        // Different codec
+        cache.decode(otherCodec, node, this::decode);
+        assertEquals(3, decoded.size());
+    }
+
+    @Test
+    void oversizedSubtreeNotCached() {
+        final var cache = new DataObjectDecodeCache(1);
+        final var node = ImmutableNodes.newContainerBuilder().withNodeIdentifier(new NodeIdentifier(Top.QNAME))
+            .withChild(ImmutableNodes.leafNode(FOO, "foo"))
+            .build();
+
+        cache.decode(codec, node, this::decode);
+        cache.decode(codec, node, this::decode);
+        assertEquals(List.of(node, node), decoded);
+    }
+
+    @Test
+    void weighStopsAtLimit() {
+        final var node = ImmutableNodes.newContainerBuilder().withNodeIdentifier(new NodeIdentifier(Top.QNAME))
+            .withChild(ImmutableNodes.leafNode(FOO, "foo"))
+            .withChild(ImmutableNodes.leafNode(BAR, "bar"))
+            .withChild(ImmutableNodes.leafNode(BAZ, "baz"))
+            .build();
+
+        assertEquals(4, DataObjectDecodeCache.weigh(node, 10));
+        assertEquals(2, DataObjectDecodeCache.weigh(node, 1));
+    }
+
+    private Optional<Top> decode(final NormalizedNode node) {
+        decoded.add(node);
+        return Optional.of(new TopBuilder().build());
+    }
+}
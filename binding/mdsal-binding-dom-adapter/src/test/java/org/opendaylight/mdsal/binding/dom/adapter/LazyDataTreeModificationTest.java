@@ -9,6 +9,7 @@ package org.opendaylight.mdsal.binding.dom.adapter;
 
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
 
@@ -51,11 +52,13 @@ class LazyDataTreeModificationTest {
         doReturn(domDataTreeIdentifier).when(domDataTreeCandidate).getRootPath();
         doReturn(ModificationType.DELETE).when(rootNode).modificationType();
         doReturn(rootNode).when(domDataTreeCandidate).getRootNode();
-        doReturn(bindingPath.steps().iterator().next()).when(bindingCodecTreeNode)
-            .deserializePathArgument(null);
+        final var step = bindingPath.steps().iterator().next();
+        doReturn(step).when(bindingCodecTreeNode).deserializePathArgument(null);
 
         final var mod = LazyDataTreeModification.from(codec.currentSerializer(), domDataTreeCandidate, null);
         assertNotNull(mod);
-        assertInstanceOf(DataObjectDeleted.class, mod.getRootNode());
+        final var rootMod = assertInstanceOf(DataObjectDeleted.class, mod.getRootNode());
+        // Step is resolved when requested
+        assertSame(step, rootMod.step());
     }
 }
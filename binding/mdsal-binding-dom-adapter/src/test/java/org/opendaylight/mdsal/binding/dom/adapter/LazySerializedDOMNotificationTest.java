@@ -8,8 +8,11 @@
 package org.opendaylight.mdsal.binding.dom.adapter;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import org.junit.jupiter.api.Test;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.bi.ba.notification.rev150205.OutOfPixieDustNotification;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.mdsal.test.binding.rev140701.TwoLevelListChanged;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.mdsal.test.binding.rev140701.TwoLevelListChangedBuilder;
 import org.opendaylight.yangtools.binding.data.codec.impl.BindingCodecContext;
@@ -18,13 +21,22 @@ import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdent
 import org.opendaylight.yangtools.yang.data.spi.node.ImmutableNodes;
 
 class LazySerializedDOMNotificationTest {
+    private final CurrentAdapterSerializer serializer = new CurrentAdapterSerializer(new BindingCodecContext(
+        BindingRuntimeHelpers.createRuntimeContext()));
+
     @Test
     void basicTest() {
-        final var serializer = new CurrentAdapterSerializer(new BindingCodecContext(
-            BindingRuntimeHelpers.createRuntimeContext()));
         final var notification = new LazySerializedNotification(serializer, new TwoLevelListChangedBuilder().build());
         assertEquals(ImmutableNodes.newContainerBuilder()
             .withNodeIdentifier(new NodeIdentifier(TwoLevelListChanged.QNAME))
             .build(), notification.getBody());
     }
+
+    @Test
+    void bindingDataOfTest() {
+        final var data = new TwoLevelListChangedBuilder().build();
+        final var notification = new LazySerializedNotification(serializer, data);
+        assertSame(data, AbstractLazySerializedEvent.bindingDataOf(notification, TwoLevelListChanged.class));
+        assertNull(AbstractLazySerializedEvent.bindingDataOf(notification, OutOfPixieDustNotification.class));
+    }
 }
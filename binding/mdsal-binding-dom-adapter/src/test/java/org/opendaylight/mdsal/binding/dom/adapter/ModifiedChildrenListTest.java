@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.binding.dom.adapter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opendaylight.mdsal.binding.api.DataObjectDeleted;
+import org.opendaylight.mdsal.binding.api.DataObjectWritten;
+import org.opendaylight.yangtools.binding.data.codec.api.BindingDataObjectCodecTreeNode;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidateNode;
+import org.opendaylight.yangtools.yang.data.tree.api.ModificationType;
+
+@ExtendWith(MockitoExtension.class)
+class ModifiedChildrenListTest {
+    @Mock
+    private BindingDataObjectCodecTreeNode<?> codec;
+    @Mock
+    private DataTreeCandidateNode first;
+    @Mock
+    private DataTreeCandidateNode second;
+    @Mock
+    private DataObjectWritten<?> adapted;
+
+    @Test
+    void emptyList() {
+        assertEquals(List.of(), new ModifiedChildrenList.Builder(0).build());
+    }
+
+    @Test
+    void lazyAdaptation() {
+        final var builder = new ModifiedChildrenList.Builder(1);
+        builder.add(codec, first);
+        builder.add(adapted);
+        builder.add(codec, second);
+        final var list = builder.build();
+        assertEquals(3, list.size());
+        assertSame(adapted, list.get(1));
+
+        // Adapted once and reused
+        doReturn(ModificationType.DELETE).when(first).modificationType();
+        final var firstMod = assertInstanceOf(DataObjectDeleted.class, list.get(0));
+        assertSame(firstMod, list.get(0));
+
+        // Second child has not been touched, neither has the codec
+        verifyNoInteractions(second, codec);
+    }
+}
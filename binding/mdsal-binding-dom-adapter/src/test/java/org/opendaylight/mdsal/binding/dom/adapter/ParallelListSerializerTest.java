@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.binding.dom.adapter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.mdsal.test.binding.rev140701.Top;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.mdsal.test.binding.rev140701.TopBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.mdsal.test.binding.rev140701.two.level.list.TopLevelList;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.mdsal.test.binding.rev140701.two.level.list.TopLevelListBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.mdsal.test.binding.rev140701.two.level.list.TopLevelListKey;
+import org.opendaylight.yangtools.binding.DataObjectIdentifier;
+import org.opendaylight.yangtools.binding.data.codec.api.BindingNormalizedNodeSerializer.NodeResult;
+import org.opendaylight.yangtools.binding.util.BindingMap;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapNode;
+
+public class ParallelListSerializerTest extends AbstractAdapterTest {
+    private static final DataObjectIdentifier<Top> TOP_PATH = DataObjectIdentifier.builder(Top.class).build();
+    private static final NodeIdentifier TOP_LEVEL_LIST = NodeIdentifier.create(TopLevelList.QNAME);
+
+    private static final Top TOP = new TopBuilder()
+        .setTopLevelList(BindingMap.of(entry("foo"), entry("bar"), entry("baz")))
+        .build();
+
+    @Test
+    public void testSmallList() {
+        assertNull(ParallelListSerializer.split(codec.currentSerializer(), TOP_PATH, TOP, 4, 1));
+    }
+
+    @Test
+    public void testLargeList() {
+        final var serializer = codec.currentSerializer();
+        final var expected = (ContainerNode) ((NodeResult) serializer.toNormalizedNode(TOP_PATH, TOP)).node();
+
+        final var split = ParallelListSerializer.split(serializer, TOP_PATH, TOP, 3, 2);
+        assertNotNull(split);
+        assertEquals(serializer.toYangInstanceIdentifier(TOP_PATH), split.normalized().path());
+
+        // The object is serialized with a single list entry, the list is provided separately
+        final var container = (ContainerNode) split.normalized().node();
+        assertEquals(1, ((MapNode) container.getChildByArg(TOP_LEVEL_LIST)).size());
+        assertEquals(1, split.lists().size());
+        final var list = split.lists().getFirst();
+        assertEquals(split.normalized().path().node(TOP_LEVEL_LIST), list.path());
+        assertEquals(expected.getChildByArg(TOP_LEVEL_LIST), list.node());
+    }
+
+    private static TopLevelList entry(final String name) {
+        return new TopLevelListBuilder().withKey(new TopLevelListKey(name)).build();
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.binding.dom.adapter;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.mdsal.test.augment.rev140709.TreeComplexUsesAugment;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.mdsal.test.augment.rev140709.complex.from.grouping.ListViaUses;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.mdsal.test.augment.rev140709.complex.from.grouping.ListViaUsesKey;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.mdsal.test.binding.rev140701.Top;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.mdsal.test.binding.rev140701.two.level.list.TopLevelList;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.mdsal.test.binding.rev140701.two.level.list.TopLevelListKey;
+import org.opendaylight.yangtools.binding.DataObjectIdentifier;
+
+public class PathCodecCacheTest extends AbstractAdapterTest {
+    private static final DataObjectIdentifier<Top> TOP = DataObjectIdentifier.builder(Top.class).build();
+
+    @Test
+    public void testBidirectional() {
+        final var serializer = codec.currentSerializer();
+        final var cache = new PathCodecCache(serializer, 16, false);
+
+        final var dom = cache.toYangInstanceIdentifier(topLevelList("foo"));
+        assertEquals(serializer.toYangInstanceIdentifier(topLevelList("foo")), dom);
+        assertEquals(1, cache.toDomStats().missCount());
+
+        // Reverse translation has been populated as well
+        assertEquals(topLevelList("foo"), cache.fromYangInstanceIdentifier(dom));
+        assertEquals(1, cache.toBindingStats().hitCount());
+        assertEquals(0, cache.toBindingStats().missCount());
+    }
+
+    @Test
+    public void testSerializerStats() {
+        final var serializer = new CurrentAdapterSerializer(codec.currentSerializer());
+
+        final var dom = serializer.toCachedYangInstanceIdentifier(topLevelList("foo"));
+        assertEquals(1, serializer.toYangInstanceIdentifierCacheStats().missCount());
+        serializer.coerceInstanceIdentifier(dom);
+        assertEquals(1, serializer.fromYangInstanceIdentifierCacheStats().hitCount());
+    }
+
+    @Test
+    public void testPrefixReuse() {
+        final var serializer = codec.currentSerializer();
+        final var cache = new PathCodecCache(serializer, 16, true);
+
+        for (var name : new String[] { "foo", "bar", "baz" }) {
+            final var binding = topLevelList(name);
+            assertEquals(binding, cache.fromYangInstanceIdentifier(serializer.toYangInstanceIdentifier(binding)));
+        }
+        // Three entries and their shared parent
+        assertEquals(4, cache.toBindingStats().missCount());
+    }
+
+    @Test
+    public void testPrefixReuseInAugmentation() {
+        final var serializer = codec.currentSerializer();
+        final var cache = new PathCodecCache(serializer, 16, true);
+
+        // Binding path has an augmentation step, which is not present in the DOM path
+        for (var name : new String[] { "foo", "bar" }) {
+            final var binding = topLevelList("top").toBuilder()
+                .augmentation(TreeComplexUsesAugment.class)
+                .child(ListViaUses.class, new ListViaUsesKey(name))
+                .build();
+            assertEquals(binding, cache.fromYangInstanceIdentifier(serializer.toYangInstanceIdentifier(binding)));
+        }
+    }
+
+    private static DataObjectIdentifier<TopLevelList> topLevelList(final String name) {
+        return TOP.toBuilder().child(TopLevelList.class, new TopLevelListKey(name)).build();
+    }
+}
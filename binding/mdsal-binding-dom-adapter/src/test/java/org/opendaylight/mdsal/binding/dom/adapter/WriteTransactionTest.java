@@ -52,6 +52,23 @@ public class WriteTransactionTest extends AbstractDataBrokerTest {
         assertTop(new TopBuilder().setTopLevelList(BindingMap.of(NODE)).build());
     }
 
+    @Test
+    public void testPutCreateParentsBulk() throws Exception {
+        final var fooNode = new TopLevelListBuilder().withKey(new TopLevelListKey("foo")).build();
+        final var barNode = new TopLevelListBuilder().withKey(new TopLevelListKey("bar")).build();
+        final var bazNode = new TopLevelListBuilder().withKey(new TopLevelListKey("baz")).build();
+
+        final var writeTx = getDataBroker().newWriteOnlyTransaction();
+        writeTx.mergeParentStructurePut(LogicalDatastoreType.OPERATIONAL, nodePath(fooNode), fooNode);
+        writeTx.mergeParentStructurePut(LogicalDatastoreType.OPERATIONAL, nodePath(barNode), barNode);
+        // Deleting the parent has to result in it being recreated
+        writeTx.delete(LogicalDatastoreType.OPERATIONAL, TOP_PATH);
+        writeTx.mergeParentStructurePut(LogicalDatastoreType.OPERATIONAL, nodePath(bazNode), bazNode);
+        writeTx.commit().get();
+
+        assertTop(new TopBuilder().setTopLevelList(BindingMap.of(bazNode)).build());
+    }
+
     @Test
     public void testPutCreateAugmentationParentsSuccess() throws Exception {
         final var writeTx = getDataBroker().newWriteOnlyTransaction();
@@ -103,6 +120,10 @@ public class WriteTransactionTest extends AbstractDataBrokerTest {
         writeTx.commit().get();
     }
 
+    private static DataObjectIdentifier<TopLevelList> nodePath(final TopLevelList node) {
+        return TOP_PATH.toBuilder().child(TopLevelList.class, node.key()).build();
+    }
+
     private void assertTop(final Top expected) throws Exception {
         try (var readTx = getDataBroker().newReadOnlyTransaction()) {
             assertEquals(Optional.of(expected), readTx.read(LogicalDatastoreType.OPERATIONAL, TOP_PATH).get());
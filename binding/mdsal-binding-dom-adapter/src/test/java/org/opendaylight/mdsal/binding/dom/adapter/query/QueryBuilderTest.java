@@ -11,7 +11,9 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 
 import com.google.common.base.Stopwatch;
+import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
 import java.util.ServiceLoader;
 import java.util.stream.Collectors;
 import org.eclipse.jdt.annotation.NonNull;
@@ -19,6 +21,8 @@ import org.junit.AfterClass;
 import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Test;
+import org.opendaylight.mdsal.binding.api.query.AggregateExpression;
+import org.opendaylight.mdsal.binding.api.query.DescendantQueryBuilder;
 import org.opendaylight.mdsal.binding.api.query.QueryExecutor;
 import org.opendaylight.mdsal.binding.api.query.QueryExpression;
 import org.opendaylight.mdsal.binding.api.query.QueryFactory;
@@ -255,6 +259,34 @@ public class QueryBuilderTest {
         assertEquals(1, items.size());
     }
 
+    @Test
+    public void testCountCriticalAlarms() {
+        final AggregateExpression<Alarms, Long> aggregate = factory.querySubtree(InstanceIdentifier.create(Foo.class))
+            .extractChild(System.class)
+            .extractChild(Alarms.class)
+                .matching()
+                    .leaf(Alarms::getCritical).nonNull()
+                .aggregate()
+                    .count();
+
+        assertEquals(Long.valueOf(3), executor.aggregateQuery(aggregate).value().orElseThrow());
+    }
+
+    @Test
+    public void testAlarmIdAggregates() {
+        assertEquals(Uint64.TWO, executor.aggregateQuery(alarms().aggregate().value(Alarms::getId).max()).value()
+            .orElseThrow());
+        assertEquals(BigDecimal.valueOf(3), executor.aggregateQuery(alarms().aggregate().value(Alarms::getId).sum())
+            .value().orElseThrow());
+        assertEquals(Map.of(Uint64.ZERO, 2L, Uint64.ONE, 1L, Uint64.TWO, 1L),
+            executor.aggregateQuery(alarms().aggregate().groupBy(Alarms::getId).count()).groups());
+    }
+
+    private DescendantQueryBuilder<Alarms> alarms() {
+        return factory.querySubtree(InstanceIdentifier.create(Foo.class))
+            .extractChild(System.class)
+            .extractChild(Alarms.class);
+    }
 
     private <T extends @NonNull DataObject> QueryResult<T> execute(final QueryExpression<T> query) {
         final Stopwatch sw = Stopwatch.createStarted();
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.dom.api;
+
+import com.google.common.annotations.Beta;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import java.util.Map;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.model.api.stmt.SchemaNodeIdentifier.Absolute;
+
+/**
+ * A {@link DOMActionImplementation} which is capable of handling a number of invocations at once. When a batch of
+ * invocations is submitted via {@link DOMActionService#invokeActions(Absolute, Map)}, all invocations routed to such
+ * an implementation are delivered to it in a single call, allowing it to amortize the cost of I/O, for example by
+ * issuing a single request to a device.
+ */
+@Beta
+@FunctionalInterface
+@NonNullByDefault
+public interface DOMActionBatchImplementation extends DOMActionImplementation {
+    /**
+     * Initiate invocation of the action on a number of data nodes. Implementations of this method are expected to not
+     * block.
+     *
+     * @param type absolute schema node identifier of the action to be invoked
+     * @param inputs Input arguments, keyed by the {@link DOMDataTreeIdentifier} of the data node the action is to be
+     *               invoked on
+     * @return A {@link Map} of {@link ListenableFuture}s, one for each key in {@code inputs}, which complete with the
+     *         result of the corresponding invocation
+     * @throws NullPointerException if any of the arguments is null
+     */
+    Map<DOMDataTreeIdentifier, ListenableFuture<? extends DOMRpcResult>> invokeActions(Absolute type,
+        Map<DOMDataTreeIdentifier, ContainerNode> inputs);
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec
+     *     This method invokes {@link #invokeActions(Absolute, Map)} with a single input.
+     */
+    @Override
+    default ListenableFuture<? extends DOMRpcResult> invokeAction(final Absolute type, final DOMDataTreeIdentifier path,
+            final ContainerNode input) {
+        final var result = invokeActions(type, Map.of(path, input)).get(path);
+        return result != null ? result : Futures.immediateFailedFuture(
+            new DOMActionNotAvailableException("%s did not produce a result for %s", this, path));
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.dom.api;
+
+import com.google.common.annotations.Beta;
+import java.util.Set;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.opendaylight.yangtools.concepts.Registration;
+
+/**
+ * A {@link DOMActionProviderService.Extension} exposed by {@link DOMActionProviderService}s which allow a number of
+ * registrations and unregistrations to be applied atomically, resulting in a single routing update and a single
+ * notification to each {@link DOMActionAvailabilityExtension.AvailabilityListener}.
+ */
+@Beta
+@NonNullByDefault
+public interface DOMActionProviderBatchExtension extends DOMActionProviderService.Extension {
+    /**
+     * Allocate a new {@link Batch}.
+     *
+     * @return A new batch
+     */
+    Batch newBatch();
+
+    /**
+     * A batch of action implementation registrations and unregistrations. Nothing performed through a batch takes
+     * effect until {@link #commit()} is invoked. A batch can be committed only once.
+     */
+    interface Batch {
+        /**
+         * Stage a registration of an {@link DOMActionImplementation}. The registration becomes effective when this
+         * batch is committed. Closing the returned registration before that cancels it.
+         *
+         * @param implementation action implementation
+         * @param instances Set of supported operation identifiers
+         * @return A {@link Registration} object
+         * @throws IllegalArgumentException if {@code instances} is empty
+         * @throws IllegalStateException if this batch has already been committed
+         * @see DOMActionProviderService#registerActionImplementation(DOMActionImplementation, Set)
+         */
+        Registration registerActionImplementation(DOMActionImplementation implementation,
+            Set<DOMActionInstance> instances);
+
+        /**
+         * Stage the closure of a {@link Registration} previously obtained from the same service, or from a batch
+         * of the same service.
+         *
+         * @param registration Registration to close
+         * @throws IllegalArgumentException if the registration does not belong to this service
+         * @throws IllegalStateException if this batch has already been committed
+         */
+        void unregister(Registration registration);
+
+        /**
+         * Atomically apply all staged unregistrations and registrations.
+         *
+         * @throws IllegalStateException if this batch has already been committed
+         */
+        void commit();
+    }
+}
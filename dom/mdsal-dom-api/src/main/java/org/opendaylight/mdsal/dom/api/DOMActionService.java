@@ -7,7 +7,9 @@
  */
 package org.opendaylight.mdsal.dom.api;
 
+import com.google.common.collect.ImmutableMap;
 import com.google.common.util.concurrent.ListenableFuture;
+import java.util.Map;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
 import org.opendaylight.yangtools.yang.data.api.schema.tree.StoreTreeNode;
@@ -39,4 +41,27 @@ public interface DOMActionService extends DOMService<DOMActionService, DOMAction
      */
     ListenableFuture<? extends DOMRpcResult> invokeAction(Absolute type, DOMDataTreeIdentifier path,
             ContainerNode input);
+
+    /**
+     * Initiate invocation of an Action on a number of data nodes. This method is guaranteed to not block on any
+     * external resources. The result of this method is equivalent to invoking
+     * {@link #invokeAction(Absolute, DOMDataTreeIdentifier, ContainerNode)} for each entry in {@code inputs}, but
+     * implementations are free to amortize the cost of dispatch, for example by handing all invocations routed to a
+     * {@link DOMActionBatchImplementation} to it in a single call.
+     *
+     * @param type Absolute schema node identifier of the action to be invoked
+     * @param inputs Input arguments, keyed by the {@link DOMDataTreeIdentifier} of the data node the action is to be
+     *               invoked on
+     * @return A {@link Map} of {@link ListenableFuture}s, one for each key in {@code inputs}, which complete with the
+     *         result of the corresponding invocation
+     * @throws NullPointerException if any of the arguments is null
+     * @throws IllegalArgumentException if any of the paths is empty
+     */
+    default Map<DOMDataTreeIdentifier, ListenableFuture<? extends DOMRpcResult>> invokeActions(final Absolute type,
+            final Map<DOMDataTreeIdentifier, ContainerNode> inputs) {
+        final var builder = ImmutableMap.<DOMDataTreeIdentifier, ListenableFuture<? extends DOMRpcResult>>
+            builderWithExpectedSize(inputs.size());
+        inputs.forEach((path, input) -> builder.put(path, invokeAction(type, path, input)));
+        return builder.build();
+    }
 }
@@ -8,6 +8,11 @@
 package org.opendaylight.mdsal.dom.api;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.mdsal.dom.api.query.DOMQuery;
+import org.opendaylight.mdsal.dom.api.query.DOMQueryListener;
+import org.opendaylight.mdsal.dom.api.query.DOMQueryResult;
+import org.opendaylight.mdsal.dom.api.query.DOMQueryResultChange;
 import org.opendaylight.yangtools.concepts.Registration;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
 
@@ -118,6 +123,32 @@ public interface DOMDataBroker extends DOMService<DOMDataBroker, DOMDataBroker.E
         Registration registerLegacyTreeChangeListener(DOMDataTreeIdentifier treeId, DOMDataTreeChangeListener listener);
     }
 
+    /**
+     * An {@link Extension} which allows users to register standing queries, whose results are maintained as data
+     * changes.
+     */
+    interface QueryListenerExtension extends Extension {
+        /**
+         * Registers a {@link DOMQueryListener} to receive the result of a {@link DOMQuery} and its subsequent changes.
+         * The listener first receives the current result via {@link DOMQueryListener#onInitialResult(DOMQueryResult)}.
+         * Each subsequent data change then evaluates the query only on the items it touched, and the listener is
+         * notified of added, changed and removed items via
+         * {@link DOMQueryListener#onResultChanged(DOMQueryResultChange)}.
+         *
+         * <p>You MUST explicitly unregister your listener when you no longer want to receive notifications.
+         *
+         * @param datastore datastore to query
+         * @param query query to maintain, it must not have an offset, a limit, a continuation or an aggregate
+         * @param listener Listener instance which is being registered
+         * @return A {@link Registration} object, which may be used to unregister your listener using
+         *         {@link Registration#close()}.
+         * @throws NullPointerException if any of the arguments is {@code null}
+         * @throws IllegalArgumentException if the query has an offset, a limit or a continuation, or if it computes
+         *                                  an aggregate
+         */
+        Registration registerQueryListener(LogicalDatastoreType datastore, DOMQuery query, DOMQueryListener listener);
+    }
+
     /**
      * Create a new transaction chain. The chain will be initialized to read from its backing datastore, with
      * no outstanding transaction.
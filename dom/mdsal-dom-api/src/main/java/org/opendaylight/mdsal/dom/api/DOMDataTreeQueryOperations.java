@@ -9,9 +9,12 @@ package org.opendaylight.mdsal.dom.api;
 
 import com.google.common.annotations.Beta;
 import com.google.common.util.concurrent.FluentFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
 import org.opendaylight.mdsal.common.api.ReadFailedException;
 import org.opendaylight.mdsal.dom.api.query.DOMQuery;
+import org.opendaylight.mdsal.dom.api.query.DOMQueryAggregate;
+import org.opendaylight.mdsal.dom.api.query.DOMQueryAggregateResult;
 import org.opendaylight.mdsal.dom.api.query.DOMQueryResult;
 
 /**
@@ -37,4 +40,31 @@ public interface DOMDataTreeQueryOperations {
      * @throws IllegalArgumentException if the {@code query} or {@code store} is not supported
      */
     FluentFuture<DOMQueryResult> execute(LogicalDatastoreType store, DOMQuery query);
+
+    /**
+     * Computes the {@link DOMQuery#findAggregate() aggregate} of a query on the provided logical data store.
+     *
+     * <p>Default implementation folds the result of {@link #execute(LogicalDatastoreType, DOMQuery)}, which does not
+     * retain matching items as long as that result is evaluated lazily. Implementations are encouraged to provide a
+     * more efficient implementation as appropriate.
+     *
+     * @param store Logical data store from which read should occur.
+     * @param query DOMQuery to execute
+     * @return a FluentFuture containing the aggregate result. The Future blocks until the operation is complete.
+     *         Once complete:
+     *         <ul>
+     *           <li>The Future returns the aggregate result of the query</li>
+     *           <li>If the query execution fails, the Future will fail with a {@link ReadFailedException} or
+     *               an exception derived from ReadFailedException.
+     *            </li>
+     *         </ul>
+     * @throws NullPointerException if any of the arguments is {@code null}
+     * @throws IllegalArgumentException if the {@code query} does not specify an aggregate, or if the {@code query} or
+     *                                  {@code store} is not supported
+     */
+    default FluentFuture<DOMQueryAggregateResult> aggregate(final LogicalDatastoreType store, final DOMQuery query) {
+        final DOMQueryAggregate aggregate = query.findAggregate()
+            .orElseThrow(() -> new IllegalArgumentException("Query " + query + " does not specify an aggregate"));
+        return execute(store, query).transform(aggregate::computeOn, MoreExecutors.directExecutor());
+    }
 }
@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.dom.api;
+
+import com.google.common.annotations.Beta;
+import java.time.Instant;
+import java.util.Collection;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.opendaylight.yangtools.concepts.Registration;
+import org.opendaylight.yangtools.yang.model.api.stmt.SchemaNodeIdentifier.Absolute;
+
+/**
+ * A {@link DOMNotificationService.Extension} exposed by {@link DOMNotificationService}s which retain a bounded history
+ * of published notifications and can replay it to newly-registered listeners, similar to what
+ * <a href="https://www.rfc-editor.org/rfc/rfc5277#section-3.2">RFC5277 replay</a> does for NETCONF.
+ */
+@Beta
+@NonNullByDefault
+public interface DOMNotificationReplayExtension extends DOMNotificationService.Extension {
+    /**
+     * Register a {@link DOMNotificationListener} to receive a set of notifications, starting with any retained
+     * notifications which have been published at or after {@code startTime}. Once the retained notifications have
+     * been delivered, the listener transparently continues to receive live notifications, without any notification
+     * being either lost or delivered twice.
+     *
+     * <p>The time of a notification is taken from {@link DOMEvent#getEventInstant()} if the notification implements
+     * {@link DOMEvent}, otherwise it is the time when it was published.
+     *
+     * @param listener Notification instance to register
+     * @param types Notification types which should be delivered to the listener
+     * @param startTime Earliest time of replayed notifications
+     * @return Registration handle. Invoking {@link Registration#close()} will stop the delivery of notifications to the
+     *         listener
+     * @throws IllegalArgumentException if types is empty or contains an invalid element
+     * @throws NullPointerException if any argument is {@code null}
+     */
+    Registration registerNotificationListener(DOMNotificationListener listener, Collection<Absolute> types,
+        Instant startTime);
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.dom.api;
+
+import com.google.common.annotations.Beta;
+import java.util.Map;
+import java.util.Set;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.opendaylight.yangtools.concepts.Registration;
+
+/**
+ * A {@link DOMRpcProviderService.Extension} exposed by {@link DOMRpcProviderService}s which allow a number of
+ * registrations and unregistrations to be applied atomically. This is useful for users which need to (un)register
+ * a large number of implementations at once, for example when a remote node reconnects, as the entire batch results
+ * in a single routing update and a single notification to each {@link DOMRpcAvailabilityListener}.
+ */
+@Beta
+@NonNullByDefault
+public interface DOMRpcProviderBatchExtension extends DOMRpcProviderService.Extension {
+    /**
+     * Allocate a new {@link Batch}.
+     *
+     * @return A new batch
+     */
+    Batch newBatch();
+
+    /**
+     * A batch of RPC implementation registrations and unregistrations. Nothing performed through a batch takes effect
+     * until {@link #commit()} is invoked. A batch can be committed only once.
+     */
+    interface Batch {
+        /**
+         * Stage a registration of an {@link DOMRpcImplementation}. The registration becomes effective when this batch
+         * is committed. Closing the returned registration before that cancels it.
+         *
+         * @param implementation RPC implementation
+         * @param rpcs Set of supported RPC identifiers
+         * @return A {@link Registration} object
+         * @throws IllegalStateException if this batch has already been committed
+         * @see DOMRpcProviderService#registerRpcImplementation(DOMRpcImplementation, Set)
+         */
+        Registration registerRpcImplementation(DOMRpcImplementation implementation, Set<DOMRpcIdentifier> rpcs);
+
+        /**
+         * Stage a registration of a set of {@link DOMRpcImplementation}s. The registration becomes effective when
+         * this batch is committed. Closing the returned registration before that cancels it.
+         *
+         * @param map Map of RPC identifiers and their corresponding implementations
+         * @return A {@link Registration} object
+         * @throws IllegalArgumentException if map is empty
+         * @throws IllegalStateException if this batch has already been committed
+         * @see DOMRpcProviderService#registerRpcImplementations(Map)
+         */
+        Registration registerRpcImplementations(Map<DOMRpcIdentifier, DOMRpcImplementation> map);
+
+        /**
+         * Stage the closure of a {@link Registration} previously obtained from the same service, or from a batch
+         * of the same service.
+         *
+         * @param registration Registration to close
+         * @throws IllegalArgumentException if the registration does not belong to this service
+         * @throws IllegalStateException if this batch has already been committed
+         */
+        void unregister(Registration registration);
+
+        /**
+         * Atomically apply all staged unregistrations and registrations.
+         *
+         * @throws IllegalStateException if this batch has already been committed
+         */
+        void commit();
+    }
+}
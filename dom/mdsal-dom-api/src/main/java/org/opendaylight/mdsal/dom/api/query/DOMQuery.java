@@ -7,27 +7,62 @@
  */
 package org.opendaylight.mdsal.dom.api.query;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static java.util.Objects.requireNonNull;
 
 import com.google.common.annotations.Beta;
+import com.google.common.base.MoreObjects;
 import com.google.common.collect.ImmutableList;
 import java.util.List;
+import java.util.Optional;
 import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.yangtools.concepts.Immutable;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 
+/**
+ * A query on a DOM data tree.
+ *
+ * <p>By default all matching items are returned, in unspecified order. The result can be restricted to a slice of
+ * matching items via {@link #withOffset(long)} and {@link #withLimit(long)}. A slice of an unordered query is not
+ * stable across data changes, hence {@link #withKeyOrder()} can be used to request items to be ordered by their list
+ * entry keys. Such a query can be continued after a particular item via
+ * {@link #withContinuation(YangInstanceIdentifier)}, which allows paging through results without evaluating
+ * predicates on items already seen.
+ *
+ * <p>Instead of returning matching items, a query can compute a {@link DOMQueryAggregate} over them, as specified by
+ * {@link #withAggregate(DOMQueryAggregate)}.
+ */
 @Beta
 public final class DOMQuery implements Immutable {
     private final @NonNull YangInstanceIdentifier root;
     // Note: relative to root
     private final @NonNull YangInstanceIdentifier select;
     private final @NonNull ImmutableList<DOMQueryPredicate> predicates;
+    private final long offset;
+    private final long limit;
+    private final boolean keyOrdered;
+    // Note: absolute, i.e. a path of a previously-returned item
+    private final @Nullable YangInstanceIdentifier continuation;
+    private final @Nullable DOMQueryAggregate aggregate;
 
     public DOMQuery(final YangInstanceIdentifier root, final YangInstanceIdentifier select,
             final List<? extends DOMQueryPredicate> predicates) {
+        this(root, select, ImmutableList.copyOf(predicates), 0, Long.MAX_VALUE, false, null, null);
+    }
+
+    private DOMQuery(final YangInstanceIdentifier root, final YangInstanceIdentifier select,
+            final ImmutableList<DOMQueryPredicate> predicates, final long offset, final long limit,
+            final boolean keyOrdered, final @Nullable YangInstanceIdentifier continuation,
+            final @Nullable DOMQueryAggregate aggregate) {
         this.root = requireNonNull(root);
         this.select = requireNonNull(select);
-        this.predicates = ImmutableList.copyOf(predicates);
+        this.predicates = requireNonNull(predicates);
+        this.offset = offset;
+        this.limit = limit;
+        this.keyOrdered = keyOrdered;
+        this.continuation = continuation;
+        this.aggregate = aggregate;
     }
 
     public @NonNull YangInstanceIdentifier getRoot() {
@@ -41,4 +76,134 @@ public final class DOMQuery implements Immutable {
     public @NonNull List<? extends DOMQueryPredicate> getPredicates() {
         return predicates;
     }
+
+    /**
+     * Return the number of matching items to skip.
+     *
+     * @return Number of items to skip, {@code 0} by default
+     */
+    public long getOffset() {
+        return offset;
+    }
+
+    /**
+     * Return the maximum number of items to return.
+     *
+     * @return Maximum number of items, {@link Long#MAX_VALUE} if the query is not limited
+     */
+    public long getLimit() {
+        return limit;
+    }
+
+    /**
+     * Check whether this query returns only a slice of matching items, i.e. it has an offset or a limit.
+     *
+     * @return {@code true} if this query has an offset or a limit
+     */
+    public boolean isSliced() {
+        return offset != 0 || limit != Long.MAX_VALUE;
+    }
+
+    /**
+     * Check whether items are returned ordered by their path, where list entries are ordered by the values of their
+     * keys.
+     *
+     * @return {@code true} if items are ordered by their keys
+     */
+    public boolean isKeyOrdered() {
+        return keyOrdered;
+    }
+
+    /**
+     * Return the path of the item after which this query continues, if any.
+     *
+     * @return Path of the last item seen, or empty if the query starts from the first item
+     */
+    public @NonNull Optional<YangInstanceIdentifier> findContinuation() {
+        return Optional.ofNullable(continuation);
+    }
+
+    /**
+     * Return the aggregate this query computes, if any.
+     *
+     * @return Aggregate to compute over matching items, or empty if this query returns the items themselves
+     */
+    public @NonNull Optional<DOMQueryAggregate> findAggregate() {
+        return Optional.ofNullable(aggregate);
+    }
+
+    /**
+     * Return a query which skips first {@code newOffset} matching items.
+     *
+     * @param newOffset number of items to skip
+     * @return A query with specified offset
+     * @throws IllegalArgumentException if {@code newOffset} is negative
+     */
+    public @NonNull DOMQuery withOffset(final long newOffset) {
+        checkArgument(newOffset >= 0, "Offset %s is negative", newOffset);
+        return new DOMQuery(root, select, predicates, newOffset, limit, keyOrdered, continuation, aggregate);
+    }
+
+    /**
+     * Return a query which returns at most {@code newLimit} matching items.
+     *
+     * @param newLimit maximum number of items
+     * @return A query with specified limit
+     * @throws IllegalArgumentException if {@code newLimit} is negative
+     */
+    public @NonNull DOMQuery withLimit(final long newLimit) {
+        checkArgument(newLimit >= 0, "Limit %s is negative", newLimit);
+        return new DOMQuery(root, select, predicates, offset, newLimit, keyOrdered, continuation, aggregate);
+    }
+
+    /**
+     * Return a query which returns items ordered by their keys.
+     *
+     * @return A key-ordered query
+     */
+    public @NonNull DOMQuery withKeyOrder() {
+        return keyOrdered ? this : new DOMQuery(root, select, predicates, offset, limit, true, continuation, aggregate);
+    }
+
+    /**
+     * Return a key-ordered query which returns only items ordered after specified item.
+     *
+     * @param after path of the last item seen, as returned by a previous execution of this query
+     * @return A continuation query
+     * @throws NullPointerException if {@code after} is null
+     */
+    public @NonNull DOMQuery withContinuation(final YangInstanceIdentifier after) {
+        return new DOMQuery(root, select, predicates, offset, limit, true, requireNonNull(after), aggregate);
+    }
+
+    /**
+     * Return a query which computes specified aggregate over matching items. The aggregate is computed over the items
+     * this query would otherwise return, hence it takes any offset, limit or continuation into account.
+     *
+     * @param newAggregate aggregate to compute
+     * @return An aggregate query
+     * @throws NullPointerException if {@code newAggregate} is null
+     */
+    public @NonNull DOMQuery withAggregate(final DOMQueryAggregate newAggregate) {
+        return new DOMQuery(root, select, predicates, offset, limit, keyOrdered, continuation,
+            requireNonNull(newAggregate));
+    }
+
+    @Override
+    public String toString() {
+        final var helper = MoreObjects.toStringHelper(this).omitNullValues()
+            .add("root", root)
+            .add("select", select)
+            .add("predicates", predicates);
+        if (offset != 0) {
+            helper.add("offset", offset);
+        }
+        if (limit != Long.MAX_VALUE) {
+            helper.add("limit", limit);
+        }
+        if (keyOrdered) {
+            helper.add("keyOrdered", true);
+        }
+        return helper.add("continuation", continuation).add("aggregate", aggregate).toString();
+    }
 }
@@ -0,0 +1,248 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.dom.api.query;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.Beta;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.stream.Collector;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.yangtools.concepts.Immutable;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.LeafNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNodes;
+
+/**
+ * An aggregate function computed over items matched by a {@link DOMQuery}, optionally grouped by the value of a leaf.
+ * Leaves are identified by their paths relative to each selected item.
+ *
+ * <p>{@link Function#COUNT} counts matched items. {@link Function#MIN} and {@link Function#MAX} pick the smallest and
+ * the largest value of a leaf, as ordered by {@link DOMQueryValueOrder}. {@link Function#SUM} adds up values of
+ * a numeric leaf. Items which do not have the value leaf are ignored by these functions, items which do not have
+ * the group-by leaf are ignored by grouped aggregates.
+ */
+@Beta
+public final class DOMQueryAggregate implements Immutable {
+    /**
+     * Aggregate functions.
+     */
+    public enum Function {
+        /**
+         * Number of items, as a {@link Long}.
+         */
+        COUNT,
+        /**
+         * Smallest leaf value.
+         */
+        MIN,
+        /**
+         * Largest leaf value.
+         */
+        MAX,
+        /**
+         * Sum of numeric leaf values, as a {@link BigDecimal}.
+         */
+        SUM;
+    }
+
+    private final @NonNull Function function;
+    // Note: relative to each selected item, empty for COUNT
+    private final @NonNull YangInstanceIdentifier value;
+    // Note: relative to each selected item
+    private final @Nullable YangInstanceIdentifier groupBy;
+
+    private DOMQueryAggregate(final Function function, final YangInstanceIdentifier value,
+            final @Nullable YangInstanceIdentifier groupBy) {
+        this.function = requireNonNull(function);
+        this.value = requireNonNull(value);
+        this.groupBy = groupBy;
+    }
+
+    public static @NonNull DOMQueryAggregate count() {
+        return new DOMQueryAggregate(Function.COUNT, YangInstanceIdentifier.of(), null);
+    }
+
+    public static @NonNull DOMQueryAggregate min(final YangInstanceIdentifier value) {
+        return new DOMQueryAggregate(Function.MIN, leafPath(value), null);
+    }
+
+    public static @NonNull DOMQueryAggregate max(final YangInstanceIdentifier value) {
+        return new DOMQueryAggregate(Function.MAX, leafPath(value), null);
+    }
+
+    public static @NonNull DOMQueryAggregate sum(final YangInstanceIdentifier value) {
+        return new DOMQueryAggregate(Function.SUM, leafPath(value), null);
+    }
+
+    public @NonNull Function getFunction() {
+        return function;
+    }
+
+    /**
+     * Return the path of the aggregated leaf, relative to each selected item.
+     *
+     * @return Leaf path, empty for {@link Function#COUNT}
+     */
+    public @NonNull YangInstanceIdentifier getValue() {
+        return value;
+    }
+
+    /**
+     * Return the path of the leaf whose value groups items, relative to each selected item.
+     *
+     * @return Leaf path, or empty if this aggregate is not grouped
+     */
+    public @NonNull Optional<YangInstanceIdentifier> findGroupBy() {
+        return Optional.ofNullable(groupBy);
+    }
+
+    /**
+     * Return an aggregate computed separately for each distinct value of specified leaf.
+     *
+     * @param newGroupBy path of the leaf, relative to each selected item
+     * @return A grouped aggregate
+     * @throws NullPointerException if {@code newGroupBy} is null
+     * @throws IllegalArgumentException if {@code newGroupBy} is empty
+     */
+    public @NonNull DOMQueryAggregate groupBy(final YangInstanceIdentifier newGroupBy) {
+        return new DOMQueryAggregate(function, value, leafPath(newGroupBy));
+    }
+
+    /**
+     * Return a {@link Collector} computing this aggregate over selected items. Only leaves identified by this
+     * aggregate are accessed, the items are not retained.
+     *
+     * @return A Collector
+     */
+    public @NonNull Collector<NormalizedNode, ?, DOMQueryAggregateResult> toCollector() {
+        if (groupBy == null) {
+            return Collector.of(Accumulator::new, (acc, item) -> acc.add(item, value),
+                Accumulator::merge, acc -> DOMQueryAggregateResult.ofValue(acc.result()));
+        }
+
+        final var groupPath = groupBy;
+        return Collector.<NormalizedNode, Map<Object, Accumulator>, DOMQueryAggregateResult>of(LinkedHashMap::new,
+            (groups, item) -> {
+                final var key = leafValue(item, groupPath);
+                if (key != null) {
+                    groups.computeIfAbsent(key, k -> new Accumulator()).add(item, value);
+                }
+            },
+            (first, second) -> {
+                second.forEach((key, acc) -> first.merge(key, acc, Accumulator::merge));
+                return first;
+            },
+            groups -> {
+                final var builder = ImmutableMap.builder();
+                groups.forEach((key, acc) -> {
+                    final var result = acc.result();
+                    if (result != null) {
+                        builder.put(key, result);
+                    }
+                });
+                return DOMQueryAggregateResult.ofGroups(builder.build());
+            });
+    }
+
+    /**
+     * Compute this aggregate over the items of a {@link DOMQueryResult}.
+     *
+     * @param result query result
+     * @return Aggregate result
+     * @throws NullPointerException if {@code result} is null
+     */
+    public @NonNull DOMQueryAggregateResult computeOn(final DOMQueryResult result) {
+        return result.stream().map(Entry::getValue).collect(toCollector());
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).omitNullValues()
+            .add("function", function)
+            .add("value", value.isEmpty() ? null : value)
+            .add("groupBy", groupBy)
+            .toString();
+    }
+
+    private static YangInstanceIdentifier leafPath(final YangInstanceIdentifier path) {
+        checkArgument(!path.isEmpty(), "Leaf path must not be empty");
+        return path;
+    }
+
+    private static @Nullable Object leafValue(final NormalizedNode item, final YangInstanceIdentifier path) {
+        return NormalizedNodes.findNode(item, path).orElse(null) instanceof LeafNode<?> leaf ? leaf.body() : null;
+    }
+
+    // Mutable state of a single (group of an) aggregate
+    private final class Accumulator {
+        private long count;
+        private @Nullable Object current;
+
+        void add(final NormalizedNode item, final YangInstanceIdentifier path) {
+            if (function == Function.COUNT) {
+                count++;
+                return;
+            }
+
+            final var leaf = leafValue(item, path);
+            if (leaf != null) {
+                combine(leaf);
+            }
+        }
+
+        Accumulator merge(final Accumulator other) {
+            count += other.count;
+            if (other.current != null) {
+                combine(other.current);
+            }
+            return this;
+        }
+
+        @Nullable Object result() {
+            return switch (function) {
+                case COUNT -> count;
+                case SUM -> current != null ? current : BigDecimal.ZERO;
+                case MIN, MAX -> current;
+            };
+        }
+
+        private void combine(final Object leaf) {
+            final var prev = current;
+            current = switch (function) {
+                case COUNT -> throw new IllegalStateException("Unexpected value in " + DOMQueryAggregate.this);
+                case MIN -> prev == null || DOMQueryValueOrder.INSTANCE.compare(leaf, prev) < 0 ? leaf : prev;
+                case MAX -> prev == null || DOMQueryValueOrder.INSTANCE.compare(leaf, prev) > 0 ? leaf : prev;
+                case SUM -> {
+                    final var decimal = toDecimal(leaf);
+                    yield prev == null ? decimal : ((BigDecimal) prev).add(decimal);
+                }
+            };
+        }
+
+        private static BigDecimal toDecimal(final Object leaf) {
+            if (leaf instanceof BigDecimal decimal) {
+                return decimal;
+            }
+            if (leaf instanceof Number number) {
+                // Covers Uint64 and Decimal64 as well, as their string representations are exact
+                return new BigDecimal(number.toString());
+            }
+            throw new IllegalArgumentException("Cannot sum non-numeric value " + leaf);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.dom.api.query;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.Beta;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import java.util.Optional;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.yangtools.concepts.Immutable;
+
+/**
+ * The result of computing a {@link DOMQueryAggregate}. An ungrouped aggregate has a single {@link #findValue() value},
+ * a grouped aggregate has a value for each {@link #groups() group}.
+ */
+@Beta
+@NonNullByDefault
+public final class DOMQueryAggregateResult implements Immutable {
+    private static final DOMQueryAggregateResult EMPTY = new DOMQueryAggregateResult(null, ImmutableMap.of());
+
+    private final @Nullable Object value;
+    private final ImmutableMap<Object, Object> groups;
+
+    private DOMQueryAggregateResult(final @Nullable Object value, final ImmutableMap<Object, Object> groups) {
+        this.value = value;
+        this.groups = requireNonNull(groups);
+    }
+
+    public static DOMQueryAggregateResult ofValue(final @Nullable Object value) {
+        return value == null ? EMPTY : new DOMQueryAggregateResult(value, ImmutableMap.of());
+    }
+
+    public static DOMQueryAggregateResult ofGroups(final ImmutableMap<Object, Object> groups) {
+        return groups.isEmpty() ? EMPTY : new DOMQueryAggregateResult(null, groups);
+    }
+
+    /**
+     * Return the value of an ungrouped aggregate.
+     *
+     * @return Aggregate value, or empty if the aggregate is grouped or there were no values to aggregate
+     */
+    public Optional<Object> findValue() {
+        return Optional.ofNullable(value);
+    }
+
+    /**
+     * Return the values of a grouped aggregate, keyed by the value of the group-by leaf.
+     *
+     * @return Aggregate values, empty if the aggregate is not grouped
+     */
+    public ImmutableMap<Object, Object> groups() {
+        return groups;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).omitNullValues()
+            .add("value", value)
+            .add("groups", groups.isEmpty() ? null : groups)
+            .toString();
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.dom.api.query;
+
+import com.google.common.annotations.Beta;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * Interface implemented by classes interested in the result of a standing {@link DOMQuery}. The result is computed
+ * once, when the listener is registered, and then maintained as data changes.
+ */
+@Beta
+@NonNullByDefault
+public interface DOMQueryListener {
+    /**
+     * Invoked exactly once, before any other invocation, with the result of the query at the time of registration.
+     *
+     * @param result initial query result
+     */
+    void onInitialResult(DOMQueryResult result);
+
+    /**
+     * Invoked when the result of the query has changed. This method is not invoked when a data change does not affect
+     * the result.
+     *
+     * @param change change of the result
+     */
+    void onResultChanged(DOMQueryResultChange change);
+}
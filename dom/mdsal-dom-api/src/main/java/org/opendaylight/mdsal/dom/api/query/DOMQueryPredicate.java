@@ -12,6 +12,9 @@ import static java.util.Objects.requireNonNull;
 import com.google.common.annotations.Beta;
 import com.google.common.base.MoreObjects;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Range;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.util.Iterator;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
@@ -36,6 +39,8 @@ public final class DOMQueryPredicate implements Immutable {
      * be combined in a manner similar to {@link Predicate}.
      */
     public abstract static class Match {
+        private volatile @Nullable MethodHandle methodHandle;
+
         Match() {
             // Hidden on purpose
         }
@@ -99,6 +104,44 @@ public final class DOMQueryPredicate implements Immutable {
 
         public abstract boolean test(@Nullable NormalizedNode data);
 
+        /**
+         * Return the {@link Range} of leaf values this match accepts, if it can be expressed as such. This is the case
+         * for {@link #valueEquals(Object)} with a {@link Comparable} value and for all comparisons. Implementations
+         * can use this information to answer the match from an index of leaf values instead of testing each candidate.
+         *
+         * @return A {@link Range}, or {@code null} if this match cannot be expressed as a range of values
+         */
+        public @Nullable Range<?> valueRange() {
+            return null;
+        }
+
+        /**
+         * Return the estimated relative cost of evaluating this match against a single node. The estimate also
+         * reflects typical selectivity, so that cheap and selective matches have lower cost. Evaluators use it to
+         * order predicates, so that expensive matches are evaluated on as few nodes as possible.
+         *
+         * @return A positive estimated cost
+         */
+        public abstract int estimatedCost();
+
+        /**
+         * Return a {@link MethodHandle} equivalent to {@link #test(NormalizedNode)}. Arguments of this match are bound
+         * into the handle as constants and composite matches are unrolled, so that a hot handle can be optimized as
+         * a whole, without virtual dispatch on each component. The handle is created on first invocation and cached.
+         *
+         * @return A {@code (NormalizedNode)boolean} method handle
+         */
+        public final MethodHandle toMethodHandle() {
+            var local = methodHandle;
+            if (local == null) {
+                local = createMethodHandle().asType(MatchHandles.MATCH_TYPE);
+                methodHandle = local;
+            }
+            return local;
+        }
+
+        abstract MethodHandle createMethodHandle();
+
         final void appendTo(final StringBuilder sb) {
             sb.append(op()).append('(');
             appendArgument(sb);
@@ -139,6 +182,11 @@ public final class DOMQueryPredicate implements Immutable {
             return true;
         }
 
+        @Override
+        MethodHandle createMethodHandle() {
+            return MatchHandles.allOf(componentHandles());
+        }
+
         @Override
         String op() {
             return "allOf";
@@ -165,6 +213,11 @@ public final class DOMQueryPredicate implements Immutable {
             return false;
         }
 
+        @Override
+        MethodHandle createMethodHandle() {
+            return MatchHandles.anyOf(componentHandles());
+        }
+
         @Override
         String op() {
             return "anyOf";
@@ -183,6 +236,16 @@ public final class DOMQueryPredicate implements Immutable {
             return data != null;
         }
 
+        @Override
+        public int estimatedCost() {
+            return 1;
+        }
+
+        @Override
+        MethodHandle createMethodHandle() {
+            return MatchHandles.EXISTS;
+        }
+
         @Override
         String op() {
             return "exists";
@@ -206,6 +269,16 @@ public final class DOMQueryPredicate implements Immutable {
             return !match.test(data);
         }
 
+        @Override
+        public int estimatedCost() {
+            return match.estimatedCost();
+        }
+
+        @Override
+        MethodHandle createMethodHandle() {
+            return MatchHandles.not(match.toMethodHandle());
+        }
+
         @Override
         String op() {
             return "not";
@@ -222,6 +295,22 @@ public final class DOMQueryPredicate implements Immutable {
             super(value);
         }
 
+        @Override
+        @SuppressWarnings({ "rawtypes", "unchecked" })
+        public @Nullable Range<?> valueRange() {
+            return value() instanceof Comparable comparable ? Range.singleton(comparable) : null;
+        }
+
+        @Override
+        public int estimatedCost() {
+            return 2;
+        }
+
+        @Override
+        MethodHandle valueHandle() {
+            return MatchHandles.equalsTo(value());
+        }
+
         @Override
         String op() {
             return "eq";
@@ -238,6 +327,16 @@ public final class DOMQueryPredicate implements Immutable {
             super(value);
         }
 
+        @Override
+        public int estimatedCost() {
+            return 8;
+        }
+
+        @Override
+        MethodHandle valueHandle() {
+            return MethodHandles.insertArguments(MatchHandles.STRING_CONTAINS, 0, value());
+        }
+
         @Override
         String op() {
             return "contains";
@@ -256,6 +355,16 @@ public final class DOMQueryPredicate implements Immutable {
             this.pattern = requireNonNull(pattern);
         }
 
+        @Override
+        public int estimatedCost() {
+            return 32;
+        }
+
+        @Override
+        MethodHandle valueHandle() {
+            return MethodHandles.insertArguments(MatchHandles.STRING_MATCHES, 0, pattern);
+        }
+
         @Override
         String op() {
             return "matches";
@@ -277,6 +386,16 @@ public final class DOMQueryPredicate implements Immutable {
             super(value);
         }
 
+        @Override
+        public int estimatedCost() {
+            return 4;
+        }
+
+        @Override
+        MethodHandle valueHandle() {
+            return MethodHandles.insertArguments(MatchHandles.STRING_STARTS_WITH, 0, value());
+        }
+
         @Override
         String op() {
             return "startsWith";
@@ -293,6 +412,16 @@ public final class DOMQueryPredicate implements Immutable {
             super(value);
         }
 
+        @Override
+        public int estimatedCost() {
+            return 4;
+        }
+
+        @Override
+        MethodHandle valueHandle() {
+            return MethodHandles.insertArguments(MatchHandles.STRING_ENDS_WITH, 0, value());
+        }
+
         @Override
         String op() {
             return "endsWith";
@@ -309,6 +438,21 @@ public final class DOMQueryPredicate implements Immutable {
             super(value);
         }
 
+        @Override
+        public Range<T> valueRange() {
+            return Range.greaterThan(value());
+        }
+
+        @Override
+        public int estimatedCost() {
+            return 3;
+        }
+
+        @Override
+        MethodHandle valueHandle() {
+            return MethodHandles.insertArguments(MatchHandles.VALUE_GREATER_THAN, 0, value());
+        }
+
         @Override
         String op() {
             return "gt";
@@ -325,6 +469,21 @@ public final class DOMQueryPredicate implements Immutable {
             super(value);
         }
 
+        @Override
+        public Range<T> valueRange() {
+            return Range.atLeast(value());
+        }
+
+        @Override
+        public int estimatedCost() {
+            return 3;
+        }
+
+        @Override
+        MethodHandle valueHandle() {
+            return MethodHandles.insertArguments(MatchHandles.VALUE_GREATER_THAN_OR_EQUAL, 0, value());
+        }
+
         @Override
         String op() {
             return "gte";
@@ -341,6 +500,21 @@ public final class DOMQueryPredicate implements Immutable {
             super(value);
         }
 
+        @Override
+        public Range<T> valueRange() {
+            return Range.lessThan(value());
+        }
+
+        @Override
+        public int estimatedCost() {
+            return 3;
+        }
+
+        @Override
+        MethodHandle valueHandle() {
+            return MethodHandles.insertArguments(MatchHandles.VALUE_LESS_THAN, 0, value());
+        }
+
         @Override
         String op() {
             return "lt";
@@ -357,6 +531,21 @@ public final class DOMQueryPredicate implements Immutable {
             super(value);
         }
 
+        @Override
+        public Range<T> valueRange() {
+            return Range.atMost(value());
+        }
+
+        @Override
+        public int estimatedCost() {
+            return 3;
+        }
+
+        @Override
+        MethodHandle valueHandle() {
+            return MethodHandles.insertArguments(MatchHandles.VALUE_LESS_THAN_OR_EQUAL, 0, value());
+        }
+
         @Override
         String op() {
             return "lte";
@@ -379,6 +568,19 @@ public final class DOMQueryPredicate implements Immutable {
             return components;
         }
 
+        @Override
+        public final int estimatedCost() {
+            int cost = 0;
+            for (var component : components) {
+                cost += component.estimatedCost();
+            }
+            return cost;
+        }
+
+        final ImmutableList<MethodHandle> componentHandles() {
+            return components.stream().map(Match::toMethodHandle).collect(ImmutableList.toImmutableList());
+        }
+
         final ImmutableList<Match> newComponents(final Match nextComponent) {
             return ImmutableList.<Match>builderWithExpectedSize(components.size() + 1)
                 .addAll(components)
@@ -406,7 +608,19 @@ public final class DOMQueryPredicate implements Immutable {
             return data instanceof LeafNode<?> leaf ? testValue(leaf.body()) : testValue(null);
         }
 
+        @Override
+        final MethodHandle createMethodHandle() {
+            return MatchHandles.leafTest(valueHandle());
+        }
+
         abstract boolean testValue(@Nullable Object data);
+
+        /**
+         * Return a {@code (Object)boolean} handle equivalent to {@link #testValue(Object)}.
+         *
+         * @return A method handle
+         */
+        abstract MethodHandle valueHandle();
     }
 
     private abstract static class AbstractMatchComparable<T extends Comparable<T>> extends AbstractMatchValue<T> {
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.dom.api.query;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.Beta;
+import com.google.common.collect.ImmutableList;
+import java.util.Map.Entry;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.opendaylight.yangtools.concepts.Immutable;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+
+/**
+ * A change to the result of a standing {@link DOMQuery}, as reported to {@link DOMQueryListener}.
+ *
+ * @param added items which have started matching the query, with their current data
+ * @param changed items which still match the query, but their data has changed, with their current data
+ * @param removed items which no longer match the query, with their last matching data
+ */
+@Beta
+@NonNullByDefault
+public record DOMQueryResultChange(
+        ImmutableList<Entry<YangInstanceIdentifier, NormalizedNode>> added,
+        ImmutableList<Entry<YangInstanceIdentifier, NormalizedNode>> changed,
+        ImmutableList<Entry<YangInstanceIdentifier, NormalizedNode>> removed) implements Immutable {
+    public DOMQueryResultChange {
+        requireNonNull(added);
+        requireNonNull(changed);
+        requireNonNull(removed);
+    }
+
+    /**
+     * Check whether this change does not contain any items.
+     *
+     * @return {@code true} if there are no added, changed nor removed items
+     */
+    public boolean isEmpty() {
+        return added.isEmpty() && changed.isEmpty() && removed.isEmpty();
+    }
+}
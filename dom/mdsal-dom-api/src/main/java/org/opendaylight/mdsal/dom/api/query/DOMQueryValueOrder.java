@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.dom.api.query;
+
+import com.google.common.annotations.Beta;
+import java.util.Comparator;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * Total order of leaf and key values, as used by key-ordered {@link DOMQuery} results and by {@link DOMQueryAggregate}
+ * minimum and maximum. Values are first ordered by their class, so that values of union types, which may be of
+ * different classes, are ordered consistently. Values of the same {@link Comparable} class are then compared naturally,
+ * all other values are compared by their string representation.
+ */
+@Beta
+@NonNullByDefault
+public final class DOMQueryValueOrder implements Comparator<Object> {
+    public static final DOMQueryValueOrder INSTANCE = new DOMQueryValueOrder();
+
+    private DOMQueryValueOrder() {
+        // Hidden on purpose
+    }
+
+    @Override
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    public int compare(final Object value1, final Object value2) {
+        final var class1 = value1.getClass();
+        final var class2 = value2.getClass();
+        if (class1 != class2) {
+            final int cmp = class1.getName().compareTo(class2.getName());
+            // Same name, but different class loaders
+            return cmp != 0 ? cmp : Integer.compare(System.identityHashCode(class1), System.identityHashCode(class2));
+        }
+        return value1 instanceof Comparable comparable ? comparable.compareTo(value2)
+            : String.valueOf(value1).compareTo(String.valueOf(value2));
+    }
+}
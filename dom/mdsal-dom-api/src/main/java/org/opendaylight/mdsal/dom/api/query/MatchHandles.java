@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.dom.api.query;
+
+import static java.lang.invoke.MethodType.methodType;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Modifier;
+import java.util.List;
+import java.util.regex.Pattern;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.yangtools.yang.data.api.schema.LeafNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+
+/**
+ * Building blocks for {@link DOMQueryPredicate.Match#toMethodHandle()}. Handles produced here have either the
+ * {@link #MATCH_TYPE} type, or the {@link #VALUE_TYPE} type when they operate on a leaf value.
+ */
+@NonNullByDefault
+final class MatchHandles {
+    static final MethodType MATCH_TYPE = methodType(boolean.class, NormalizedNode.class);
+    static final MethodType VALUE_TYPE = methodType(boolean.class, Object.class);
+
+    static final MethodHandle EXISTS;
+    static final MethodHandle STRING_CONTAINS;
+    static final MethodHandle STRING_ENDS_WITH;
+    static final MethodHandle STRING_MATCHES;
+    static final MethodHandle STRING_STARTS_WITH;
+    static final MethodHandle VALUE_EQUALS;
+    static final MethodHandle VALUE_GREATER_THAN;
+    static final MethodHandle VALUE_GREATER_THAN_OR_EQUAL;
+    static final MethodHandle VALUE_LESS_THAN;
+    static final MethodHandle VALUE_LESS_THAN_OR_EQUAL;
+
+    private static final MethodHandle LEAF_VALUE;
+    private static final MethodHandle NOT;
+    private static final MethodHandle FALSE = MethodHandles.dropArguments(MethodHandles.constant(boolean.class, false),
+        0, NormalizedNode.class);
+    private static final MethodHandle TRUE = MethodHandles.dropArguments(MethodHandles.constant(boolean.class, true),
+        0, NormalizedNode.class);
+
+    static {
+        final var lookup = MethodHandles.lookup();
+        try {
+            EXISTS = lookup.findStatic(MatchHandles.class, "exists", MATCH_TYPE);
+            LEAF_VALUE = lookup.findStatic(MatchHandles.class, "leafValue",
+                methodType(Object.class, NormalizedNode.class));
+            NOT = lookup.findStatic(MatchHandles.class, "not", methodType(boolean.class, boolean.class));
+            STRING_CONTAINS = lookup.findStatic(MatchHandles.class, "stringContains",
+                methodType(boolean.class, String.class, Object.class));
+            STRING_ENDS_WITH = lookup.findStatic(MatchHandles.class, "stringEndsWith",
+                methodType(boolean.class, String.class, Object.class));
+            STRING_MATCHES = lookup.findStatic(MatchHandles.class, "stringMatches",
+                methodType(boolean.class, Pattern.class, Object.class));
+            STRING_STARTS_WITH = lookup.findStatic(MatchHandles.class, "stringStartsWith",
+                methodType(boolean.class, String.class, Object.class));
+            VALUE_EQUALS = lookup.findStatic(MatchHandles.class, "valueEquals",
+                methodType(boolean.class, Object.class, Object.class));
+
+            final var compareType = methodType(boolean.class, Comparable.class, Object.class);
+            VALUE_GREATER_THAN = lookup.findStatic(MatchHandles.class, "valueGreaterThan", compareType);
+            VALUE_GREATER_THAN_OR_EQUAL = lookup.findStatic(MatchHandles.class, "valueGreaterThanOrEqual",
+                compareType);
+            VALUE_LESS_THAN = lookup.findStatic(MatchHandles.class, "valueLessThan", compareType);
+            VALUE_LESS_THAN_OR_EQUAL = lookup.findStatic(MatchHandles.class, "valueLessThanOrEqual", compareType);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private MatchHandles() {
+        // Hidden on purpose
+    }
+
+    /**
+     * Adapt a {@link #VALUE_TYPE} test to operate on {@link LeafNode}s.
+     *
+     * @param test a {@link #VALUE_TYPE} handle
+     * @return A {@link #MATCH_TYPE} handle
+     */
+    static MethodHandle leafTest(final MethodHandle test) {
+        return MethodHandles.filterArguments(test, 0, LEAF_VALUE);
+    }
+
+    /**
+     * Return a {@link #VALUE_TYPE} handle testing equality with specified value. If the value's class is public and
+     * final, its {@link Object#equals(Object)} is linked directly.
+     *
+     * @param value value to compare to
+     * @return A {@link #VALUE_TYPE} handle
+     */
+    static MethodHandle equalsTo(final Object value) {
+        final var type = value.getClass();
+        if (Modifier.isFinal(type.getModifiers())) {
+            try {
+                return MethodHandles.publicLookup().findVirtual(type, "equals", VALUE_TYPE).bindTo(value);
+            } catch (NoSuchMethodException | IllegalAccessException e) {
+                // Not accessible, fall back to a generic invocation below
+            }
+        }
+        return MethodHandles.insertArguments(VALUE_EQUALS, 0, value);
+    }
+
+    static MethodHandle not(final MethodHandle match) {
+        return MethodHandles.filterReturnValue(match, NOT);
+    }
+
+    // Unrolled into a chain of guards, so that evaluation short-circuits without iterating a list
+    static MethodHandle allOf(final List<MethodHandle> matches) {
+        final int last = matches.size() - 1;
+        var ret = matches.get(last);
+        for (int i = last - 1; i >= 0; --i) {
+            ret = MethodHandles.guardWithTest(matches.get(i), ret, FALSE);
+        }
+        return ret;
+    }
+
+    static MethodHandle anyOf(final List<MethodHandle> matches) {
+        final int last = matches.size() - 1;
+        var ret = matches.get(last);
+        for (int i = last - 1; i >= 0; --i) {
+            ret = MethodHandles.guardWithTest(matches.get(i), TRUE, ret);
+        }
+        return ret;
+    }
+
+    private static boolean exists(final @Nullable NormalizedNode data) {
+        return data != null;
+    }
+
+    private static @Nullable Object leafValue(final @Nullable NormalizedNode data) {
+        return data instanceof LeafNode<?> leaf ? leaf.body() : null;
+    }
+
+    private static boolean not(final boolean value) {
+        return !value;
+    }
+
+    private static boolean stringContains(final String value, final @Nullable Object data) {
+        return data instanceof String str && str.contains(value);
+    }
+
+    private static boolean stringEndsWith(final String value, final @Nullable Object data) {
+        return data instanceof String str && str.endsWith(value);
+    }
+
+    private static boolean stringMatches(final Pattern pattern, final @Nullable Object data) {
+        return data instanceof CharSequence cs && pattern.matcher(cs).matches();
+    }
+
+    private static boolean stringStartsWith(final String value, final @Nullable Object data) {
+        return data instanceof String str && str.startsWith(value);
+    }
+
+    private static boolean valueEquals(final Object value, final @Nullable Object data) {
+        return value.equals(data);
+    }
+
+    // Note: comparisons mirror AbstractMatchComparable.testCompare(), which receives value.compareTo(data)
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private static boolean valueGreaterThan(final Comparable value, final @Nullable Object data) {
+        return data != null && value.compareTo(data) < 0;
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private static boolean valueGreaterThanOrEqual(final Comparable value, final @Nullable Object data) {
+        return data != null && value.compareTo(data) <= 0;
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private static boolean valueLessThan(final Comparable value, final @Nullable Object data) {
+        return data != null && value.compareTo(data) > 0;
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private static boolean valueLessThanOrEqual(final Comparable value, final @Nullable Object data) {
+        return data != null && value.compareTo(data) >= 0;
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.dom.api.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.yangtools.yang.common.Uint8;
+
+class DOMQueryValueOrderTest {
+    private static final DOMQueryValueOrder ORDER = DOMQueryValueOrder.INSTANCE;
+
+    @Test
+    void testSameClass() {
+        assertTrue(ORDER.compare(Uint8.valueOf(9), Uint8.valueOf(10)) < 0);
+        assertTrue(ORDER.compare("b", "a") > 0);
+        assertEquals(0, ORDER.compare(Uint8.TWO, Uint8.TWO));
+    }
+
+    @Test
+    void testUnionValuesAreTransitive() {
+        // Comparing these by string representation across classes and naturally within a class would yield
+        // 10 < "5" < 9 < 10
+        final var ten = Uint8.valueOf(10);
+        final var five = "5";
+        final var nine = Uint8.valueOf(9);
+        assertTrue(ORDER.compare(nine, ten) < 0);
+        assertEquals(Integer.signum(ORDER.compare(ten, five)), Integer.signum(ORDER.compare(nine, five)));
+
+        final var values = new ArrayList<Object>(List.of(ten, five, nine, "10", Uint8.ONE));
+        values.sort(ORDER);
+        // java.lang.String sorts before org.opendaylight.yangtools.yang.common.Uint8
+        assertEquals(List.of("10", "5", Uint8.ONE, nine, ten), values);
+    }
+}
@@ -17,7 +17,9 @@ module org.opendaylight.mdsal.dom.broker {
     requires transitive org.opendaylight.mdsal.dom.api;
     requires transitive org.opendaylight.mdsal.dom.spi;
     requires com.google.common;
+    requires java.management;
     requires org.slf4j;
+    requires tech.pantheon.triemap;
 
     // Annotations
     requires static transitive java.annotation;
@@ -7,10 +7,7 @@
  */
 package org.opendaylight.mdsal.dom.broker;
 
-import static java.util.Objects.requireNonNull;
-
 import com.google.common.annotations.VisibleForTesting;
-import com.google.common.collect.HashBasedTable;
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
@@ -18,19 +15,23 @@ import com.google.common.collect.ImmutableTable;
 import com.google.common.collect.ListMultimap;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Multimaps;
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Predicate;
 import org.eclipse.jdt.annotation.NonNull;
-import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.mdsal.dom.api.DOMOperationImplementation;
 import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import tech.pantheon.triemap.ImmutableTrieMap;
 
 /**
  * Abstract routing table definition for Action and RPC.
  *
+ * <p>Both this table and its entries are backed by {@link ImmutableTrieMap}s, hence adding or removing
+ * an implementation copies only the trie nodes it touches and shares the rest with the previous table.
+ *
  * @param <I> instance type of RPC or Acton
  * @param <D> identifier type of RPC or Acton
  * @param <M> implementation type of RPC or Acton
@@ -38,13 +39,14 @@ import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
  * @param <E> routing entry type of RPC or Acton
  * @param <K> routing key type
  */
-abstract sealed class AbstractDOMRoutingTable<I, D, M, L, K, E extends AbstractDOMRoutingTableEntry<D, M, L, K>>
+abstract sealed class AbstractDOMRoutingTable<I, D, M extends DOMOperationImplementation, L, K,
+        E extends AbstractDOMRoutingTableEntry<D, M, L, K>>
         permits DOMActionRoutingTable, DOMRpcRoutingTable {
-    private final Map<K, E> operations;
+    private final ImmutableTrieMap<K, E> operations;
     private final EffectiveModelContext schemaContext;
 
     AbstractDOMRoutingTable(final Map<K, E> operations, final EffectiveModelContext schemaContext) {
-        this.operations = requireNonNull(operations);
+        this.operations = AbstractDOMRoutingTableEntry.persistentCopyOf(operations);
         this.schemaContext = schemaContext;
     }
 
@@ -69,34 +71,30 @@ abstract sealed class AbstractDOMRoutingTable<I, D, M, L, K, E extends AbstractD
         // First decompose the identifiers to a multimap
         final var toAdd = decomposeIdentifiers(oprsToAdd);
 
-        final var builder = ImmutableMap.<K, E>builder();
-
-        // Now iterate over existing entries, modifying them as appropriate...
-        for (var re : operations.entrySet()) {
-            final var newOperations = new ArrayList<>(toAdd.removeAll(re.getKey()));
-            if (!newOperations.isEmpty()) {
-                final var ne = (E) re.getValue().add(implementation, newOperations);
-                builder.put(re.getKey(), ne);
-            } else {
-                builder.put(re);
-            }
-        }
-
-        // Finally add whatever is left in the decomposed multimap
+        // Now touch only the affected entries, modifying or creating them as appropriate
+        final var mutable = operations.mutableSnapshot();
         for (var e : toAdd.asMap().entrySet()) {
-            final var vb = ImmutableMap.<D, List<M>>builder();
-            final var v = ImmutableList.of(implementation);
-            for (var i : e.getValue()) {
-                vb.put(i, v);
-            }
+            final var key = e.getKey();
+            final var existing = mutable.get(key);
+            if (existing != null) {
+                @SuppressWarnings("unchecked")
+                final E ne = (E) existing.add(implementation, e.getValue());
+                mutable.put(key, ne);
+            } else {
+                final var vb = ImmutableMap.<D, List<M>>builder();
+                final var v = ImmutableList.of(implementation);
+                for (var i : e.getValue()) {
+                    vb.put(i, v);
+                }
 
-            final var entry = createOperationEntry(schemaContext, e.getKey(), vb.build());
-            if (entry != null) {
-                builder.put(e.getKey(), entry);
+                final var entry = createOperationEntry(schemaContext, key, vb.build());
+                if (entry != null) {
+                    mutable.put(key, entry);
+                }
             }
         }
 
-        return newInstance(builder.build(), schemaContext);
+        return newInstance(mutable.immutableSnapshot(), schemaContext);
     }
 
     final AbstractDOMRoutingTable<I, D, M, L, K, E> addAll(final ImmutableTable<K, D, M> impls) {
@@ -104,37 +102,28 @@ abstract sealed class AbstractDOMRoutingTable<I, D, M, L, K, E extends AbstractD
             return this;
         }
 
-        // Create a temporary map, which we will mutatate
-        final var toAdd = HashBasedTable.create(impls);
-        final var mb = ImmutableMap.<K, E>builder();
-
-        // Now iterate over existing entries, modifying them as appropriate...
-        for (var re : operations.entrySet()) {
-            final var newImpls = toAdd.rowMap().remove(re.getKey());
-            if (newImpls == null) {
-                mb.put(re);
-                continue;
-            }
-
-            var ne = re;
-            for (var oper : newImpls.entrySet()) {
-                @SuppressWarnings("unchecked")
-                final E newVal = (E) ne.getValue().add(oper.getValue(), newArrayList(oper.getKey()));
-                ne = Map.entry(ne.getKey(), newVal);
-            }
-            mb.put(ne);
-        }
-
-        // Finally add whatever is left in the decomposed multimap
-        for (var e : toAdd.rowMap().entrySet()) {
-            final var entry = createOperationEntry(schemaContext, e.getKey(), ImmutableMap.copyOf(
-                Maps.<D, M, List<M>>transformValues(e.getValue(), ImmutableList::of)));
-            if (entry != null) {
-                mb.put(e.getKey(), entry);
+        final var mutable = operations.mutableSnapshot();
+        for (var row : impls.rowMap().entrySet()) {
+            final var key = row.getKey();
+            final var existing = mutable.get(key);
+            if (existing != null) {
+                var ne = existing;
+                for (var oper : row.getValue().entrySet()) {
+                    @SuppressWarnings("unchecked")
+                    final E newVal = (E) ne.add(oper.getValue(), List.of(oper.getKey()));
+                    ne = newVal;
+                }
+                mutable.put(key, ne);
+            } else {
+                final var entry = createOperationEntry(schemaContext, key, ImmutableMap.copyOf(
+                    Maps.<D, M, List<M>>transformValues(row.getValue(), ImmutableList::of)));
+                if (entry != null) {
+                    mutable.put(key, entry);
+                }
             }
         }
 
-        return newInstance(mb.build(), schemaContext);
+        return newInstance(mutable.immutableSnapshot(), schemaContext);
     }
 
     final AbstractDOMRoutingTable<I, D, M, L, K, E> remove(final M implementation, final Set<I> instances) {
@@ -145,22 +134,23 @@ abstract sealed class AbstractDOMRoutingTable<I, D, M, L, K, E extends AbstractD
         // First decompose the identifiers to a multimap
         final var toRemove = decomposeIdentifiers(instances);
 
-        // Now iterate over existing entries, modifying them as appropriate...
-        final var builder = ImmutableMap.<K, E>builder();
-        for (var e : operations.entrySet()) {
-            final var removed = new ArrayList<>(toRemove.removeAll(e.getKey()));
-            if (!removed.isEmpty()) {
-                final E ne = (E) e.getValue().remove(implementation, removed);
+        // Now touch only the affected entries. Whatever is not present was not there in the first place.
+        final var mutable = operations.mutableSnapshot();
+        for (var e : toRemove.asMap().entrySet()) {
+            final var key = e.getKey();
+            final var existing = mutable.get(key);
+            if (existing != null) {
+                @SuppressWarnings("unchecked")
+                final E ne = (E) existing.remove(implementation, e.getValue());
                 if (ne != null) {
-                    builder.put(e.getKey(), ne);
+                    mutable.put(key, ne);
+                } else {
+                    mutable.remove(key);
                 }
-            } else {
-                builder.put(e);
             }
         }
 
-        // All done, whatever is in toRemove, was not there in the first place
-        return newInstance(builder.build(), schemaContext);
+        return newInstance(mutable.immutableSnapshot(), schemaContext);
     }
 
     final AbstractDOMRoutingTable<I, D, M, L, K, E> removeAll(final ImmutableTable<K, D, M> impls) {
@@ -168,44 +158,32 @@ abstract sealed class AbstractDOMRoutingTable<I, D, M, L, K, E extends AbstractD
             return this;
         }
 
-        // Create a temporary map, which we will mutatate
-        final var toRemove = HashBasedTable.create(impls);
-        final var mb = ImmutableMap.<K, E>builder();
-
-        // Now iterate over existing entries, modifying them as appropriate...
-        for (var re : operations.entrySet()) {
-            final var oldImpls = toRemove.rowMap().remove(re.getKey());
-            if (oldImpls == null) {
-                mb.put(re);
+        final var mutable = operations.mutableSnapshot();
+        for (var row : impls.rowMap().entrySet()) {
+            final var key = row.getKey();
+            var ne = mutable.get(key);
+            if (ne == null) {
+                // Not there in the first place
                 continue;
             }
 
-            var ne = re;
-            for (var oper : oldImpls.entrySet()) {
-                if (ne != null) {
-                    @SuppressWarnings("unchecked")
-                    final E newVal = (E) ne.getValue().remove(oper.getValue(), newArrayList(oper.getKey()));
-                    if (newVal != null) {
-                        ne = Map.entry(ne.getKey(), newVal);
-                    } else {
-                        ne = null;
-                    }
+            for (var oper : row.getValue().entrySet()) {
+                @SuppressWarnings("unchecked")
+                final E newVal = (E) ne.remove(oper.getValue(), List.of(oper.getKey()));
+                ne = newVal;
+                if (ne == null) {
+                    break;
                 }
             }
+
             if (ne != null) {
-                mb.put(ne);
+                mutable.put(key, ne);
+            } else {
+                mutable.remove(key);
             }
         }
 
-        // All done, whatever is in toRemove, was not there in the first place
-        return newInstance(mb.build(), schemaContext);
-    }
-
-    @NonNullByDefault
-    private static <T> List<T> newArrayList(final T element) {
-        final var ret = new ArrayList<T>(1);
-        ret.add(requireNonNull(element));
-        return ret;
+        return newInstance(mutable.immutableSnapshot(), schemaContext);
     }
 
     static final <K, V> HashMultimap<V, K> invertImplementationsMap(final Map<K, V> map) {
@@ -218,7 +196,7 @@ abstract sealed class AbstractDOMRoutingTable<I, D, M, L, K, E extends AbstractD
     }
 
     final Map<K, Set<D>> getOperations(final L listener) {
-        final var ret = new HashMap<K, Set<D>>(operations.size());
+        final var ret = new HashMap<K, Set<D>>();
         for (var e : operations.entrySet()) {
             final var ids = e.getValue().registeredIdentifiers(listener);
             if (!ids.isEmpty()) {
@@ -232,6 +210,24 @@ abstract sealed class AbstractDOMRoutingTable<I, D, M, L, K, E extends AbstractD
         return operations.get(type);
     }
 
+    /**
+     * Check whether an operation identifier has at least one implementation matching a filter.
+     *
+     * @param type routing key
+     * @param identifier operation identifier
+     * @param filter implementation filter
+     * @return {@code true} if a matching implementation is registered
+     */
+    final boolean isRegistered(final @NonNull K type, final @NonNull D identifier,
+            final @NonNull Predicate<? super M> filter) {
+        final var entry = operations.get(type);
+        if (entry == null) {
+            return false;
+        }
+        final var impls = entry.getImplementations(identifier);
+        return impls != null && impls.stream().anyMatch(filter);
+    }
+
     protected abstract AbstractDOMRoutingTable<I, D, M, L, K, E> newInstance(Map<K, E> operations,
             EffectiveModelContext schemaContext);
 
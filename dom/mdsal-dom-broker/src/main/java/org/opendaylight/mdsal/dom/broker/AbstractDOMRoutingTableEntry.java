@@ -10,37 +10,48 @@ package org.opendaylight.mdsal.dom.broker;
 import static java.util.Objects.requireNonNull;
 
 import com.google.common.annotations.VisibleForTesting;
-import com.google.common.collect.ImmutableMap;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.mdsal.dom.api.DOMOperationImplementation;
+import tech.pantheon.triemap.ImmutableTrieMap;
+import tech.pantheon.triemap.TrieMap;
 
 /**
  * Abstract routing table entry definition for Action and RPC.
  *
+ * <p>Implementations are held in an {@link ImmutableTrieMap}, which is a persistent hash array mapped trie. Updates
+ * are performed on a {@link TrieMap#mutableSnapshot()}, which shares structure with this entry and copies only the
+ * nodes along modified paths. An update therefore costs {@code O(log n)} rather than {@code O(n)}, which matters for
+ * routed RPCs with a large number of context references.
+ *
  * @param <D> identifier type of RPC or Acton
  * @param <M> implementation type of RPC or Acton
  * @param <L> listener type of RPC or Acton
  * @param <K> routing key type
  */
-abstract sealed class AbstractDOMRoutingTableEntry<D, M, L, K>
+abstract sealed class AbstractDOMRoutingTableEntry<D, M extends DOMOperationImplementation, L, K>
         permits DOMActionRoutingTableEntry, DOMRpcRoutingTableEntry {
-    private final Map<D, List<M>> implementations;
+    private final ImmutableTrieMap<D, List<M>> implementations;
     private final K type;
 
     AbstractDOMRoutingTableEntry(final K type, final Map<D, List<M>> implementations) {
         this.type = requireNonNull(type);
-        this.implementations = requireNonNull(implementations);
+        this.implementations = implementationsCopyOf(implementations);
     }
 
     final K getType() {
         return type;
     }
 
-    final List<M> getImplementations(final D identifier) {
-        return implementations.get(identifier);
+    final @Nullable List<M> getImplementations(final @Nullable D identifier) {
+        // Unlike HashMap, TrieMap does not tolerate null keys
+        return identifier == null ? null : implementations.get(identifier);
     }
 
     final Map<D, List<M>> getImplementations() {
@@ -58,55 +69,102 @@ abstract sealed class AbstractDOMRoutingTableEntry<D, M, L, K>
      * This method adds the given DOMOperationImplementation instance for the given list operation identifiers.
      *
      * @param implementation the DOMOperationImplementation instance to add
-     * @param newOprs  the List of new RPCs/Actions that the DOMOperationImplementation provides, must be mutable
+     * @param newOprs  the List of new RPCs/Actions that the DOMOperationImplementation provides
      * @return a new instance of DOMActionRoutingTableEntry with the additions
      */
-    final AbstractDOMRoutingTableEntry<D, M, L, K> add(final M implementation, final List<D> newOprs) {
-        final var vb = ImmutableMap.<D, List<M>>builder();
-        for (var entry : implementations.entrySet()) {
-            if (newOprs.remove(entry.getKey())) {
-                final var impls = new ArrayList<M>(entry.getValue().size() + 1);
-                impls.addAll(entry.getValue());
+    final AbstractDOMRoutingTableEntry<D, M, L, K> add(final M implementation, final Collection<D> newOprs) {
+        final var mutable = implementations.mutableSnapshot();
+        for (var id : newOprs) {
+            final var prev = mutable.get(id);
+            if (prev != null) {
+                final var impls = new ArrayList<M>(prev.size() + 1);
+                impls.addAll(prev);
                 impls.add(implementation);
 
                 // New implementation is at the end, this will move it to be the last among implementations
                 // with equal cost -- relying on sort() being stable.
                 impls.sort(implComparator());
-                vb.put(entry.getKey(), impls);
+                mutable.put(id, OperationImplementations.of(impls));
             } else {
-                vb.put(entry);
+                mutable.put(id, OperationImplementations.of(List.of(implementation)));
             }
         }
-        for (var ii : newOprs) {
-            final var impl = new ArrayList<M>(1);
-            impl.add(implementation);
-            vb.put(ii, impl);
-        }
 
-        return newInstance(vb.build());
+        return newInstance(mutable.immutableSnapshot());
     }
 
-    final AbstractDOMRoutingTableEntry<D, M, L, K> remove(final M implementation, final List<D> removed) {
-        final var vb = ImmutableMap.<D, List<M>>builder();
-        for (var entry : implementations.entrySet()) {
-            if (removed.remove(entry.getKey())) {
-                final var impls = new ArrayList<>(entry.getValue());
+    final @Nullable AbstractDOMRoutingTableEntry<D, M, L, K> remove(final M implementation,
+            final Collection<D> removed) {
+        final var mutable = implementations.mutableSnapshot();
+        for (var id : removed) {
+            final var prev = mutable.get(id);
+            if (prev != null) {
+                final var impls = new ArrayList<>(prev);
                 impls.remove(implementation);
-                // We could trimToSize(), but that may perform another copy just to get rid
-                // of a single element. That is probably not worth the trouble.
-                if (!impls.isEmpty()) {
-                    vb.put(entry.getKey(), impls);
+                if (impls.isEmpty()) {
+                    mutable.remove(id);
+                } else {
+                    mutable.put(id, OperationImplementations.of(impls));
                 }
-            } else {
-                vb.put(entry);
             }
         }
 
-        final var v = vb.build();
-        return v.isEmpty() ? null : newInstance(vb.build());
+        final var snapshot = mutable.immutableSnapshot();
+        return isEmpty(snapshot) ? null : newInstance(snapshot);
     }
 
     protected abstract Comparator<M> implComparator();
 
     protected abstract AbstractDOMRoutingTableEntry<D, M, L, K> newInstance(Map<D, List<M>> impls);
+
+    /**
+     * Return an {@link ImmutableTrieMap} with the contents of specified map, with each list of implementations being
+     * an {@link OperationImplementations}. If the map already is an {@link ImmutableTrieMap}, it has been populated by
+     * {@link #add} or {@link #remove} and is returned as-is.
+     *
+     * @param <A> key type
+     * @param <B> implementation type
+     * @param map source map
+     * @return An {@link ImmutableTrieMap}
+     */
+    private static <A, B extends DOMOperationImplementation> @NonNull ImmutableTrieMap<A, List<B>>
+            implementationsCopyOf(final Map<A, List<B>> map) {
+        if (map instanceof ImmutableTrieMap<A, List<B>> trie) {
+            return trie;
+        }
+        final var mutable = TrieMap.<A, List<B>>create();
+        for (var entry : map.entrySet()) {
+            mutable.put(entry.getKey(), OperationImplementations.of(entry.getValue()));
+        }
+        return mutable.immutableSnapshot();
+    }
+
+    /**
+     * Return an {@link ImmutableTrieMap} with the contents of specified map. If the map already is an
+     * {@link ImmutableTrieMap}, it is returned as-is.
+     *
+     * @param <A> key type
+     * @param <B> value type
+     * @param map source map
+     * @return An {@link ImmutableTrieMap}
+     */
+    static final <A, B> @NonNull ImmutableTrieMap<A, B> persistentCopyOf(final Map<A, B> map) {
+        if (map instanceof ImmutableTrieMap<A, B> trie) {
+            return trie;
+        }
+        final var mutable = TrieMap.<A, B>create();
+        mutable.putAll(map);
+        return mutable.immutableSnapshot();
+    }
+
+    /**
+     * Check whether a {@link TrieMap} is empty. We avoid {@link Map#isEmpty()}, as it may need to compute the size
+     * of the map, whereas looking for the first entry only needs to examine a single path.
+     *
+     * @param map map to examine
+     * @return {@code true} if the map is empty
+     */
+    static final boolean isEmpty(final TrieMap<?, ?> map) {
+        return !map.keySet().iterator().hasNext();
+    }
 }
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.dom.broker;
+
+import com.google.common.collect.ImmutableList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeIdentifier;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+
+/**
+ * A trie of instance notification subscriptions, indexed by {@link DOMDataTreeIdentifier} and notification type. Each
+ * level of the trie corresponds to a {@link PathArgument}, hence both lookups and updates cost {@code O(depth)},
+ * independent of the number of subscriptions.
+ *
+ * <p>Subscriptions may be wildcarded, i.e. a {@link NodeIdentifier} may be used in place of a
+ * {@link NodeIdentifierWithPredicates}, in which case the subscription matches all entries of that list.
+ *
+ * <p>Lookups are lock-free and can run concurrently with updates. Updates need to be serialized by the user.
+ *
+ * @param <T> subscription type
+ */
+@NonNullByDefault
+final class DOMInstanceNotificationTrie<T> {
+    private static final class Node<T> {
+        final Map<PathArgument, Node<T>> children = new ConcurrentHashMap<>();
+        final Map<QName, ImmutableList<T>> values = new ConcurrentHashMap<>();
+
+        boolean isEmpty() {
+            return children.isEmpty() && values.isEmpty();
+        }
+
+        void add(final List<PathArgument> path, final int offset, final QName type, final T value) {
+            if (offset == path.size()) {
+                values.compute(type, (key, prev) -> prev == null ? ImmutableList.of(value)
+                    : ImmutableList.<T>builderWithExpectedSize(prev.size() + 1).addAll(prev).add(value).build());
+            } else {
+                children.computeIfAbsent(path.get(offset), key -> new Node<>()).add(path, offset + 1, type, value);
+            }
+        }
+
+        boolean remove(final List<PathArgument> path, final int offset, final QName type, final T value) {
+            if (offset == path.size()) {
+                final var prev = values.get(type);
+                if (prev == null || !prev.contains(value)) {
+                    return false;
+                }
+                if (prev.size() == 1) {
+                    values.remove(type);
+                } else {
+                    values.put(type, prev.stream().filter(item -> item != value)
+                        .collect(ImmutableList.toImmutableList()));
+                }
+                return true;
+            }
+
+            final var arg = path.get(offset);
+            final var child = children.get(arg);
+            if (child == null || !child.remove(path, offset + 1, type, value)) {
+                return false;
+            }
+            if (child.isEmpty()) {
+                children.remove(arg);
+            }
+            return true;
+        }
+
+        void lookup(final List<PathArgument> path, final int offset, final QName type,
+                final ImmutableList.Builder<T> builder) {
+            if (offset == path.size()) {
+                final var found = values.get(type);
+                if (found != null) {
+                    builder.addAll(found);
+                }
+                return;
+            }
+
+            final var arg = path.get(offset);
+            final var exact = children.get(arg);
+            if (exact != null) {
+                exact.lookup(path, offset + 1, type, builder);
+            }
+            if (arg instanceof NodeIdentifierWithPredicates nip) {
+                final var wildcard = children.get(new NodeIdentifier(nip.getNodeType()));
+                if (wildcard != null) {
+                    wildcard.lookup(path, offset + 1, type, builder);
+                }
+            }
+        }
+    }
+
+    private final EnumMap<LogicalDatastoreType, Node<T>> roots = new EnumMap<>(LogicalDatastoreType.class);
+
+    DOMInstanceNotificationTrie() {
+        for (var datastore : LogicalDatastoreType.values()) {
+            roots.put(datastore, new Node<>());
+        }
+    }
+
+    /**
+     * Add a subscription.
+     *
+     * @param path subscription path, possibly wildcarded
+     * @param type notification type
+     * @param value subscription
+     */
+    void add(final DOMDataTreeIdentifier path, final QName type, final T value) {
+        roots.get(path.datastore()).add(path.path().getPathArguments(), 0, type, value);
+    }
+
+    /**
+     * Remove a subscription.
+     *
+     * @param path subscription path, possibly wildcarded
+     * @param type notification type
+     * @param value subscription
+     * @return {@code true} if the subscription was found and removed
+     */
+    boolean remove(final DOMDataTreeIdentifier path, final QName type, final T value) {
+        return roots.get(path.datastore()).remove(path.path().getPathArguments(), 0, type, value);
+    }
+
+    /**
+     * Return all subscriptions matching a concrete path and a notification type.
+     *
+     * @param path concrete notification parent path
+     * @param type notification type
+     * @return Matching subscriptions
+     */
+    ImmutableList<T> lookup(final DOMDataTreeIdentifier path, final QName type) {
+        final var builder = ImmutableList.<T>builder();
+        roots.get(path.datastore()).lookup(path.path().getPathArguments(), 0, type, builder);
+        return builder.build();
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.dom.broker;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.base.MoreObjects;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.eclipse.jdt.annotation.NonNull;
+import org.opendaylight.mdsal.dom.api.DOMEvent;
+import org.opendaylight.mdsal.dom.api.DOMNotification;
+import org.opendaylight.yangtools.yang.model.api.stmt.SchemaNodeIdentifier.Absolute;
+
+/**
+ * A bounded, per-type history of published {@link DOMNotification}s. Each notification type has its own ring of
+ * {@link #depth()} entries, the oldest entry being evicted when a new one is recorded into a full ring. This class is
+ * not thread-safe, users are expected to synchronize on the instance.
+ */
+final class DOMNotificationReplayBuffer {
+    private record Entry(long sequence, @NonNull Instant instant, @NonNull DOMNotification notification) {
+        Entry {
+            requireNonNull(instant);
+            requireNonNull(notification);
+        }
+    }
+
+    private final Map<Absolute, ArrayDeque<Entry>> rings = new HashMap<>();
+    private final int depth;
+
+    private long nextSequence;
+
+    DOMNotificationReplayBuffer(final int depth) {
+        if (depth < 1) {
+            throw new IllegalArgumentException("Invalid replay depth " + depth);
+        }
+        this.depth = depth;
+    }
+
+    int depth() {
+        return depth;
+    }
+
+    void record(final DOMNotification notification) {
+        final var ring = rings.computeIfAbsent(notification.getType(), ignored -> new ArrayDeque<>());
+        if (ring.size() == depth) {
+            ring.removeFirst();
+        }
+        final var instant = notification instanceof DOMEvent event ? event.getEventInstant() : Instant.now();
+        ring.addLast(new Entry(nextSequence++, instant, notification));
+    }
+
+    /**
+     * Return the recorded notifications of specified types which occurred at or after {@code startTime}, in the
+     * order in which they were recorded.
+     *
+     * @param types notification types
+     * @param startTime earliest notification time
+     * @return recorded notifications
+     */
+    @NonNull List<DOMNotification> replay(final Collection<Absolute> types, final Instant startTime) {
+        final var entries = new ArrayList<Entry>();
+        for (var type : types) {
+            final var ring = rings.get(type);
+            if (ring != null) {
+                for (var entry : ring) {
+                    if (!entry.instant.isBefore(startTime)) {
+                        entries.add(entry);
+                    }
+                }
+            }
+        }
+
+        // Multiple types: restore global recording order
+        if (types.size() > 1) {
+            entries.sort(Comparator.comparingLong(Entry::sequence));
+        }
+        return entries.stream().map(Entry::notification).toList();
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).add("depth", depth).add("types", rings.size()).toString();
+    }
+}
@@ -10,6 +10,7 @@ package org.opendaylight.mdsal.dom.broker;
 import static java.util.Objects.requireNonNull;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.MoreObjects.ToStringHelper;
 import com.google.common.collect.ImmutableCollection;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMultimap;
@@ -21,21 +22,37 @@ import com.google.common.util.concurrent.MoreExecutors;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.VarHandle;
+import java.lang.management.ManagementFactory;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 import javax.annotation.PreDestroy;
 import javax.inject.Inject;
 import javax.inject.Singleton;
+import javax.management.JMException;
+import javax.management.ObjectName;
 import org.eclipse.jdt.annotation.NonNull;
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeIdentifier;
+import org.opendaylight.mdsal.dom.api.DOMInstanceNotificationListener;
+import org.opendaylight.mdsal.dom.api.DOMInstanceNotificationPublishService;
+import org.opendaylight.mdsal.dom.api.DOMInstanceNotificationService;
 import org.opendaylight.mdsal.dom.api.DOMNotification;
 import org.opendaylight.mdsal.dom.api.DOMNotificationListener;
 import org.opendaylight.mdsal.dom.api.DOMNotificationPublishDemandExtension.DemandListener;
@@ -45,8 +62,10 @@ import org.opendaylight.yangtools.concepts.AbstractRegistration;
 import org.opendaylight.yangtools.concepts.Registration;
 import org.opendaylight.yangtools.util.ObjectRegistry;
 import org.opendaylight.yangtools.util.concurrent.EqualityQueuedNotificationManager;
+import org.opendaylight.yangtools.util.concurrent.ListenerNotificationQueueStats;
 import org.opendaylight.yangtools.util.concurrent.QueuedNotificationManager;
 import org.opendaylight.yangtools.yang.common.Empty;
+import org.opendaylight.yangtools.yang.common.QName;
 import org.opendaylight.yangtools.yang.model.api.stmt.SchemaNodeIdentifier.Absolute;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
@@ -59,9 +78,16 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Joint implementation of {@link DOMNotificationPublishService} and {@link DOMNotificationService}. Provides
- * routing of notifications from publishers to subscribers.
+ * routing of notifications from publishers to subscribers. It also routes instance notifications on behalf of
+ * {@link DOMInstanceNotificationPublishService} and {@link DOMInstanceNotificationService}, indexing their
+ * subscriptions in a {@link DOMInstanceNotificationTrie}.
  *
  * <p>Internal implementation one by using a {@link QueuedNotificationManager}.
+ *
+ * <p>If configured with a non-zero replay depth, the router also retains the most recent notifications of each type in
+ * a {@link DOMNotificationReplayBuffer} and allows listeners to be registered with a replay start time. Recording
+ * a notification and looking up its subscribers is atomic with respect to such a registration, so that each
+ * notification is delivered either as part of the replay or live, but never both.
  */
 @Singleton
 @Component(configurationPid = "org.opendaylight.mdsal.dom.notification", service = DOMNotificationRouter.class)
@@ -72,18 +98,49 @@ public class DOMNotificationRouter implements AutoCloseable {
     public @interface Config {
         @AttributeDefinition(name = "notification-queue-depth")
         int queueDepth() default 65536;
+
+        @AttributeDefinition(name = "notification-replay-depth",
+            description = "Number of most recent notifications of each type retained for replay. 0 disables replay.")
+        int replayDepth() default 0;
     }
 
     @VisibleForTesting
     abstract static sealed class Reg extends AbstractRegistration {
+        private static final AtomicLong IDS = new AtomicLong();
+
+        final @NonNull ListenerMetrics metrics = new ListenerMetrics();
+        // Makes toString() unique, as that is how QueuedNotificationManager identifies queues in its statistics
+        private final long id = IDS.incrementAndGet();
+
+        abstract @NonNull Object listener();
+
+        abstract void deliver(@NonNull DOMNotificationRouterEvent event);
+
+        @Override
+        protected ToStringHelper addToStringAttributes(final ToStringHelper toStringHelper) {
+            return super.addToStringAttributes(toStringHelper.add("id", id));
+        }
+    }
+
+    private abstract static sealed class ListenerReg extends Reg {
         private final @NonNull DOMNotificationListener listener;
 
-        Reg(final @NonNull DOMNotificationListener listener) {
+        ListenerReg(final @NonNull DOMNotificationListener listener) {
             this.listener = requireNonNull(listener);
         }
+
+        @Override
+        final Object listener() {
+            return listener;
+        }
+
+        @Override
+        final void deliver(final DOMNotificationRouterEvent event) {
+            event.deliverTo(listener);
+        }
     }
 
-    private final class SingleReg extends Reg {
+    private final class SingleReg extends ListenerReg {
         SingleReg(final @NonNull DOMNotificationListener listener) {
             super(listener);
         }
@@ -94,7 +151,7 @@ public class DOMNotificationRouter implements AutoCloseable {
         }
     }
 
-    private static final class ComponentReg extends Reg {
+    private static final class ComponentReg extends ListenerReg {
         ComponentReg(final @NonNull DOMNotificationListener listener) {
             super(listener);
         }
@@ -105,6 +162,36 @@ public class DOMNotificationRouter implements AutoCloseable {
         }
     }
 
+    private final class InstanceReg extends Reg {
+        private final @NonNull DOMInstanceNotificationListener listener;
+        private final @NonNull DOMDataTreeIdentifier path;
+        private final @NonNull QName type;
+        private final @NonNull Executor executor;
+
+        InstanceReg(final DOMDataTreeIdentifier path, final QName type, final DOMInstanceNotificationListener listener,
+                final Executor executor) {
+            this.path = requireNonNull(path);
+            this.type = requireNonNull(type);
+            this.listener = requireNonNull(listener);
+            this.executor = requireNonNull(executor);
+        }
+
+        @Override
+        Object listener() {
+            return listener;
+        }
+
+        @Override
+        void deliver(final DOMNotificationRouterEvent event) {
+            event.deliverTo(listener, executor);
+        }
+
+        @Override
+        protected void removeRegistration() {
+            removeInstanceRegistration(this);
+        }
+    }
+
     private static final Logger LOG = LoggerFactory.getLogger(DOMNotificationRouter.class);
     private static final ThreadFactory LISTENERS_TF = Thread.ofPlatform().daemon()
         .name("DOMNotificationRouter-listeners-", 0)
@@ -129,6 +216,13 @@ public class DOMNotificationRouter implements AutoCloseable {
         ObjectRegistry.createConcurrent("notification demand listeners");
     private final ScheduledThreadPoolExecutor observer;
     private final ExecutorService executor;
+    private final @Nullable DOMNotificationReplayBuffer replayBuffer;
+    private final int maxQueueCapacity;
+    private final DOMInstanceNotificationTrie<InstanceReg> instanceListeners = new DOMInstanceNotificationTrie<>();
+    private final Set<InstanceReg> instanceRegs = ConcurrentHashMap.newKeySet();
+    private final DOMNotificationRouterMetrics metrics = new DOMNotificationRouterMetrics(this::metricsListeners);
+
+    private @Nullable ObjectName mbeanName;
 
     @SuppressFBWarnings(value = "URF_UNREAD_FIELD",
         justification = "https://github.com/spotbugs/spotbugs/issues/2749")
@@ -140,27 +234,69 @@ public class DOMNotificationRouter implements AutoCloseable {
     }
 
     public DOMNotificationRouter(final int maxQueueCapacity) {
+        this(maxQueueCapacity, 0);
+    }
+
+    public DOMNotificationRouter(final int maxQueueCapacity, final int replayDepth) {
+        if (replayDepth < 0) {
+            throw new IllegalArgumentException("Invalid replay depth " + replayDepth);
+        }
+        this.maxQueueCapacity = maxQueueCapacity;
+        replayBuffer = replayDepth == 0 ? null : new DOMNotificationReplayBuffer(replayDepth);
         observer = new ScheduledThreadPoolExecutor(1, OBSERVER_TF);
         executor = Executors.newCachedThreadPool(LISTENERS_TF);
         queueNotificationManager = new EqualityQueuedNotificationManager<>("DOMNotificationRouter", executor,
-                maxQueueCapacity, DOMNotificationRouter::deliverEvents);
+                maxQueueCapacity, this::deliverEvents);
         LOG.info("DOM Notification Router started");
     }
 
     @Activate
     public DOMNotificationRouter(final Config config) {
-        this(config.queueDepth());
+        this(config.queueDepth(), config.replayDepth());
+        registerMBean();
     }
 
     @PreDestroy
     @Deactivate
     @Override
     public final void close() {
+        unregisterMBean();
         observer.shutdown();
         executor.shutdown();
         LOG.info("DOM Notification Router stopped");
     }
 
+    /**
+     * Return the metrics of this router.
+     *
+     * @return the metrics of this router
+     */
+    public final @NonNull DOMNotificationRouterMetrics metrics() {
+        return metrics;
+    }
+
+    private void registerMBean() {
+        try {
+            final var name = new ObjectName(DOMNotificationRouterMXBean.OBJECT_NAME);
+            ManagementFactory.getPlatformMBeanServer().registerMBean(metrics, name);
+            mbeanName = name;
+        } catch (JMException e) {
+            LOG.warn("Failed to register notification router metrics MXBean", e);
+        }
+    }
+
+    private void unregisterMBean() {
+        final var name = mbeanName;
+        if (name != null) {
+            mbeanName = null;
+            try {
+                ManagementFactory.getPlatformMBeanServer().unregisterMBean(name);
+            } catch (JMException e) {
+                LOG.warn("Failed to unregister notification router metrics MXBean", e);
+            }
+        }
+    }
+
     private synchronized void removeRegistration(final SingleReg reg) {
         replaceListeners(ImmutableMultimap.copyOf(Multimaps.filterValues(listeners(), input -> input != reg)));
     }
@@ -193,15 +329,31 @@ public class DOMNotificationRouter implements AutoCloseable {
         });
     }
 
-    // Non-final for testing
-    @NonNull ListenableFuture<?> putNotificationImpl(final DOMNotification notification)
+    final @NonNull ListenableFuture<?> putNotificationImpl(final DOMNotification notification)
             throws InterruptedException {
         final var subscribers = subscribers(notification);
-        return subscribers.isEmpty() ? Empty.immediateFuture() : publish(notification, subscribers);
+        return subscribers.isEmpty() ? Empty.immediateFuture() : putNotificationImpl(notification, subscribers);
     }
 
+    // Non-final for testing
+    @NonNull ListenableFuture<?> putNotificationImpl(final DOMNotification notification,
+            final Collection<Reg> subscribers) throws InterruptedException {
+        return submit(notification, subscribers);
+    }
+
+    /**
+     * Publish a notification without blocking. Queue depths are checked before the notification is submitted, hence
+     * a concurrent publisher may still cause a submission to block briefly.
+     *
+     * @return A future, or {@link DOMNotificationPublishService#REJECTED} if any of the subscribers' queues is full
+     */
     @VisibleForTesting
     @NonNull ListenableFuture<?> publish(final DOMNotification notification, final Collection<Reg> subscribers) {
+        return anyQueueFull(subscribers) ? DOMNotificationPublishService.REJECTED : submit(notification, subscribers);
+    }
+
+    private @NonNull ListenableFuture<?> submit(final DOMNotification notification,
+            final Collection<Reg> subscribers) {
         final var futures = new ArrayList<ListenableFuture<?>>(subscribers.size());
         subscribers.forEach(subscriber -> {
             final var event = new DOMNotificationRouterEvent(notification);
@@ -212,10 +364,48 @@ public class DOMNotificationRouter implements AutoCloseable {
             MoreExecutors.directExecutor());
     }
 
+    private @NonNull ListenableFuture<?> submit(final DOMDataTreeIdentifier path, final DOMNotification notification,
+            final Collection<InstanceReg> subscribers) {
+        final var futures = new ArrayList<ListenableFuture<?>>(subscribers.size());
+        subscribers.forEach(subscriber -> {
+            final var event = new DOMNotificationRouterEvent(path, notification);
+            futures.add(event.future());
+            queueNotificationManager.submitNotification(subscriber, event);
+        });
+        return Futures.transform(Futures.successfulAsList(futures), ignored -> Empty.value(),
+            MoreExecutors.directExecutor());
+    }
+
+    private boolean anyQueueFull(final Collection<? extends Reg> subscribers) {
+        final var depths = queueDepths();
+        if (!depths.isEmpty()) {
+            for (var subscriber : subscribers) {
+                if (depths.getOrDefault(subscriber.toString(), 0) >= maxQueueCapacity) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    // Current queue depths, as reported by QueuedNotificationManager. Listeners with empty queues are not reported.
+    private Map<String, Integer> queueDepths() {
+        return queueNotificationManager.getListenerStats().stream()
+            .collect(Collectors.toMap(ListenerNotificationQueueStats::getListenerClassName,
+                ListenerNotificationQueueStats::getCurrentQueueSize, Integer::sum));
+    }
+
     @NonNullByDefault
     final ListenableFuture<?> offerNotification(final DOMNotification notification) {
         final var subscribers = subscribers(notification);
-        return subscribers.isEmpty() ? Empty.immediateFuture() : publish(notification, subscribers);
+        if (subscribers.isEmpty()) {
+            return Empty.immediateFuture();
+        }
+        final var ret = publish(notification, subscribers);
+        if (DOMNotificationPublishService.REJECTED.equals(ret)) {
+            metrics.rejected(notification.getType());
+        }
+        return ret;
     }
 
     @NonNullByDefault
@@ -232,19 +422,74 @@ public class DOMNotificationRouter implements AutoCloseable {
         }
 
         try {
-            final var publishThread = Thread.currentThread();
-            final var timerTask = observer.schedule(publishThread::interrupt, timeout, unit);
-            final var withBlock = putNotificationImpl(notification);
-            timerTask.cancel(true);
-            if (observer.getQueue().size() > 50) {
-                observer.purge();
-            }
-            return withBlock;
+            return publishWithTimeout(() -> putNotificationImpl(notification, subscribers), timeout, unit);
         } catch (InterruptedException e) {
+            metrics.rejected(notification.getType());
             return DOMNotificationPublishService.REJECTED;
         }
     }
 
+    @NonNullByDefault
+    final ListenableFuture<?> putInstanceNotification(final DOMDataTreeIdentifier path,
+            final DOMNotification notification) {
+        final var subscribers = instanceSubscribers(path, notification);
+        return subscribers.isEmpty() ? Empty.immediateFuture() : submit(path, notification, subscribers);
+    }
+
+    @NonNullByDefault
+    final ListenableFuture<?> offerInstanceNotification(final DOMDataTreeIdentifier path,
+            final DOMNotification notification) {
+        final var subscribers = instanceSubscribers(path, notification);
+        if (subscribers.isEmpty()) {
+            return Empty.immediateFuture();
+        }
+        if (anyQueueFull(subscribers)) {
+            metrics.rejected(notification.getType());
+            return DOMInstanceNotificationPublishService.REJECTED;
+        }
+        return submit(path, notification, subscribers);
+    }
+
+    @NonNullByDefault
+    final ListenableFuture<?> offerInstanceNotification(final DOMDataTreeIdentifier path,
+            final DOMNotification notification, final long timeout, final TimeUnit unit) {
+        final var subscribers = instanceSubscribers(path, notification);
+        if (subscribers.isEmpty()) {
+            return Empty.immediateFuture();
+        }
+        // Attempt to perform a non-blocking publish first
+        if (!anyQueueFull(subscribers)) {
+            return submit(path, notification, subscribers);
+        }
+
+        try {
+            return publishWithTimeout(() -> submit(path, notification, subscribers), timeout, unit);
+        } catch (InterruptedException e) {
+            metrics.rejected(notification.getType());
+            return DOMInstanceNotificationPublishService.REJECTED;
+        }
+    }
+
+    @FunctionalInterface
+    private interface BlockingPublish {
+        @NonNull ListenableFuture<?> publish() throws InterruptedException;
+    }
+
+    /**
+     * Run a potentially-blocking publish operation, interrupting it if it does not complete within specified time.
+     */
+    private @NonNull ListenableFuture<?> publishWithTimeout(final BlockingPublish publish, final long timeout,
+            final TimeUnit unit) throws InterruptedException {
+        final var publishThread = Thread.currentThread();
+        final var timerTask = observer.schedule(publishThread::interrupt, timeout, unit);
+        final var withBlock = publish.publish();
+        timerTask.cancel(true);
+        if (observer.getQueue().size() > 50) {
+            observer.purge();
+        }
+        return withBlock;
+    }
+
     @NonNullByDefault
     final Registration registerNotificationListener(final DOMNotificationListener listener,
             final Collection<Absolute> types) {
@@ -266,6 +511,72 @@ public class DOMNotificationRouter implements AutoCloseable {
         return reg;
     }
 
+    @NonNullByDefault
+    final Registration registerNotificationListener(final DOMNotificationListener listener,
+            final Collection<Absolute> types, final Instant startTime) {
+        final var buffer = replayBuffer;
+        if (buffer == null) {
+            throw new UnsupportedOperationException("Notification replay is not enabled");
+        }
+        final var uniqueTypes = Set.copyOf(types);
+        if (uniqueTypes.isEmpty()) {
+            throw new IllegalArgumentException("No notification types specified");
+        }
+        requireNonNull(startTime);
+
+        final var reg = new SingleReg(listener);
+        synchronized (buffer) {
+            // Enqueue replayed notifications before the registration becomes visible to publishers, so they are
+            // guaranteed to be delivered before any live notification. The registration's queue is fresh, hence
+            // limiting the total number of replayed notifications to its capacity guarantees that enqueueing them
+            // does not block while we hold the lock publishers need.
+            final var recorded = buffer.replay(uniqueTypes, startTime);
+            final int size = recorded.size();
+            final var replayed = size > maxQueueCapacity ? recorded.subList(size - maxQueueCapacity, size) : recorded;
+            if (replayed.size() != size) {
+                LOG.warn("Replay of {} notifications to {} exceeds queue depth, replaying only the most recent {}",
+                    size, listener, replayed.size());
+            }
+            if (!replayed.isEmpty()) {
+                LOG.debug("Replaying {} notifications to {}", replayed.size(), listener);
+                queueNotificationManager.submitNotifications(reg,
+                    replayed.stream().map(DOMNotificationRouterEvent::new).toList());
+            }
+
+            synchronized (this) {
+                final var b = ImmutableMultimap.<Absolute, Reg>builder();
+                b.putAll(listeners());
+                for (var t : uniqueTypes) {
+                    b.put(t, reg);
+                }
+                replaceListeners(b.build());
+            }
+        }
+        return reg;
+    }
+
+    @NonNullByDefault
+    final Registration registerInstanceNotificationListener(final DOMDataTreeIdentifier path, final QName type,
+            final DOMInstanceNotificationListener listener, final Executor executor) {
+        if (path.path().isEmpty()) {
+            throw new IllegalArgumentException("Instance notification path must not be empty");
+        }
+
+        final var reg = new InstanceReg(path, type, listener, executor);
+        synchronized (instanceListeners) {
+            instanceListeners.add(path, type, reg);
+            instanceRegs.add(reg);
+        }
+        return reg;
+    }
+
+    private void removeInstanceRegistration(final InstanceReg reg) {
+        synchronized (instanceListeners) {
+            instanceListeners.remove(reg.path, reg.type, reg);
+            instanceRegs.remove(reg);
+        }
+    }
+
     @NonNullByDefault
     synchronized Registration registerNotificationListeners(
             final Map<Absolute, DOMNotificationListener> typeToListener) {
@@ -294,6 +605,10 @@ public class DOMNotificationRouter implements AutoCloseable {
         return demandListeners.register(listener);
     }
 
+    final boolean replayEnabled() {
+        return replayBuffer != null;
+    }
+
     @VisibleForTesting
     final ExecutorService executor() {
         return executor;
@@ -315,14 +630,51 @@ public class DOMNotificationRouter implements AutoCloseable {
     }
 
     private ImmutableCollection<Reg> subscribers(final DOMNotification notification) {
-        return listeners().get(notification.getType());
+        metrics.published(notification.getType());
+        final var buffer = replayBuffer;
+        if (buffer == null) {
+            return listeners().get(notification.getType());
+        }
+        synchronized (buffer) {
+            buffer.record(notification);
+            return listeners().get(notification.getType());
+        }
+    }
+
+    private ImmutableList<InstanceReg> instanceSubscribers(final DOMDataTreeIdentifier path,
+            final DOMNotification notification) {
+        metrics.published(notification.getType());
+        return instanceListeners.lookup(path, notification.getType().lastNodeIdentifier());
+    }
+
+    private List<DOMNotificationRouterMetrics.Listener> metricsListeners() {
+        final var types = new LinkedHashMap<Reg, List<String>>();
+        final var typeNames = new HashMap<Reg, Set<QName>>();
+        listeners().forEach((type, reg) -> {
+            types.computeIfAbsent(reg, ignored -> new ArrayList<>()).add(type.toString());
+            typeNames.computeIfAbsent(reg, ignored -> new HashSet<>()).add(type.lastNodeIdentifier());
+        });
+        instanceRegs.forEach(reg -> {
+            types.put(reg, List.of(reg.type + "@" + reg.path));
+            typeNames.put(reg, Set.of(reg.type));
+        });
+
+        final var depths = queueDepths();
+        return types.entrySet().stream()
+            .map(entry -> {
+                final var reg = entry.getKey();
+                return new DOMNotificationRouterMetrics.Listener(reg.listener(), entry.getValue(),
+                    typeNames.get(reg), depths.getOrDefault(reg.toString(), 0), reg.metrics);
+            })
+            .toList();
     }
 
-    private static void deliverEvents(final Reg reg, final ImmutableList<DOMNotificationRouterEvent> events) {
+    private void deliverEvents(final Reg reg, final ImmutableList<DOMNotificationRouterEvent> events) {
         if (reg.notClosed()) {
-            final var listener = reg.listener;
             for (var event : events) {
-                event.deliverTo(listener);
+                final long start = System.nanoTime();
+                reg.deliver(event);
+                metrics.delivered(reg.metrics, event.type(), start - event.createdNanos(), System.nanoTime() - start);
             }
         } else {
             events.forEach(DOMNotificationRouterEvent::clear);
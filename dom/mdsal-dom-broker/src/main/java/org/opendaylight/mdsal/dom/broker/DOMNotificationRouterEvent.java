@@ -7,34 +7,59 @@
  */
 package org.opendaylight.mdsal.dom.broker;
 
+import static com.google.common.base.Verify.verifyNotNull;
 import static java.util.Objects.requireNonNull;
 
+import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.SettableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeIdentifier;
+import org.opendaylight.mdsal.dom.api.DOMInstanceNotificationListener;
 import org.opendaylight.mdsal.dom.api.DOMNotification;
 import org.opendaylight.mdsal.dom.api.DOMNotificationListener;
 import org.opendaylight.yangtools.yang.common.Empty;
+import org.opendaylight.yangtools.yang.model.api.stmt.SchemaNodeIdentifier.Absolute;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * A single notification event in the notification router.
+ * A single notification event in the notification router. Instance notification events also carry the path of the
+ * notification's parent.
  */
 final class DOMNotificationRouterEvent {
     private static final Logger LOG = LoggerFactory.getLogger(DOMNotificationRouterEvent.class);
 
     private final SettableFuture<Empty> future = SettableFuture.create();
+    private final long createdNanos = System.nanoTime();
     private final @NonNull DOMNotification notification;
+    private final @Nullable DOMDataTreeIdentifier path;
 
     DOMNotificationRouterEvent(final DOMNotification notification) {
         this.notification = requireNonNull(notification);
+        path = null;
+    }
+
+    DOMNotificationRouterEvent(final DOMDataTreeIdentifier path, final DOMNotification notification) {
+        this.notification = requireNonNull(notification);
+        this.path = requireNonNull(path);
     }
 
     ListenableFuture<Empty> future() {
         return future;
     }
 
+    long createdNanos() {
+        return createdNanos;
+    }
+
+    @NonNull Absolute type() {
+        return notification.getType();
+    }
+
     @SuppressWarnings("checkstyle:illegalCatch")
     void deliverTo(final DOMNotificationListener listener) {
         try {
@@ -46,6 +71,32 @@ final class DOMNotificationRouterEvent {
         }
     }
 
+    void deliverTo(final DOMInstanceNotificationListener listener, final Executor executor) {
+        final var parent = verifyNotNull(path, "Event %s does not have a path", this);
+        try {
+            executor.execute(() -> deliverTo(listener, parent));
+        } catch (RejectedExecutionException e) {
+            LOG.warn("Executor {} rejected notification delivery to {}", executor, listener, e);
+            clear();
+            return;
+        }
+
+        // Wait for the task to complete, so that this event occupies its queue slot until it has been delivered. This
+        // keeps notifications ordered and backpressure working regardless of the executor.
+        Futures.getUnchecked(future);
+    }
+
+    @SuppressWarnings("checkstyle:illegalCatch")
+    private void deliverTo(final DOMInstanceNotificationListener listener, final DOMDataTreeIdentifier parent) {
+        try {
+            listener.onNotification(parent, notification);
+        } catch (Exception e) {
+            LOG.warn("Listener {} failed during instance notification delivery", listener, e);
+        } finally {
+            clear();
+        }
+    }
+
     void clear() {
         future.set(Empty.value());
     }
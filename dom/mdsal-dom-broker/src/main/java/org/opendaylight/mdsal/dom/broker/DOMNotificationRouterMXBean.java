@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.dom.broker;
+
+import com.google.common.annotations.Beta;
+import java.util.List;
+import org.opendaylight.mdsal.dom.broker.DOMNotificationRouterMetrics.ListenerStatistics;
+import org.opendaylight.mdsal.dom.broker.DOMNotificationRouterMetrics.TypeStatistics;
+
+/**
+ * JMX view of {@link DOMNotificationRouterMetrics}, registered as {@value #OBJECT_NAME}.
+ */
+@Beta
+public interface DOMNotificationRouterMXBean {
+    /**
+     * Object name under which the {@link DOMNotificationRouter} component registers this MXBean.
+     */
+    String OBJECT_NAME = "org.opendaylight.mdsal.dom.broker:type=DOMNotificationRouter";
+
+    /**
+     * Return statistics of each notification type which has been published.
+     *
+     * @return Per-type statistics
+     */
+    List<TypeStatistics> getTypeStatistics();
+
+    /**
+     * Return statistics of each currently-registered listener.
+     *
+     * @return Per-listener statistics
+     */
+    List<ListenerStatistics> getListenerStatistics();
+
+    /**
+     * Return statistics of currently-registered listeners with the highest 99th percentile of delivery latency.
+     *
+     * @param limit maximum number of listeners to return
+     * @return Per-listener statistics, slowest listener first
+     */
+    List<ListenerStatistics> getSlowestListeners(int limit);
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.dom.broker;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.Beta;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import org.eclipse.jdt.annotation.NonNull;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.model.api.stmt.SchemaNodeIdentifier.Absolute;
+
+/**
+ * Metrics of a {@link DOMNotificationRouter}. Publish counters and latency histograms are maintained using
+ * contention-free adders, hence taking a snapshot is cheap enough to be done in production. Queue depths are not
+ * tracked separately, but are taken from the router's
+ * {@link org.opendaylight.yangtools.util.concurrent.QueuedNotificationManager} when a snapshot is taken.
+ */
+@Beta
+public final class DOMNotificationRouterMetrics implements DOMNotificationRouterMXBean {
+    /**
+     * Statistics of a single notification type.
+     *
+     * @param type notification type
+     * @param published number of notifications published, including those which had no subscribers
+     * @param rejected number of notifications rejected with
+     *        {@link org.opendaylight.mdsal.dom.api.DOMNotificationPublishService#REJECTED}
+     * @param publishRate average number of notifications published per second since the type was first published
+     * @param queueDepth number of notifications waiting for delivery to listeners subscribed to this type, including
+     *        notifications of other types those listeners are subscribed to
+     * @param queueWait time notifications of this type spent waiting in queues
+     * @param delivery time spent delivering notifications of this type
+     */
+    public record TypeStatistics(@NonNull String type, long published, long rejected, double publishRate,
+            long queueDepth, @NonNull LatencyStatistics queueWait, @NonNull LatencyStatistics delivery) {
+        public TypeStatistics {
+            requireNonNull(type);
+            requireNonNull(queueWait);
+            requireNonNull(delivery);
+        }
+    }
+
+    /**
+     * Statistics of a single registered listener.
+     *
+     * @param listener listener, as reported by its {@code toString()}
+     * @param types notification types the listener is registered for
+     * @param queueDepth number of notifications waiting for delivery
+     * @param queueWait time notifications spent waiting in the queue
+     * @param delivery time spent delivering notifications to the listener
+     */
+    public record ListenerStatistics(@NonNull String listener, @NonNull List<String> types, long queueDepth,
+            @NonNull LatencyStatistics queueWait, @NonNull LatencyStatistics delivery) {
+        public ListenerStatistics {
+            requireNonNull(listener);
+            types = List.copyOf(types);
+            requireNonNull(queueWait);
+            requireNonNull(delivery);
+        }
+    }
+
+    /**
+     * Summary of a latency histogram. Percentiles are approximate, reporting the upper bound of a power-of-two bucket.
+     *
+     * @param count number of samples
+     * @param meanNanos mean latency, in nanoseconds
+     * @param p50Nanos median latency, in nanoseconds
+     * @param p99Nanos 99th percentile of latency, in nanoseconds
+     * @param maxNanos maximum latency, in nanoseconds
+     */
+    public record LatencyStatistics(long count, long meanNanos, long p50Nanos, long p99Nanos, long maxNanos) {
+        static final @NonNull LatencyStatistics EMPTY = new LatencyStatistics(0, 0, 0, 0, 0);
+    }
+
+    /**
+     * A snapshot of a registration, as seen by {@link #getListenerStatistics()}.
+     *
+     * @param listener registered listener
+     * @param types notification types, for reporting purposes
+     * @param typeNames names of notification types, used to attribute queue depth to types
+     * @param queueDepth current depth of the registration's queue
+     * @param metrics registration's latencies
+     */
+    record Listener(@NonNull Object listener, @NonNull List<String> types, @NonNull Set<QName> typeNames,
+            long queueDepth, @NonNull ListenerMetrics metrics) {
+        Listener {
+            requireNonNull(listener);
+            requireNonNull(types);
+            requireNonNull(typeNames);
+            requireNonNull(metrics);
+        }
+    }
+
+    private static final class TypeCounters {
+        final LongAdder published = new LongAdder();
+        final LongAdder rejected = new LongAdder();
+        final LatencyHistogram queueWait = new LatencyHistogram();
+        final LatencyHistogram delivery = new LatencyHistogram();
+        final long firstPublished = System.nanoTime();
+    }
+
+    private final Map<Absolute, TypeCounters> types = new ConcurrentHashMap<>();
+    private final Supplier<List<Listener>> listeners;
+
+    DOMNotificationRouterMetrics(final Supplier<List<Listener>> listeners) {
+        this.listeners = requireNonNull(listeners);
+    }
+
+    void published(final Absolute type) {
+        counters(type).published.increment();
+    }
+
+    void rejected(final Absolute type) {
+        counters(type).rejected.increment();
+    }
+
+    void delivered(final ListenerMetrics listener, final Absolute type, final long queueWaitNanos,
+            final long deliveryNanos) {
+        listener.delivered(queueWaitNanos, deliveryNanos);
+        final var counters = counters(type);
+        counters.queueWait.record(queueWaitNanos);
+        counters.delivery.record(deliveryNanos);
+    }
+
+    @Override
+    public List<TypeStatistics> getTypeStatistics() {
+        final var snapshot = listeners.get();
+        final long now = System.nanoTime();
+        return types.entrySet().stream()
+            .map(entry -> {
+                final var type = entry.getKey();
+                final var counters = entry.getValue();
+                final long published = counters.published.sum();
+                final long elapsed = Math.max(now - counters.firstPublished, 1);
+                final var name = type.lastNodeIdentifier();
+                final long queueDepth = snapshot.stream()
+                    .filter(listener -> listener.typeNames().contains(name))
+                    .mapToLong(Listener::queueDepth)
+                    .sum();
+                return new TypeStatistics(type.toString(), published, counters.rejected.sum(),
+                    (double) published * TimeUnit.SECONDS.toNanos(1) / elapsed, queueDepth,
+                    counters.queueWait.toStatistics(), counters.delivery.toStatistics());
+            })
+            .toList();
+    }
+
+    @Override
+    public List<ListenerStatistics> getListenerStatistics() {
+        return listeners.get().stream().map(DOMNotificationRouterMetrics::toStatistics).toList();
+    }
+
+    @Override
+    public List<ListenerStatistics> getSlowestListeners(final int limit) {
+        return getListenerStatistics().stream()
+            .sorted(Comparator.comparingLong((ListenerStatistics stats) -> stats.delivery().p99Nanos()).reversed())
+            .limit(limit)
+            .toList();
+    }
+
+    private TypeCounters counters(final Absolute type) {
+        final var existing = types.get(type);
+        return existing != null ? existing : types.computeIfAbsent(type, ignored -> new TypeCounters());
+    }
+
+    private static ListenerStatistics toStatistics(final Listener listener) {
+        final var metrics = listener.metrics();
+        return new ListenerStatistics(listener.listener().toString(), listener.types(), listener.queueDepth(),
+            metrics.queueWait.toStatistics(), metrics.delivery.toStatistics());
+    }
+}
@@ -8,7 +8,6 @@
 package org.opendaylight.mdsal.dom.broker;
 
 import static com.google.common.base.Preconditions.checkArgument;
-import static com.google.common.base.Verify.verifyNotNull;
 import static java.util.Objects.requireNonNull;
 
 import com.google.common.annotations.VisibleForTesting;
@@ -18,13 +17,14 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.ImmutableTable;
 import com.google.common.collect.Maps;
-import com.google.common.collect.Sets;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.errorprone.annotations.concurrent.GuardedBy;
+import java.time.Duration;
 import java.util.ArrayList;
-import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -36,15 +36,18 @@ import javax.inject.Inject;
 import javax.inject.Singleton;
 import org.eclipse.jdt.annotation.NonNull;
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.mdsal.dom.api.DOMActionAvailabilityExtension.AvailabilityListener;
 import org.opendaylight.mdsal.dom.api.DOMActionImplementation;
 import org.opendaylight.mdsal.dom.api.DOMActionInstance;
 import org.opendaylight.mdsal.dom.api.DOMActionNotAvailableException;
+import org.opendaylight.mdsal.dom.api.DOMActionProviderBatchExtension;
 import org.opendaylight.mdsal.dom.api.DOMDataTreeIdentifier;
 import org.opendaylight.mdsal.dom.api.DOMRpcAvailabilityListener;
 import org.opendaylight.mdsal.dom.api.DOMRpcIdentifier;
 import org.opendaylight.mdsal.dom.api.DOMRpcImplementation;
 import org.opendaylight.mdsal.dom.api.DOMRpcImplementationNotAvailableException;
+import org.opendaylight.mdsal.dom.api.DOMRpcProviderBatchExtension;
 import org.opendaylight.mdsal.dom.api.DOMRpcResult;
 import org.opendaylight.mdsal.dom.api.DOMSchemaService;
 import org.opendaylight.yangtools.concepts.AbstractRegistration;
@@ -58,35 +61,225 @@ import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.metatype.annotations.AttributeDefinition;
+import org.osgi.service.metatype.annotations.Designate;
+import org.osgi.service.metatype.annotations.ObjectClassDefinition;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 @Singleton
-@Component(service = DOMRpcRouter.class)
+@Component(configurationPid = "org.opendaylight.mdsal.dom.rpc", service = DOMRpcRouter.class)
+@Designate(ocd = DOMRpcRouter.Config.class)
 public final class DOMRpcRouter extends AbstractRegistration {
+    @ObjectClassDefinition
+    public @interface Config {
+        @AttributeDefinition(name = "operation-dispatch-policy",
+            description = "Policy for selecting among multiple implementations of the same RPC or action instance.")
+        OperationDispatchPolicy dispatchPolicy() default OperationDispatchPolicy.FIRST;
+
+        @AttributeDefinition(name = "operation-concurrency-limit",
+            description = "Maximum number of in-flight invocations of a single implementation. 0 disables limits.")
+        int concurrencyLimit() default 0;
+
+        @AttributeDefinition(name = "operation-concurrency-limit-algorithm",
+            description = "Algorithm adjusting the effective concurrency limit based on observed latency.")
+        OperationConcurrencyLimits.Algorithm concurrencyLimitAlgorithm()
+            default OperationConcurrencyLimits.Algorithm.FIXED;
+
+        @AttributeDefinition(name = "operation-concurrency-queue-depth",
+            description = "Number of invocations queued on a saturated implementation. 0 fails them immediately.")
+        int concurrencyQueueDepth() default 0;
+
+        @AttributeDefinition(name = "operation-concurrency-latency-target",
+            description = "Latency in milliseconds above which the AIMD algorithm reduces the concurrency limit.")
+        long concurrencyLatencyTarget() default 1000;
+
+        @AttributeDefinition(name = "coalesced-rpcs", description = """
+            Idempotent RPCs whose concurrent invocations with equal input share a single invocation. Each element is \
+            an RPC QName, such as '(urn:example?revision=2026-01-01)get-inventory', optionally followed by \
+            '=<milliseconds>' to also cache successful results for that long.""")
+        String[] coalescedRpcs() default {};
+    }
+
+    /**
+     * A single change to a routing table: an implementation being added to or removed from an operation identifier.
+     * Availability listeners only need to examine the identifiers affected by a set of changes, comparing the tables
+     * before and after the changes have been applied.
+     */
+    @NonNullByDefault
+    private record Change<K, D, M>(K type, D identifier, M implementation) {
+        Change {
+            requireNonNull(type);
+            requireNonNull(identifier);
+            requireNonNull(implementation);
+        }
+    }
+
+    /**
+     * An update of the routing tables. It accumulates any number of changes and then swaps the tables and notifies
+     * availability listeners exactly once, with a delta computed from the accumulated changes. Must be used while
+     * holding the router lock.
+     */
     @NonNullByDefault
-    private final class ActionReg extends AbstractRegistration {
+    private final class TableUpdate {
+        private final List<Change<QName, YangInstanceIdentifier, DOMRpcImplementation>> rpcChanges =
+            new ArrayList<>();
+        private final List<Change<Absolute, DOMDataTreeIdentifier, DOMActionImplementation>> actionChanges =
+            new ArrayList<>();
+        private final DOMRpcRoutingTable oldRpcs = routingTable;
+        private final DOMActionRoutingTable oldActions = actionRoutingTable;
+
+        private DOMRpcRoutingTable rpcs = oldRpcs;
+        private DOMActionRoutingTable actions = oldActions;
+
+        void addActions(final DOMActionImplementation implementation, final Set<DOMActionInstance> instances) {
+            actions = (DOMActionRoutingTable) actions.add(implementation, instances);
+            recordActions(implementation, instances);
+        }
+
+        void removeActions(final DOMActionImplementation implementation, final Set<DOMActionInstance> instances) {
+            actions = (DOMActionRoutingTable) actions.remove(implementation, instances);
+            recordActions(implementation, instances);
+        }
+
+        void addRpcs(final DOMRpcImplementation implementation, final Set<DOMRpcIdentifier> instances) {
+            rpcs = (DOMRpcRoutingTable) rpcs.add(implementation, instances);
+            recordRpcs(implementation, instances);
+        }
+
+        void addRpcs(final ImmutableTable<QName, YangInstanceIdentifier, DOMRpcImplementation> table) {
+            rpcs = (DOMRpcRoutingTable) rpcs.addAll(table);
+            recordRpcs(table);
+        }
+
+        void removeRpcs(final DOMRpcImplementation implementation, final Set<DOMRpcIdentifier> instances) {
+            rpcs = (DOMRpcRoutingTable) rpcs.remove(implementation, instances);
+            recordRpcs(implementation, instances);
+        }
+
+        void removeRpcs(final ImmutableTable<QName, YangInstanceIdentifier, DOMRpcImplementation> table) {
+            rpcs = (DOMRpcRoutingTable) rpcs.removeAll(table);
+            recordRpcs(table);
+        }
+
+        @GuardedBy("DOMRpcRouter.this")
+        void commit() {
+            if (!rpcChanges.isEmpty()) {
+                final var regs = listeners;
+                final var before = oldRpcs;
+                final var after = rpcs;
+                routingTable = after;
+                listenerNotifier.execute(() -> {
+                    for (var reg : regs) {
+                        reg.rpcsChanged(before, after, rpcChanges);
+                    }
+                });
+            }
+            if (!actionChanges.isEmpty()) {
+                final var regs = actionListeners;
+                final var before = oldActions;
+                final var after = actions;
+                actionRoutingTable = after;
+                listenerNotifier.execute(() -> {
+                    for (var reg : regs) {
+                        reg.actionsChanged(before, after, actionChanges);
+                    }
+                });
+            }
+        }
+
+        private void recordActions(final DOMActionImplementation implementation,
+                final Set<DOMActionInstance> instances) {
+            for (var instance : instances) {
+                for (var dataTree : instance.getDataTrees()) {
+                    actionChanges.add(new Change<>(instance.getType(), dataTree, implementation));
+                }
+            }
+        }
+
+        private void recordRpcs(final DOMRpcImplementation implementation, final Set<DOMRpcIdentifier> instances) {
+            for (var instance : instances) {
+                rpcChanges.add(new Change<>(instance.getType(), instance.getContextReference(), implementation));
+            }
+        }
+
+        private void recordRpcs(final ImmutableTable<QName, YangInstanceIdentifier, DOMRpcImplementation> table) {
+            for (var cell : table.cellSet()) {
+                rpcChanges.add(new Change<>(cell.getRowKey(), cell.getColumnKey(), cell.getValue()));
+            }
+        }
+    }
+
+    /**
+     * Common superclass of implementation registrations. A registration becomes active when it is applied to the
+     * routing tables and inactive when it is removed from them, which may happen either through a {@link #close()} or
+     * through a {@link RegistrationBatch}.
+     */
+    @NonNullByDefault
+    private abstract sealed class OperationReg extends AbstractRegistration permits ActionReg, RpcReg, RpcsReg {
+        @GuardedBy("DOMRpcRouter.this")
+        private boolean active;
+
+        @GuardedBy("DOMRpcRouter.this")
+        final void activate(final TableUpdate update) {
+            // Registrations closed before their batch has been committed are never applied
+            if (!active && notClosed()) {
+                active = true;
+                addTo(update);
+            }
+        }
+
+        @GuardedBy("DOMRpcRouter.this")
+        final void deactivate(final TableUpdate update) {
+            if (active) {
+                active = false;
+                removeFrom(update);
+            }
+        }
+
+        final DOMRpcRouter router() {
+            return DOMRpcRouter.this;
+        }
+
+        @Override
+        protected final void removeRegistration() {
+            synchronized (DOMRpcRouter.this) {
+                final var update = new TableUpdate();
+                deactivate(update);
+                update.commit();
+            }
+        }
+
+        abstract void addTo(TableUpdate update);
+
+        abstract void removeFrom(TableUpdate update);
+    }
+
+    @NonNullByDefault
+    private final class ActionReg extends OperationReg {
         private final DOMActionImplementation implementation;
         private final ImmutableSet<DOMActionInstance> instances;
 
         ActionReg(final DOMActionImplementation implementation, final Set<DOMActionInstance> instances) {
             this.implementation = requireNonNull(implementation);
             this.instances = ImmutableSet.copyOf(instances);
+            if (this.instances.isEmpty()) {
+                throw new IllegalArgumentException("Instances must not be empty");
+            }
         }
 
         @Override
-        protected void removeRegistration() {
-            synchronized (DOMRpcRouter.this) {
-                final var oldTable = actionRoutingTable;
-                final var newTable = (DOMActionRoutingTable) oldTable.remove(implementation, instances);
-                actionRoutingTable = newTable;
+        void addTo(final TableUpdate update) {
+            update.addActions(implementation, instances);
+        }
 
-                listenerNotifier.execute(() -> notifyActionChanged(newTable, implementation));
-            }
+        @Override
+        void removeFrom(final TableUpdate update) {
+            update.removeActions(implementation, instances);
         }
 
         @Override
-        protected ToStringHelper addToStringAttributes(ToStringHelper helper) {
+        protected ToStringHelper addToStringAttributes(final ToStringHelper helper) {
             return super.addToStringAttributes(helper
                 .add("implementation", implementation)
                 .add("instances", instances));
@@ -95,15 +288,15 @@ public final class DOMRpcRouter extends AbstractRegistration {
 
     private static final class ActionAvailReg extends AbstractRegistration {
         private final @NonNull AvailabilityListener listener;
+        private final @NonNull Map<Absolute, Set<DOMDataTreeIdentifier>> initialActions;
 
-        private Map<Absolute, Set<DOMDataTreeIdentifier>> prevActions;
         private DOMRpcRouter router;
 
         ActionAvailReg(final DOMRpcRouter router, final AvailabilityListener listener,
                 final Map<Absolute, Set<DOMDataTreeIdentifier>> actions) {
             this.listener = requireNonNull(listener);
             this.router = requireNonNull(router);
-            prevActions = requireNonNull(actions);
+            initialActions = requireNonNull(actions);
         }
 
         @Override
@@ -114,7 +307,7 @@ public final class DOMRpcRouter extends AbstractRegistration {
 
         void initialTable() {
             final var added = new ArrayList<DOMActionInstance>();
-            for (var e : prevActions.entrySet()) {
+            for (var e : initialActions.entrySet()) {
                 added.addAll(Collections2.transform(e.getValue(), i -> DOMActionInstance.of(e.getKey(), i)));
             }
             if (!added.isEmpty()) {
@@ -122,49 +315,48 @@ public final class DOMRpcRouter extends AbstractRegistration {
             }
         }
 
-        void actionChanged(final DOMActionRoutingTable newTable, final DOMActionImplementation impl) {
-            if (!listener.acceptsImplementation(impl)) {
+        void actionsChanged(final DOMActionRoutingTable oldTable, final DOMActionRoutingTable newTable,
+                final List<Change<Absolute, DOMDataTreeIdentifier, DOMActionImplementation>> changes) {
+            if (!notClosed()) {
                 return;
             }
 
-            final var actions = verifyNotNull(newTable.getOperations(listener));
-            final var diff = Maps.difference(prevActions, actions);
-
             final var removed = new HashSet<DOMActionInstance>();
             final var added = new HashSet<DOMActionInstance>();
+            for (var change : changes) {
+                if (!listener.acceptsImplementation(change.implementation())) {
+                    continue;
+                }
 
-            for (var le : diff.entriesOnlyOnLeft().entrySet()) {
-                removed.addAll(Collections2.transform(le.getValue(), i -> DOMActionInstance.of(le.getKey(), i)));
-            }
-
-            for (var re : diff.entriesOnlyOnRight().entrySet()) {
-                added.addAll(Collections2.transform(re.getValue(), i -> DOMActionInstance.of(re.getKey(), i)));
-            }
-
-            for (var entry : diff.entriesDiffering().entrySet()) {
-                for (var dti : Sets.difference(entry.getValue().leftValue(), entry.getValue().rightValue())) {
-                    removed.add(DOMActionInstance.of(entry.getKey(), dti));
+                final var instance = DOMActionInstance.of(change.type(), change.identifier());
+                if (removed.contains(instance) || added.contains(instance)) {
+                    continue;
                 }
 
-                for (var dti : Sets.difference(entry.getValue().rightValue(), entry.getValue().leftValue())) {
-                    added.add(DOMActionInstance.of(entry.getKey(), dti));
+                final boolean before = oldTable.isRegistered(change.type(), change.identifier(),
+                    listener::acceptsImplementation);
+                final boolean after = newTable.isRegistered(change.type(), change.identifier(),
+                    listener::acceptsImplementation);
+                if (before && !after) {
+                    removed.add(instance);
+                } else if (!before && after) {
+                    added.add(instance);
                 }
             }
 
-            prevActions = actions;
             if (!removed.isEmpty() || !added.isEmpty()) {
                 listener.onActionsChanged(removed, added);
             }
         }
 
         @Override
-        protected ToStringHelper addToStringAttributes(ToStringHelper helper) {
+        protected ToStringHelper addToStringAttributes(final ToStringHelper helper) {
             return super.addToStringAttributes(helper.add("listener", listener));
         }
     }
 
     @NonNullByDefault
-    private final class RpcReg extends AbstractRegistration {
+    private final class RpcReg extends OperationReg {
         private final DOMRpcImplementation implementation;
         private final ImmutableSet<DOMRpcIdentifier> instances;
 
@@ -174,18 +366,17 @@ public final class DOMRpcRouter extends AbstractRegistration {
         }
 
         @Override
-        protected void removeRegistration() {
-            synchronized (DOMRpcRouter.this) {
-                final var oldTable = routingTable;
-                final var newTable = (DOMRpcRoutingTable) oldTable.remove(implementation, instances);
-                routingTable = newTable;
+        void addTo(final TableUpdate update) {
+            update.addRpcs(implementation, instances);
+        }
 
-                listenerNotifier.execute(() -> notifyRemoved(newTable, implementation));
-            }
+        @Override
+        void removeFrom(final TableUpdate update) {
+            update.removeRpcs(implementation, instances);
         }
 
         @Override
-        protected ToStringHelper addToStringAttributes(ToStringHelper helper) {
+        protected ToStringHelper addToStringAttributes(final ToStringHelper helper) {
             return super.addToStringAttributes(helper
                 .add("implementation", implementation)
                 .add("instances", instances));
@@ -193,7 +384,7 @@ public final class DOMRpcRouter extends AbstractRegistration {
     }
 
     @NonNullByDefault
-    private final class RpcsReg extends AbstractRegistration {
+    private final class RpcsReg extends OperationReg {
         private final ImmutableTable<QName, YangInstanceIdentifier, DOMRpcImplementation> table;
 
         RpcsReg(final Map<DOMRpcIdentifier, DOMRpcImplementation> map) {
@@ -203,36 +394,38 @@ public final class DOMRpcRouter extends AbstractRegistration {
                 builder.put(id.getType(), id.getContextReference(), entry.getValue());
             }
             table = builder.build();
+            if (table.isEmpty()) {
+                throw new IllegalArgumentException("Implementation map must not be empty");
+            }
         }
 
         @Override
-        protected void removeRegistration() {
-            synchronized (DOMRpcRouter.this) {
-                final var oldTable = routingTable;
-                final var newTable = (DOMRpcRoutingTable) oldTable.removeAll(table);
-                routingTable = newTable;
+        void addTo(final TableUpdate update) {
+            update.addRpcs(table);
+        }
 
-                listenerNotifier.execute(() -> notifyRemoved(newTable, table.values()));
-            }
+        @Override
+        void removeFrom(final TableUpdate update) {
+            update.removeRpcs(table);
         }
 
         @Override
-        protected ToStringHelper addToStringAttributes(ToStringHelper helper) {
+        protected ToStringHelper addToStringAttributes(final ToStringHelper helper) {
             return super.addToStringAttributes(helper.add("table", table));
         }
     }
 
     private static final class RpcAvailReg extends AbstractRegistration {
         private final @NonNull DOMRpcAvailabilityListener listener;
+        private final @NonNull Map<QName, Set<YangInstanceIdentifier>> initialRpcs;
 
-        private Map<QName, Set<YangInstanceIdentifier>> prevRpcs;
         private DOMRpcRouter router;
 
         RpcAvailReg(final DOMRpcRouter router, final DOMRpcAvailabilityListener listener,
                 final Map<QName, Set<YangInstanceIdentifier>> rpcs) {
             this.listener = requireNonNull(listener);
             this.router = requireNonNull(router);
-            prevRpcs = requireNonNull(rpcs);
+            initialRpcs = requireNonNull(rpcs);
         }
 
         @Override
@@ -243,7 +436,7 @@ public final class DOMRpcRouter extends AbstractRegistration {
 
         void initialTable() {
             final var added = new ArrayList<DOMRpcIdentifier>();
-            for (var e : prevRpcs.entrySet()) {
+            for (var e : initialRpcs.entrySet()) {
                 added.addAll(Collections2.transform(e.getValue(), i -> DOMRpcIdentifier.create(e.getKey(), i)));
             }
             if (!added.isEmpty()) {
@@ -251,57 +444,122 @@ public final class DOMRpcRouter extends AbstractRegistration {
             }
         }
 
-        void addRpc(final DOMRpcRoutingTable newTable, final DOMRpcImplementation impl) {
-            if (!listener.acceptsImplementation(impl)) {
+        void rpcsChanged(final DOMRpcRoutingTable oldTable, final DOMRpcRoutingTable newTable,
+                final List<Change<QName, YangInstanceIdentifier, DOMRpcImplementation>> changes) {
+            if (!notClosed()) {
                 return;
             }
 
-            final var rpcs = verifyNotNull(newTable.getOperations(listener));
-            final var diff = Maps.difference(prevRpcs, rpcs);
+            final var removed = new LinkedHashSet<DOMRpcIdentifier>();
+            final var added = new LinkedHashSet<DOMRpcIdentifier>();
+            for (var change : changes) {
+                if (!listener.acceptsImplementation(change.implementation())) {
+                    continue;
+                }
 
-            final var added = new ArrayList<DOMRpcIdentifier>();
-            for (var e : diff.entriesOnlyOnRight().entrySet()) {
-                added.addAll(Collections2.transform(e.getValue(), ref -> DOMRpcIdentifier.create(e.getKey(), ref)));
-            }
-            for (var e : diff.entriesDiffering().entrySet()) {
-                for (var ref : Sets.difference(e.getValue().rightValue(), e.getValue().leftValue())) {
-                    added.add(DOMRpcIdentifier.create(e.getKey(), ref));
+                final var rpc = DOMRpcIdentifier.create(change.type(), change.identifier());
+                if (removed.contains(rpc) || added.contains(rpc)) {
+                    continue;
+                }
+
+                final boolean before = oldTable.isRegistered(change.type(), change.identifier(),
+                    listener::acceptsImplementation);
+                final boolean after = newTable.isRegistered(change.type(), change.identifier(),
+                    listener::acceptsImplementation);
+                if (before && !after) {
+                    removed.add(rpc);
+                } else if (!before && after) {
+                    added.add(rpc);
                 }
             }
 
-            prevRpcs = rpcs;
+            if (!removed.isEmpty()) {
+                listener.onRpcUnavailable(removed);
+            }
             if (!added.isEmpty()) {
                 listener.onRpcAvailable(added);
             }
         }
 
-        void removeRpc(final DOMRpcRoutingTable newTable, final DOMRpcImplementation impl) {
-            if (!listener.acceptsImplementation(impl)) {
-                return;
-            }
+        @Override
+        protected ToStringHelper addToStringAttributes(final ToStringHelper helper) {
+            return super.addToStringAttributes(helper.add("listener", listener));
+        }
+    }
 
-            final var rpcs = verifyNotNull(newTable.getOperations(listener));
-            final var diff = Maps.difference(prevRpcs, rpcs);
+    /**
+     * A batch of registrations and unregistrations, which are applied to the routing tables atomically.
+     */
+    @NonNullByDefault
+    final class RegistrationBatch
+            implements DOMRpcProviderBatchExtension.Batch, DOMActionProviderBatchExtension.Batch {
+        private final List<OperationReg> added = new ArrayList<>();
+        private final Set<OperationReg> removed = new LinkedHashSet<>();
 
-            final var removed = new ArrayList<DOMRpcIdentifier>();
-            for (var e : diff.entriesOnlyOnLeft().entrySet()) {
-                removed.addAll(Collections2.transform(e.getValue(), ref -> DOMRpcIdentifier.create(e.getKey(), ref)));
+        private boolean committed;
+
+        @Override
+        public synchronized Registration registerActionImplementation(final DOMActionImplementation implementation,
+                final Set<DOMActionInstance> instances) {
+            return stage(new ActionReg(implementation, instances));
+        }
+
+        @Override
+        public synchronized Registration registerRpcImplementation(final DOMRpcImplementation implementation,
+                final Set<DOMRpcIdentifier> rpcs) {
+            return stage(new RpcReg(implementation, rpcs));
+        }
+
+        @Override
+        public synchronized Registration registerRpcImplementations(
+                final Map<DOMRpcIdentifier, DOMRpcImplementation> map) {
+            return stage(new RpcsReg(map));
+        }
+
+        @Override
+        public synchronized void unregister(final Registration registration) {
+            checkNotCommitted();
+            if (!(registration instanceof OperationReg reg) || reg.router() != DOMRpcRouter.this) {
+                throw new IllegalArgumentException("Registration " + registration + " does not belong to this router");
             }
-            for (var e : diff.entriesDiffering().entrySet()) {
-                for (var ref : Sets.difference(e.getValue().leftValue(), e.getValue().rightValue())) {
-                    removed.add(DOMRpcIdentifier.create(e.getKey(), ref));
+            removed.add(reg);
+        }
+
+        @Override
+        public synchronized void commit() {
+            checkNotCommitted();
+            committed = true;
+
+            synchronized (DOMRpcRouter.this) {
+                final var update = new TableUpdate();
+                for (var reg : removed) {
+                    reg.deactivate(update);
+                }
+                for (var reg : added) {
+                    // Registrations staged and unregistered in this batch must not end up in the routing table
+                    if (!removed.contains(reg)) {
+                        reg.activate(update);
+                    }
                 }
+                update.commit();
             }
 
-            prevRpcs = rpcs;
-            if (!removed.isEmpty()) {
-                listener.onRpcUnavailable(removed);
+            // Removed registrations are not active anymore, hence this does not touch the routing table
+            for (var reg : removed) {
+                reg.close();
             }
         }
 
-        @Override
-        protected ToStringHelper addToStringAttributes(ToStringHelper helper) {
-            return super.addToStringAttributes(helper.add("listener", listener));
+        private OperationReg stage(final OperationReg reg) {
+            checkNotCommitted();
+            added.add(reg);
+            return reg;
+        }
+
+        private void checkNotCommitted() {
+            if (committed) {
+                throw new IllegalStateException("Batch has already been committed");
+            }
         }
     }
 
@@ -310,6 +568,8 @@ public final class DOMRpcRouter extends AbstractRegistration {
         .factory();
 
     private final ExecutorService listenerNotifier = Executors.newSingleThreadExecutor(THREAD_FACTORY);
+    private final @NonNull OperationDispatcher dispatcher;
+    private final @Nullable RpcCoalescer coalescer;
 
     @GuardedBy("this")
     private ImmutableList<RpcAvailReg> listeners = ImmutableList.of();
@@ -320,10 +580,59 @@ public final class DOMRpcRouter extends AbstractRegistration {
     private Registration listenerRegistration;
 
     @Inject
-    @Activate
-    public DOMRpcRouter(@Reference final DOMSchemaService schemaService) {
+    public DOMRpcRouter(final DOMSchemaService schemaService) {
+        this(schemaService, OperationDispatchPolicy.FIRST);
+    }
+
+    public DOMRpcRouter(final DOMSchemaService schemaService, final OperationDispatchPolicy dispatchPolicy) {
+        this(schemaService, dispatchPolicy, null);
+    }
+
+    public DOMRpcRouter(final DOMSchemaService schemaService, final OperationDispatchPolicy dispatchPolicy,
+            final @Nullable OperationConcurrencyLimits concurrencyLimits) {
+        this(schemaService, dispatchPolicy, concurrencyLimits, Map.of());
+    }
+
+    /**
+     * Construct a new router.
+     *
+     * @param schemaService schema service
+     * @param dispatchPolicy policy for selecting among multiple implementations
+     * @param concurrencyLimits optional per-implementation concurrency limits
+     * @param coalescedRpcs idempotent RPCs whose concurrent invocations with equal input should share a single
+     *                      invocation, mapped to the time-to-live of their cached results. {@link Duration#ZERO}
+     *                      disables caching.
+     */
+    public DOMRpcRouter(final DOMSchemaService schemaService, final OperationDispatchPolicy dispatchPolicy,
+            final @Nullable OperationConcurrencyLimits concurrencyLimits, final Map<QName, Duration> coalescedRpcs) {
+        dispatcher = OperationDispatcher.of(dispatchPolicy, concurrencyLimits);
+        coalescer = coalescedRpcs.isEmpty() ? null : new RpcCoalescer(coalescedRpcs);
         listenerRegistration = schemaService.registerSchemaContextListener(this::onModelContextUpdated);
-        LOG.info("DOM RPC/Action router started");
+        LOG.info("DOM RPC/Action router started with {}", dispatcher);
+    }
+
+    @Activate
+    public DOMRpcRouter(@Reference final DOMSchemaService schemaService, final Config config) {
+        this(schemaService, config.dispatchPolicy(), config.concurrencyLimit() == 0 ? null
+            : new OperationConcurrencyLimits(config.concurrencyLimitAlgorithm(), config.concurrencyLimit(),
+                config.concurrencyQueueDepth(), Duration.ofMillis(config.concurrencyLatencyTarget())),
+            parseCoalescedRpcs(config.coalescedRpcs()));
+    }
+
+    @VisibleForTesting
+    static Map<QName, Duration> parseCoalescedRpcs(final String[] specs) {
+        final var ret = new HashMap<QName, Duration>();
+        for (var spec : specs) {
+            // Note: QName string format may contain '=' as part of revision, hence we look after the closing paren
+            final int eq = spec.lastIndexOf('=');
+            if (eq > spec.indexOf(')')) {
+                ret.put(QName.create(spec.substring(0, eq).strip()),
+                    Duration.ofMillis(Long.parseLong(spec.substring(eq + 1).strip())));
+            } else {
+                ret.put(QName.create(spec.strip()), Duration.ZERO);
+            }
+        }
+        return ret;
     }
 
     @PreDestroy
@@ -338,11 +647,28 @@ public final class DOMRpcRouter extends AbstractRegistration {
         checkArgument(!path.path().isEmpty(), "Action path must not be empty");
 
         final var entry = (DOMActionRoutingTableEntry) actionRoutingTable.getEntry(type);
-        return entry != null ? OperationInvocation.invoke(entry, type, path, requireNonNull(input))
+        return entry != null ? OperationInvocation.invoke(dispatcher, entry, type, path, requireNonNull(input))
             : Futures.immediateFailedFuture(
                 new DOMActionNotAvailableException("No implementation of Action %s available", type));
     }
 
+    @NonNullByDefault
+    Map<DOMDataTreeIdentifier, ListenableFuture<? extends DOMRpcResult>> invokeActions(final Absolute type,
+            final Map<DOMDataTreeIdentifier, ContainerNode> inputs) {
+        for (var path : inputs.keySet()) {
+            checkArgument(!path.path().isEmpty(), "Action path must not be empty");
+        }
+
+        final var entry = (DOMActionRoutingTableEntry) actionRoutingTable.getEntry(type);
+        if (entry != null) {
+            return OperationInvocation.invokeBatch(dispatcher, entry, type, inputs);
+        }
+
+        final var failure = Futures.<DOMRpcResult>immediateFailedFuture(
+            new DOMActionNotAvailableException("No implementation of Action %s available", type));
+        return Maps.toMap(inputs.keySet(), path -> failure);
+    }
+
     @NonNullByDefault
     synchronized Registration registerAvailabilityListener(final AvailabilityListener listener) {
         final var ret = new ActionAvailReg(this, listener, actionRoutingTable.getOperations(listener));
@@ -358,28 +684,20 @@ public final class DOMRpcRouter extends AbstractRegistration {
     @NonNullByDefault
     Registration registerActionImplementation(final DOMActionImplementation implementation,
              final Set<DOMActionInstance> instances) {
-        final var reg = new ActionReg(implementation, instances);
-        if (reg.instances.isEmpty()) {
-            throw new IllegalArgumentException("Instances must not be empty");
-        }
-
-        synchronized (this) {
-            final var oldTable = actionRoutingTable;
-            final var newTable = (DOMActionRoutingTable) oldTable.add(implementation, reg.instances);
-            actionRoutingTable = newTable;
-
-            listenerNotifier.execute(() -> notifyActionChanged(newTable, implementation));
-        }
-
-        return reg;
+        return register(new ActionReg(implementation, instances));
     }
 
     @NonNullByDefault
     ListenableFuture<? extends DOMRpcResult> invokeRpc(final QName type, final ContainerNode input) {
         final var entry = (DOMRpcRoutingTableEntry) routingTable.getEntry(type);
-        return entry != null ? OperationInvocation.invoke(entry, requireNonNull(input))
-            : Futures.immediateFailedFuture(
+        if (entry == null) {
+            return Futures.immediateFailedFuture(
                 new DOMRpcImplementationNotAvailableException("No implementation of RPC %s available", type));
+        }
+
+        final var local = coalescer;
+        return local == null ? OperationInvocation.invoke(dispatcher, entry, requireNonNull(input))
+            : local.invoke(type, requireNonNull(input), () -> OperationInvocation.invoke(dispatcher, entry, input));
     }
 
     @NonNullByDefault
@@ -394,37 +712,34 @@ public final class DOMRpcRouter extends AbstractRegistration {
     @NonNullByDefault
     Registration registerRpcImplementation(final DOMRpcImplementation implementation,
             final Set<DOMRpcIdentifier> rpcs) {
-        final var reg = new RpcReg(implementation, rpcs);
-
-        synchronized (this) {
-            final var oldTable = routingTable;
-            final var newTable = (DOMRpcRoutingTable) oldTable.add(implementation, reg.instances);
-            routingTable = newTable;
-
-            listenerNotifier.execute(() -> notifyAdded(newTable, implementation));
-        }
-
-        return reg;
+        return register(new RpcReg(implementation, rpcs));
     }
 
     @NonNullByDefault
     Registration registerRpcImplementations(final Map<DOMRpcIdentifier, DOMRpcImplementation> map) {
-        final var reg = new RpcsReg(map);
-        if (reg.table.isEmpty()) {
-            throw new IllegalArgumentException("Implementation map must not be empty");
-        }
-
-        synchronized (this) {
-            final var oldTable = routingTable;
-            final var newTable = (DOMRpcRoutingTable) oldTable.addAll(reg.table);
-            routingTable = newTable;
-
-            listenerNotifier.execute(() -> notifyAdded(newTable, reg.table.values()));
-        }
+        return register(new RpcsReg(map));
+    }
 
+    @NonNullByDefault
+    private synchronized OperationReg register(final OperationReg reg) {
+        final var update = new TableUpdate();
+        reg.activate(update);
+        update.commit();
         return reg;
     }
 
+    /**
+     * Create a new batch of registrations. All registrations and unregistrations performed through the batch are
+     * applied atomically when it is committed, resulting in a single routing table update and a single availability
+     * notification.
+     *
+     * @return A new batch
+     */
+    @NonNullByDefault
+    RegistrationBatch newBatch() {
+        return new RegistrationBatch();
+    }
+
     private synchronized void removeListener(final RpcAvailReg reg) {
         listeners = listeners.stream()
             .filter(input -> !reg.equals(input))
@@ -437,43 +752,6 @@ public final class DOMRpcRouter extends AbstractRegistration {
             .collect(ImmutableList.toImmutableList());
     }
 
-    private synchronized void notifyAdded(final DOMRpcRoutingTable newTable, final DOMRpcImplementation impl) {
-        for (var l : listeners) {
-            l.addRpc(newTable, impl);
-        }
-    }
-
-    private synchronized void notifyAdded(final DOMRpcRoutingTable newTable,
-            final Collection<? extends DOMRpcImplementation> impls) {
-        for (var l : listeners) {
-            for (var impl : impls) {
-                l.addRpc(newTable, impl);
-            }
-        }
-    }
-
-    private synchronized void notifyRemoved(final DOMRpcRoutingTable newTable, final DOMRpcImplementation impl) {
-        for (var l : listeners) {
-            l.removeRpc(newTable, impl);
-        }
-    }
-
-    private synchronized void notifyRemoved(final DOMRpcRoutingTable newTable,
-            final Collection<? extends DOMRpcImplementation> impls) {
-        for (var l : listeners) {
-            for (DOMRpcImplementation impl : impls) {
-                l.removeRpc(newTable, impl);
-            }
-        }
-    }
-
-    private synchronized void notifyActionChanged(final DOMActionRoutingTable newTable,
-            final DOMActionImplementation impl) {
-        for (var l : actionListeners) {
-            l.actionChanged(newTable, impl);
-        }
-    }
-
     synchronized void onModelContextUpdated(final @NonNull EffectiveModelContext newModelContext) {
         final var oldTable = routingTable;
         final var newTable = (DOMRpcRoutingTable) oldTable.setSchemaContext(newModelContext);
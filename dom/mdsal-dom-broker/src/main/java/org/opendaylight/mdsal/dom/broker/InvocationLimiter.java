@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.dom.broker;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
+import com.google.errorprone.annotations.concurrent.GuardedBy;
+import java.util.Queue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.mdsal.dom.api.DOMRpcResult;
+
+/**
+ * Tracks in-flight invocations of a single implementation and, if {@link OperationConcurrencyLimits} are configured,
+ * enforces them. Acquiring a permit is lock-free, adaptive limit updates are serialized on completion.
+ */
+@NonNullByDefault
+final class InvocationLimiter {
+    private static final ThreadLocal<InvocationLimiter> DRAINING = new ThreadLocal<>();
+    private static final double AIMD_BACKOFF = 0.9;
+    private static final int VEGAS_ALPHA = 3;
+    private static final int VEGAS_BETA = 6;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+    private final @Nullable OperationConcurrencyLimits limits;
+    private final long latencyTargetNanos;
+
+    private volatile int limit;
+
+    @GuardedBy("this")
+    private double aimdLimit;
+    @GuardedBy("this")
+    private long minLatencyNanos = Long.MAX_VALUE;
+
+    InvocationLimiter(final @Nullable OperationConcurrencyLimits limits) {
+        this.limits = limits;
+        if (limits != null) {
+            limit = limits.maxInFlight();
+            aimdLimit = limit;
+            latencyTargetNanos = limits.latencyTarget().toNanos();
+        } else {
+            limit = Integer.MAX_VALUE;
+            latencyTargetNanos = Long.MAX_VALUE;
+        }
+    }
+
+    int inFlight() {
+        return inFlight.get();
+    }
+
+    int limit() {
+        return limit;
+    }
+
+    /**
+     * Attempt to acquire a permit to invoke the implementation.
+     *
+     * @return {@code true} if the permit has been acquired
+     */
+    boolean tryAcquire() {
+        if (limits == null) {
+            inFlight.incrementAndGet();
+            return true;
+        }
+
+        while (true) {
+            final int current = inFlight.get();
+            if (current >= limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Perform an invocation with a previously-acquired permit, releasing it once the invocation completes.
+     *
+     * @param invocation the invocation
+     * @return invocation result
+     */
+    ListenableFuture<? extends DOMRpcResult> invoke(
+            final Supplier<ListenableFuture<? extends DOMRpcResult>> invocation) {
+        final long startNanos = System.nanoTime();
+        final var future = invocation.get();
+        future.addListener(() -> release(System.nanoTime() - startNanos, isFailed(future)),
+            MoreExecutors.directExecutor());
+        return future;
+    }
+
+    /**
+     * Queue an invocation to be performed once a permit becomes available.
+     *
+     * @param invocation the invocation
+     * @return invocation result, or {@code null} if the queue is full
+     */
+    @Nullable ListenableFuture<? extends DOMRpcResult> enqueue(
+            final Supplier<ListenableFuture<? extends DOMRpcResult>> invocation) {
+        final var local = limits;
+        if (local == null || queued.incrementAndGet() > local.queueDepth()) {
+            queued.decrementAndGet();
+            return null;
+        }
+
+        final var result = SettableFuture.<DOMRpcResult>create();
+        queue.add(() -> result.setFuture(invoke(invocation)));
+        drain();
+        return result;
+    }
+
+    private void release(final long latencyNanos, final boolean failed) {
+        final var local = limits;
+        if (local != null && local.algorithm() != OperationConcurrencyLimits.Algorithm.FIXED) {
+            updateLimit(local, latencyNanos, failed);
+        }
+        inFlight.decrementAndGet();
+        drain();
+    }
+
+    private synchronized void updateLimit(final OperationConcurrencyLimits local, final long latencyNanos,
+            final boolean failed) {
+        final int max = local.maxInFlight();
+        final int current = limit;
+        // Do not grow the limit unless it is actually being used
+        final boolean utilized = inFlight.get() * 2 >= current;
+
+        switch (local.algorithm()) {
+            case AIMD -> {
+                if (failed || latencyNanos > latencyTargetNanos) {
+                    aimdLimit = Math.max(1, aimdLimit * AIMD_BACKOFF);
+                } else if (utilized) {
+                    aimdLimit = Math.min(max, aimdLimit + 1.0 / aimdLimit);
+                }
+                limit = (int) aimdLimit;
+            }
+            case VEGAS -> {
+                minLatencyNanos = Math.min(minLatencyNanos, Math.max(1, latencyNanos));
+                final long estimatedQueue = (long) Math.ceil(current * (1.0 - (double) minLatencyNanos
+                    / Math.max(1, latencyNanos)));
+                if (failed || estimatedQueue > VEGAS_BETA) {
+                    limit = Math.max(1, current - 1);
+                } else if (estimatedQueue < VEGAS_ALPHA && utilized) {
+                    limit = Math.min(max, current + 1);
+                }
+            }
+            default -> throw new IllegalStateException("Unhandled algorithm " + local.algorithm());
+        }
+    }
+
+    // Run queued invocations for as long as permits are available. Invocations which complete immediately would
+    // release their permit on this thread, we do not recurse in that case, but rather continue in the outer loop.
+    private void drain() {
+        final var prev = DRAINING.get();
+        if (queued.get() == 0 || prev == this) {
+            return;
+        }
+
+        DRAINING.set(this);
+        try {
+            while (!queue.isEmpty() && tryAcquire()) {
+                final var next = queue.poll();
+                if (next == null) {
+                    inFlight.decrementAndGet();
+                    continue;
+                }
+                // The acquired permit is released when the invocation completes
+                queued.decrementAndGet();
+                next.run();
+            }
+        } finally {
+            if (prev != null) {
+                DRAINING.set(prev);
+            } else {
+                DRAINING.remove();
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).omitNullValues()
+            .add("inFlight", inFlight)
+            .add("queued", queued)
+            .add("limit", limits == null ? null : limit)
+            .toString();
+    }
+
+    private static boolean isFailed(final ListenableFuture<?> future) {
+        try {
+            Futures.getDone(future);
+            return false;
+        } catch (ExecutionException | CancellationException e) {
+            return true;
+        }
+    }
+}
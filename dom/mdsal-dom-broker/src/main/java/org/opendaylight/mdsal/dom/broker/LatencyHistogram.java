@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.dom.broker;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import org.eclipse.jdt.annotation.NonNull;
+import org.opendaylight.mdsal.dom.broker.DOMNotificationRouterMetrics.LatencyStatistics;
+
+/**
+ * A lock-free histogram of latencies. Samples are counted in buckets of exponentially-increasing width, bucket
+ * {@code N} holding samples in range {@code [2^N, 2^(N+1))} nanoseconds. Percentiles are therefore approximate, with
+ * the reported value being the upper bound of the bucket the percentile falls into.
+ */
+final class LatencyHistogram {
+    private static final int BUCKETS = Long.SIZE;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+    private final LongAdder total = new LongAdder();
+
+    void record(final long nanos) {
+        final long sample = Math.max(nanos, 0);
+        buckets.incrementAndGet(BUCKETS - 1 - Long.numberOfLeadingZeros(sample | 1));
+        total.add(sample);
+        max.accumulate(sample);
+    }
+
+    @NonNull LatencyStatistics toStatistics() {
+        final var counts = new long[BUCKETS];
+        long count = 0;
+        for (int i = 0; i < BUCKETS; ++i) {
+            counts[i] = buckets.get(i);
+            count += counts[i];
+        }
+        if (count == 0) {
+            return LatencyStatistics.EMPTY;
+        }
+
+        final long maxNanos = max.get();
+        return new LatencyStatistics(count, total.sum() / count, percentile(counts, count, 50, maxNanos),
+            percentile(counts, count, 99, maxNanos), maxNanos);
+    }
+
+    private static long percentile(final long[] counts, final long count, final int percentile, final long maxNanos) {
+        final long threshold = (count * percentile + 99) / 100;
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; ++i) {
+            seen += counts[i];
+            if (seen >= threshold) {
+                return i == BUCKETS - 1 ? maxNanos : Math.min((1L << i + 1) - 1, maxNanos);
+            }
+        }
+        return maxNanos;
+    }
+}
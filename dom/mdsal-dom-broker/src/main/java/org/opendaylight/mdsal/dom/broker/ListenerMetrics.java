@@ -0,0 +1,23 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.dom.broker;
+
+/**
+ * Latencies of notifications delivered to a single registration of {@link DOMNotificationRouter}, recorded on the
+ * delivery path. Queue depth is not tracked here, as it is reported by the router's
+ * {@link org.opendaylight.yangtools.util.concurrent.QueuedNotificationManager}.
+ */
+final class ListenerMetrics {
+    final LatencyHistogram queueWait = new LatencyHistogram();
+    final LatencyHistogram delivery = new LatencyHistogram();
+
+    void delivered(final long queueWaitNanos, final long deliveryNanos) {
+        queueWait.record(queueWaitNanos);
+        delivery.record(deliveryNanos);
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.dom.broker;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * Limits on the number of concurrent invocations of a single RPC or action implementation. Once an implementation
+ * reaches its limit, further invocations are dispatched to an alternative implementation, if one is available,
+ * queued up to {@link #queueDepth()}, or failed.
+ *
+ * @param algorithm limit algorithm
+ * @param maxInFlight maximum number of in-flight invocations of a single implementation, must be positive. Adaptive
+ *                    algorithms start at and never exceed this limit.
+ * @param queueDepth maximum number of invocations queued on a saturated implementation, {@code 0} means saturated
+ *                   invocations fail immediately
+ * @param latencyTarget latency above which {@link Algorithm#AIMD} considers an implementation overloaded
+ */
+@NonNullByDefault
+public record OperationConcurrencyLimits(Algorithm algorithm, int maxInFlight, int queueDepth,
+        Duration latencyTarget) {
+    /**
+     * Algorithm for computing the effective limit.
+     */
+    public enum Algorithm {
+        /**
+         * The limit is always {@link OperationConcurrencyLimits#maxInFlight()}.
+         */
+        FIXED,
+        /**
+         * Additive-increase/multiplicative-decrease: the limit grows by one for each limit's worth of invocations
+         * which completed within {@link OperationConcurrencyLimits#latencyTarget()} and shrinks by 10% on each
+         * invocation which failed or exceeded it.
+         */
+        AIMD,
+        /**
+         * TCP Vegas-style limit: the number of queued invocations is estimated from the ratio of the observed and
+         * minimum latency and the limit is adjusted to keep that estimate between 3 and 6.
+         */
+        VEGAS;
+    }
+
+    public OperationConcurrencyLimits {
+        requireNonNull(algorithm);
+        requireNonNull(latencyTarget);
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("Invalid maximum in-flight invocations " + maxInFlight);
+        }
+        if (queueDepth < 0) {
+            throw new IllegalArgumentException("Invalid queue depth " + queueDepth);
+        }
+        if (latencyTarget.isNegative() || latencyTarget.isZero()) {
+            throw new IllegalArgumentException("Invalid latency target " + latencyTarget);
+        }
+    }
+}
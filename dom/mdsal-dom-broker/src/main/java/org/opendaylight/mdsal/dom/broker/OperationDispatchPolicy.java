@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.dom.broker;
+
+import org.opendaylight.mdsal.dom.api.DOMOperationImplementation;
+
+/**
+ * Policy used by {@link DOMRpcRouter} to select among multiple implementations registered for the same RPC or action
+ * instance. Unless stated otherwise, a policy only considers the implementations with the lowest
+ * {@link DOMOperationImplementation#invocationCost()}.
+ */
+public enum OperationDispatchPolicy {
+    /**
+     * Always invoke the first implementation with the lowest cost. This is the default.
+     */
+    FIRST,
+    /**
+     * Invoke the implementation with the least number of outstanding invocations.
+     */
+    LEAST_OUTSTANDING,
+    /**
+     * Invoke implementations in turn, each receiving a share of invocations inversely proportional to its cost. Unlike
+     * other policies, this one considers all implementations.
+     */
+    WEIGHTED_ROUND_ROBIN,
+    /**
+     * Pick two implementations at random and invoke the one with less outstanding invocations.
+     */
+    POWER_OF_TWO_CHOICES;
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.dom.broker;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.MapMaker;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import java.util.List;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.mdsal.dom.api.DOMOperationImplementation;
+import org.opendaylight.mdsal.dom.api.DOMRpcResult;
+
+/**
+ * Selects the implementation to invoke according to an {@link OperationDispatchPolicy}. Policies which need to know
+ * the number of outstanding invocations, as well as {@link OperationConcurrencyLimits}, maintain an
+ * {@link InvocationLimiter} for each implementation. Limiters are weakly keyed, so they do not prevent unregistered
+ * implementations from being garbage-collected.
+ */
+@NonNullByDefault
+final class OperationDispatcher {
+    static final OperationDispatcher FIRST = new OperationDispatcher(OperationDispatchPolicy.FIRST, null);
+
+    private final ConcurrentMap<DOMOperationImplementation, InvocationLimiter> limiters =
+        new MapMaker().weakKeys().makeMap();
+    private final AtomicLong sequence = new AtomicLong();
+    private final OperationDispatchPolicy policy;
+    private final @Nullable OperationConcurrencyLimits limits;
+
+    OperationDispatcher(final OperationDispatchPolicy policy, final @Nullable OperationConcurrencyLimits limits) {
+        this.policy = requireNonNull(policy);
+        this.limits = limits;
+    }
+
+    static OperationDispatcher of(final OperationDispatchPolicy policy) {
+        return of(policy, null);
+    }
+
+    static OperationDispatcher of(final OperationDispatchPolicy policy,
+            final @Nullable OperationConcurrencyLimits limits) {
+        return policy == OperationDispatchPolicy.FIRST && limits == null ? FIRST
+            : new OperationDispatcher(policy, limits);
+    }
+
+    OperationDispatchPolicy policy() {
+        return policy;
+    }
+
+    /**
+     * Select an implementation and invoke it.
+     *
+     * @param <M> implementation type
+     * @param impls implementations, sorted by ascending invocation cost, must not be empty
+     * @param invoker invocation function, expected to report failures via returned future
+     * @param saturated supplier of the failure reported when all implementations are saturated
+     * @return invocation result
+     */
+    <M extends DOMOperationImplementation> ListenableFuture<? extends DOMRpcResult> dispatch(final List<M> impls,
+            final Function<M, ListenableFuture<? extends DOMRpcResult>> invoker,
+            final Supplier<? extends Exception> saturated) {
+        final var selected = switch (policy) {
+            case FIRST -> impls.getFirst();
+            case WEIGHTED_ROUND_ROBIN -> weightedRoundRobin(impls);
+            case LEAST_OUTSTANDING -> leastOutstanding(impls);
+            case POWER_OF_TWO_CHOICES -> powerOfTwoChoices(impls);
+        };
+
+        if (limits != null) {
+            return limited(impls, selected, invoker, saturated);
+        }
+        return switch (policy) {
+            case FIRST, WEIGHTED_ROUND_ROBIN -> invoker.apply(selected);
+            case LEAST_OUTSTANDING, POWER_OF_TWO_CHOICES -> {
+                final var limiter = limiter(selected);
+                limiter.tryAcquire();
+                yield limiter.invoke(() -> invoker.apply(selected));
+            }
+        };
+    }
+
+    int outstanding(final DOMOperationImplementation impl) {
+        final var limiter = limiters.get(impl);
+        return limiter == null ? 0 : limiter.inFlight();
+    }
+
+    private <M extends DOMOperationImplementation> ListenableFuture<? extends DOMRpcResult> limited(
+            final List<M> impls, final M selected, final Function<M, ListenableFuture<? extends DOMRpcResult>> invoker,
+            final Supplier<? extends Exception> saturated) {
+        final var limiter = limiter(selected);
+        if (limiter.tryAcquire()) {
+            return limiter.invoke(() -> invoker.apply(selected));
+        }
+
+        // Selected implementation is saturated, spill over to any other implementation with spare capacity
+        for (var impl : impls) {
+            if (impl != selected) {
+                final var other = limiter(impl);
+                if (other.tryAcquire()) {
+                    return other.invoke(() -> invoker.apply(impl));
+                }
+            }
+        }
+
+        final var queued = limiter.enqueue(() -> invoker.apply(selected));
+        return queued != null ? queued : Futures.immediateFailedFuture(saturated.get());
+    }
+
+    private InvocationLimiter limiter(final DOMOperationImplementation impl) {
+        final var existing = limiters.get(impl);
+        return existing != null ? existing : limiters.computeIfAbsent(impl, key -> new InvocationLimiter(limits));
+    }
+
+    private <M extends DOMOperationImplementation> M leastOutstanding(final List<M> impls) {
+        final int size = cheapestCount(impls);
+        var best = impls.getFirst();
+        if (size != 1) {
+            int bestCount = outstanding(best);
+            for (int i = 1; i < size && bestCount != 0; ++i) {
+                final var impl = impls.get(i);
+                final int count = outstanding(impl);
+                if (count < bestCount) {
+                    best = impl;
+                    bestCount = count;
+                }
+            }
+        }
+        return best;
+    }
+
+    private <M extends DOMOperationImplementation> M powerOfTwoChoices(final List<M> impls) {
+        final int size = cheapestCount(impls);
+        if (size == 1) {
+            return impls.getFirst();
+        }
+
+        final var random = ThreadLocalRandom.current();
+        final int first = random.nextInt(size);
+        int second = random.nextInt(size - 1);
+        if (second >= first) {
+            second++;
+        }
+
+        final var firstImpl = impls.get(first);
+        final var secondImpl = impls.get(second);
+        return outstanding(secondImpl) < outstanding(firstImpl) ? secondImpl : firstImpl;
+    }
+
+    private <M extends DOMOperationImplementation> M weightedRoundRobin(final List<M> impls) {
+        // Routing table entries hold OperationImplementations, hence weights are usually computed already
+        return impls.size() == 1 ? impls.getFirst()
+            : OperationImplementations.of(impls).weightedRoundRobin(sequence.getAndIncrement());
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).omitNullValues().add("policy", policy).add("limits", limits).toString();
+    }
+
+    // Number of leading implementations sharing the lowest cost
+    private static int cheapestCount(final List<? extends DOMOperationImplementation> impls) {
+        final long cost = impls.getFirst().invocationCost();
+        int count = 1;
+        final int size = impls.size();
+        while (count < size && impls.get(count).invocationCost() == cost) {
+            count++;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.dom.broker;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.mdsal.dom.api.DOMOperationImplementation;
+
+/**
+ * Immutable list of implementations of an operation, sorted by ascending invocation cost, as held by
+ * {@link AbstractDOMRoutingTableEntry}. It also holds the weights used by
+ * {@link OperationDispatchPolicy#WEIGHTED_ROUND_ROBIN}, so they are computed once when the set of implementations
+ * changes rather than on each invocation.
+ *
+ * @param <M> implementation type
+ */
+@NonNullByDefault
+final class OperationImplementations<M extends DOMOperationImplementation> extends AbstractList<M>
+        implements RandomAccess {
+    // Upper bound on the weight of a single implementation
+    private static final int MAX_WEIGHT = 1024;
+
+    private final List<M> impls;
+    // Running totals of weights, null if there is only a single implementation
+    private final long @Nullable [] cumulativeWeights;
+
+    private OperationImplementations(final List<M> impls) {
+        this.impls = requireNonNull(impls);
+
+        final int size = impls.size();
+        if (size > 1) {
+            final long maxCost = impls.stream().mapToLong(DOMOperationImplementation::invocationCost).max()
+                .orElseThrow();
+            cumulativeWeights = new long[size];
+            long total = 0;
+            for (int i = 0; i < size; ++i) {
+                total += weight(maxCost, impls.get(i).invocationCost());
+                cumulativeWeights[i] = total;
+            }
+        } else {
+            cumulativeWeights = null;
+        }
+    }
+
+    /**
+     * Return an {@link OperationImplementations} with the contents of specified list. If the list already is an
+     * {@link OperationImplementations}, it is returned as-is.
+     *
+     * @param <M> implementation type
+     * @param impls implementations, sorted by ascending invocation cost
+     * @return An {@link OperationImplementations}
+     */
+    static <M extends DOMOperationImplementation> OperationImplementations<M> of(final List<M> impls) {
+        return impls instanceof OperationImplementations<M> existing ? existing
+            : new OperationImplementations<>(List.copyOf(impls));
+    }
+
+    /**
+     * Select an implementation according to {@link OperationDispatchPolicy#WEIGHTED_ROUND_ROBIN}.
+     *
+     * @param sequence invocation sequence number
+     * @return selected implementation
+     */
+    M weightedRoundRobin(final long sequence) {
+        final var weights = cumulativeWeights;
+        if (weights == null) {
+            return impls.getFirst();
+        }
+
+        // Each implementation covers the slots from the previous running total up to, but excluding, its own
+        final int found = Arrays.binarySearch(weights, Math.floorMod(sequence, weights[weights.length - 1]));
+        return impls.get(found >= 0 ? found + 1 : -found - 1);
+    }
+
+    @Override
+    public M get(final int index) {
+        return impls.get(index);
+    }
+
+    @Override
+    public int size() {
+        return impls.size();
+    }
+
+    private static int weight(final long maxCost, final long cost) {
+        final double weight = (1.0 + maxCost) / (1.0 + cost);
+        return weight >= MAX_WEIGHT ? MAX_WEIGHT : Math.max(1, (int) Math.round(weight));
+    }
+}
@@ -7,8 +7,16 @@
  */
 package org.opendaylight.mdsal.dom.broker;
 
+import com.google.common.collect.Maps;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.mdsal.dom.api.DOMActionBatchImplementation;
 import org.opendaylight.mdsal.dom.api.DOMActionImplementation;
 import org.opendaylight.mdsal.dom.api.DOMActionNotAvailableException;
 import org.opendaylight.mdsal.dom.api.DOMDataTreeIdentifier;
@@ -33,35 +41,88 @@ final class OperationInvocation {
 
     static ListenableFuture<? extends DOMRpcResult> invoke(final DOMActionRoutingTableEntry entry,
             final Absolute type, final DOMDataTreeIdentifier path, final ContainerNode input) {
-        var impls = entry.getImplementations(path);
-        if (impls == null) {
-            impls = entry.getImplementations(DOMDataTreeIdentifier.of(path.datastore(), YangInstanceIdentifier.of()));
+        return invoke(OperationDispatcher.FIRST, entry, type, path, input);
+    }
+
+    static ListenableFuture<? extends DOMRpcResult> invoke(final OperationDispatcher dispatcher,
+            final DOMActionRoutingTableEntry entry, final Absolute type, final DOMDataTreeIdentifier path,
+            final ContainerNode input) {
+        final var impls = findImplementations(entry, path);
+        return impls != null ? invoke(dispatcher, impls, type, path, input) : noImplementation(type, path);
+    }
+
+    /**
+     * Invoke an action on a number of paths. Paths whose preferred implementation is a
+     * {@link DOMActionBatchImplementation} are grouped by that implementation and handed to it in a single call,
+     * bypassing dispatch. All other paths are dispatched individually.
+     */
+    static Map<DOMDataTreeIdentifier, ListenableFuture<? extends DOMRpcResult>> invokeBatch(
+            final OperationDispatcher dispatcher, final DOMActionRoutingTableEntry entry, final Absolute type,
+            final Map<DOMDataTreeIdentifier, ContainerNode> inputs) {
+        final var results = LinkedHashMap.<DOMDataTreeIdentifier, ListenableFuture<? extends DOMRpcResult>>
+            newLinkedHashMap(inputs.size());
+        final var batches = new HashMap<DOMActionBatchImplementation, Map<DOMDataTreeIdentifier, ContainerNode>>();
+
+        for (var input : inputs.entrySet()) {
+            final var path = input.getKey();
+            final var impls = findImplementations(entry, path);
             if (impls == null) {
-                return Futures.immediateFailedFuture(new DOMActionNotAvailableException(
-                    "No implementation of Action %s available for %s", type, path));
+                results.put(path, noImplementation(type, path));
+            } else if (impls.getFirst() instanceof DOMActionBatchImplementation batch) {
+                // Reserve the slot to retain iteration order
+                results.put(path, null);
+                batches.computeIfAbsent(batch, unused -> new LinkedHashMap<>()).put(path, input.getValue());
+            } else {
+                results.put(path, invoke(dispatcher, impls, type, path, input.getValue()));
             }
         }
 
-        return invokeAction(impls.getFirst(), type, path, input);
+        batches.forEach((impl, batch) -> results.putAll(invokeBatch(impl, type, batch)));
+        return Collections.unmodifiableMap(results);
+    }
+
+    private static @Nullable List<DOMActionImplementation> findImplementations(final DOMActionRoutingTableEntry entry,
+            final DOMDataTreeIdentifier path) {
+        final var impls = entry.getImplementations(path);
+        return impls != null ? impls
+            : entry.getImplementations(DOMDataTreeIdentifier.of(path.datastore(), YangInstanceIdentifier.of()));
+    }
+
+    private static ListenableFuture<? extends DOMRpcResult> noImplementation(final Absolute type,
+            final DOMDataTreeIdentifier path) {
+        return Futures.immediateFailedFuture(new DOMActionNotAvailableException(
+            "No implementation of Action %s available for %s", type, path));
+    }
+
+    private static ListenableFuture<? extends DOMRpcResult> invoke(final OperationDispatcher dispatcher,
+            final List<DOMActionImplementation> impls, final Absolute type, final DOMDataTreeIdentifier path,
+            final ContainerNode input) {
+        return dispatcher.dispatch(impls, impl -> invokeAction(impl, type, path, input),
+            () -> new DOMActionNotAvailableException("All implementations of Action %s are saturated", type));
     }
 
     static ListenableFuture<? extends DOMRpcResult> invoke(final DOMRpcRoutingTableEntry entry,
             final ContainerNode input) {
+        return invoke(OperationDispatcher.FIRST, entry, input);
+    }
+
+    static ListenableFuture<? extends DOMRpcResult> invoke(final OperationDispatcher dispatcher,
+            final DOMRpcRoutingTableEntry entry, final ContainerNode input) {
         return switch (entry) {
-            case GlobalDOMRpcRoutingTableEntry global -> invokeGlobalRpc(global, input);
-            case RoutedDOMRpcRoutingTableEntry routed -> invokeRoutedRpc(routed, input);
+            case GlobalDOMRpcRoutingTableEntry global -> invokeGlobalRpc(dispatcher, global, input);
+            case RoutedDOMRpcRoutingTableEntry routed -> invokeRoutedRpc(dispatcher, routed, input);
             case UnknownDOMRpcRoutingTableEntry unknown -> Futures.immediateFailedFuture(
                 new DOMRpcImplementationNotAvailableException("%s is not resolved to an RPC", entry.getType()));
         };
     }
 
-    private static ListenableFuture<? extends DOMRpcResult> invokeGlobalRpc(final GlobalDOMRpcRoutingTableEntry entry,
-            final ContainerNode input) {
-        return invokeRpc(entry.getImplementations(YangInstanceIdentifier.of()).getFirst(), entry.getRpcId(), input);
+    private static ListenableFuture<? extends DOMRpcResult> invokeGlobalRpc(final OperationDispatcher dispatcher,
+            final GlobalDOMRpcRoutingTableEntry entry, final ContainerNode input) {
+        return invokeRpc(dispatcher, entry.getImplementations(YangInstanceIdentifier.of()), entry.getRpcId(), input);
     }
 
-    private static ListenableFuture<? extends DOMRpcResult> invokeRoutedRpc(final RoutedDOMRpcRoutingTableEntry entry,
-            final ContainerNode input) {
+    private static ListenableFuture<? extends DOMRpcResult> invokeRoutedRpc(final OperationDispatcher dispatcher,
+            final RoutedDOMRpcRoutingTableEntry entry, final ContainerNode input) {
         final var maybeKey = NormalizedNodes.findNode(input, entry.getRpcId().getContextReference());
 
         // Routing key is present, attempt to deliver as a routed RPC
@@ -72,7 +133,7 @@ final class OperationInvocation {
                 // Find a DOMRpcImplementation for a specific iid
                 final var specificImpls = entry.getImplementations(iid);
                 if (specificImpls != null) {
-                    return invokeRpc(specificImpls.getFirst(), DOMRpcIdentifier.create(entry.getType(), iid), input);
+                    return invokeRpc(dispatcher, specificImpls, DOMRpcIdentifier.create(entry.getType(), iid), input);
                 }
 
                 LOG.debug("No implementation for context {} found will now look for wildcard id", iid);
@@ -81,7 +142,8 @@ final class OperationInvocation {
                 // implementation this way
                 final var mayBeRemoteImpls = entry.getImplementations(YangInstanceIdentifier.of());
                 if (mayBeRemoteImpls != null) {
-                    return invokeRpc(mayBeRemoteImpls.getFirst(), DOMRpcIdentifier.create(entry.getType(), iid), input);
+                    return invokeRpc(dispatcher, mayBeRemoteImpls, DOMRpcIdentifier.create(entry.getType(), iid),
+                        input);
                 }
             } else {
                 LOG.warn("Ignoring wrong context value {}", value);
@@ -90,7 +152,7 @@ final class OperationInvocation {
 
         final var impls = entry.getImplementations(null);
         if (impls != null) {
-            return invokeRpc(impls.getFirst(), entry.getRpcId(), input);
+            return invokeRpc(dispatcher, impls, entry.getRpcId(), input);
         }
 
         return Futures.immediateFailedFuture(new DOMRpcImplementationNotAvailableException(
@@ -108,6 +170,38 @@ final class OperationInvocation {
         }
     }
 
+    @SuppressWarnings("checkstyle:illegalCatch")
+    private static Map<DOMDataTreeIdentifier, ListenableFuture<? extends DOMRpcResult>> invokeBatch(
+            final DOMActionBatchImplementation impl, final Absolute type,
+            final Map<DOMDataTreeIdentifier, ContainerNode> inputs) {
+        final Map<DOMDataTreeIdentifier, ListenableFuture<? extends DOMRpcResult>> results;
+        try {
+            results = impl.invokeActions(type, inputs);
+        } catch (Exception e) {
+            LOG.debug("{} failed on batch of {}", impl, inputs.size(), e);
+            final var failure = Futures.<DOMRpcResult>immediateFailedFuture(
+                new DefaultDOMRpcException("Action implementation failed: " + e, e));
+            return Maps.toMap(inputs.keySet(), unused -> failure);
+        }
+
+        // Make sure each path has a result, even if the implementation has not provided one
+        final var ret = HashMap.<DOMDataTreeIdentifier, ListenableFuture<? extends DOMRpcResult>>newHashMap(
+            inputs.size());
+        for (var path : inputs.keySet()) {
+            final var result = results.get(path);
+            ret.put(path, result != null ? result : Futures.immediateFailedFuture(
+                new DOMActionNotAvailableException("%s did not provide a result for %s", impl, path)));
+        }
+        return ret;
+    }
+
+    private static ListenableFuture<? extends DOMRpcResult> invokeRpc(final OperationDispatcher dispatcher,
+            final List<DOMRpcImplementation> impls, final DOMRpcIdentifier rpc, final ContainerNode input) {
+        return dispatcher.dispatch(impls, impl -> invokeRpc(impl, rpc, input),
+            () -> new DOMRpcImplementationNotAvailableException("All implementations of RPC %s are saturated",
+                rpc.getType()));
+    }
+
     @SuppressWarnings("checkstyle:illegalCatch")
     private static ListenableFuture<? extends DOMRpcResult> invokeRpc(final DOMRpcImplementation impl,
             final DOMRpcIdentifier rpc, final ContainerNode input) {
@@ -9,6 +9,7 @@ package org.opendaylight.mdsal.dom.broker;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.List;
 import java.util.Set;
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -25,12 +26,19 @@ import org.osgi.service.component.annotations.Reference;
 @Component
 @NonNullByDefault
 public final class RouterDOMActionProviderService implements DOMActionProviderService {
+    private final List<Extension> supportedExtensions;
     private final DOMRpcRouter router;
 
     @Inject
     @Activate
     public RouterDOMActionProviderService(@Reference final DOMRpcRouter router) {
         this.router = requireNonNull(router);
+        supportedExtensions = List.of(new RouterDOMActionProviderBatchExtension(router));
+    }
+
+    @Override
+    public List<Extension> supportedExtensions() {
+        return supportedExtensions;
     }
 
     @Override
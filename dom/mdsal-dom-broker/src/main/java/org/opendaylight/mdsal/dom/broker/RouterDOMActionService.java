@@ -11,6 +11,7 @@ import static java.util.Objects.requireNonNull;
 
 import com.google.common.util.concurrent.ListenableFuture;
 import java.util.List;
+import java.util.Map;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -47,4 +48,10 @@ public final class RouterDOMActionService implements DOMActionService {
             final ContainerNode input) {
         return router.invokeAction(type, path, input);
     }
+
+    @Override
+    public Map<DOMDataTreeIdentifier, ListenableFuture<? extends DOMRpcResult>> invokeActions(final Absolute type,
+            final Map<DOMDataTreeIdentifier, ContainerNode> inputs) {
+        return router.invokeActions(type, inputs);
+    }
 }
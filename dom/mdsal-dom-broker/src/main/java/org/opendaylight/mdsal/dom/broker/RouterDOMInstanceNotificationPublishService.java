@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.dom.broker;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import java.util.concurrent.TimeUnit;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeIdentifier;
+import org.opendaylight.mdsal.dom.api.DOMInstanceNotificationPublishService;
+import org.opendaylight.mdsal.dom.api.DOMNotification;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+@Singleton
+@Component
+@NonNullByDefault
+public final class RouterDOMInstanceNotificationPublishService implements DOMInstanceNotificationPublishService {
+    private final DOMNotificationRouter router;
+
+    @Inject
+    @Activate
+    public RouterDOMInstanceNotificationPublishService(@Reference final DOMNotificationRouter router) {
+        this.router = requireNonNull(router);
+    }
+
+    @Override
+    public ListenableFuture<?> putNotification(final DOMDataTreeIdentifier path, final DOMNotification notification) {
+        return router.putInstanceNotification(path, notification);
+    }
+
+    @Override
+    public ListenableFuture<?> offerNotification(final DOMDataTreeIdentifier path,
+            final DOMNotification notification) {
+        return router.offerInstanceNotification(path, notification);
+    }
+
+    @Override
+    public ListenableFuture<?> offerNotification(final DOMDataTreeIdentifier path, final DOMNotification notification,
+            final long timeout, final TimeUnit unit) {
+        return router.offerInstanceNotification(path, notification, timeout, unit);
+    }
+}
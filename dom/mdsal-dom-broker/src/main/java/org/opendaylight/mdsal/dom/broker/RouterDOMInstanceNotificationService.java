@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.dom.broker;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.Executor;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeIdentifier;
+import org.opendaylight.mdsal.dom.api.DOMInstanceNotificationListener;
+import org.opendaylight.mdsal.dom.api.DOMInstanceNotificationService;
+import org.opendaylight.yangtools.concepts.Registration;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+@Singleton
+@Component
+@NonNullByDefault
+public final class RouterDOMInstanceNotificationService implements DOMInstanceNotificationService {
+    private final DOMNotificationRouter router;
+
+    @Inject
+    @Activate
+    public RouterDOMInstanceNotificationService(@Reference final DOMNotificationRouter router) {
+        this.router = requireNonNull(router);
+    }
+
+    @Override
+    public Registration registerNotificationListener(final DOMDataTreeIdentifier path, final QName type,
+            final DOMInstanceNotificationListener listener, final Executor executor) {
+        return router.registerInstanceNotificationListener(path, type, listener, executor);
+    }
+}
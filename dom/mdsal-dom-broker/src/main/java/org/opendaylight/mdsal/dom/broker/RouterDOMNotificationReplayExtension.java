@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.dom.broker;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Instant;
+import java.util.Collection;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.opendaylight.mdsal.dom.api.DOMNotificationListener;
+import org.opendaylight.mdsal.dom.api.DOMNotificationReplayExtension;
+import org.opendaylight.yangtools.concepts.Registration;
+import org.opendaylight.yangtools.yang.model.api.stmt.SchemaNodeIdentifier.Absolute;
+
+@NonNullByDefault
+final class RouterDOMNotificationReplayExtension implements DOMNotificationReplayExtension {
+    private final DOMNotificationRouter router;
+
+    RouterDOMNotificationReplayExtension(final DOMNotificationRouter router) {
+        this.router = requireNonNull(router);
+    }
+
+    @Override
+    public Registration registerNotificationListener(final DOMNotificationListener listener,
+            final Collection<Absolute> types, final Instant startTime) {
+        return router.registerNotificationListener(listener, types, startTime);
+    }
+}
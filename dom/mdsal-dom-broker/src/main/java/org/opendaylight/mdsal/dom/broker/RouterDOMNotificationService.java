@@ -10,6 +10,7 @@ package org.opendaylight.mdsal.dom.broker;
 import static java.util.Objects.requireNonNull;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -26,12 +27,20 @@ import org.osgi.service.component.annotations.Reference;
 @Component
 @NonNullByDefault
 public final class RouterDOMNotificationService implements DOMNotificationService {
+    private final List<Extension> supportedExtensions;
     private final DOMNotificationRouter router;
 
     @Inject
     @Activate
     public RouterDOMNotificationService(@Reference final DOMNotificationRouter router) {
         this.router = requireNonNull(router);
+        supportedExtensions = router.replayEnabled() ? List.of(new RouterDOMNotificationReplayExtension(router))
+            : List.of();
+    }
+
+    @Override
+    public List<Extension> supportedExtensions() {
+        return supportedExtensions;
     }
 
     @Override
@@ -0,0 +1,27 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.dom.broker;
+
+import static java.util.Objects.requireNonNull;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.opendaylight.mdsal.dom.api.DOMRpcProviderBatchExtension;
+
+@NonNullByDefault
+final class RouterDOMRpcProviderBatchExtension implements DOMRpcProviderBatchExtension {
+    private final DOMRpcRouter router;
+
+    RouterDOMRpcProviderBatchExtension(final DOMRpcRouter router) {
+        this.router = requireNonNull(router);
+    }
+
+    @Override
+    public Batch newBatch() {
+        return router.newBatch();
+    }
+}
@@ -9,6 +9,7 @@ package org.opendaylight.mdsal.dom.broker;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import javax.inject.Inject;
@@ -26,12 +27,19 @@ import org.osgi.service.component.annotations.Reference;
 @Component
 @NonNullByDefault
 public final class RouterDOMRpcProviderService implements DOMRpcProviderService {
+    private final List<Extension> supportedExtensions;
     private final DOMRpcRouter router;
 
     @Inject
     @Activate
     public RouterDOMRpcProviderService(@Reference final DOMRpcRouter router) {
         this.router = requireNonNull(router);
+        supportedExtensions = List.of(new RouterDOMRpcProviderBatchExtension(router));
+    }
+
+    @Override
+    public List<Extension> supportedExtensions() {
+        return supportedExtensions;
     }
 
     @Override
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.dom.broker;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Maps;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.opendaylight.mdsal.dom.api.DOMRpcResult;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+
+/**
+ * Coalesces concurrent invocations of idempotent RPCs. Invocations of the same RPC with equal input share a single
+ * invocation of the implementation. Successful results may additionally be retained for a per-RPC time-to-live, so
+ * that subsequent invocations are served without invoking the implementation at all.
+ *
+ * <p>Callers receive a view of the shared future which does not propagate cancellation, so that one caller cannot
+ * cancel the invocation for others.
+ */
+@NonNullByDefault
+final class RpcCoalescer {
+    private record Key(QName type, ContainerNode input) {
+        Key {
+            requireNonNull(type);
+            requireNonNull(input);
+        }
+    }
+
+    private static final class Flight {
+        final SettableFuture<DOMRpcResult> future = SettableFuture.create();
+
+        // Set before the future completes, if it completes successfully and the result is to be cached
+        volatile long expiresNanos;
+        volatile boolean cached;
+
+        boolean isValid(final long nowNanos) {
+            return !future.isDone() || cached && nowNanos - expiresNanos < 0;
+        }
+    }
+
+    // Number of completed flights after which expired cache entries are purged
+    private static final int PURGE_INTERVAL = 64;
+
+    private final ConcurrentHashMap<Key, Flight> flights = new ConcurrentHashMap<>();
+    private final AtomicInteger completions = new AtomicInteger();
+    private final ImmutableMap<QName, Long> ttlNanos;
+
+    RpcCoalescer(final Map<QName, Duration> rpcs) {
+        ttlNanos = ImmutableMap.copyOf(Maps.transformValues(rpcs, ttl -> {
+            if (ttl.isNegative()) {
+                throw new IllegalArgumentException("Invalid time-to-live " + ttl);
+            }
+            return ttl.toNanos();
+        }));
+    }
+
+    /**
+     * Invoke an RPC, joining an identical invocation in progress or reusing its cached result, if possible.
+     *
+     * @param type RPC type
+     * @param input RPC input
+     * @param invoker function performing the actual invocation
+     * @return invocation result
+     */
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    ListenableFuture<? extends DOMRpcResult> invoke(final QName type, final ContainerNode input,
+            final Supplier<ListenableFuture<? extends DOMRpcResult>> invoker) {
+        final var ttl = ttlNanos.get(type);
+        if (ttl == null) {
+            return invoker.get();
+        }
+
+        final var key = new Key(type, input);
+        while (true) {
+            final var existing = flights.get(key);
+            if (existing != null) {
+                if (existing.isValid(System.nanoTime())) {
+                    return Futures.nonCancellationPropagating(existing.future);
+                }
+                flights.remove(key, existing);
+                continue;
+            }
+
+            final var flight = new Flight();
+            if (flights.putIfAbsent(key, flight) == null) {
+                final ListenableFuture<? extends DOMRpcResult> result;
+                try {
+                    result = invoker.get();
+                } catch (RuntimeException e) {
+                    // Do not leave the flight pending forever: fail callers which have joined it and unpublish it
+                    flights.remove(key, flight);
+                    flight.future.setException(e);
+                    throw e;
+                }
+                result.addListener(() -> completed(key, flight, result, ttl), MoreExecutors.directExecutor());
+                return Futures.nonCancellationPropagating(flight.future);
+            }
+        }
+    }
+
+    private void completed(final Key key, final Flight flight, final ListenableFuture<? extends DOMRpcResult> result,
+            final long ttl) {
+        // Mark the flight as cached, or unpublish it, before completing its future. Otherwise a concurrent invocation
+        // could observe a completed flight which is not cached (yet), discard it and invoke the implementation again.
+        if (ttl > 0 && isSuccessful(result)) {
+            flight.expiresNanos = System.nanoTime() + ttl;
+            flight.cached = true;
+        } else {
+            flights.remove(key, flight);
+        }
+        flight.future.setFuture(result);
+
+        if (completions.incrementAndGet() % PURGE_INTERVAL == 0) {
+            final long now = System.nanoTime();
+            flights.values().removeIf(entry -> !entry.isValid(now));
+        }
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).add("rpcs", ttlNanos.keySet()).add("flights", flights.size())
+            .toString();
+    }
+
+    private static boolean isSuccessful(final ListenableFuture<? extends DOMRpcResult> future) {
+        final DOMRpcResult result;
+        try {
+            result = Futures.getDone(future);
+        } catch (ExecutionException | CancellationException e) {
+            return false;
+        }
+        return result.errors().isEmpty();
+    }
+}
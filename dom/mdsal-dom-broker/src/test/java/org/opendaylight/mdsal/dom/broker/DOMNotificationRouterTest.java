@@ -11,6 +11,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -20,20 +21,32 @@ import static org.mockito.Mockito.mock;
 import static org.opendaylight.mdsal.dom.broker.TestUtils.TEST_CHILD;
 
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.Uninterruptibles;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.junit.Test;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeIdentifier;
+import org.opendaylight.mdsal.dom.api.DOMInstanceNotificationPublishService;
 import org.opendaylight.mdsal.dom.api.DOMNotification;
 import org.opendaylight.mdsal.dom.api.DOMNotificationListener;
 import org.opendaylight.mdsal.dom.api.DOMNotificationPublishDemandExtension;
 import org.opendaylight.mdsal.dom.api.DOMNotificationPublishDemandExtension.DemandListener;
 import org.opendaylight.mdsal.dom.api.DOMNotificationPublishService;
+import org.opendaylight.mdsal.dom.api.DOMNotificationReplayExtension;
+import org.opendaylight.mdsal.dom.broker.DOMNotificationRouterMetrics.TypeStatistics;
 import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.model.api.stmt.SchemaNodeIdentifier.Absolute;
 
 public class DOMNotificationRouterTest {
@@ -151,6 +164,212 @@ public class DOMNotificationRouterTest {
             assertEquals(DOMNotificationPublishService.REJECTED,
                 notifPubService.offerNotification(domNotification, 1, TimeUnit.SECONDS));
             assertEquals("Received notifications", 1, testListener.getReceivedNotifications().size());
+            assertEquals(1, testRouter.metrics().getTypeStatistics().get(0).rejected());
+        }
+    }
+
+    @Test
+    public void replayNotifications() throws Exception {
+        final var first = mock(DOMNotification.class);
+        doReturn(Absolute.of(TestModel.TEST_QNAME)).when(first).getType();
+        final var second = mock(DOMNotification.class);
+        doReturn(Absolute.of(TestModel.TEST2_QNAME)).when(second).getType();
+        final var third = mock(DOMNotification.class);
+        doReturn(Absolute.of(TestModel.TEST_QNAME)).when(third).getType();
+
+        try (var domNotificationRouter = new DOMNotificationRouter(1024, 1)) {
+            final var notifService = new RouterDOMNotificationService(domNotificationRouter);
+            final var notifPubService = new RouterDOMPublishNotificationService(domNotificationRouter);
+            final var replayExt = notifService.extension(DOMNotificationReplayExtension.class);
+            assertNotNull(replayExt);
+
+            notifPubService.putNotification(first);
+            notifPubService.putNotification(second);
+            // evicts first, as replay depth is 1
+            notifPubService.putNotification(third);
+
+            final var latch = new CountDownLatch(3);
+            final var testListener = new TestListener(latch);
+            replayExt.registerNotificationListener(testListener,
+                List.of(Absolute.of(TestModel.TEST_QNAME), Absolute.of(TestModel.TEST2_QNAME)), Instant.EPOCH);
+
+            final var live = mock(DOMNotification.class);
+            doReturn(Absolute.of(TestModel.TEST2_QNAME)).when(live).getType();
+            notifPubService.putNotification(live);
+
+            assertTrue("Listener was not notified", latch.await(5, TimeUnit.SECONDS));
+            assertEquals(List.of(second, third, live), testListener.getReceivedNotifications());
+        }
+    }
+
+    @Test
+    public void replayLimitedToQueueDepth() throws Exception {
+        final var types = List.of(Absolute.of(TestModel.TEST_QNAME), Absolute.of(TestModel.TEST2_QNAME));
+        final var notifications = new ArrayList<DOMNotification>();
+        for (int i = 0; i < 4; ++i) {
+            final var notification = mock(DOMNotification.class);
+            doReturn(types.get(i % 2)).when(notification).getType();
+            notifications.add(notification);
+        }
+
+        // Replay depth of 2 for each of 2 types exceeds queue depth of 2
+        try (var domNotificationRouter = new DOMNotificationRouter(2, 2)) {
+            final var notifService = new RouterDOMNotificationService(domNotificationRouter);
+            final var notifPubService = new RouterDOMPublishNotificationService(domNotificationRouter);
+            for (var notification : notifications) {
+                notifPubService.putNotification(notification);
+            }
+
+            final var latch = new CountDownLatch(2);
+            final var testListener = new TestListener(latch);
+            notifService.extension(DOMNotificationReplayExtension.class).registerNotificationListener(testListener,
+                types, Instant.EPOCH);
+
+            assertTrue("Listener was not notified", latch.await(5, TimeUnit.SECONDS));
+            assertEquals(notifications.subList(2, 4), testListener.getReceivedNotifications());
+        }
+    }
+
+    @Test
+    public void replayNotSupported() {
+        try (var domNotificationRouter = new DOMNotificationRouter(1024)) {
+            assertNull(new RouterDOMNotificationService(domNotificationRouter)
+                .extension(DOMNotificationReplayExtension.class));
+        }
+    }
+
+    @Test
+    public void instanceNotifications() throws Exception {
+        final var notifType = QName.create(TestModel.TEST_QNAME, "notif");
+        final var domNotification = mock(DOMNotification.class);
+        doReturn(Absolute.of(TestModel.TEST_QNAME, TestModel.OUTER_LIST_QNAME, notifType)).when(domNotification)
+            .getType();
+
+        final var onePath = DOMDataTreeIdentifier.of(LogicalDatastoreType.OPERATIONAL,
+            YangInstanceIdentifier.builder(TestModel.OUTER_LIST_PATH)
+                .nodeWithKey(TestModel.OUTER_LIST_QNAME, TestModel.ID_QNAME, 1).build());
+        final var twoPath = DOMDataTreeIdentifier.of(LogicalDatastoreType.OPERATIONAL,
+            YangInstanceIdentifier.builder(TestModel.OUTER_LIST_PATH)
+                .nodeWithKey(TestModel.OUTER_LIST_QNAME, TestModel.ID_QNAME, 2).build());
+        final var wildcardPath = DOMDataTreeIdentifier.of(LogicalDatastoreType.OPERATIONAL,
+            YangInstanceIdentifier.builder(TestModel.OUTER_LIST_PATH).node(TestModel.OUTER_LIST_QNAME).build());
+
+        try (var domNotificationRouter = new DOMNotificationRouter(1024)) {
+            final var notifService = new RouterDOMInstanceNotificationService(domNotificationRouter);
+            final var notifPubService = new RouterDOMInstanceNotificationPublishService(domNotificationRouter);
+
+            final var exact = new ArrayList<DOMDataTreeIdentifier>();
+            final var wildcard = new ArrayList<DOMDataTreeIdentifier>();
+            final var exactReg = notifService.registerNotificationListener(onePath, notifType,
+                (path, notification) -> exact.add(path));
+            notifService.registerNotificationListener(wildcardPath, notifType,
+                (path, notification) -> wildcard.add(path));
+
+            notifPubService.putNotification(onePath, domNotification).get(5, TimeUnit.SECONDS);
+            notifPubService.putNotification(twoPath, domNotification).get(5, TimeUnit.SECONDS);
+            exactReg.close();
+            notifPubService.putNotification(onePath, domNotification).get(5, TimeUnit.SECONDS);
+
+            assertEquals(List.of(onePath), exact);
+            assertEquals(List.of(onePath, twoPath, onePath), wildcard);
+        }
+    }
+
+    @Test
+    public void instanceNotificationBackpressure() throws Exception {
+        final var notifType = QName.create(TestModel.TEST_QNAME, "notif");
+        final var domNotification = mock(DOMNotification.class);
+        doReturn(Absolute.of(TestModel.TEST_QNAME, TestModel.OUTER_LIST_QNAME, notifType)).when(domNotification)
+            .getType();
+        final var path = DOMDataTreeIdentifier.of(LogicalDatastoreType.OPERATIONAL,
+            YangInstanceIdentifier.builder(TestModel.OUTER_LIST_PATH)
+                .nodeWithKey(TestModel.OUTER_LIST_QNAME, TestModel.ID_QNAME, 1).build());
+
+        final var executor = Executors.newSingleThreadExecutor();
+        try (var domNotificationRouter = new DOMNotificationRouter(1)) {
+            final var notifService = new RouterDOMInstanceNotificationService(domNotificationRouter);
+            final var notifPubService = new RouterDOMInstanceNotificationPublishService(domNotificationRouter);
+
+            final var started = new CountDownLatch(1);
+            final var release = new CountDownLatch(1);
+            final var delivered = new CopyOnWriteArrayList<DOMNotification>();
+            notifService.registerNotificationListener(path, notifType, (parent, notification) -> {
+                started.countDown();
+                Uninterruptibles.awaitUninterruptibly(release);
+                delivered.add(notification);
+            }, executor);
+
+            final var first = notifPubService.putNotification(path, domNotification);
+            assertTrue("Listener was not notified", started.await(5, TimeUnit.SECONDS));
+
+            // The first notification is still being delivered on the listener's executor, hence the second one has
+            // to wait in the queue and there is no room for a third one
+            final var second = notifPubService.putNotification(path, domNotification);
+            assertEquals(DOMInstanceNotificationPublishService.REJECTED,
+                notifPubService.offerNotification(path, domNotification));
+            assertFalse(first.isDone());
+
+            release.countDown();
+            first.get(5, TimeUnit.SECONDS);
+            second.get(5, TimeUnit.SECONDS);
+            assertEquals(List.of(domNotification, domNotification), delivered);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void metrics() throws Exception {
+        final var domNotification = mock(DOMNotification.class);
+        doReturn(Absolute.of(TestModel.TEST_QNAME)).when(domNotification).getType();
+
+        try (var domNotificationRouter = new DOMNotificationRouter(1024)) {
+            final var latch = new CountDownLatch(2);
+            final var testListener = new TestListener(latch);
+            new RouterDOMNotificationService(domNotificationRouter).registerNotificationListener(testListener,
+                List.of(Absolute.of(TestModel.TEST_QNAME)));
+
+            final var notifPubService = new RouterDOMPublishNotificationService(domNotificationRouter);
+            notifPubService.putNotification(domNotification).get(5, TimeUnit.SECONDS);
+            notifPubService.putNotification(domNotification).get(5, TimeUnit.SECONDS);
+
+            // Notifications without subscribers are counted as well
+            final var unsubscribed = mock(DOMNotification.class);
+            doReturn(Absolute.of(TestModel.TEST2_QNAME)).when(unsubscribed).getType();
+            notifPubService.offerNotification(unsubscribed).get(5, TimeUnit.SECONDS);
+
+            final var metrics = domNotificationRouter.metrics();
+            final var typeStats = metrics.getTypeStatistics().stream()
+                .collect(Collectors.toMap(TypeStatistics::type, Function.identity()));
+            assertEquals(2, typeStats.size());
+            final var unsubscribedStats = typeStats.get(Absolute.of(TestModel.TEST2_QNAME).toString());
+            assertEquals(1, unsubscribedStats.published());
+            assertEquals(0, unsubscribedStats.delivery().count());
+            final var subscribedStats = typeStats.get(Absolute.of(TestModel.TEST_QNAME).toString());
+            assertEquals(2, subscribedStats.published());
+            assertEquals(0, subscribedStats.rejected());
+            assertEquals(0, subscribedStats.queueDepth());
+
+            // Delivery statistics are updated just after the future completes, hence we need to wait a bit
+            var listenerStats = metrics.getSlowestListeners(10);
+            final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (listenerStats.get(0).delivery().count() != 2 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+                listenerStats = metrics.getSlowestListeners(10);
+            }
+            assertEquals(1, listenerStats.size());
+            final var stats = listenerStats.get(0);
+            assertEquals(List.of(Absolute.of(TestModel.TEST_QNAME).toString()), stats.types());
+            assertEquals(0, stats.queueDepth());
+            assertEquals(2, stats.delivery().count());
+            assertEquals(2, stats.queueWait().count());
+
+            final var perType = metrics.getTypeStatistics().stream()
+                .filter(type -> type.type().equals(Absolute.of(TestModel.TEST_QNAME).toString()))
+                .findFirst()
+                .orElseThrow();
+            assertEquals(2, perType.delivery().count());
+            assertEquals(2, perType.queueWait().count());
         }
     }
 
@@ -206,9 +425,10 @@ public class DOMNotificationRouterTest {
         }
 
         @Override
-        ListenableFuture<?> putNotificationImpl(final DOMNotification notification) throws InterruptedException {
+        ListenableFuture<?> putNotificationImpl(final DOMNotification notification,
+                final Collection<Reg> subscribers) throws InterruptedException {
             Thread.sleep(2000);
-            return super.putNotificationImpl(notification);
+            return super.putNotificationImpl(notification, subscribers);
         }
     }
 }
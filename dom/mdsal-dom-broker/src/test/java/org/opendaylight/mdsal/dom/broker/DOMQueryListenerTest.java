@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.dom.broker;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.opendaylight.mdsal.common.api.LogicalDatastoreType.CONFIGURATION;
+import static org.opendaylight.mdsal.common.api.LogicalDatastoreType.OPERATIONAL;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.opendaylight.mdsal.dom.api.DOMDataBroker.QueryListenerExtension;
+import org.opendaylight.mdsal.dom.api.query.DOMQuery;
+import org.opendaylight.mdsal.dom.api.query.DOMQueryAggregate;
+import org.opendaylight.mdsal.dom.api.query.DOMQueryListener;
+import org.opendaylight.mdsal.dom.api.query.DOMQueryPredicate;
+import org.opendaylight.mdsal.dom.api.query.DOMQueryPredicate.Match;
+import org.opendaylight.mdsal.dom.api.query.DOMQueryResult;
+import org.opendaylight.mdsal.dom.api.query.DOMQueryResultChange;
+import org.opendaylight.mdsal.dom.spi.AbstractDOMDataBroker;
+import org.opendaylight.mdsal.dom.store.inmemory.InMemoryDOMDataStore;
+import org.opendaylight.yangtools.yang.common.Uint16;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.spi.node.ImmutableNodes;
+
+public class DOMQueryListenerTest extends AbstractDatastoreTest {
+    private static final YangInstanceIdentifier OUTER_ENTRY_PATH = TestModel.OUTER_LIST_PATH.node(
+        NodeIdentifierWithPredicates.of(TestModel.OUTER_LIST_QNAME, TestModel.ID_QNAME, Uint16.ONE));
+    private static final YangInstanceIdentifier INNER_LIST_PATH = OUTER_ENTRY_PATH.node(TestModel.INNER_LIST_QNAME);
+    private static final DOMQuery QUERY = new DOMQuery(TestModel.TEST_PATH, YangInstanceIdentifier.of(
+        new NodeIdentifier(TestModel.OUTER_LIST_QNAME), new NodeIdentifier(TestModel.OUTER_LIST_QNAME),
+        new NodeIdentifier(TestModel.INNER_LIST_QNAME), new NodeIdentifier(TestModel.INNER_LIST_QNAME)),
+        List.of(DOMQueryPredicate.of(YangInstanceIdentifier.of(TestModel.VALUE_QNAME), Match.valueEquals("yes"))));
+
+    private final BlockingQueue<Object> events = new LinkedBlockingQueue<>();
+    private final DOMQueryListener listener = new DOMQueryListener() {
+        @Override
+        public void onInitialResult(final DOMQueryResult result) {
+            events.add(result);
+        }
+
+        @Override
+        public void onResultChanged(final DOMQueryResultChange change) {
+            events.add(change);
+        }
+    };
+
+    private AbstractDOMDataBroker domBroker;
+
+    @Before
+    public void setupStore() {
+        final var operStore = new InMemoryDOMDataStore("OPER", MoreExecutors.newDirectExecutorService());
+        final var configStore = new InMemoryDOMDataStore("CFG", MoreExecutors.newDirectExecutorService());
+        operStore.onModelContextUpdated(SCHEMA_CONTEXT);
+        configStore.onModelContextUpdated(SCHEMA_CONTEXT);
+
+        domBroker = new SerializedDOMDataBroker(ImmutableMap.of(CONFIGURATION, configStore, OPERATIONAL, operStore),
+            MoreExecutors.listeningDecorator(Executors.newSingleThreadExecutor()));
+    }
+
+    @After
+    public void tearDown() {
+        domBroker.close();
+    }
+
+    @Test
+    public void testStandingQuery() throws Exception {
+        final var a = innerEntry("a", "yes");
+        final var b = innerEntry("b", "no");
+        writeInnerEntries(a, b);
+
+        final var extension = domBroker.extension(QueryListenerExtension.class);
+        assertNotNull(extension);
+        try (var reg = extension.registerQueryListener(CONFIGURATION, QUERY, listener)) {
+            final var initial = poll(DOMQueryResult.class);
+            assertEquals(List.of(Map.entry(path("a"), a)), initial.items());
+
+            // Add a matching entry, make a non-matching entry match and delete a matching one
+            final var c = innerEntry("c", "yes");
+            final var newB = innerEntry("b", "yes");
+            final var tx2 = domBroker.newWriteOnlyTransaction();
+            tx2.put(CONFIGURATION, path("c"), c);
+            tx2.put(CONFIGURATION, path("b"), newB);
+            tx2.delete(CONFIGURATION, path("a"));
+            tx2.commit().get(5, TimeUnit.SECONDS);
+
+            var change = poll(DOMQueryResultChange.class);
+            assertEquals(Map.of(path("b"), newB, path("c"), c), toMap(change.added()));
+            assertEquals(List.of(), change.changed());
+            assertEquals(List.of(Map.entry(path("a"), a)), change.removed());
+
+            // A change which does not affect the result is not reported
+            final var tx3 = domBroker.newWriteOnlyTransaction();
+            tx3.put(CONFIGURATION, path("d"), innerEntry("d", "no"));
+            tx3.commit().get(5, TimeUnit.SECONDS);
+            assertNull(events.poll(100, TimeUnit.MILLISECONDS));
+
+            // Stop matching
+            final var tx4 = domBroker.newWriteOnlyTransaction();
+            tx4.put(CONFIGURATION, path("c"), innerEntry("c", "no"));
+            tx4.commit().get(5, TimeUnit.SECONDS);
+
+            change = poll(DOMQueryResultChange.class);
+            assertEquals(List.of(), change.added());
+            assertEquals(List.of(), change.changed());
+            assertEquals(List.of(Map.entry(path("c"), c)), change.removed());
+        }
+    }
+
+    @Test
+    public void testChangedItem() throws Exception {
+        final var a = innerEntry("a", "yes");
+        writeInnerEntries(a);
+
+        // Matches any value starting with 'y', hence an item can change while it keeps matching
+        final var query = new DOMQuery(QUERY.getRoot(), QUERY.getSelect(),
+            List.of(DOMQueryPredicate.of(YangInstanceIdentifier.of(TestModel.VALUE_QNAME),
+                Match.stringStartsWith("y"))));
+        final var extension = domBroker.extension(QueryListenerExtension.class);
+        assertNotNull(extension);
+        try (var reg = extension.registerQueryListener(CONFIGURATION, query, listener)) {
+            final var initial = poll(DOMQueryResult.class);
+            assertEquals(List.of(Map.entry(path("a"), a)), initial.items());
+
+            final var newA = innerEntry("a", "yeah");
+            final var tx = domBroker.newWriteOnlyTransaction();
+            tx.put(CONFIGURATION, path("a"), newA);
+            tx.commit().get(5, TimeUnit.SECONDS);
+
+            final var change = poll(DOMQueryResultChange.class);
+            assertEquals(List.of(), change.added());
+            assertEquals(List.of(Map.entry(path("a"), newA)), change.changed());
+            assertEquals(List.of(), change.removed());
+        }
+    }
+
+    @Test
+    public void testSlicedQuery() {
+        final var extension = domBroker.extension(QueryListenerExtension.class);
+        assertThrows(IllegalArgumentException.class,
+            () -> extension.registerQueryListener(CONFIGURATION, QUERY.withLimit(1), listener));
+    }
+
+    @Test
+    public void testAggregateQuery() {
+        final var extension = domBroker.extension(QueryListenerExtension.class);
+        assertThrows(IllegalArgumentException.class, () -> extension.registerQueryListener(CONFIGURATION,
+            QUERY.withAggregate(DOMQueryAggregate.count()), listener));
+    }
+
+    @Test
+    public void testContinuationQuery() {
+        final var extension = domBroker.extension(QueryListenerExtension.class);
+        assertThrows(IllegalArgumentException.class,
+            () -> extension.registerQueryListener(CONFIGURATION, QUERY.withContinuation(path("a")), listener));
+    }
+
+    private void writeInnerEntries(final MapEntryNode... entries) throws Exception {
+        final var innerList = ImmutableNodes.newSystemMapBuilder()
+            .withNodeIdentifier(new NodeIdentifier(TestModel.INNER_LIST_QNAME));
+        for (var entry : entries) {
+            innerList.withChild(entry);
+        }
+
+        final var tx = domBroker.newWriteOnlyTransaction();
+        tx.put(CONFIGURATION, TestModel.TEST_PATH, ImmutableNodes.newContainerBuilder()
+            .withNodeIdentifier(new NodeIdentifier(TestModel.TEST_QNAME))
+            .withChild(ImmutableNodes.newSystemMapBuilder()
+                .withNodeIdentifier(new NodeIdentifier(TestModel.OUTER_LIST_QNAME))
+                .withChild(ImmutableNodes.newMapEntryBuilder()
+                    .withNodeIdentifier(NodeIdentifierWithPredicates.of(TestModel.OUTER_LIST_QNAME,
+                        TestModel.ID_QNAME, Uint16.ONE))
+                    .withChild(ImmutableNodes.leafNode(TestModel.ID_QNAME, Uint16.ONE))
+                    .withChild(innerList.build())
+                    .build())
+                .build())
+            .build());
+        tx.commit().get(5, TimeUnit.SECONDS);
+    }
+
+    private static YangInstanceIdentifier path(final String name) {
+        return INNER_LIST_PATH.node(NodeIdentifierWithPredicates.of(TestModel.INNER_LIST_QNAME, TestModel.NAME_QNAME,
+            name));
+    }
+
+    private static MapEntryNode innerEntry(final String name, final String value) {
+        return ImmutableNodes.newMapEntryBuilder()
+            .withNodeIdentifier(NodeIdentifierWithPredicates.of(TestModel.INNER_LIST_QNAME, TestModel.NAME_QNAME,
+                name))
+            .withChild(ImmutableNodes.leafNode(TestModel.NAME_QNAME, name))
+            .withChild(ImmutableNodes.leafNode(TestModel.VALUE_QNAME, value))
+            .build();
+    }
+
+    private <T> T poll(final Class<T> type) throws InterruptedException {
+        final var event = events.poll(5, TimeUnit.SECONDS);
+        assertNotNull(event);
+        return type.cast(event);
+    }
+
+    private static Map<YangInstanceIdentifier, NormalizedNode> toMap(
+            final List<Entry<YangInstanceIdentifier, NormalizedNode>> items) {
+        return items.stream().collect(Collectors.toMap(Entry::getKey, Entry::getValue));
+    }
+}
@@ -22,8 +22,10 @@ import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 import static org.opendaylight.mdsal.dom.broker.TestUtils.getTestRpcImplementation;
 
+import com.google.common.collect.Maps;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -35,6 +37,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
 import org.opendaylight.mdsal.dom.api.DOMActionAvailabilityExtension;
 import org.opendaylight.mdsal.dom.api.DOMActionAvailabilityExtension.AvailabilityListener;
+import org.opendaylight.mdsal.dom.api.DOMActionBatchImplementation;
 import org.opendaylight.mdsal.dom.api.DOMActionImplementation;
 import org.opendaylight.mdsal.dom.api.DOMActionInstance;
 import org.opendaylight.mdsal.dom.api.DOMActionNotAvailableException;
@@ -44,6 +47,7 @@ import org.opendaylight.mdsal.dom.api.DOMRpcAvailabilityListener;
 import org.opendaylight.mdsal.dom.api.DOMRpcException;
 import org.opendaylight.mdsal.dom.api.DOMRpcIdentifier;
 import org.opendaylight.mdsal.dom.api.DOMRpcImplementationNotAvailableException;
+import org.opendaylight.mdsal.dom.api.DOMRpcProviderBatchExtension;
 import org.opendaylight.mdsal.dom.api.DOMRpcResult;
 import org.opendaylight.mdsal.dom.api.DOMSchemaService;
 import org.opendaylight.mdsal.dom.api.DefaultDOMRpcException;
@@ -176,6 +180,66 @@ class DOMRpcRouterTest {
         }
     }
 
+    @Test
+    void testRpcBatch() {
+        try (var rpcRouter = rpcsRouter()) {
+            final var rpcService = new RouterDOMRpcService(rpcRouter);
+            final var rpcProviderService = new RouterDOMRpcProviderService(rpcRouter);
+            final var batchExtension = rpcProviderService.extension(DOMRpcProviderBatchExtension.class);
+            assertNotNull(batchExtension);
+
+            final var listener = mock(DOMRpcAvailabilityListener.class);
+            doCallRealMethod().when(listener).acceptsImplementation(any());
+            doNothing().when(listener).onRpcAvailable(any());
+            doNothing().when(listener).onRpcUnavailable(any());
+
+            try (var reg = rpcService.registerRpcListener(listener)) {
+                final var foo = DOMRpcIdentifier.create(Rpcs.FOO, null);
+                final var bar = DOMRpcIdentifier.create(Rpcs.BAR, null);
+                final var baz = DOMRpcIdentifier.create(Rpcs.BAZ, null);
+
+                final var batch = batchExtension.newBatch();
+                final var fooReg = batch.registerRpcImplementation(getTestRpcImplementation(), Set.of(foo));
+                final var barReg = batch.registerRpcImplementation(getTestRpcImplementation(), Set.of(bar));
+                batch.registerRpcImplementation(getTestRpcImplementation(), Set.of(baz)).close();
+
+                // Nothing happens until commit
+                assertOperationKeys(rpcRouter);
+                batch.commit();
+                assertOperationKeys(rpcRouter, Rpcs.FOO, Rpcs.BAR);
+                assertThrows(IllegalStateException.class, batch::commit);
+                verify(listener, timeout(1000)).onRpcAvailable(Set.of(foo, bar));
+
+                final var unregister = batchExtension.newBatch();
+                unregister.unregister(fooReg);
+                unregister.unregister(barReg);
+                unregister.commit();
+                assertOperationKeys(rpcRouter);
+                verify(listener, timeout(1000)).onRpcUnavailable(Set.of(foo, bar));
+            }
+        }
+    }
+
+    @Test
+    void testRpcBatchUnregisterStaged() {
+        try (var rpcRouter = rpcsRouter()) {
+            final var batchExtension = new RouterDOMRpcProviderService(rpcRouter)
+                .extension(DOMRpcProviderBatchExtension.class);
+            assertNotNull(batchExtension);
+
+            final var foo = DOMRpcIdentifier.create(Rpcs.FOO, null);
+            final var bar = DOMRpcIdentifier.create(Rpcs.BAR, null);
+            final var batch = batchExtension.newBatch();
+            final var fooReg = batch.registerRpcImplementation(getTestRpcImplementation(), Set.of(foo));
+            batch.registerRpcImplementation(getTestRpcImplementation(), Set.of(bar));
+            batch.unregister(fooReg);
+            batch.commit();
+
+            // Registration staged and unregistered in the same batch is never routable
+            assertOperationKeys(rpcRouter, Rpcs.BAR);
+        }
+    }
+
     @Test
     void testActionListener() {
         try (var rpcRouter = actionsRouter()) {
@@ -281,6 +345,44 @@ class DOMRpcRouterTest {
         }
     }
 
+    @Test
+    void testActionBatch() throws Exception {
+        try (var rpcRouter = actionsRouter()) {
+            final var actionProvider = new RouterDOMActionProviderService(rpcRouter);
+            final var actionConsumer = new RouterDOMActionService(rpcRouter);
+
+            final var batches = new ArrayList<Set<DOMDataTreeIdentifier>>();
+            final DOMActionBatchImplementation batchImpl = (type, inputs) -> {
+                batches.add(inputs.keySet());
+                return Maps.toMap(inputs.keySet(), path -> IMPL.invokeAction(type, path, inputs.get(path)));
+            };
+
+            final var good = DOMDataTreeIdentifier.of(LogicalDatastoreType.OPERATIONAL, BAZ_PATH_GOOD);
+            final var bad = DOMDataTreeIdentifier.of(LogicalDatastoreType.OPERATIONAL, BAZ_PATH_BAD);
+            final var config = DOMDataTreeIdentifier.of(LogicalDatastoreType.CONFIGURATION, BAZ_PATH_GOOD);
+            final var input = ImmutableNodes.newContainerBuilder()
+                .withNodeIdentifier(new NodeIdentifier(Actions.INPUT))
+                .build();
+
+            try (var reg = actionProvider.registerActionImplementation(batchImpl,
+                DOMActionInstance.of(Actions.BAZ_TYPE, LogicalDatastoreType.OPERATIONAL,
+                    YangInstanceIdentifier.of()))) {
+
+                final var results = actionConsumer.invokeActions(Actions.BAZ_TYPE,
+                    Map.of(good, input, bad, input, config, input));
+                assertEquals(Set.of(good, bad, config), results.keySet());
+
+                // Both operational paths are delivered in a single call
+                assertEquals(List.of(Set.of(good, bad)), batches);
+                assertEquals(List.of(), Futures.getDone(results.get(good)).errors());
+                assertEquals(List.of(), Futures.getDone(results.get(bad)).errors());
+
+                final var ee = assertThrows(ExecutionException.class, () -> Futures.getDone(results.get(config)));
+                assertInstanceOf(DOMActionNotAvailableException.class, ee.getCause());
+            }
+        }
+    }
+
     private static DOMRpcRouter actionsRouter() {
         return new DOMRpcRouter(new FixedDOMSchemaService(Actions.CONTEXT));
     }
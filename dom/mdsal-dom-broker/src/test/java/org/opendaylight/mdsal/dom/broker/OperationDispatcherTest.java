@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.dom.broker;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.mdsal.dom.api.DOMRpcIdentifier;
+import org.opendaylight.mdsal.dom.api.DOMRpcImplementation;
+import org.opendaylight.mdsal.dom.api.DOMRpcResult;
+import org.opendaylight.mdsal.dom.spi.DefaultDOMRpcResult;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+
+class OperationDispatcherTest {
+    private static final class PendingRpcImplementation implements DOMRpcImplementation {
+        final List<SettableFuture<DOMRpcResult>> pending = new ArrayList<>();
+        private final long cost;
+
+        PendingRpcImplementation(final long cost) {
+            this.cost = cost;
+        }
+
+        @Override
+        public ListenableFuture<DOMRpcResult> invokeRpc(final DOMRpcIdentifier rpc, final ContainerNode input) {
+            final var future = SettableFuture.<DOMRpcResult>create();
+            pending.add(future);
+            return future;
+        }
+
+        @Override
+        public long invocationCost() {
+            return cost;
+        }
+    }
+
+    private final PendingRpcImplementation first = new PendingRpcImplementation(0);
+    private final PendingRpcImplementation second = new PendingRpcImplementation(0);
+    private final PendingRpcImplementation expensive = new PendingRpcImplementation(1);
+
+    @Test
+    void leastOutstanding() {
+        final var dispatcher = OperationDispatcher.of(OperationDispatchPolicy.LEAST_OUTSTANDING);
+        final var impls = List.<DOMRpcImplementation>of(first, second, expensive);
+
+        dispatch(dispatcher, impls);
+        dispatch(dispatcher, impls);
+        assertEquals(1, first.pending.size());
+        assertEquals(1, second.pending.size());
+        assertEquals(1, dispatcher.outstanding(first));
+
+        // Completion of an invocation makes the implementation preferred again
+        first.pending.getFirst().set(new DefaultDOMRpcResult());
+        assertEquals(0, dispatcher.outstanding(first));
+        dispatch(dispatcher, impls);
+        assertEquals(2, first.pending.size());
+
+        // Expensive implementation is never selected while a cheaper one exists
+        assertEquals(List.of(), expensive.pending);
+    }
+
+    @Test
+    void powerOfTwoChoices() {
+        final var dispatcher = OperationDispatcher.of(OperationDispatchPolicy.POWER_OF_TWO_CHOICES);
+        final var impls = List.<DOMRpcImplementation>of(first, second, expensive);
+
+        for (int i = 0; i < 100; ++i) {
+            dispatch(dispatcher, impls);
+        }
+
+        // With two candidates, both are examined and the one with fewer outstanding invocations wins
+        assertEquals(50, first.pending.size());
+        assertEquals(50, second.pending.size());
+        assertEquals(List.of(), expensive.pending);
+    }
+
+    @Test
+    void weightedRoundRobin() {
+        final var dispatcher = OperationDispatcher.of(OperationDispatchPolicy.WEIGHTED_ROUND_ROBIN);
+        final var impls = List.<DOMRpcImplementation>of(first, expensive);
+
+        for (int i = 0; i < 300; ++i) {
+            dispatch(dispatcher, impls);
+        }
+
+        // Weights are inversely proportional to 1 + cost, i.e. 2:1
+        assertEquals(200, first.pending.size());
+        assertEquals(100, expensive.pending.size());
+    }
+
+    @Test
+    void weightedRoundRobinPrecomputed() {
+        final var dispatcher = OperationDispatcher.of(OperationDispatchPolicy.WEIGHTED_ROUND_ROBIN);
+        final var impls = OperationImplementations.of(List.<DOMRpcImplementation>of(first, second, expensive));
+        assertSame(impls, OperationImplementations.of(impls));
+
+        for (int i = 0; i < 500; ++i) {
+            dispatch(dispatcher, impls);
+        }
+
+        // Weights are 2:2:1
+        assertEquals(200, first.pending.size());
+        assertEquals(200, second.pending.size());
+        assertEquals(100, expensive.pending.size());
+    }
+
+    @Test
+    void firstIsDefault() {
+        assertSame(OperationDispatcher.FIRST, OperationDispatcher.of(OperationDispatchPolicy.FIRST));
+        final var impls = List.<DOMRpcImplementation>of(first, second);
+
+        dispatch(OperationDispatcher.FIRST, impls);
+        dispatch(OperationDispatcher.FIRST, impls);
+        assertEquals(2, first.pending.size());
+        assertEquals(List.of(), second.pending);
+    }
+
+    @Test
+    void fixedLimitSpillsOverAndFails() {
+        final var dispatcher = OperationDispatcher.of(OperationDispatchPolicy.FIRST,
+            new OperationConcurrencyLimits(OperationConcurrencyLimits.Algorithm.FIXED, 1, 0, Duration.ofSeconds(1)));
+        final var impls = List.<DOMRpcImplementation>of(first, second);
+
+        dispatch(dispatcher, impls);
+        dispatch(dispatcher, impls);
+        assertEquals(1, first.pending.size());
+        assertEquals(1, second.pending.size());
+
+        // Both implementations are saturated and there is no queue
+        final var future = dispatch(dispatcher, impls);
+        final var ee = assertThrows(ExecutionException.class, () -> Futures.getDone(future));
+        assertInstanceOf(IllegalStateException.class, ee.getCause());
+    }
+
+    @Test
+    void fixedLimitQueues() throws Exception {
+        final var dispatcher = OperationDispatcher.of(OperationDispatchPolicy.FIRST,
+            new OperationConcurrencyLimits(OperationConcurrencyLimits.Algorithm.FIXED, 1, 1, Duration.ofSeconds(1)));
+        final var impls = List.<DOMRpcImplementation>of(first);
+
+        final var future1 = dispatch(dispatcher, impls);
+        final var future2 = dispatch(dispatcher, impls);
+        assertEquals(1, first.pending.size());
+        assertFalse(future2.isDone());
+
+        // Queue is full
+        assertTrue(dispatch(dispatcher, impls).isDone());
+
+        // Completing the first invocation starts the queued one
+        first.pending.getFirst().set(new DefaultDOMRpcResult());
+        assertTrue(future1.isDone());
+        assertEquals(2, first.pending.size());
+        final var result = new DefaultDOMRpcResult();
+        first.pending.getLast().set(result);
+        assertSame(result, Futures.getDone(future2));
+        assertEquals(0, dispatcher.outstanding(first));
+    }
+
+    @Test
+    void aimdLimitBacksOff() {
+        final var dispatcher = OperationDispatcher.of(OperationDispatchPolicy.FIRST,
+            new OperationConcurrencyLimits(OperationConcurrencyLimits.Algorithm.AIMD, 10, 0, Duration.ofSeconds(1)));
+        final var impls = List.<DOMRpcImplementation>of(first);
+
+        for (int i = 0; i < 10; ++i) {
+            dispatch(dispatcher, impls);
+        }
+        assertEquals(10, dispatcher.outstanding(first));
+        for (var pending : first.pending) {
+            pending.setException(new IllegalStateException());
+        }
+
+        // Ten failures shrink the limit to 10 * 0.9^10 = 3.48
+        for (int i = 0; i < 3; ++i) {
+            assertFalse(dispatch(dispatcher, impls).isDone());
+        }
+        assertTrue(dispatch(dispatcher, impls).isDone());
+    }
+
+    private static ListenableFuture<? extends DOMRpcResult> dispatch(final OperationDispatcher dispatcher,
+            final List<DOMRpcImplementation> impls) {
+        return dispatcher.dispatch(impls, impl -> impl.invokeRpc(null, null), IllegalStateException::new);
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.dom.broker;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.opendaylight.mdsal.dom.broker.TestUtils.TEST_CHILD;
+import static org.opendaylight.mdsal.dom.broker.TestUtils.TEST_CONTAINER;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.mdsal.dom.api.DOMRpcResult;
+import org.opendaylight.mdsal.dom.spi.DefaultDOMRpcResult;
+import org.opendaylight.yangtools.yang.common.QName;
+
+class RpcCoalescerTest {
+    private final List<SettableFuture<DOMRpcResult>> invocations = new ArrayList<>();
+
+    @Test
+    void coalesceConcurrentInvocations() throws Exception {
+        final var coalescer = new RpcCoalescer(Map.of(Rpcs.FOO, Duration.ZERO));
+
+        final var first = invoke(coalescer, Rpcs.FOO);
+        final var second = invoke(coalescer, Rpcs.FOO);
+        assertEquals(1, invocations.size());
+
+        // Different input is a different invocation, as is an RPC which is not coalesced
+        coalescer.invoke(Rpcs.FOO, TEST_CHILD, this::newInvocation);
+        invoke(coalescer, Rpcs.BAR);
+        invoke(coalescer, Rpcs.BAR);
+        assertEquals(4, invocations.size());
+
+        // Cancelling one caller does not affect the other
+        assertTrue(first.cancel(false));
+        assertFalse(second.isDone());
+
+        final var result = new DefaultDOMRpcResult();
+        invocations.getFirst().set(result);
+        assertSame(result, second.get());
+
+        // No caching: a new invocation
+        invoke(coalescer, Rpcs.FOO);
+        assertEquals(5, invocations.size());
+    }
+
+    @Test
+    void cacheSuccessfulResults() throws Exception {
+        final var coalescer = new RpcCoalescer(Map.of(Rpcs.FOO, Duration.ofHours(1)));
+
+        invoke(coalescer, Rpcs.FOO);
+        invocations.getFirst().setException(new IllegalStateException());
+
+        // Failures are not cached
+        invoke(coalescer, Rpcs.FOO);
+        assertEquals(2, invocations.size());
+        final var result = new DefaultDOMRpcResult();
+        invocations.getLast().set(result);
+
+        assertSame(result, invoke(coalescer, Rpcs.FOO).get());
+        assertEquals(2, invocations.size());
+    }
+
+    @Test
+    void cachedBeforeCompletionIsVisible() throws Exception {
+        final var coalescer = new RpcCoalescer(Map.of(Rpcs.FOO, Duration.ofHours(1)));
+
+        // An invocation issued as soon as the first one is seen to complete must be served from cache
+        final var followUp = new ArrayList<ListenableFuture<? extends DOMRpcResult>>();
+        final var first = invoke(coalescer, Rpcs.FOO);
+        first.addListener(() -> followUp.add(invoke(coalescer, Rpcs.FOO)), MoreExecutors.directExecutor());
+
+        final var result = new DefaultDOMRpcResult();
+        invocations.getFirst().set(result);
+        assertEquals(1, invocations.size());
+        assertSame(result, followUp.getFirst().get());
+    }
+
+    @Test
+    void synchronousFailureIsNotRetained() throws Exception {
+        final var coalescer = new RpcCoalescer(Map.of(Rpcs.FOO, Duration.ofHours(1)));
+
+        final var ex = new IllegalStateException("failed");
+        assertSame(ex, assertThrows(IllegalStateException.class,
+            () -> coalescer.invoke(Rpcs.FOO, TEST_CONTAINER, () -> {
+                throw ex;
+            })));
+
+        // A subsequent invocation is not joined to the failed one
+        final var future = invoke(coalescer, Rpcs.FOO);
+        assertEquals(1, invocations.size());
+        final var result = new DefaultDOMRpcResult();
+        invocations.getFirst().set(result);
+        assertSame(result, future.get());
+    }
+
+    @Test
+    void parseCoalescedRpcs() {
+        final var foo = QName.create("urn:foo", "2026-01-01", "foo");
+        final var bar = QName.create("urn:bar", "bar");
+        assertEquals(Map.of(foo, Duration.ofMillis(500), bar, Duration.ZERO),
+            DOMRpcRouter.parseCoalescedRpcs(new String[] { foo + "=500", bar.toString() }));
+    }
+
+    private ListenableFuture<? extends DOMRpcResult> invoke(final RpcCoalescer coalescer, final QName type) {
+        return coalescer.invoke(type, TEST_CONTAINER, this::newInvocation);
+    }
+
+    private ListenableFuture<? extends DOMRpcResult> newInvocation() {
+        final var future = SettableFuture.<DOMRpcResult>create();
+        invocations.add(future);
+        return future;
+    }
+}
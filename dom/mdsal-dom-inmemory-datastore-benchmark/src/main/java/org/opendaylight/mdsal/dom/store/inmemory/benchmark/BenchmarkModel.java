@@ -7,9 +7,14 @@
  */
 package org.opendaylight.mdsal.dom.store.inmemory.benchmark;
 
+import org.opendaylight.yang.gen.v1.urn.opendaylight.yang.extension.yang.ext.rev130709.YangExtData;
 import org.opendaylight.yangtools.yang.common.QName;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.model.api.source.SourceIdentifier;
+import org.opendaylight.yangtools.yang.model.spi.source.DelegatedYangTextSource;
+import org.opendaylight.yangtools.yang.model.spi.source.URLYangTextSource;
+import org.opendaylight.yangtools.yang.parser.api.YangParserConfiguration;
 import org.opendaylight.yangtools.yang.test.util.YangParserTestUtils;
 
 /**
@@ -28,6 +33,7 @@ public final class BenchmarkModel {
     public static final QName INNER_LIST_QNAME = QName.create(TEST_QNAME, "inner-list");
     public static final QName ID_QNAME = QName.create(TEST_QNAME, "id");
     public static final QName NAME_QNAME = QName.create(TEST_QNAME, "name");
+    public static final QName ROUTED_RPC_QNAME = QName.create(TEST_QNAME, "routed-rpc");
     private static final String DATASTORE_TEST_YANG = "/odl-datastore-test.yang";
     public static final YangInstanceIdentifier TEST_PATH = YangInstanceIdentifier.of(TEST_QNAME);
     public static final YangInstanceIdentifier OUTER_LIST_PATH =
@@ -37,6 +43,10 @@ public final class BenchmarkModel {
     }
 
     public static EffectiveModelContext createTestContext() {
-        return YangParserTestUtils.parseYangResources(BenchmarkModel.class, DATASTORE_TEST_YANG);
+        // The model imports yang-ext to define a routed RPC
+        final var yangExt = YangExtData.META.moduleInfo();
+        return YangParserTestUtils.parseYangSources(YangParserConfiguration.DEFAULT, null,
+            new DelegatedYangTextSource(SourceIdentifier.ofQName(yangExt.getName()), yangExt.getYangTextCharSource()),
+            new URLYangTextSource(BenchmarkModel.class.getResource(DATASTORE_TEST_YANG)));
     }
 }
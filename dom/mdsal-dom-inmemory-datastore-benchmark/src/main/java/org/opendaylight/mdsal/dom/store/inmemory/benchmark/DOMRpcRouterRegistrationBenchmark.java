@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.dom.store.inmemory.benchmark;
+
+import com.google.common.util.concurrent.Futures;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.mdsal.dom.api.DOMRpcIdentifier;
+import org.opendaylight.mdsal.dom.api.DOMRpcImplementation;
+import org.opendaylight.mdsal.dom.broker.DOMRpcRouter;
+import org.opendaylight.mdsal.dom.broker.RouterDOMRpcProviderService;
+import org.opendaylight.mdsal.dom.spi.DefaultDOMRpcResult;
+import org.opendaylight.mdsal.dom.spi.FixedDOMSchemaService;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark measuring the cost of registering and unregistering a routed RPC implementation for a single context
+ * reference while a large number of other context references are already registered.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+public class DOMRpcRouterRegistrationBenchmark {
+    private static final DOMRpcImplementation IMPLEMENTATION =
+        (rpc, input) -> Futures.immediateFuture(new DefaultDOMRpcResult());
+
+    @Param({ "1000", "100000", "1000000" })
+    public int existingContexts;
+
+    private DOMRpcRouter router;
+    private RouterDOMRpcProviderService providerService;
+    private int nextContext;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        router = new DOMRpcRouter(new FixedDOMSchemaService(BenchmarkModel.createTestContext()));
+        providerService = new RouterDOMRpcProviderService(router);
+        for (nextContext = 0; nextContext < existingContexts; ++nextContext) {
+            providerService.registerRpcImplementation(IMPLEMENTATION, rpcIdentifier(nextContext));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        router.close();
+    }
+
+    @Benchmark
+    public void registerUnregister() {
+        providerService.registerRpcImplementation(IMPLEMENTATION, rpcIdentifier(nextContext++)).close();
+    }
+
+    private static DOMRpcIdentifier rpcIdentifier(final int context) {
+        return DOMRpcIdentifier.create(BenchmarkModel.ROUTED_RPC_QNAME,
+            YangInstanceIdentifier.builder(BenchmarkModel.OUTER_LIST_PATH)
+                .nodeWithKey(BenchmarkModel.OUTER_LIST_QNAME, BenchmarkModel.ID_QNAME, context)
+                .build());
+    }
+}
@@ -9,12 +9,17 @@ package org.opendaylight.mdsal.dom.store.inmemory;
 
 import static java.util.Objects.requireNonNull;
 
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.util.LinkedHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
 import org.opendaylight.mdsal.dom.api.DOMDataTreeChangeListener;
+import org.opendaylight.mdsal.dom.spi.query.DOMQueryIndex;
 import org.opendaylight.mdsal.dom.spi.store.DOMStore;
 import org.opendaylight.mdsal.dom.spi.store.DOMStoreReadTransaction;
 import org.opendaylight.mdsal.dom.spi.store.DOMStoreReadWriteTransaction;
@@ -29,6 +34,7 @@ import org.opendaylight.yangtools.concepts.Identifiable;
 import org.opendaylight.yangtools.concepts.Registration;
 import org.opendaylight.yangtools.util.ExecutorServiceUtil;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
 import org.opendaylight.yangtools.yang.data.tree.api.DataTree;
 import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidate;
 import org.opendaylight.yangtools.yang.data.tree.api.DataTreeConfiguration;
@@ -47,6 +53,16 @@ import org.slf4j.LoggerFactory;
  */
 public class InMemoryDOMDataStore extends TransactionReadyPrototype<String> implements DOMStore,
         Identifiable<String>, AutoCloseable, DOMStoreTreeChangePublisher {
+    /**
+     * A {@link DataTreeSnapshot} along with {@link DOMQueryIndex}es built from it.
+     */
+    private record IndexedSnapshot(DataTreeSnapshot snapshot, ImmutableList<DOMQueryIndex> indexes) {
+        IndexedSnapshot {
+            requireNonNull(snapshot);
+            requireNonNull(indexes);
+        }
+    }
+
     private static final Logger LOG = LoggerFactory.getLogger(InMemoryDOMDataStore.class);
 
     private final AtomicLong txCounter = new AtomicLong(0);
@@ -57,6 +73,10 @@ public class InMemoryDOMDataStore extends TransactionReadyPrototype<String> impl
     private final boolean debugTransactions;
     private final @NonNull String name;
 
+    // Guarded by this
+    private ImmutableMap<DOMQueryIndex.Definition, DOMQueryIndex> queryIndexes = ImmutableMap.of();
+    // Updated whenever queryIndexes are changed, null if there are no indexes
+    private volatile @Nullable IndexedSnapshot indexedSnapshot;
     private volatile AutoCloseable closeable;
 
     public InMemoryDOMDataStore(final String name, final ExecutorService dataChangeListenerExecutor) {
@@ -98,12 +118,65 @@ public class InMemoryDOMDataStore extends TransactionReadyPrototype<String> impl
 
     public final synchronized void onModelContextUpdated(final EffectiveModelContext newModelContext) {
         dataTree.setEffectiveModelContext(newModelContext);
+        if (!queryIndexes.isEmpty()) {
+            final var snapshot = dataTree.takeSnapshot();
+            final var root = readRoot(snapshot);
+            final var builder = ImmutableMap.<DOMQueryIndex.Definition, DOMQueryIndex>builder();
+            for (var definition : queryIndexes.keySet()) {
+                builder.put(definition, DOMQueryIndex.of(definition, root));
+            }
+            setQueryIndexes(snapshot, builder.build());
+        }
+    }
+
+    /**
+     * Add a {@link DOMQueryIndex}. Read-only transactions allocated after this method returns will use it to evaluate
+     * {@link org.opendaylight.mdsal.dom.api.query.DOMQuery queries} selecting entries of the indexed list which have
+     * an equality or range predicate on the indexed leaf. The index is maintained incrementally as transactions are
+     * committed.
+     *
+     * @param definition index definition
+     * @throws NullPointerException if {@code definition} is null
+     */
+    public final synchronized void addQueryIndex(final DOMQueryIndex.Definition definition) {
+        if (queryIndexes.containsKey(definition)) {
+            LOG.debug("Store {} already has index {}", name, definition);
+            return;
+        }
+
+        final var snapshot = dataTree.takeSnapshot();
+        final var index = DOMQueryIndex.of(definition, readRoot(snapshot));
+        setQueryIndexes(snapshot, ImmutableMap.<DOMQueryIndex.Definition, DOMQueryIndex>builder()
+            .putAll(queryIndexes)
+            .put(definition, index)
+            .build());
+        LOG.debug("Store {} added index {}", name, index);
+    }
+
+    /**
+     * Remove a {@link DOMQueryIndex} previously added via {@link #addQueryIndex(DOMQueryIndex.Definition)}.
+     *
+     * @param definition index definition
+     * @throws NullPointerException if {@code definition} is null
+     */
+    public final synchronized void removeQueryIndex(final DOMQueryIndex.Definition definition) {
+        requireNonNull(definition);
+        if (queryIndexes.containsKey(definition)) {
+            final var tmp = new LinkedHashMap<>(queryIndexes);
+            tmp.remove(definition);
+            setQueryIndexes(dataTree.takeSnapshot(), ImmutableMap.copyOf(tmp));
+            LOG.debug("Store {} removed index {}", name, definition);
+        }
     }
 
     @Override
     public DOMStoreReadTransaction newReadOnlyTransaction() {
-        return SnapshotBackedTransactions.newReadTransaction(nextIdentifier(), debugTransactions,
-            dataTree.takeSnapshot());
+        final var indexed = indexedSnapshot;
+        return indexed == null
+            ? SnapshotBackedTransactions.newReadTransaction(nextIdentifier(), debugTransactions,
+                dataTree.takeSnapshot())
+            : SnapshotBackedTransactions.newIndexedReadTransaction(nextIdentifier(), debugTransactions,
+                indexed.snapshot(), indexed.indexes());
     }
 
     @Override
@@ -186,9 +259,35 @@ public class InMemoryDOMDataStore extends TransactionReadyPrototype<String> impl
 
     synchronized void commit(final DataTreeCandidate candidate) {
         dataTree.commit(candidate);
+        if (!queryIndexes.isEmpty()) {
+            updateQueryIndexes(candidate);
+        }
         changePublisher.publishChange(candidate);
     }
 
+    // Guarded by this. Indexes are updated only with entries touched by the candidate, so as not to hold up writers.
+    private void updateQueryIndexes(final DataTreeCandidate candidate) {
+        final var snapshot = dataTree.takeSnapshot();
+        final var root = readRoot(snapshot);
+        final var builder = ImmutableMap.<DOMQueryIndex.Definition, DOMQueryIndex>builder();
+        for (var index : queryIndexes.values()) {
+            builder.put(index.definition(), index.update(candidate, root));
+        }
+        setQueryIndexes(snapshot, builder.build());
+    }
+
+    // Guarded by this
+    private void setQueryIndexes(final DataTreeSnapshot snapshot,
+            final ImmutableMap<DOMQueryIndex.Definition, DOMQueryIndex> newIndexes) {
+        queryIndexes = newIndexes;
+        indexedSnapshot = newIndexes.isEmpty() ? null
+            : new IndexedSnapshot(snapshot, ImmutableList.copyOf(newIndexes.values()));
+    }
+
+    private static NormalizedNode readRoot(final DataTreeSnapshot snapshot) {
+        return snapshot.readNode(YangInstanceIdentifier.of()).orElseThrow();
+    }
+
     private static DataTreeConfiguration defaultConfig(final LogicalDatastoreType type) {
         return switch (type) {
             case CONFIGURATION -> DataTreeConfiguration.DEFAULT_CONFIGURATION;
@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.dom.store.inmemory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.mdsal.dom.api.query.DOMQuery;
+import org.opendaylight.mdsal.dom.api.query.DOMQueryPredicate;
+import org.opendaylight.mdsal.dom.api.query.DOMQueryPredicate.Match;
+import org.opendaylight.mdsal.dom.spi.query.DOMQueryIndex;
+import org.opendaylight.mdsal.dom.spi.store.DOMStoreWriteTransaction;
+import org.opendaylight.yangtools.yang.common.Uint16;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.spi.node.ImmutableNodes;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+
+class QueryIndexTest {
+    private static final DOMQueryIndex.Definition ID_INDEX = new DOMQueryIndex.Definition(TestModel.OUTER_LIST_PATH,
+        YangInstanceIdentifier.of(TestModel.ID_QNAME));
+    private static final YangInstanceIdentifier SELECT = YangInstanceIdentifier.of(
+        new NodeIdentifier(TestModel.OUTER_LIST_QNAME), new NodeIdentifier(TestModel.OUTER_LIST_QNAME));
+    private static final YangInstanceIdentifier OUTER_ENTRY_PATH = TestModel.OUTER_LIST_PATH.node(outerKey(1));
+    private static final YangInstanceIdentifier INNER_LIST_PATH = OUTER_ENTRY_PATH.node(TestModel.INNER_LIST_QNAME);
+    private static final YangInstanceIdentifier INNER_SELECT = YangInstanceIdentifier.of(
+        new NodeIdentifier(TestModel.INNER_LIST_QNAME), new NodeIdentifier(TestModel.INNER_LIST_QNAME));
+
+    private static EffectiveModelContext SCHEMA_CONTEXT;
+
+    private InMemoryDOMDataStore domStore;
+
+    @BeforeAll
+    static void beforeAll() {
+        SCHEMA_CONTEXT = TestModel.createTestContext();
+    }
+
+    @AfterAll
+    static void afterAll() {
+        SCHEMA_CONTEXT = null;
+    }
+
+    @BeforeEach
+    void beforeEach() throws Exception {
+        domStore = new InMemoryDOMDataStore("TEST", MoreExecutors.newDirectExecutorService());
+        domStore.onModelContextUpdated(SCHEMA_CONTEXT);
+
+        final var tx = domStore.newWriteOnlyTransaction();
+        final var list = ImmutableNodes.newSystemMapBuilder()
+            .withNodeIdentifier(new NodeIdentifier(TestModel.OUTER_LIST_QNAME));
+        for (int i = 0; i < 10; ++i) {
+            list.addChild(outerEntry(i));
+        }
+        tx.write(TestModel.TEST_PATH, ImmutableNodes.newContainerBuilder()
+            .withNodeIdentifier(new NodeIdentifier(TestModel.TEST_QNAME))
+            .addChild(list.build())
+            .build());
+        commit(tx);
+    }
+
+    @Test
+    void testIndexLookup() {
+        final var root = Futures.getUnchecked(domStore.newReadOnlyTransaction().read(YangInstanceIdentifier.of()))
+            .orElseThrow();
+        final var index = DOMQueryIndex.of(ID_INDEX, root);
+
+        assertEquals(List.of(outerKey(3)), index.lookup(query(Match.valueEquals(Uint16.valueOf(3)))));
+        assertEquals(List.of(outerKey(0), outerKey(1)), index.lookup(query(Match.lessThan(Uint16.TWO))));
+        // Mismatched value type cannot be looked up
+        assertNull(index.lookup(query(Match.valueEquals(3))));
+        // Neither can a match which is not a range
+        assertNull(index.lookup(query(Match.exists())));
+    }
+
+    @Test
+    void testIndexedExecute() throws Exception {
+        domStore.addQueryIndex(ID_INDEX);
+        final var query = query(Match.greaterThanOrEqual(Uint16.valueOf(7)));
+        assertEquals(List.of(outerKey(7), outerKey(8), outerKey(9)), execute(query));
+
+        // Incremental update: remove one entry and add another one
+        final var tx = domStore.newWriteOnlyTransaction();
+        tx.delete(TestModel.OUTER_LIST_PATH.node(outerKey(8)));
+        tx.write(TestModel.OUTER_LIST_PATH.node(outerKey(12)), outerEntry(12));
+        commit(tx);
+        assertEquals(List.of(outerKey(7), outerKey(9), outerKey(12)), execute(query));
+
+        // Replace the entire list
+        final var replaceTx = domStore.newWriteOnlyTransaction();
+        replaceTx.write(TestModel.OUTER_LIST_PATH, ImmutableNodes.newSystemMapBuilder()
+            .withNodeIdentifier(new NodeIdentifier(TestModel.OUTER_LIST_QNAME))
+            .addChild(outerEntry(20))
+            .build());
+        commit(replaceTx);
+        assertEquals(List.of(outerKey(20)), execute(query));
+
+        // Results without the index are the same
+        domStore.removeQueryIndex(ID_INDEX);
+        assertEquals(List.of(outerKey(20)), execute(query));
+    }
+
+    @Test
+    void testUnindexedQueryBelowListEntry() throws Exception {
+        writeInnerList("a", "yes", "b", "no", "c", "yes");
+        // Registered index does not cover the query, which therefore has to be evaluated from the root
+        domStore.addQueryIndex(ID_INDEX);
+
+        final var query = innerQuery(Match.valueEquals("yes"));
+        assertEquals(List.of(innerKey("a"), innerKey("c")), execute(query));
+
+        domStore.removeQueryIndex(ID_INDEX);
+        assertEquals(List.of(innerKey("a"), innerKey("c")), execute(query));
+    }
+
+    @Test
+    void testIndexedUserOrderedList() throws Exception {
+        writeInnerList("c", "3", "a", "1", "d", "4", "b", "2");
+        domStore.addQueryIndex(new DOMQueryIndex.Definition(INNER_LIST_PATH,
+            YangInstanceIdentifier.of(TestModel.VALUE_QNAME)));
+
+        // Items are returned in list order, not in the order of indexed values ...
+        final var query = innerQuery(Match.greaterThanOrEqual("2"));
+        assertEquals(List.of(innerKey("c"), innerKey("d"), innerKey("b")), execute(query));
+        // ... unless they are requested in key order
+        assertEquals(List.of(innerKey("b"), innerKey("c"), innerKey("d")), execute(query.withKeyOrder()));
+    }
+
+    private void writeInnerList(final String... nameValues) throws Exception {
+        final var list = ImmutableNodes.newUserMapBuilder()
+            .withNodeIdentifier(new NodeIdentifier(TestModel.INNER_LIST_QNAME));
+        for (int i = 0; i < nameValues.length; i += 2) {
+            list.addChild(ImmutableNodes.newMapEntryBuilder()
+                .withNodeIdentifier(innerKey(nameValues[i]))
+                .withChild(ImmutableNodes.leafNode(TestModel.NAME_QNAME, nameValues[i]))
+                .withChild(ImmutableNodes.leafNode(TestModel.VALUE_QNAME, nameValues[i + 1]))
+                .build());
+        }
+
+        final var tx = domStore.newWriteOnlyTransaction();
+        tx.write(INNER_LIST_PATH, list.build());
+        commit(tx);
+    }
+
+    private List<NodeIdentifierWithPredicates> execute(final DOMQuery query) {
+        return Futures.getUnchecked(domStore.newReadOnlyTransaction().execute(query)).stream()
+            .map(entry -> (NodeIdentifierWithPredicates) entry.getKey().getLastPathArgument())
+            .toList();
+    }
+
+    private static DOMQuery query(final Match match) {
+        return new DOMQuery(TestModel.TEST_PATH, SELECT,
+            List.of(DOMQueryPredicate.of(YangInstanceIdentifier.of(TestModel.ID_QNAME), match)));
+    }
+
+    // Rooted at an outer-list entry, hence the root has more than one path argument
+    private static DOMQuery innerQuery(final Match match) {
+        return new DOMQuery(OUTER_ENTRY_PATH, INNER_SELECT,
+            List.of(DOMQueryPredicate.of(YangInstanceIdentifier.of(TestModel.VALUE_QNAME), match)));
+    }
+
+    private static NodeIdentifierWithPredicates innerKey(final String name) {
+        return NodeIdentifierWithPredicates.of(TestModel.INNER_LIST_QNAME, TestModel.NAME_QNAME, name);
+    }
+
+    private static NodeIdentifierWithPredicates outerKey(final int id) {
+        return NodeIdentifierWithPredicates.of(TestModel.OUTER_LIST_QNAME, TestModel.ID_QNAME, Uint16.valueOf(id));
+    }
+
+    private static MapEntryNode outerEntry(final int id) {
+        return ImmutableNodes.newMapEntryBuilder()
+            .withNodeIdentifier(outerKey(id))
+            .withChild(ImmutableNodes.leafNode(TestModel.ID_QNAME, Uint16.valueOf(id)))
+            .build();
+    }
+
+    private static void commit(final DOMStoreWriteTransaction tx) throws InterruptedException, ExecutionException {
+        final var cohort = tx.ready();
+        cohort.canCommit().get();
+        cohort.preCommit().get();
+        cohort.commit().get();
+    }
+}
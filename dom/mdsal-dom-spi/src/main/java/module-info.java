@@ -22,6 +22,7 @@ module org.opendaylight.mdsal.dom.spi {
     requires org.opendaylight.yangtools.yang.data.api;
     requires org.opendaylight.yangtools.yang.data.tree.spi;
     requires org.slf4j;
+    requires tech.pantheon.triemap;
 
     // Annotations
     requires static transitive org.eclipse.jdt.annotation;
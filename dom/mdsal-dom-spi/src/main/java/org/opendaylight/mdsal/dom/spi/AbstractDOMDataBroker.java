@@ -17,6 +17,7 @@ import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
 import org.opendaylight.mdsal.dom.api.DOMDataTreeChangeListener;
 import org.opendaylight.mdsal.dom.api.DOMDataTreeIdentifier;
 import org.opendaylight.mdsal.dom.api.DOMTransactionChain;
+import org.opendaylight.mdsal.dom.spi.query.StandingDOMQuery;
 import org.opendaylight.mdsal.dom.spi.store.DOMStore;
 import org.opendaylight.mdsal.dom.spi.store.DOMStoreTransactionChain;
 import org.opendaylight.mdsal.dom.spi.store.DOMStoreTreeChangePublisher;
@@ -37,7 +38,7 @@ public abstract class AbstractDOMDataBroker extends AbstractDOMForwardedTransact
 
         final var builder = ImmutableList.<Extension>builder();
         if (isSupported(datastores, DOMStoreTreeChangePublisher.class)) {
-            builder.add(new DataTreeChangeExtension() {
+            final var treeChangeExtension = new DataTreeChangeExtension() {
                 @Override
                 public Registration registerTreeChangeListener(final DOMDataTreeIdentifier treeId,
                         final DOMDataTreeChangeListener listener) {
@@ -57,7 +58,10 @@ public abstract class AbstractDOMDataBroker extends AbstractDOMForwardedTransact
                     }
                     throw new IllegalStateException("Publisher for " + datastore + " data store is not available");
                 }
-            });
+            };
+            builder.add(treeChangeExtension);
+            builder.add((QueryListenerExtension) (datastore, query, listener) ->
+                StandingDOMQuery.register(treeChangeExtension, datastore, query, listener));
         }
         if (isSupported(datastores, CommitCohortExtension.class)) {
             builder.add((CommitCohortExtension) (path, cohort) -> {
@@ -8,6 +8,7 @@
 package org.opendaylight.mdsal.dom.spi;
 
 import com.google.common.util.concurrent.ListenableFuture;
+import java.util.Map;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.opendaylight.mdsal.dom.api.DOMActionService;
 import org.opendaylight.mdsal.dom.api.DOMDataTreeIdentifier;
@@ -23,4 +24,10 @@ public abstract class ForwardingDOMActionService
             final ContainerNode input) {
         return delegate().invokeAction(type, path, input);
     }
+
+    @Override
+    public Map<DOMDataTreeIdentifier, ListenableFuture<? extends DOMRpcResult>> invokeActions(final Absolute type,
+            final Map<DOMDataTreeIdentifier, ContainerNode> inputs) {
+        return delegate().invokeActions(type, inputs);
+    }
 }
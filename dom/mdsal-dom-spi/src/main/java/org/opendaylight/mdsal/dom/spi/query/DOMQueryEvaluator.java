@@ -8,14 +8,25 @@
 package org.opendaylight.mdsal.dom.spi.query;
 
 import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.PriorityQueue;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.opendaylight.mdsal.dom.api.query.DOMQuery;
+import org.opendaylight.mdsal.dom.api.query.DOMQueryAggregateResult;
 import org.opendaylight.mdsal.dom.api.query.DOMQueryResult;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+import org.opendaylight.yangtools.yang.data.api.schema.MapNode;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNodes;
+import org.opendaylight.yangtools.yang.data.api.schema.UserMapNode;
 
 @NonNullByDefault
 public final class DOMQueryEvaluator {
@@ -27,6 +38,9 @@ public final class DOMQueryEvaluator {
      * Evaluate {@link DOMQuery} on its data element. The element is expected to correspond to
      * {@link DOMQuery#getRoot()}.
      *
+     * <p>Unordered results are evaluated lazily. {@link DOMQuery#isKeyOrdered() Key-ordered} results are evaluated
+     * eagerly, retaining at most {@link DOMQuery#getOffset()} plus {@link DOMQuery#getLimit()} items at any time.
+     *
      * @param query Query to execute
      * @param queryRoot Query root object
      * @return Result of evaluation
@@ -34,7 +48,10 @@ public final class DOMQueryEvaluator {
      */
     public static DOMQueryResult evaluateOn(final DOMQuery query, final NormalizedNode queryRoot) {
         final YangInstanceIdentifier path = query.getSelect();
-        return path.isEmpty() ? evalSingle(query, queryRoot) : new LazyDOMQueryResult(query, queryRoot);
+        if (path.isEmpty()) {
+            return evalSingle(query, queryRoot);
+        }
+        return query.isKeyOrdered() ? evalOrdered(query, queryRoot) : new LazyDOMQueryResult(query, queryRoot);
     }
 
     /**
@@ -50,7 +67,7 @@ public final class DOMQueryEvaluator {
     public static DOMQueryResult evaluateOnRoot(final DOMQuery query, final NormalizedNode root) {
         NormalizedNode evalRoot = root;
         for (PathArgument arg : query.getRoot().getPathArguments()) {
-            final Optional<NormalizedNode> next = NormalizedNodes.findNode(root, arg);
+            final Optional<NormalizedNode> next = NormalizedNodes.findNode(evalRoot, arg);
             if (next.isEmpty()) {
                 return DOMQueryResult.of();
             }
@@ -59,8 +76,154 @@ public final class DOMQueryEvaluator {
         return evaluateOn(query, evalRoot);
     }
 
+    /**
+     * Evaluate {@link DOMQuery} on a conceptual root, using any applicable {@link DOMQueryIndex}. The indexes are
+     * expected to have been built from the same root. If none of the indexes applies to the query, this method
+     * defers to {@link #evaluateOnRoot(DOMQuery, NormalizedNode)}.
+     *
+     * <p>Unless the query is {@link DOMQuery#isKeyOrdered() key-ordered}, items of {@code ordered-by user} lists are
+     * returned in list order, just as they would be without an index. Items of other lists are returned in the order
+     * of indexed values, as their order is not defined in the first place.
+     *
+     * @param query Query to execute
+     * @param root Conceptual root object
+     * @param indexes Available indexes
+     * @return Result of evaluation
+     * @throws NullPointerException if any argument is null
+     */
+    public static DOMQueryResult evaluateOnRoot(final DOMQuery query, final NormalizedNode root,
+            final Collection<DOMQueryIndex> indexes) {
+        for (var index : indexes) {
+            final var keys = index.lookup(query);
+            if (keys != null) {
+                return evalIndexed(query, root, index.definition().listPath(), keys);
+            }
+        }
+        return evaluateOnRoot(query, root);
+    }
+
+    /**
+     * Compute the {@link DOMQuery#findAggregate() aggregate} of a {@link DOMQuery} on its data element. The element is
+     * expected to correspond to {@link DOMQuery#getRoot()}.
+     *
+     * <p>Matching items are folded into the aggregate as they are found, hence unless the query is
+     * {@link DOMQuery#isKeyOrdered() key-ordered}, they are not retained.
+     *
+     * @param query Query to execute
+     * @param queryRoot Query root object
+     * @return Aggregate result
+     * @throws NullPointerException if any argument is null
+     * @throws IllegalArgumentException if the query does not specify an aggregate
+     */
+    public static DOMQueryAggregateResult aggregateOn(final DOMQuery query, final NormalizedNode queryRoot) {
+        return aggregate(query, evaluateOn(query, queryRoot));
+    }
+
+    /**
+     * Compute the {@link DOMQuery#findAggregate() aggregate} of a {@link DOMQuery} on a conceptual root. The element
+     * is expected to correspond to the conceptual data tree root.
+     *
+     * @param query Query to execute
+     * @param root Conceptual root object
+     * @return Aggregate result
+     * @throws NullPointerException if any argument is null
+     * @throws IllegalArgumentException if the query does not specify an aggregate
+     */
+    public static DOMQueryAggregateResult aggregateOnRoot(final DOMQuery query, final NormalizedNode root) {
+        return aggregate(query, evaluateOnRoot(query, root));
+    }
+
+    private static DOMQueryAggregateResult aggregate(final DOMQuery query, final DOMQueryResult result) {
+        final var aggregate = query.findAggregate()
+            .orElseThrow(() -> new IllegalArgumentException("Query " + query + " does not specify an aggregate"));
+        return aggregate.computeOn(result);
+    }
+
+    private static DOMQueryResult evalIndexed(final DOMQuery query, final NormalizedNode root,
+            final YangInstanceIdentifier listPath, final List<NodeIdentifierWithPredicates> keys) {
+        if (keys.isEmpty() || !(NormalizedNodes.findNode(root, listPath).orElse(null) instanceof MapNode map)) {
+            return DOMQueryResult.of();
+        }
+
+        final var matcher = DOMQueryMatcher.of(query.getPredicates());
+        final var after = query.findContinuation().orElse(null);
+        final var items = new ArrayList<Entry<YangInstanceIdentifier, NormalizedNode>>();
+        for (var key : keys) {
+            final var entry = map.childByArg(key);
+            if (entry != null) {
+                final var entryPath = listPath.node(key);
+                if ((after == null || DOMQueryKeyOrder.INSTANCE.compare(entryPath, after) > 0)
+                    && matcher.matches(entry)) {
+                    items.add(Map.entry(entryPath, entry));
+                }
+            }
+        }
+        if (query.isKeyOrdered()) {
+            items.sort(Entry.comparingByKey(DOMQueryKeyOrder.INSTANCE));
+        } else if (map instanceof UserMapNode userMap && items.size() > 1) {
+            return DOMQueryResult.of(slice(query, inListOrder(userMap, listPath, items)));
+        }
+        return DOMQueryResult.of(slice(query, items));
+    }
+
+    // Index returns entries in the order of indexed values, restore the user-specified order
+    private static List<Entry<YangInstanceIdentifier, NormalizedNode>> inListOrder(final UserMapNode map,
+            final YangInstanceIdentifier listPath, final List<Entry<YangInstanceIdentifier, NormalizedNode>> items) {
+        final var keys = new HashSet<PathArgument>(items.size() * 2);
+        for (var item : items) {
+            keys.add(item.getKey().getLastPathArgument());
+        }
+
+        final var ret = new ArrayList<Entry<YangInstanceIdentifier, NormalizedNode>>(items.size());
+        for (var entry : map.body()) {
+            if (keys.contains(entry.name())) {
+                ret.add(Map.entry(listPath.node(entry.name()), entry));
+            }
+        }
+        return ret;
+    }
+
+    private static DOMQueryResult evalOrdered(final DOMQuery query, final NormalizedNode queryRoot) {
+        final long offset = query.getOffset();
+        final long limit = query.getLimit();
+        final long retained = offset + limit;
+        if (retained < 0 || retained > Integer.MAX_VALUE) {
+            // Unbounded: collect everything and sort
+            final var items = new ArrayList<Entry<YangInstanceIdentifier, NormalizedNode>>();
+            new DOMQuerySpliterator(query, queryRoot).forEachRemaining(items::add);
+            items.sort(Entry.comparingByKey(DOMQueryKeyOrder.INSTANCE));
+            return DOMQueryResult.of(slice(query, items));
+        }
+        if (limit == 0) {
+            return DOMQueryResult.of();
+        }
+
+        // Bounded: keep the smallest 'retained' items in a max-heap, evicting the largest one on overflow
+        final int bound = (int) retained;
+        final var heap = new PriorityQueue<Entry<YangInstanceIdentifier, NormalizedNode>>(Math.min(bound, 1024) + 1,
+            Entry.<YangInstanceIdentifier, NormalizedNode>comparingByKey(DOMQueryKeyOrder.INSTANCE).reversed());
+        new DOMQuerySpliterator(query, queryRoot).forEachRemaining(item -> {
+            heap.add(item);
+            if (heap.size() > bound) {
+                heap.poll();
+            }
+        });
+
+        final var items = new ArrayList<>(heap);
+        items.sort(Entry.comparingByKey(DOMQueryKeyOrder.INSTANCE));
+        return DOMQueryResult.of(slice(query, items));
+    }
+
+    private static List<Entry<YangInstanceIdentifier, NormalizedNode>> slice(final DOMQuery query,
+            final List<Entry<YangInstanceIdentifier, NormalizedNode>> items) {
+        final int size = items.size();
+        final int from = (int) Math.min(query.getOffset(), size);
+        final int to = (int) Math.min(from + Math.min(query.getLimit(), size), size);
+        return items.subList(from, to);
+    }
+
     private static DOMQueryResult evalSingle(final DOMQuery query, final NormalizedNode data) {
-        return DOMQueryMatcher.matchesAll(data, query.getPredicates()) ? DOMQueryResult.of()
+        return DOMQueryMatcher.of(query.getPredicates()).matches(data) ? DOMQueryResult.of()
                 : DOMQueryResult.of(new SimpleImmutableEntry<>(query.getRoot(), data));
     }
 }
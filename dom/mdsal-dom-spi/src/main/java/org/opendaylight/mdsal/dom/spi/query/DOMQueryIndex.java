@@ -0,0 +1,298 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.dom.spi.query;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.Beta;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Range;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.mdsal.dom.api.query.DOMQuery;
+import org.opendaylight.yangtools.concepts.Immutable;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.schema.LeafNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNodes;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidate;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidateNode;
+import tech.pantheon.triemap.ImmutableTrieMap;
+import tech.pantheon.triemap.TrieMap;
+
+/**
+ * A secondary index of leaf values within entries of a keyed list. It allows {@link DOMQueryEvaluator} to find entries
+ * matching an equality or range predicate in {@code O(log n)} instead of examining every entry of the list.
+ *
+ * <p>Instances are immutable and are updated incrementally via {@link #update(DataTreeCandidate, NormalizedNode)},
+ * which shares unchanged parts of the index with the original instance. This makes it cheap to keep an index version
+ * alongside each data tree snapshot.
+ *
+ * <p>An index can only be used when all indexed values are {@link Comparable} and of the same class, which is the case
+ * for well-formed YANG data. Should this not be the case, the index does not answer any lookups.
+ */
+@Beta
+@NonNullByDefault
+public final class DOMQueryIndex implements Immutable {
+    /**
+     * Definition of a {@link DOMQueryIndex}.
+     *
+     * @param listPath absolute path to the indexed {@link MapNode}
+     * @param leafPath path to the indexed leaf, relative to each {@link MapEntryNode}
+     */
+    public record Definition(YangInstanceIdentifier listPath, YangInstanceIdentifier leafPath) implements Immutable {
+        public Definition {
+            requireNonNull(listPath);
+            requireNonNull(leafPath);
+            if (listPath.isEmpty()) {
+                throw new IllegalArgumentException("List path must not be empty");
+            }
+            if (leafPath.isEmpty()) {
+                throw new IllegalArgumentException("Leaf path must not be empty");
+            }
+        }
+    }
+
+    private static final ImmutableTrieMap<NodeIdentifierWithPredicates, Boolean> EMPTY_KEYS =
+        TrieMap.<NodeIdentifierWithPredicates, Boolean>create().immutableSnapshot();
+
+    private final Definition definition;
+    private final @Nullable ValueTree values;
+    // Class of indexed values, null if the index is empty
+    private final @Nullable Class<?> valueClass;
+    // Set if we have encountered a value we cannot index
+    private final boolean unusable;
+
+    private DOMQueryIndex(final Definition definition, final @Nullable ValueTree values,
+            final @Nullable Class<?> valueClass, final boolean unusable) {
+        this.definition = requireNonNull(definition);
+        this.values = values;
+        this.valueClass = valueClass;
+        this.unusable = unusable;
+    }
+
+    /**
+     * Create a new index of the data tree rooted at {@code root}.
+     *
+     * @param definition index definition
+     * @param root conceptual root of the data tree
+     * @return A new index
+     * @throws NullPointerException if any argument is null
+     */
+    public static DOMQueryIndex of(final Definition definition, final NormalizedNode root) {
+        return build(definition, NormalizedNodes.findNode(root, definition.listPath()).orElse(null));
+    }
+
+    public Definition definition() {
+        return definition;
+    }
+
+    /**
+     * Return an updated index reflecting the effects of a {@link DataTreeCandidate}.
+     *
+     * @param candidate committed candidate
+     * @param newRoot conceptual root of the data tree after the candidate has been committed
+     * @return An updated index, or this index if the candidate did not affect it
+     * @throws NullPointerException if any argument is null
+     */
+    public DOMQueryIndex update(final DataTreeCandidate candidate, final NormalizedNode newRoot) {
+        final var listPath = definition.listPath();
+        final var rootPath = candidate.getRootPath();
+        final var relative = listPath.relativeTo(rootPath);
+        if (relative.isEmpty()) {
+            // The candidate is either unrelated or it is rooted inside the list. Rebuild in the latter case.
+            return rootPath.relativeTo(listPath).isPresent() ? of(definition, newRoot) : this;
+        }
+
+        DataTreeCandidateNode node = candidate.getRootNode();
+        for (var arg : relative.orElseThrow().getPathArguments()) {
+            node = node.modifiedChild(arg);
+            if (node == null) {
+                return this;
+            }
+        }
+
+        return switch (node.modificationType()) {
+            case UNMODIFIED -> this;
+            case SUBTREE_MODIFIED -> updateEntries(node);
+            // A replaced list is diffed entry-by-entry unless there is nothing to diff against
+            case APPEARED, WRITE -> unusable || node.dataBefore() == null ? build(definition, node.dataAfter())
+                : updateEntries(node);
+            case DELETE, DISAPPEARED -> build(definition, null);
+        };
+    }
+
+    /**
+     * Look up the keys of entries which can match a {@link DOMQuery}. This is possible if the query selects entries of
+     * the indexed list and has a predicate on the indexed leaf whose
+     * {@link org.opendaylight.mdsal.dom.api.query.DOMQueryPredicate.Match#valueRange()} is compatible with indexed
+     * values. Returned keys are a superset of the query's result and are ordered by the value of the indexed leaf.
+     *
+     * @param query query to examine
+     * @return Candidate entry keys, or {@code null} if this index cannot be used to evaluate the query
+     */
+    public @Nullable List<NodeIdentifierWithPredicates> lookup(final DOMQuery query) {
+        if (unusable || !selectsEntries(query)) {
+            return null;
+        }
+
+        for (var predicate : query.getPredicates()) {
+            if (definition.leafPath().equals(predicate.relativePath())) {
+                final var range = predicate.match().valueRange();
+                if (range != null && isCompatible(range)) {
+                    final var ret = new ArrayList<NodeIdentifierWithPredicates>();
+                    ValueTree.collect(values, range, ret);
+                    return ret;
+                }
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).add("definition", definition).add("valueClass", valueClass)
+            .add("unusable", unusable).toString();
+    }
+
+    private boolean selectsEntries(final DOMQuery query) {
+        // The select path has to point to wildcard entries of the list, i.e. be the list path followed by
+        // a NodeIdentifier
+        final var select = query.getSelect();
+        return !select.isEmpty() && select.getLastPathArgument() instanceof NodeIdentifier
+            && definition.listPath().relativeTo(query.getRoot())
+                .map(relative -> relative.equals(select.coerceParent()))
+                .orElse(Boolean.FALSE);
+    }
+
+    private boolean isCompatible(final Range<?> range) {
+        final var type = valueClass;
+        if (type == null) {
+            // Empty index, any range is fine
+            return true;
+        }
+        return (!range.hasLowerBound() || type.equals(range.lowerEndpoint().getClass()))
+            && (!range.hasUpperBound() || type.equals(range.upperEndpoint().getClass()));
+    }
+
+    private DOMQueryIndex updateEntries(final DataTreeCandidateNode listNode) {
+        final var builder = new Builder(values, valueClass, unusable);
+        for (var child : listNode.childNodes()) {
+            if (child.name() instanceof NodeIdentifierWithPredicates key) {
+                final var before = leafValue(child.dataBefore());
+                final var after = leafValue(child.dataAfter());
+                if (!Objects.equals(before, after)) {
+                    if (before != null) {
+                        builder.remove(before, key);
+                    }
+                    if (after != null) {
+                        builder.add(after, key);
+                    }
+                }
+            }
+        }
+        return builder.build(definition);
+    }
+
+    private static DOMQueryIndex build(final Definition definition, final @Nullable NormalizedNode list) {
+        final var builder = new Builder(null, null, false);
+        if (list instanceof MapNode map) {
+            for (var entry : map.body()) {
+                final var value = leafValue(definition, entry);
+                if (value != null) {
+                    builder.add(value, entry.name());
+                }
+            }
+        }
+        return builder.build(definition);
+    }
+
+    private @Nullable Object leafValue(final @Nullable NormalizedNode entry) {
+        return entry == null ? null : leafValue(definition, entry);
+    }
+
+    private static @Nullable Object leafValue(final Definition definition, final NormalizedNode entry) {
+        return NormalizedNodes.findNode(entry, definition.leafPath())
+            .map(leaf -> leaf instanceof LeafNode<?> leafNode ? leafNode.body() : null)
+            .orElse(null);
+    }
+
+    /**
+     * Helper for accumulating changes to a {@link ValueTree}.
+     */
+    private static final class Builder {
+        private @Nullable ValueTree values;
+        private @Nullable Class<?> valueClass;
+        private boolean unusable;
+
+        Builder(final @Nullable ValueTree values, final @Nullable Class<?> valueClass, final boolean unusable) {
+            this.values = values;
+            this.valueClass = valueClass;
+            this.unusable = unusable;
+        }
+
+        void add(final Object value, final NodeIdentifierWithPredicates key) {
+            if (!checkValue(value)) {
+                return;
+            }
+
+            final var existing = ValueTree.get(values, value);
+            final var keys = (existing != null ? existing : EMPTY_KEYS).mutableSnapshot();
+            keys.put(key, Boolean.TRUE);
+            values = ValueTree.put(values, value, keys.immutableSnapshot());
+        }
+
+        void remove(final Object value, final NodeIdentifierWithPredicates key) {
+            if (!checkValue(value)) {
+                return;
+            }
+
+            final var existing = ValueTree.get(values, value);
+            if (existing != null && existing.containsKey(key)) {
+                final var keys = existing.mutableSnapshot();
+                keys.remove(key);
+                values = keys.isEmpty() ? ValueTree.remove(values, value)
+                    : ValueTree.put(values, value, keys.immutableSnapshot());
+            }
+        }
+
+        @NonNull DOMQueryIndex build(final Definition definition) {
+            return unusable ? new DOMQueryIndex(definition, null, null, true)
+                : new DOMQueryIndex(definition, values, values == null ? null : valueClass, false);
+        }
+
+        private boolean checkValue(final Object value) {
+            if (unusable) {
+                return false;
+            }
+            if (!(value instanceof Comparable)) {
+                unusable = true;
+                return false;
+            }
+
+            final var type = valueClass;
+            if (type == null || values == null) {
+                valueClass = value.getClass();
+                return true;
+            }
+            if (type.equals(value.getClass())) {
+                return true;
+            }
+            unusable = true;
+            return false;
+        }
+    }
+}
@@ -16,14 +16,12 @@ import com.google.common.collect.AbstractIterator;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.util.ArrayDeque;
 import java.util.Iterator;
-import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.mdsal.dom.api.query.DOMQuery;
-import org.opendaylight.mdsal.dom.api.query.DOMQueryPredicate;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
@@ -91,13 +89,13 @@ final class DOMQueryIterator extends AbstractIterator<Entry<YangInstanceIdentifi
     // Work backlog, in terms of frames that need to be processed
     private final ArrayDeque<Frame> frames = new ArrayDeque<>();
     // The predicates which need to be evaluated
-    private final List<? extends DOMQueryPredicate> predicates;
+    private final DOMQueryMatcher matcher;
 
     DOMQueryIterator(final DOMQuery query, final NormalizedNode queryRoot) {
         // Note: DOMQueryEvaluator has taken care of the empty case, this is always non-empty
         remainingSelect.addAll(query.getSelect().getPathArguments());
         currentPath.addAll(query.getRoot().getPathArguments());
-        predicates = query.getPredicates();
+        matcher = DOMQueryMatcher.of(query.getPredicates());
         frames.push(new Frame(queryRoot));
     }
 
@@ -329,6 +327,6 @@ final class DOMQueryIterator extends AbstractIterator<Entry<YangInstanceIdentifi
     }
 
     private boolean matches(final NormalizedNode data) {
-        return DOMQueryMatcher.matchesAll(data, predicates);
+        return matcher.matches(data);
     }
 }
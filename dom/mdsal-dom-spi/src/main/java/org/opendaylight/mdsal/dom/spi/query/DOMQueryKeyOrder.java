@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.dom.spi.query;
+
+import java.util.Comparator;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.opendaylight.mdsal.dom.api.query.DOMQueryValueOrder;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeWithValue;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+
+/**
+ * Order of {@link org.opendaylight.mdsal.dom.api.query.DOMQuery#isKeyOrdered()} results. Paths are compared argument
+ * by argument, list entries being ordered by the values of their keys, in key declaration order. Values are compared
+ * using {@link DOMQueryValueOrder}.
+ */
+@NonNullByDefault
+final class DOMQueryKeyOrder implements Comparator<YangInstanceIdentifier> {
+    static final DOMQueryKeyOrder INSTANCE = new DOMQueryKeyOrder();
+
+    private DOMQueryKeyOrder() {
+        // Hidden on purpose
+    }
+
+    @Override
+    public int compare(final YangInstanceIdentifier o1, final YangInstanceIdentifier o2) {
+        final var args1 = o1.getPathArguments();
+        final var args2 = o2.getPathArguments();
+        final int size = Math.min(args1.size(), args2.size());
+        for (int i = 0; i < size; ++i) {
+            final int cmp = compareArgs(args1.get(i), args2.get(i));
+            if (cmp != 0) {
+                return cmp;
+            }
+        }
+        return Integer.compare(args1.size(), args2.size());
+    }
+
+    private static int compareArgs(final PathArgument arg1, final PathArgument arg2) {
+        final int cmp = arg1.getNodeType().compareTo(arg2.getNodeType());
+        if (cmp != 0) {
+            return cmp;
+        }
+        if (arg1 instanceof NodeIdentifierWithPredicates nip1 && arg2 instanceof NodeIdentifierWithPredicates nip2) {
+            final var it1 = nip1.values().iterator();
+            final var it2 = nip2.values().iterator();
+            while (it1.hasNext() && it2.hasNext()) {
+                final int valueCmp = DOMQueryValueOrder.INSTANCE.compare(it1.next(), it2.next());
+                if (valueCmp != 0) {
+                    return valueCmp;
+                }
+            }
+            return Integer.compare(nip1.size(), nip2.size());
+        }
+        if (arg1 instanceof NodeWithValue<?> nwv1 && arg2 instanceof NodeWithValue<?> nwv2) {
+            return DOMQueryValueOrder.INSTANCE.compare(nwv1.getValue(), nwv2.getValue());
+        }
+        return arg1.getClass() == arg2.getClass() ? 0 : arg1.getClass().getName().compareTo(arg2.getClass().getName());
+    }
+}
@@ -7,13 +7,23 @@
  */
 package org.opendaylight.mdsal.dom.spi.query;
 
-import java.util.ArrayDeque;
-import java.util.Deque;
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Throwables;
+import com.google.common.collect.MapMaker;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentMap;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.mdsal.dom.api.query.DOMQueryPredicate;
 import org.opendaylight.mdsal.dom.api.query.DOMQueryPredicate.Match;
-import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
 import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
@@ -23,73 +33,231 @@ import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNodes;
 
 /**
  * Generalized utility for matching predicates. Split out of {@link DOMQueryIterator} for simplicity.
+ *
+ * <p>Instances are an execution plan for a conjunction of {@link DOMQueryPredicate}s. Predicates are ordered by their
+ * estimated cost, so that existence checks and cheap, selective matches are evaluated first and expensive ones, like
+ * regular expressions, only run on nodes which passed all the others. Predicate paths are also pre-split into arrays,
+ * so that evaluation does not need to walk {@link org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier}s.
+ *
+ * <p>Plans start out interpreted. Once a plan has been evaluated a thousand times, it is compiled into a single
+ * {@link MethodHandle} tree, with predicate paths and match arguments bound as constants, see
+ * {@link Match#toMethodHandle()}. Plans are cached for each list of predicates, hence a query which is executed
+ * repeatedly is compiled only once.
  */
+@NonNullByDefault
 final class DOMQueryMatcher {
-    private DOMQueryMatcher() {
-        // Utility class
+    /**
+     * A single step of the plan.
+     *
+     * @param path path arguments of {@link DOMQueryPredicate#relativePath()}
+     * @param match the match to evaluate
+     * @param cost estimated cost of evaluating this step
+     */
+    private record Step(PathArgument[] path, Match match, int cost) {
+        Step {
+            requireNonNull(path);
+            requireNonNull(match);
+        }
+
+        static Step of(final DOMQueryPredicate predicate) {
+            final var path = predicate.relativePath().getPathArguments().toArray(new PathArgument[0]);
+            final var match = predicate.match();
+            // Each step means a lookup, potentially a wildcard one, which multiplies match evaluations
+            return new Step(path, match, match.estimatedCost() * Math.max(path.length, 1) + 4 * path.length);
+        }
+
+        @Override
+        public String toString() {
+            return MoreObjects.toStringHelper(this).add("path", List.of(path)).add("match", match).add("cost", cost)
+                .toString();
+        }
     }
 
-    static boolean matchesAll(final NormalizedNode data, final List<? extends DOMQueryPredicate> predicates) {
-        // TODO: it would be nice if predicates were somehow structured -- can we perhaps sort them by their
-        //       InstanceIdentifier? If the predicates are sharing a common subpath. Hence if we can guarantee
-        //       predicates are in a certain order, we would not end up in subsequent re-lookups of the same node.
-        Deque<PathArgument> pathArgs = null;
-        for (DOMQueryPredicate pred : predicates) {
-            // So now, dealing with implementations: YangInstanceIdentifier.getLastPathArgument() is always cheap.
-            // If its parent is YangInstanceIdentifier.ROOT (i.e. isEmpty() == true), we are dealing with a last-step
-            // lookup -- in which case we forgo iteration:
-            final YangInstanceIdentifier path = pred.relativePath();
-            if (path.coerceParent().isEmpty()) {
-                if (!matchesChild(pred.match(), data, path.getLastPathArgument())) {
-                    return false;
-                }
-                continue;
+    // Number of evaluations after which a plan is compiled
+    private static final int COMPILE_THRESHOLD = 1000;
+    private static final MethodHandle FALSE = MethodHandles.dropArguments(MethodHandles.constant(boolean.class, false),
+        0, NormalizedNode.class);
+    private static final MethodHandle MATCHES_CHILD;
+    private static final MethodHandle MATCHES_DESCENDANT;
+
+    static {
+        final var lookup = MethodHandles.lookup();
+        final var type = MethodType.methodType(boolean.class, MethodHandle.class, PathArgument.class,
+            NormalizedNode.class);
+        try {
+            MATCHES_CHILD = lookup.findStatic(DOMQueryMatcher.class, "matchesChild", type);
+            MATCHES_DESCENDANT = lookup.findStatic(DOMQueryMatcher.class, "matchesDescendant", type);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private static final DOMQueryMatcher EMPTY = new DOMQueryMatcher(new Step[0]);
+    // Note: weak keys imply identity comparison, which is what we want, as DOMQuery retains its predicate list
+    private static final ConcurrentMap<List<? extends DOMQueryPredicate>, DOMQueryMatcher> CACHE =
+        new MapMaker().weakKeys().makeMap();
+
+    private final Step[] steps;
+
+    // Compiled plan, null until this plan becomes hot
+    private volatile @Nullable MethodHandle compiled;
+    // Approximate number of interpreted evaluations, we do not care about lost updates
+    private int evaluations;
+
+    private DOMQueryMatcher(final Step[] steps) {
+        this.steps = requireNonNull(steps);
+    }
+
+    /**
+     * Create a matcher for a conjunction of predicates.
+     *
+     * @param predicates predicates to match
+     * @return A matcher
+     */
+    static DOMQueryMatcher of(final List<? extends DOMQueryPredicate> predicates) {
+        return predicates.isEmpty() ? EMPTY : CACHE.computeIfAbsent(predicates, DOMQueryMatcher::create);
+    }
+
+    private static DOMQueryMatcher create(final List<? extends DOMQueryPredicate> predicates) {
+        final var steps = new ArrayList<Step>(predicates.size());
+        for (var predicate : predicates) {
+            steps.add(Step.of(predicate));
+        }
+        // Note: List.sort() is stable, hence predicates with equal cost retain their declaration order
+        steps.sort(Comparator.comparingInt(Step::cost));
+        return new DOMQueryMatcher(steps.toArray(new Step[0]));
+    }
+
+    /**
+     * Check whether a node satisfies all predicates.
+     *
+     * @param data node to examine
+     * @return {@code true} if the node matches all predicates
+     */
+    boolean matches(final NormalizedNode data) {
+        final var local = compiled;
+        if (local != null) {
+            return invoke(local, data);
+        }
+        if (steps.length != 0 && ++evaluations == COMPILE_THRESHOLD) {
+            compiled = compile(steps);
+        }
+        return interpret(data);
+    }
+
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private static boolean invoke(final MethodHandle handle, final NormalizedNode data) {
+        try {
+            return (boolean) handle.invokeExact(data);
+        } catch (Throwable e) {
+            Throwables.throwIfUnchecked(e);
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private boolean interpret(final NormalizedNode data) {
+        for (var step : steps) {
+            final var path = step.path;
+            final boolean matched = switch (path.length) {
+                case 0 -> step.match.test(data);
+                // Last-step lookup: we forgo iteration
+                case 1 -> matchesChild(step.match, data, path[0]);
+                default -> matchesAny(step.match, data, path, 0);
+            };
+            if (!matched) {
+                return false;
             }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).add("steps", List.of(steps)).add("compiled", compiled != null)
+            .toString();
+    }
+
+    // Steps are chained in plan order, each one guarding the evaluation of the next
+    private static MethodHandle compile(final Step[] steps) {
+        final int last = steps.length - 1;
+        var ret = compile(steps[last]);
+        for (int i = last - 1; i >= 0; --i) {
+            ret = MethodHandles.guardWithTest(compile(steps[i]), ret, FALSE);
+        }
+        return ret;
+    }
 
-            // We are leaking path arguments in a bid for object reuse: we end up reusing same object as needed
-            if (pathArgs == null) {
-                pathArgs = new ArrayDeque<>();
+    private static MethodHandle compile(final Step step) {
+        final var path = step.path;
+        var ret = step.match.toMethodHandle();
+        if (path.length != 0) {
+            ret = MethodHandles.insertArguments(MATCHES_CHILD, 0, ret, path[path.length - 1]);
+            for (int i = path.length - 2; i >= 0; --i) {
+                ret = MethodHandles.insertArguments(MATCHES_DESCENDANT, 0, ret, path[i]);
             }
-            pathArgs.addAll(path.getPathArguments());
+        }
+        return ret;
+    }
 
-            // The stage is set, we now have to deal with potential negation.
-            if (!matchesAny(pred.match(), data, pathArgs)) {
-                return false;
+    // Compiled equivalent of matchesAny(), with 'next' evaluating the rest of the path
+    @SuppressWarnings("checkstyle:IllegalThrows")
+    private static boolean matchesDescendant(final MethodHandle next, final PathArgument pathArg,
+            final NormalizedNode data) throws Throwable {
+        final Optional<NormalizedNode> direct = NormalizedNodes.getDirectChild(data, pathArg);
+        if (direct.isPresent()) {
+            return (boolean) next.invokeExact(direct.orElseThrow());
+        }
+        if (pathArg instanceof NodeIdentifier && data instanceof MapNode map) {
+            for (MapEntryNode child : map.body()) {
+                if ((boolean) next.invokeExact((NormalizedNode) child)) {
+                    return true;
+                }
             }
+        }
+        return false;
+    }
 
-            pathArgs.clear();
+    // Compiled equivalent of matchesChild()
+    @SuppressWarnings("checkstyle:IllegalThrows")
+    private static boolean matchesChild(final MethodHandle match, final PathArgument pathArg,
+            final NormalizedNode data) throws Throwable {
+        final Optional<NormalizedNode> direct = NormalizedNodes.getDirectChild(data, pathArg);
+        if (direct.isPresent()) {
+            return (boolean) match.invokeExact(direct.orElseThrow());
         }
-        return true;
+        if (pathArg instanceof NodeIdentifier && data instanceof MapNode map) {
+            for (MapEntryNode child : map.body()) {
+                if ((boolean) match.invokeExact((NormalizedNode) child)) {
+                    return true;
+                }
+            }
+        }
+        return (boolean) match.invokeExact((NormalizedNode) null);
     }
 
-    private static boolean matchesAny(final Match match, final NormalizedNode data,
-            final Deque<PathArgument> pathArgs) {
-        // Guaranteed to have at least one item
-        final PathArgument pathArg = pathArgs.pop();
+    private static boolean matchesAny(final Match match, final NormalizedNode data, final PathArgument[] path,
+            final int offset) {
+        final var pathArg = path[offset];
         // Ultimate item -- reuse lookup & match
-        if (pathArgs.isEmpty()) {
-            pathArgs.push(pathArg);
+        final int next = offset + 1;
+        if (next == path.length) {
             return matchesChild(match, data, pathArg);
         }
 
         final Optional<NormalizedNode> direct = NormalizedNodes.getDirectChild(data, pathArg);
         if (direct.isPresent()) {
-            final boolean ret = matchesAny(match, direct.orElseThrow(), pathArgs);
-            pathArgs.push(pathArg);
-            return ret;
+            return matchesAny(match, direct.orElseThrow(), path, next);
         }
 
         // We may be dealing with a wildcard here. NodeIdentifier is a final class, hence this is as fast as it gets.
         if (pathArg instanceof NodeIdentifier && data instanceof MapNode map) {
             for (MapEntryNode child : map.body()) {
-                if (matchesAny(match, child, pathArgs)) {
-                    pathArgs.push(pathArg);
+                if (matchesAny(match, child, path, next)) {
                     return true;
                 }
             }
         }
 
-        pathArgs.push(pathArg);
         return false;
     }
 
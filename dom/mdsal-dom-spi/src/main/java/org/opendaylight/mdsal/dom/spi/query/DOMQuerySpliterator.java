@@ -0,0 +1,262 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.dom.spi.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.mdsal.dom.api.query.DOMQuery;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNodes;
+
+/**
+ * A {@link Spliterator} evaluating a {@link DOMQuery}. Unlike {@link DOMQueryIterator}, it can be split, so that
+ * predicates are evaluated in parallel.
+ *
+ * <p>The select path is first resolved up to its last step, yielding a number of candidate {@link Unit}s: either
+ * single nodes, or {@link MapNode}s whose entries are all candidates. Splitting first partitions the units and then
+ * the entries of the last remaining {@link MapNode}. Encounter order is the same as that of {@link DOMQueryIterator}.
+ *
+ * <p>If the query has a {@link DOMQuery#findContinuation() continuation}, candidates which are not ordered after it
+ * are skipped before any predicate is evaluated on them.
+ */
+@NonNullByDefault
+final class DOMQuerySpliterator implements Spliterator<Entry<YangInstanceIdentifier, NormalizedNode>> {
+    /**
+     * A candidate result, or a set of candidate results.
+     *
+     * @param path path to the node
+     * @param node the node
+     * @param expand {@code true} if {@code node} is a {@link MapNode} and its entries are the candidates
+     */
+    private record Unit(YangInstanceIdentifier path, NormalizedNode node, boolean expand) {
+        Unit {
+            requireNonNull(path);
+            requireNonNull(node);
+        }
+
+        long size() {
+            return expand ? ((MapNode) node).size() : 1;
+        }
+    }
+
+    // Number of entries below which we do not bother copying entries to make them splittable
+    private static final int MIN_COPY_SPLIT = 64;
+    private static final int CHARACTERISTICS = ORDERED | NONNULL | IMMUTABLE;
+
+    private final DOMQueryMatcher matcher;
+    private final @Nullable YangInstanceIdentifier after;
+
+    // Units pending processing, initialized lazily by the root spliterator
+    private @Nullable List<Unit> units;
+    private int index;
+    private int fence;
+    // Entries of the map being processed and the path of the map
+    private @Nullable Spliterator<MapEntryNode> entries;
+    private @Nullable YangInstanceIdentifier entriesPath;
+    // Root spliterator state, cleared once units are resolved
+    private @Nullable DOMQuery query;
+    private @Nullable NormalizedNode queryRoot;
+
+    DOMQuerySpliterator(final DOMQuery query, final NormalizedNode queryRoot) {
+        matcher = DOMQueryMatcher.of(query.getPredicates());
+        after = query.findContinuation().orElse(null);
+        this.query = requireNonNull(query);
+        this.queryRoot = requireNonNull(queryRoot);
+    }
+
+    private DOMQuerySpliterator(final DOMQueryMatcher matcher, final @Nullable YangInstanceIdentifier after,
+            final List<Unit> units, final int index, final int fence,
+            final @Nullable Spliterator<MapEntryNode> entries, final @Nullable YangInstanceIdentifier entriesPath) {
+        this.matcher = requireNonNull(matcher);
+        this.after = after;
+        this.units = requireNonNull(units);
+        this.index = index;
+        this.fence = fence;
+        this.entries = entries;
+        this.entriesPath = entriesPath;
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super Entry<YangInstanceIdentifier, NormalizedNode>> action) {
+        final var local = units();
+        while (true) {
+            final var currentEntries = entries;
+            if (currentEntries != null) {
+                final var path = requireNonNull(entriesPath);
+                final var found = new MapEntryNode[1];
+                while (currentEntries.tryAdvance(entry -> {
+                    if ((after == null || continues(path.node(entry.name()))) && matcher.matches(entry)) {
+                        found[0] = entry;
+                    }
+                })) {
+                    final var entry = found[0];
+                    if (entry != null) {
+                        action.accept(Map.entry(path.node(entry.name()), entry));
+                        return true;
+                    }
+                }
+                entries = null;
+                entriesPath = null;
+            }
+
+            if (index >= fence) {
+                return false;
+            }
+
+            final var unit = local.get(index++);
+            if (unit.expand) {
+                entries = ((MapNode) unit.node).body().spliterator();
+                entriesPath = unit.path;
+            } else if ((after == null || continues(unit.path)) && matcher.matches(unit.node)) {
+                action.accept(Map.entry(unit.path, unit.node));
+                return true;
+            }
+        }
+    }
+
+    @Override
+    public @Nullable Spliterator<Entry<YangInstanceIdentifier, NormalizedNode>> trySplit() {
+        final var local = units();
+        final int remaining = fence - index;
+        if (remaining > 1) {
+            // Split off the current entries and the first half of remaining units
+            final int mid = index + remaining / 2;
+            final var prefix = new DOMQuerySpliterator(matcher, after, local, index, mid, entries, entriesPath);
+            index = mid;
+            entries = null;
+            entriesPath = null;
+            return prefix;
+        }
+
+        if (remaining == 1) {
+            if (entries != null) {
+                // We are in the middle of a map and there is a single unit after it: split off the map
+                final var prefix = new DOMQuerySpliterator(matcher, after, local, index, index, entries, entriesPath);
+                entries = null;
+                entriesPath = null;
+                return prefix;
+            }
+
+            // A single unit, if it is a map, start processing it and split its entries
+            final var unit = local.get(index);
+            if (!unit.expand) {
+                return null;
+            }
+            index++;
+            entries = ((MapNode) unit.node).body().spliterator();
+            entriesPath = unit.path;
+        }
+
+        final var currentEntries = entries;
+        if (currentEntries == null) {
+            return null;
+        }
+
+        var split = currentEntries.trySplit();
+        if (split == null) {
+            final long size = currentEntries.estimateSize();
+            if (size < MIN_COPY_SPLIT || size == Long.MAX_VALUE) {
+                return null;
+            }
+
+            // The map does not split well, copy its remaining entries into an array, which does
+            final var copy = new ArrayList<MapEntryNode>((int) size);
+            currentEntries.forEachRemaining(copy::add);
+            final var array = copy.toArray(new MapEntryNode[0]);
+            final int half = array.length / 2;
+            split = Spliterators.spliterator(array, 0, half, CHARACTERISTICS);
+            entries = Spliterators.spliterator(array, half, array.length, CHARACTERISTICS);
+        }
+        return new DOMQuerySpliterator(matcher, after, local, index, index, split, entriesPath);
+    }
+
+    @Override
+    public long estimateSize() {
+        final var local = units();
+        final var currentEntries = entries;
+        long size = currentEntries != null ? currentEntries.estimateSize() : 0;
+        for (int i = index; i < fence; ++i) {
+            size += local.get(i).size();
+        }
+        return size < 0 ? Long.MAX_VALUE : size;
+    }
+
+    @Override
+    public int characteristics() {
+        return CHARACTERISTICS;
+    }
+
+    private boolean continues(final YangInstanceIdentifier path) {
+        return DOMQueryKeyOrder.INSTANCE.compare(path, requireNonNull(after)) > 0;
+    }
+
+    private List<Unit> units() {
+        final var existing = units;
+        if (existing != null) {
+            return existing;
+        }
+
+        final var localQuery = requireNonNull(query);
+        final var select = localQuery.getSelect().getPathArguments();
+        final var resolved = new ArrayList<Unit>();
+        resolve(resolved, select, 0, localQuery.getRoot(), requireNonNull(queryRoot));
+        query = null;
+        queryRoot = null;
+        units = resolved;
+        index = 0;
+        fence = resolved.size();
+        return resolved;
+    }
+
+    // Walk the select path, expanding wildcards in all but the last step, in the same order DOMQueryIterator does
+    private static void resolve(final List<Unit> units, final List<PathArgument> select, final int offset,
+            final YangInstanceIdentifier path, final NormalizedNode node) {
+        if (offset == select.size()) {
+            units.add(new Unit(path, node, false));
+            return;
+        }
+
+        final var arg = select.get(offset);
+        final int next = offset + 1;
+        if (node instanceof MapNode map) {
+            if (arg instanceof NodeIdentifierWithPredicates nip) {
+                final var entry = map.childByArg(nip);
+                if (entry != null) {
+                    resolve(units, select, next, path.node(nip), entry);
+                }
+            } else if (next == select.size()) {
+                units.add(new Unit(path, map, true));
+            } else {
+                for (var entry : map.body()) {
+                    resolve(units, select, next, path.node(entry.name()), entry);
+                }
+            }
+            return;
+        }
+
+        final var child = NormalizedNodes.getDirectChild(node, arg);
+        if (child.isPresent()) {
+            final var found = child.orElseThrow();
+            resolve(units, select, next, path.node(found.name()), found);
+        }
+    }
+}
@@ -9,8 +9,11 @@ package org.opendaylight.mdsal.dom.spi.query;
 
 import static java.util.Objects.requireNonNull;
 
+import com.google.common.collect.Iterators;
 import java.util.Iterator;
 import java.util.Map.Entry;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.opendaylight.mdsal.dom.api.query.DOMQuery;
 import org.opendaylight.mdsal.dom.api.query.DOMQueryResult;
@@ -29,6 +32,24 @@ final class LazyDOMQueryResult implements DOMQueryResult {
 
     @Override
     public Iterator<Entry<YangInstanceIdentifier, NormalizedNode>> iterator() {
-        return new DOMQueryIterator(query, queryRoot);
+        final Iterator<Entry<YangInstanceIdentifier, NormalizedNode>> it = new DOMQueryIterator(query, queryRoot);
+        if (!query.isSliced()) {
+            return it;
+        }
+
+        for (long skip = query.getOffset(); skip > 0 && it.hasNext(); --skip) {
+            it.next();
+        }
+        final long limit = query.getLimit();
+        return limit < Integer.MAX_VALUE ? Iterators.limit(it, (int) limit) : it;
+    }
+
+    @Override
+    public Spliterator<Entry<YangInstanceIdentifier, NormalizedNode>> spliterator() {
+        // A slice depends on the encounter order of all preceding items, hence it cannot be split
+        return query.isSliced()
+            ? Spliterators.spliteratorUnknownSize(iterator(), Spliterator.ORDERED | Spliterator.NONNULL
+                | Spliterator.IMMUTABLE)
+            : new DOMQuerySpliterator(query, queryRoot);
     }
 }
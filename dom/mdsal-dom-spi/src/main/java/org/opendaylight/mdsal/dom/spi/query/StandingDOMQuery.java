@@ -0,0 +1,248 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.dom.spi.query;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.mdsal.dom.api.DOMDataBroker.DataTreeChangeExtension;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeChangeListener;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeIdentifier;
+import org.opendaylight.mdsal.dom.api.query.DOMQuery;
+import org.opendaylight.mdsal.dom.api.query.DOMQueryListener;
+import org.opendaylight.mdsal.dom.api.query.DOMQueryResult;
+import org.opendaylight.mdsal.dom.api.query.DOMQueryResultChange;
+import org.opendaylight.yangtools.concepts.Registration;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+import org.opendaylight.yangtools.yang.data.api.schema.MapNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNodes;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidate;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidateNode;
+
+/**
+ * A {@link DOMQuery} whose result is maintained incrementally from {@link DataTreeCandidate}s delivered to it as
+ * a {@link DOMDataTreeChangeListener} registered at {@link DOMQuery#getRoot()}.
+ *
+ * <p>Each candidate is walked along {@link DOMQuery#getSelect()}, visiting only modified nodes. Wildcard steps
+ * therefore expand only to list entries which have been touched and predicates are evaluated only on those, hence
+ * the work done is proportional to the size of the change rather than to the size of the result. The only exception
+ * is a node above selected items being replaced as a whole, in which case the items below it are re-evaluated.
+ *
+ * <p>Only queries returning all matching items are supported: queries with an offset, a limit, a continuation or
+ * an aggregate are rejected.
+ *
+ * <p>Callbacks are expected to be serialized, as is the case with {@link DOMDataTreeChangeListener}s, hence this class
+ * does not synchronize access to its state.
+ */
+@NonNullByDefault
+public final class StandingDOMQuery implements DOMDataTreeChangeListener {
+    private final Map<YangInstanceIdentifier, NormalizedNode> results = new LinkedHashMap<>();
+    // Items touched by the batch being processed, mapped to their state before the batch
+    private final Map<YangInstanceIdentifier, @Nullable NormalizedNode> touched = new LinkedHashMap<>();
+    private final List<PathArgument> select;
+    private final DOMQueryMatcher matcher;
+    private final DOMQueryListener listener;
+    private final DOMQuery query;
+
+    private boolean initialized;
+
+    private StandingDOMQuery(final DOMQuery query, final DOMQueryListener listener) {
+        checkArgument(!query.isSliced(), "Query %s has an offset or a limit", query);
+        checkArgument(query.findContinuation().isEmpty(), "Query %s has a continuation", query);
+        checkArgument(query.findAggregate().isEmpty(), "Query %s computes an aggregate", query);
+        this.query = query;
+        this.listener = requireNonNull(listener);
+        select = query.getSelect().getPathArguments();
+        matcher = DOMQueryMatcher.of(query.getPredicates());
+    }
+
+    /**
+     * Register a {@link DOMQueryListener} for a {@link DOMQuery}.
+     *
+     * @param service service to register with
+     * @param datastore datastore to query
+     * @param query query to maintain
+     * @param listener listener to notify
+     * @return A {@link Registration}
+     * @throws NullPointerException if any argument is null
+     * @throws IllegalArgumentException if the query has an offset, a limit or a continuation, or if it computes an
+     *                                  aggregate
+     */
+    public static Registration register(final DataTreeChangeExtension service, final LogicalDatastoreType datastore,
+            final DOMQuery query, final DOMQueryListener listener) {
+        return service.registerTreeChangeListener(DOMDataTreeIdentifier.of(datastore, query.getRoot()),
+            new StandingDOMQuery(query, listener));
+    }
+
+    @Override
+    public void onInitialData() {
+        if (!initialized) {
+            initialized = true;
+            listener.onInitialResult(DOMQueryResult.of());
+        }
+    }
+
+    @Override
+    public void onDataTreeChanged(final List<DataTreeCandidate> changes) {
+        final var root = query.getRoot();
+        for (var candidate : changes) {
+            final var relative = root.relativeTo(candidate.getRootPath());
+            if (relative.isEmpty()) {
+                // Not an ancestor of the query root, hence cannot affect it
+                continue;
+            }
+
+            DataTreeCandidateNode node = candidate.getRootNode();
+            for (var arg : relative.orElseThrow().getPathArguments()) {
+                node = node.modifiedChild(arg);
+                if (node == null) {
+                    break;
+                }
+            }
+            if (node != null) {
+                apply(root, node, 0);
+            }
+        }
+
+        if (!initialized) {
+            initialized = true;
+            touched.clear();
+            listener.onInitialResult(DOMQueryResult.of(results.entrySet().stream()
+                .map(entry -> Map.entry(entry.getKey(), entry.getValue()))
+                .toList()));
+            return;
+        }
+
+        final var added = ImmutableList.<Entry<YangInstanceIdentifier, NormalizedNode>>builder();
+        final var changed = ImmutableList.<Entry<YangInstanceIdentifier, NormalizedNode>>builder();
+        final var removed = ImmutableList.<Entry<YangInstanceIdentifier, NormalizedNode>>builder();
+        for (var entry : touched.entrySet()) {
+            final var path = entry.getKey();
+            final var before = entry.getValue();
+            final var after = results.get(path);
+            if (before == null) {
+                if (after != null) {
+                    added.add(Map.entry(path, after));
+                }
+            } else if (after == null) {
+                removed.add(Map.entry(path, before));
+            } else if (!before.equals(after)) {
+                changed.add(Map.entry(path, after));
+            }
+        }
+        touched.clear();
+
+        final var change = new DOMQueryResultChange(added.build(), changed.build(), removed.build());
+        if (!change.isEmpty()) {
+            listener.onResultChanged(change);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).add("query", query).add("listener", listener).toString();
+    }
+
+    private void apply(final YangInstanceIdentifier path, final DataTreeCandidateNode node, final int offset) {
+        switch (node.modificationType()) {
+            case UNMODIFIED -> {
+                // No-op
+            }
+            case SUBTREE_MODIFIED -> applyModified(path, node, offset);
+            case APPEARED, DELETE, DISAPPEARED, WRITE -> replace(path, node.dataAfter(), offset);
+        }
+    }
+
+    private void applyModified(final YangInstanceIdentifier path, final DataTreeCandidateNode node,
+            final int offset) {
+        if (offset == select.size()) {
+            evaluate(path, node.dataAfter());
+            return;
+        }
+
+        final var arg = select.get(offset);
+        final int next = offset + 1;
+        if (arg instanceof NodeIdentifier && node.dataAfter() instanceof MapNode) {
+            // A wildcard step: only consider entries which have been touched
+            for (var child : node.childNodes()) {
+                apply(path.node(child.name()), child, next);
+            }
+        } else {
+            final var child = node.modifiedChild(arg);
+            if (child != null) {
+                apply(path.node(arg), child, next);
+            }
+        }
+    }
+
+    private void replace(final YangInstanceIdentifier path, final @Nullable NormalizedNode data, final int offset) {
+        if (offset == select.size()) {
+            evaluate(path, data);
+            return;
+        }
+
+        // Items below path may have been removed, hence drop them all and re-evaluate them from new data
+        final var stale = new ArrayList<YangInstanceIdentifier>();
+        for (var item : results.keySet()) {
+            if (item.relativeTo(path).isPresent()) {
+                stale.add(item);
+            }
+        }
+        for (var item : stale) {
+            update(item, null);
+        }
+        if (data != null) {
+            collect(path, data, offset);
+        }
+    }
+
+    // Walk the rest of the select path, in the same way DOMQueryIterator does
+    private void collect(final YangInstanceIdentifier path, final NormalizedNode data, final int offset) {
+        if (offset == select.size()) {
+            evaluate(path, data);
+            return;
+        }
+
+        final var arg = select.get(offset);
+        final int next = offset + 1;
+        if (arg instanceof NodeIdentifier && data instanceof MapNode map) {
+            for (var entry : map.body()) {
+                collect(path.node(entry.name()), entry, next);
+            }
+        } else {
+            final var child = NormalizedNodes.getDirectChild(data, arg);
+            if (child.isPresent()) {
+                collect(path.node(arg), child.orElseThrow(), next);
+            }
+        }
+    }
+
+    private void evaluate(final YangInstanceIdentifier path, final @Nullable NormalizedNode data) {
+        update(path, data != null && matcher.matches(data) ? data : null);
+    }
+
+    private void update(final YangInstanceIdentifier path, final @Nullable NormalizedNode data) {
+        final var previous = data != null ? results.put(path, data) : results.remove(path);
+        if (!touched.containsKey(path)) {
+            touched.put(path, previous);
+        }
+    }
+}
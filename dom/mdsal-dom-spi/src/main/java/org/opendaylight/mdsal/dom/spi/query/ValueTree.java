@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.dom.spi.query;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.collect.Range;
+import java.util.List;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import tech.pantheon.triemap.ImmutableTrieMap;
+
+/**
+ * A node of a persistent AVL tree mapping leaf values to the keys of list entries which have that value. Updates
+ * return a new tree root, sharing all untouched nodes with the original tree, so that any number of versions can be
+ * retained at the cost of {@code O(log n)} nodes per update. An empty tree is represented by {@code null}.
+ */
+@NonNullByDefault
+final class ValueTree {
+    private final Object value;
+    private final ImmutableTrieMap<NodeIdentifierWithPredicates, Boolean> keys;
+    private final @Nullable ValueTree left;
+    private final @Nullable ValueTree right;
+    private final int height;
+
+    private ValueTree(final Object value, final ImmutableTrieMap<NodeIdentifierWithPredicates, Boolean> keys,
+            final @Nullable ValueTree left, final @Nullable ValueTree right) {
+        this.value = requireNonNull(value);
+        this.keys = requireNonNull(keys);
+        this.left = left;
+        this.right = right;
+        height = Math.max(height(left), height(right)) + 1;
+    }
+
+    /**
+     * Look up the keys of entries having specified value.
+     *
+     * @param tree tree root
+     * @param value value to look up
+     * @return Keys associated with the value, or {@code null} if there are none
+     */
+    static @Nullable ImmutableTrieMap<NodeIdentifierWithPredicates, Boolean> get(final @Nullable ValueTree tree,
+            final Object value) {
+        var current = tree;
+        while (current != null) {
+            final int cmp = compare(value, current.value);
+            if (cmp == 0) {
+                return current.keys;
+            }
+            current = cmp < 0 ? current.left : current.right;
+        }
+        return null;
+    }
+
+    /**
+     * Return a tree which has specified keys associated with a value.
+     *
+     * @param tree tree root
+     * @param value value
+     * @param keys non-empty keys to associate
+     * @return New tree root
+     */
+    static ValueTree put(final @Nullable ValueTree tree, final Object value,
+            final ImmutableTrieMap<NodeIdentifierWithPredicates, Boolean> keys) {
+        if (tree == null) {
+            return new ValueTree(value, keys, null, null);
+        }
+
+        final int cmp = compare(value, tree.value);
+        if (cmp == 0) {
+            return new ValueTree(value, keys, tree.left, tree.right);
+        }
+        return cmp < 0 ? balance(tree.value, tree.keys, put(tree.left, value, keys), tree.right)
+            : balance(tree.value, tree.keys, tree.left, put(tree.right, value, keys));
+    }
+
+    /**
+     * Return a tree which does not contain specified value.
+     *
+     * @param tree tree root
+     * @param value value to remove
+     * @return New tree root, {@code null} if the resulting tree is empty
+     */
+    static @Nullable ValueTree remove(final @Nullable ValueTree tree, final Object value) {
+        if (tree == null) {
+            return null;
+        }
+
+        final int cmp = compare(value, tree.value);
+        if (cmp < 0) {
+            return balance(tree.value, tree.keys, remove(tree.left, value), tree.right);
+        }
+        if (cmp > 0) {
+            return balance(tree.value, tree.keys, tree.left, remove(tree.right, value));
+        }
+
+        final var left = tree.left;
+        final var right = tree.right;
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+
+        // Replace this node with its in-order successor
+        var min = right;
+        while (min.left != null) {
+            min = min.left;
+        }
+        return balance(min.value, min.keys, left, removeMin(right));
+    }
+
+    /**
+     * Collect keys of entries whose value is within specified range, in ascending order of values.
+     *
+     * @param tree tree root
+     * @param range value range
+     * @param keys collection to which keys are added
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    static void collect(final @Nullable ValueTree tree, final Range range,
+            final List<NodeIdentifierWithPredicates> keys) {
+        if (tree == null) {
+            return;
+        }
+
+        final var value = tree.value;
+        if (!range.hasLowerBound() || compare(value, range.lowerEndpoint()) > 0) {
+            collect(tree.left, range, keys);
+        }
+        if (range.contains((Comparable) value)) {
+            keys.addAll(tree.keys.keySet());
+        }
+        if (!range.hasUpperBound() || compare(value, range.upperEndpoint()) < 0) {
+            collect(tree.right, range, keys);
+        }
+    }
+
+    private static @Nullable ValueTree removeMin(final ValueTree tree) {
+        final var left = tree.left;
+        return left == null ? tree.right : balance(tree.value, tree.keys, removeMin(left), tree.right);
+    }
+
+    private static ValueTree balance(final Object value,
+            final ImmutableTrieMap<NodeIdentifierWithPredicates, Boolean> keys, final @Nullable ValueTree left,
+            final @Nullable ValueTree right) {
+        final int diff = height(left) - height(right);
+        if (diff > 1) {
+            // Left-heavy, left cannot be null
+            final var l = requireNonNull(left);
+            if (height(l.left) >= height(l.right)) {
+                return new ValueTree(l.value, l.keys, l.left, new ValueTree(value, keys, l.right, right));
+            }
+            final var lr = requireNonNull(l.right);
+            return new ValueTree(lr.value, lr.keys, new ValueTree(l.value, l.keys, l.left, lr.left),
+                new ValueTree(value, keys, lr.right, right));
+        }
+        if (diff < -1) {
+            // Right-heavy, right cannot be null
+            final var r = requireNonNull(right);
+            if (height(r.right) >= height(r.left)) {
+                return new ValueTree(r.value, r.keys, new ValueTree(value, keys, left, r.left), r.right);
+            }
+            final var rl = requireNonNull(r.left);
+            return new ValueTree(rl.value, rl.keys, new ValueTree(value, keys, left, rl.left),
+                new ValueTree(r.value, r.keys, rl.right, r.right));
+        }
+        return new ValueTree(value, keys, left, right);
+    }
+
+    private static int height(final @Nullable ValueTree tree) {
+        return tree == null ? 0 : tree.height;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static int compare(final Object first, final Object second) {
+        return ((Comparable<Object>) first).compareTo(second);
+    }
+}
@@ -10,11 +10,17 @@ package org.opendaylight.mdsal.dom.spi.store;
 import static java.util.Objects.requireNonNull;
 
 import com.google.common.annotations.Beta;
+import com.google.common.collect.ImmutableList;
 import com.google.common.util.concurrent.FluentFuture;
 import com.google.common.util.concurrent.MoreExecutors;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import org.opendaylight.mdsal.common.api.ReadFailedException;
+import org.opendaylight.mdsal.dom.api.query.DOMQuery;
+import org.opendaylight.mdsal.dom.api.query.DOMQueryResult;
+import org.opendaylight.mdsal.dom.spi.query.DOMQueryEvaluator;
+import org.opendaylight.mdsal.dom.spi.query.DOMQueryIndex;
 import org.opendaylight.yangtools.util.concurrent.FluentFutures;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
@@ -41,6 +47,8 @@ public final class SnapshotBackedReadTransaction<T> extends
     // Guarded by stableSnapshot CAS, hence it does not need to be volatile
     private TransactionClosePrototype<T> closeImpl;
     private volatile DataTreeSnapshot stableSnapshot;
+    // Indexes corresponding to stableSnapshot
+    private final ImmutableList<DOMQueryIndex> queryIndexes;
 
     /**
      * Creates a new read-only transaction.
@@ -51,9 +59,24 @@ public final class SnapshotBackedReadTransaction<T> extends
      */
     SnapshotBackedReadTransaction(final T identifier, final boolean debug, final DataTreeSnapshot snapshot,
             final TransactionClosePrototype<T> closeImpl) {
+        this(identifier, debug, snapshot, closeImpl, ImmutableList.of());
+    }
+
+    /**
+     * Creates a new read-only transaction, which uses specified indexes to evaluate queries.
+     *
+     * @param identifier Transaction Identifier
+     * @param debug Enable transaction debugging
+     * @param snapshot Snapshot which will be modified.
+     * @param closeImpl Implementation of close method
+     * @param queryIndexes Indexes built from the snapshot
+     */
+    SnapshotBackedReadTransaction(final T identifier, final boolean debug, final DataTreeSnapshot snapshot,
+            final TransactionClosePrototype<T> closeImpl, final List<DOMQueryIndex> queryIndexes) {
         super(identifier, debug);
         this.stableSnapshot = requireNonNull(snapshot);
         this.closeImpl = closeImpl;
+        this.queryIndexes = ImmutableList.copyOf(queryIndexes);
         LOG.debug("ReadOnly Tx: {} allocated with snapshot {}", identifier, snapshot);
     }
 
@@ -99,6 +122,31 @@ public final class SnapshotBackedReadTransaction<T> extends
         return read(path).transform(Optional::isPresent, MoreExecutors.directExecutor());
     }
 
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    @Override
+    public FluentFuture<DOMQueryResult> execute(final DOMQuery query) {
+        if (queryIndexes.isEmpty()) {
+            return DOMStoreReadTransaction.super.execute(query);
+        }
+
+        LOG.debug("Tx: {} Execute: {}", getIdentifier(), query);
+        requireNonNull(query, "Query must not be null.");
+
+        final DataTreeSnapshot snapshot = stableSnapshot;
+        if (snapshot == null) {
+            return FluentFutures.immediateFailedFluentFuture(new ReadFailedException("Transaction is closed"));
+        }
+
+        try {
+            return FluentFutures.immediateFluentFuture(snapshot.readNode(YangInstanceIdentifier.of())
+                .map(root -> DOMQueryEvaluator.evaluateOnRoot(query, root, queryIndexes))
+                .orElse(DOMQueryResult.of()));
+        } catch (Exception e) {
+            LOG.error("Tx: {} Failed Execute of {}", getIdentifier(), query, e);
+            return FluentFutures.immediateFailedFluentFuture(new ReadFailedException("Query failed", e));
+        }
+    }
+
     @Override
     public Optional<DataTreeSnapshot> getSnapshot() {
         return Optional.ofNullable(stableSnapshot);
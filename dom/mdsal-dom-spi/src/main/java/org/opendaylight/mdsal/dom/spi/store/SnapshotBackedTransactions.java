@@ -10,7 +10,9 @@ package org.opendaylight.mdsal.dom.spi.store;
 import static java.util.Objects.requireNonNull;
 
 import com.google.common.annotations.Beta;
+import java.util.List;
 import org.eclipse.jdt.annotation.NonNull;
+import org.opendaylight.mdsal.dom.spi.query.DOMQueryIndex;
 import org.opendaylight.mdsal.dom.spi.store.SnapshotBackedReadTransaction.TransactionClosePrototype;
 import org.opendaylight.mdsal.dom.spi.store.SnapshotBackedWriteTransaction.TransactionReadyPrototype;
 import org.opendaylight.yangtools.yang.data.tree.api.DataTreeSnapshot;
@@ -51,6 +53,20 @@ public final class SnapshotBackedTransactions {
         return new SnapshotBackedReadTransaction<>(identifier, debug, snapshot, requireNonNull(closeImpl));
     }
 
+    /**
+     * Creates a new read-only transaction, which uses specified {@link DOMQueryIndex}es to evaluate queries.
+     *
+     * @param identifier Transaction Identifier
+     * @param debug Enable transaction debugging
+     * @param snapshot Snapshot which will be modified.
+     * @param queryIndexes Indexes built from the snapshot
+     * @return A new read-only transaction
+     */
+    public static <T> @NonNull SnapshotBackedReadTransaction<T> newIndexedReadTransaction(final T identifier,
+            final boolean debug, final DataTreeSnapshot snapshot, final List<DOMQueryIndex> queryIndexes) {
+        return new SnapshotBackedReadTransaction<>(identifier, debug, snapshot, null, queryIndexes);
+    }
+
     /**
      * Creates a new read-write transaction.
      *
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.dom.spi.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.mdsal.dom.api.query.DOMQuery;
+import org.opendaylight.mdsal.dom.api.query.DOMQueryAggregate;
+import org.opendaylight.mdsal.dom.api.query.DOMQueryPredicate;
+import org.opendaylight.mdsal.dom.api.query.DOMQueryPredicate.Match;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.spi.node.ImmutableNodes;
+
+class DOMQueryEvaluatorTest {
+    private static final QName TOP = QName.create("foo", "top");
+    private static final QName OUTER = QName.create("foo", "outer");
+    private static final QName ID = QName.create("foo", "id");
+    private static final QName VALUE = QName.create("foo", "value");
+    private static final YangInstanceIdentifier ROOT = YangInstanceIdentifier.of(TOP);
+    private static final YangInstanceIdentifier LIST = ROOT.node(OUTER);
+    private static final DOMQuery QUERY = new DOMQuery(ROOT, YangInstanceIdentifier.of(new NodeIdentifier(OUTER),
+        new NodeIdentifier(OUTER)), List.of(DOMQueryPredicate.of(YangInstanceIdentifier.of(VALUE),
+            Match.valueEquals("even"))));
+
+    private static final ContainerNode DATA = createData(200);
+
+    @Test
+    void testUnorderedSlice() {
+        final var all = DOMQueryEvaluator.evaluateOn(QUERY, DATA).items();
+        assertEquals(100, all.size());
+        assertEquals(all.subList(10, 30), DOMQueryEvaluator.evaluateOn(QUERY.withOffset(10).withLimit(20), DATA)
+            .items());
+        assertEquals(all.subList(10, 30), DOMQueryEvaluator.evaluateOn(QUERY.withOffset(10).withLimit(20), DATA)
+            .stream().toList());
+        assertEquals(List.of(), DOMQueryEvaluator.evaluateOn(QUERY.withOffset(100), DATA).items());
+    }
+
+    @Test
+    void testKeyOrderedSlice() {
+        final var items = DOMQueryEvaluator.evaluateOn(QUERY.withKeyOrder().withOffset(5).withLimit(3), DATA).items();
+        assertEquals(List.of(10, 12, 14), ids(items));
+        assertEquals(List.of(196, 198), ids(DOMQueryEvaluator.evaluateOn(QUERY.withKeyOrder().withOffset(98), DATA)
+            .items()));
+    }
+
+    @Test
+    void testContinuation() {
+        final var query = QUERY.withLimit(30);
+        YangInstanceIdentifier last = null;
+        int expected = 0;
+        while (true) {
+            final var items = DOMQueryEvaluator.evaluateOn(last == null ? query.withKeyOrder()
+                : query.withContinuation(last), DATA).items();
+            if (items.isEmpty()) {
+                break;
+            }
+            for (var id : ids(items)) {
+                assertEquals(expected, id);
+                expected += 2;
+            }
+            last = items.get(items.size() - 1).getKey();
+        }
+        assertEquals(200, expected);
+        assertEquals(List.of(152, 154), ids(DOMQueryEvaluator.evaluateOn(QUERY.withLimit(2)
+            .withContinuation(LIST.node(NodeIdentifierWithPredicates.of(OUTER, ID, 151))), DATA).items()));
+    }
+
+    @Test
+    void testAggregate() {
+        final var idPath = YangInstanceIdentifier.of(ID);
+        assertEquals(100L, aggregate(QUERY, DOMQueryAggregate.count()));
+        assertEquals(10L, aggregate(QUERY.withLimit(10), DOMQueryAggregate.count()));
+        assertEquals(0, aggregate(QUERY, DOMQueryAggregate.min(idPath)));
+        assertEquals(198, aggregate(QUERY, DOMQueryAggregate.max(idPath)));
+        assertEquals(BigDecimal.valueOf(9900), aggregate(QUERY, DOMQueryAggregate.sum(idPath)));
+        assertEquals(List.of(), DOMQueryEvaluator.aggregateOn(QUERY.withAggregate(
+            DOMQueryAggregate.min(YangInstanceIdentifier.of(QName.create("foo", "missing")))), DATA)
+            .findValue().stream().toList());
+    }
+
+    @Test
+    void testGroupedAggregate() {
+        final var query = new DOMQuery(ROOT, QUERY.getSelect(), List.of());
+        final var valuePath = YangInstanceIdentifier.of(VALUE);
+        assertEquals(Map.of("even", 100L, "odd", 100L), DOMQueryEvaluator.aggregateOn(
+            query.withAggregate(DOMQueryAggregate.count().groupBy(valuePath)), DATA).groups());
+        assertEquals(Map.of("even", 198, "odd", 199), DOMQueryEvaluator.aggregateOn(
+            query.withAggregate(DOMQueryAggregate.max(YangInstanceIdentifier.of(ID)).groupBy(valuePath)), DATA)
+            .groups());
+    }
+
+    private static Object aggregate(final DOMQuery query, final DOMQueryAggregate aggregate) {
+        return DOMQueryEvaluator.aggregateOn(query.withAggregate(aggregate), DATA).findValue().orElseThrow();
+    }
+
+    private static List<Integer> ids(final List<? extends Entry<YangInstanceIdentifier, ?>> items) {
+        return items.stream()
+            .map(item -> (Integer) ((NodeIdentifierWithPredicates) item.getKey().getLastPathArgument()).getValue(ID))
+            .toList();
+    }
+
+    private static ContainerNode createData(final int count) {
+        final var outer = ImmutableNodes.newSystemMapBuilder().withNodeIdentifier(new NodeIdentifier(OUTER));
+        for (int i = 0; i < count; ++i) {
+            outer.withChild(ImmutableNodes.newMapEntryBuilder()
+                .withNodeIdentifier(NodeIdentifierWithPredicates.of(OUTER, ID, i))
+                .withChild(ImmutableNodes.leafNode(ID, i))
+                .withChild(ImmutableNodes.leafNode(VALUE, i % 2 == 0 ? "even" : "odd"))
+                .build());
+        }
+        return ImmutableNodes.newContainerBuilder()
+            .withNodeIdentifier(new NodeIdentifier(TOP))
+            .withChild(outer.build())
+            .build();
+    }
+}
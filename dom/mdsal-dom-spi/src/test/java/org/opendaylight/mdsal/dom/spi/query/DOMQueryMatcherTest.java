@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.dom.spi.query;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.mdsal.dom.api.query.DOMQueryPredicate;
+import org.opendaylight.mdsal.dom.api.query.DOMQueryPredicate.Match;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.spi.node.ImmutableNodes;
+
+class DOMQueryMatcherTest {
+    private static final QName FOO = QName.create("foo", "foo");
+    private static final QName BAR = QName.create("foo", "bar");
+    private static final QName BAZ = QName.create("foo", "baz");
+
+    private static final DOMQueryPredicate REGEX =
+        DOMQueryPredicate.of(YangInstanceIdentifier.of(BAR), Match.stringMatches(Pattern.compile("b.*r")));
+    private static final DOMQueryPredicate EQUALS = DOMQueryPredicate.of(YangInstanceIdentifier.of(BAR),
+        Match.valueEquals("bar"));
+    private static final DOMQueryPredicate EXISTS = DOMQueryPredicate.of(YangInstanceIdentifier.of(BAZ),
+        Match.exists());
+
+    @Test
+    void testPlanOrder() {
+        final var str = DOMQueryMatcher.of(List.of(REGEX, EQUALS, EXISTS)).toString();
+        final int exists = str.indexOf("exists(");
+        final int equals = str.indexOf("eq(");
+        final int regex = str.indexOf("matches(");
+        assertTrue(exists < equals, str);
+        assertTrue(equals < regex, str);
+    }
+
+    @Test
+    void testMatches() {
+        final var data = ImmutableNodes.newContainerBuilder()
+            .withNodeIdentifier(new NodeIdentifier(FOO))
+            .withChild(ImmutableNodes.leafNode(BAR, "bar"))
+            .withChild(ImmutableNodes.leafNode(BAZ, "baz"))
+            .build();
+
+        assertTrue(DOMQueryMatcher.of(List.of()).matches(data));
+        assertTrue(DOMQueryMatcher.of(List.of(REGEX, EQUALS, EXISTS)).matches(data));
+        assertFalse(DOMQueryMatcher.of(List.of(REGEX, EQUALS,
+            DOMQueryPredicate.of(YangInstanceIdentifier.of(BAZ), Match.exists().negate()))).matches(data));
+    }
+
+    @Test
+    void testCompiled() {
+        final var matcher = DOMQueryMatcher.of(List.of(
+            DOMQueryPredicate.of(YangInstanceIdentifier.of(BAR), Match.stringStartsWith("b")
+                .and(Match.stringContains("a")).and(Match.stringEndsWith("x").negate())),
+            DOMQueryPredicate.of(YangInstanceIdentifier.of(BAZ), Match.greaterThan(10).or(Match.valueEquals(-1))),
+            DOMQueryPredicate.of(YangInstanceIdentifier.of(FOO, FOO, BAR), Match.valueEquals("bar"))));
+
+        final var list = ImmutableNodes.newSystemMapBuilder().withNodeIdentifier(new NodeIdentifier(FOO))
+            .withChild(ImmutableNodes.newMapEntryBuilder()
+                .withNodeIdentifier(NodeIdentifierWithPredicates.of(FOO, BAR, "foo"))
+                .withChild(ImmutableNodes.leafNode(BAR, "foo"))
+                .build())
+            .withChild(ImmutableNodes.newMapEntryBuilder()
+                .withNodeIdentifier(NodeIdentifierWithPredicates.of(FOO, BAR, "bar"))
+                .withChild(ImmutableNodes.leafNode(BAR, "bar"))
+                .build())
+            .build();
+        final var match = ImmutableNodes.newContainerBuilder()
+            .withNodeIdentifier(new NodeIdentifier(FOO))
+            .withChild(ImmutableNodes.leafNode(BAR, "bar"))
+            .withChild(ImmutableNodes.leafNode(BAZ, 11))
+            .withChild(list)
+            .build();
+        final var mismatches = List.of(
+            ImmutableNodes.newContainerBuilder()
+                .withNodeIdentifier(new NodeIdentifier(FOO))
+                .withChild(ImmutableNodes.leafNode(BAR, "barx"))
+                .withChild(ImmutableNodes.leafNode(BAZ, 11))
+                .withChild(list)
+                .build(),
+            ImmutableNodes.newContainerBuilder()
+                .withNodeIdentifier(new NodeIdentifier(FOO))
+                .withChild(ImmutableNodes.leafNode(BAR, "bar"))
+                .withChild(ImmutableNodes.leafNode(BAZ, 10))
+                .withChild(list)
+                .build(),
+            ImmutableNodes.newContainerBuilder()
+                .withNodeIdentifier(new NodeIdentifier(FOO))
+                .withChild(ImmutableNodes.leafNode(BAR, "bar"))
+                .withChild(ImmutableNodes.leafNode(BAZ, -1))
+                .build());
+
+        // Run past the compile threshold, results must not change once the plan is compiled
+        for (int i = 0; i < 1500; ++i) {
+            assertTrue(matcher.matches(match));
+            for (var mismatch : mismatches) {
+                assertFalse(matcher.matches(mismatch));
+            }
+        }
+        assertTrue(matcher.toString().contains("compiled=true"), matcher.toString());
+    }
+
+    @Test
+    void testMethodHandle() throws Throwable {
+        final var handle = Match.stringMatches(Pattern.compile("b.*r")).negate().toMethodHandle();
+        assertFalse((boolean) handle.invokeExact((NormalizedNode) ImmutableNodes.leafNode(BAR, "bar")));
+        assertTrue((boolean) handle.invokeExact((NormalizedNode) ImmutableNodes.leafNode(BAR, "baz")));
+        assertTrue((boolean) handle.invokeExact((NormalizedNode) null));
+    }
+}
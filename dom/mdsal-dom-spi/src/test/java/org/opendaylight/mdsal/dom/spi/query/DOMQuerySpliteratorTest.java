@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.mdsal.dom.spi.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import com.google.common.collect.ImmutableList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.stream.StreamSupport;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.mdsal.dom.api.query.DOMQuery;
+import org.opendaylight.mdsal.dom.api.query.DOMQueryPredicate;
+import org.opendaylight.mdsal.dom.api.query.DOMQueryPredicate.Match;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.spi.node.ImmutableNodes;
+
+class DOMQuerySpliteratorTest {
+    private static final QName TOP = QName.create("foo", "top");
+    private static final QName OUTER = QName.create("foo", "outer");
+    private static final QName INNER = QName.create("foo", "inner");
+    private static final QName ID = QName.create("foo", "id");
+    private static final QName VALUE = QName.create("foo", "value");
+    private static final YangInstanceIdentifier ROOT = YangInstanceIdentifier.of(TOP);
+    private static final DOMQueryPredicate EVEN = DOMQueryPredicate.of(YangInstanceIdentifier.of(VALUE),
+        Match.valueEquals("even"));
+
+    private static final ContainerNode DATA = createData(10, 500);
+
+    @Test
+    void testListSplit() {
+        final var query = new DOMQuery(ROOT, YangInstanceIdentifier.of(new NodeIdentifier(OUTER),
+            new NodeIdentifier(OUTER), new NodeIdentifier(INNER), new NodeIdentifier(INNER)), List.of(EVEN));
+        final var expected = ImmutableList.copyOf(new DOMQueryIterator(query, DATA));
+        assertEquals(2500, expected.size());
+
+        // Split repeatedly, down into the last map, and check halves cover all items in order
+        final var prefixes = new ArrayList<Entry<YangInstanceIdentifier, NormalizedNode>>();
+        final var spliterator = new DOMQuerySpliterator(query, DATA);
+        for (int i = 0; i < 6; ++i) {
+            final var prefix = spliterator.trySplit();
+            assertNotNull(prefix);
+            prefix.forEachRemaining(prefixes::add);
+        }
+        spliterator.forEachRemaining(prefixes::add);
+        assertEquals(expected, prefixes);
+
+        assertEquals(expected, StreamSupport.stream(new DOMQuerySpliterator(query, DATA), true).toList());
+    }
+
+    @Test
+    void testSingleList() {
+        final var query = new DOMQuery(ROOT, YangInstanceIdentifier.of(new NodeIdentifier(OUTER),
+            new NodeIdentifier(OUTER), NodeIdentifierWithPredicates.of(OUTER, ID, 3), new NodeIdentifier(INNER),
+            new NodeIdentifier(INNER)), List.of(EVEN));
+        final var expected = ImmutableList.copyOf(new DOMQueryIterator(query, DATA));
+        assertEquals(250, expected.size());
+        assertEquals(expected, StreamSupport.stream(new DOMQuerySpliterator(query, DATA), true).toList());
+    }
+
+    private static ContainerNode createData(final int outerCount, final int innerCount) {
+        final var outer = ImmutableNodes.newSystemMapBuilder().withNodeIdentifier(new NodeIdentifier(OUTER));
+        for (int i = 0; i < outerCount; ++i) {
+            final var inner = ImmutableNodes.newSystemMapBuilder().withNodeIdentifier(new NodeIdentifier(INNER));
+            for (int j = 0; j < innerCount; ++j) {
+                inner.withChild(ImmutableNodes.newMapEntryBuilder()
+                    .withNodeIdentifier(NodeIdentifierWithPredicates.of(INNER, ID, j))
+                    .withChild(ImmutableNodes.leafNode(ID, j))
+                    .withChild(ImmutableNodes.leafNode(VALUE, j % 2 == 0 ? "even" : "odd"))
+                    .build());
+            }
+            outer.withChild(ImmutableNodes.newMapEntryBuilder()
+                .withNodeIdentifier(NodeIdentifierWithPredicates.of(OUTER, ID, i))
+                .withChild(ImmutableNodes.leafNode(ID, i))
+                .withChild(inner.build())
+                .build());
+        }
+        return ImmutableNodes.newContainerBuilder()
+            .withNodeIdentifier(new NodeIdentifier(TOP))
+            .withChild(outer.build())
+            .build();
+    }
+}